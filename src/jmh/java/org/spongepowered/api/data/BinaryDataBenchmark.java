@@ -0,0 +1,92 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import com.google.common.base.Optional;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures reading a single value from a binary record, either by decoding
+ * the whole record or through a lazily decoded {@link BinaryDataContainer}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class BinaryDataBenchmark {
+
+    private static final DataQuery TAG = DataQuery.of("Level", "Tag");
+
+    @Param({"16", "256"})
+    private int sections;
+
+    private byte[] record;
+
+    @Setup
+    public void setup() throws IOException {
+        DataContainer container = new MemoryDataContainer();
+        container.set(TAG, "tag");
+        for (int i = 0; i < this.sections; i++) {
+            DataQuery section = DataQuery.of("Level", "Sections", "Section" + i);
+            container.set(section.then(DataQuery.of("Y")), i);
+            container.set(section.then(DataQuery.of("Name")), "Section " + i);
+            container.set(section.then(DataQuery.of("Light")), (long) i << 32);
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        new BinaryDataWriter(new DataOutputStream(bytes)).write(container);
+        this.record = bytes.toByteArray();
+    }
+
+    @Benchmark
+    public Optional<String> readFully() throws IOException {
+        return new BinaryDataReader(new DataInputStream(new ByteArrayInputStream(this.record))).read().getString(TAG);
+    }
+
+    @Benchmark
+    public Optional<String> readLazily() {
+        return new BinaryDataContainer(ByteBuffer.wrap(this.record)).getString(TAG);
+    }
+
+}
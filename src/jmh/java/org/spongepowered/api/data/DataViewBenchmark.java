@@ -0,0 +1,97 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import com.google.common.base.Joiner;
+import com.google.common.base.Optional;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures reading and writing values at deep paths of a
+ * {@link MemoryDataView}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DataViewBenchmark {
+
+    @Param({"1", "4", "8"})
+    private int depth;
+
+    private DataContainer container;
+    private DataQuery path;
+    private DataQuery missingPath;
+    private String stringPath;
+
+    @Setup
+    public void setup() {
+        this.stringPath = Joiner.on('.').join(Collections.nCopies(this.depth, "node"));
+        this.path = DataQuery.of('.', this.stringPath);
+        this.missingPath = DataQuery.of('.', this.stringPath + ".missing");
+        this.container = new MemoryDataContainer();
+        this.container.set(this.path, 42);
+        // Siblings along the path so lookups are not in single entry maps
+        for (int i = 0; i < 16; i++) {
+            this.container.set(DataQuery.of('.', this.stringPath + i), i);
+        }
+    }
+
+    @Benchmark
+    public Optional<Object> get() {
+        return this.container.get(this.path);
+    }
+
+    @Benchmark
+    public Optional<Object> getMissing() {
+        return this.container.get(this.missingPath);
+    }
+
+    @Benchmark
+    public Optional<Object> getParsedPath() {
+        return this.container.get(DataQuery.of('.', this.stringPath));
+    }
+
+    @Benchmark
+    public DataView set() {
+        return this.container.set(this.path, 42);
+    }
+
+}
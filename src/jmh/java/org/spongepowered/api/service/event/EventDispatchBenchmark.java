@@ -0,0 +1,97 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.event;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.api.event.AbstractEvent;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventHandler;
+import org.spongepowered.api.event.Subscribe;
+import org.spongepowered.api.util.event.factory.EventHandlerGenerator;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares calling a {@link Subscribe}d method through reflection with
+ * calling it through a generated {@link EventHandler}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class EventDispatchBenchmark {
+
+    private final Event event = new BenchmarkEvent();
+    private EventHandler<Event> reflective;
+    private EventHandler<Event> generated;
+
+    @Setup
+    public void setup() throws Exception {
+        BenchmarkListener listener = new BenchmarkListener();
+        Method method = BenchmarkListener.class.getMethod("onEvent", BenchmarkEvent.class);
+        this.reflective = new ReflectiveEventHandler(listener, method);
+        this.generated = new EventHandlerGenerator().create(listener, method);
+    }
+
+    @Benchmark
+    public int reflective() throws Exception {
+        this.reflective.handle(this.event);
+        return ((BenchmarkEvent) this.event).count;
+    }
+
+    @Benchmark
+    public int generated() throws Exception {
+        this.generated.handle(this.event);
+        return ((BenchmarkEvent) this.event).count;
+    }
+
+    public static class BenchmarkEvent extends AbstractEvent {
+
+        int count;
+
+    }
+
+    public static class BenchmarkListener {
+
+        @Subscribe
+        public void onEvent(BenchmarkEvent event) {
+            event.count++;
+        }
+
+    }
+
+}
@@ -0,0 +1,95 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Coerce#toPseudoEnum(Object, Class, Class, Object)}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CoerceBenchmark {
+
+    @Benchmark
+    public Entry toPseudoEnumFirst() {
+        return Coerce.toPseudoEnum("first", Entry.class, Entries.class, Entries.DEFAULT);
+    }
+
+    @Benchmark
+    public Entry toPseudoEnumLast() {
+        return Coerce.toPseudoEnum("LAST", Entry.class, Entries.class, Entries.DEFAULT);
+    }
+
+    @Benchmark
+    public Entry toPseudoEnumMissing() {
+        return Coerce.toPseudoEnum("missing", Entry.class, Entries.class, Entries.DEFAULT);
+    }
+
+    public static final class Entry {
+
+    }
+
+    public static final class Entries {
+
+        public static final Entry DEFAULT = new Entry();
+        public static final Entry FIRST = new Entry();
+        public static final Entry SECOND = new Entry();
+        public static final Entry THIRD = new Entry();
+        public static final Entry FOURTH = new Entry();
+        public static final Entry FIFTH = new Entry();
+        public static final Entry SIXTH = new Entry();
+        public static final Entry SEVENTH = new Entry();
+        public static final Entry EIGHTH = new Entry();
+        public static final Entry NINTH = new Entry();
+        public static final Entry TENTH = new Entry();
+        public static final Entry ELEVENTH = new Entry();
+        public static final Entry TWELFTH = new Entry();
+        public static final Entry THIRTEENTH = new Entry();
+        public static final Entry FOURTEENTH = new Entry();
+        public static final Entry FIFTEENTH = new Entry();
+        public static final Entry LAST = new Entry();
+
+        private Entries() {
+        }
+
+    }
+
+}
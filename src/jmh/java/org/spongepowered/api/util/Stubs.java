@@ -0,0 +1,88 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util;
+
+import com.google.common.base.Optional;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+/**
+ * Creates stub implementations of API interfaces for benchmarks, which
+ * have no implementation of the API to run against.
+ */
+public final class Stubs {
+
+    private Stubs() {
+    }
+
+    /**
+     * Creates a stub implementing the given interface. Every method returns
+     * the default value of its return type, or {@link Optional#absent()}.
+     *
+     * @param type The interface to implement
+     * @param <T> The type of the interface
+     * @return The stub
+     */
+    public static <T> T stub(final Class<T> type) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, new InvocationHandler() {
+            @Override
+            public Object invoke(Object proxy, Method method, Object[] args) {
+                if (method.getDeclaringClass() == Object.class) {
+                    if (method.getName().equals("equals")) {
+                        return proxy == args[0];
+                    } else if (method.getName().equals("hashCode")) {
+                        return System.identityHashCode(proxy);
+                    }
+                    return "Stub(" + type.getSimpleName() + ")";
+                }
+
+                Class<?> returnType = method.getReturnType();
+                if (returnType == Optional.class) {
+                    return Optional.absent();
+                } else if (returnType == boolean.class) {
+                    return false;
+                } else if (returnType == char.class) {
+                    return '\0';
+                } else if (returnType == float.class) {
+                    return 0F;
+                } else if (returnType == double.class) {
+                    return 0D;
+                } else if (returnType == long.class) {
+                    return 0L;
+                } else if (returnType == int.class) {
+                    return 0;
+                } else if (returnType == short.class) {
+                    return (short) 0;
+                } else if (returnType == byte.class) {
+                    return (byte) 0;
+                }
+                return null;
+            }
+        }));
+    }
+
+}
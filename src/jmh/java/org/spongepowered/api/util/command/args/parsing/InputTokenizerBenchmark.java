@@ -0,0 +1,81 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.command.args.parsing;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.api.util.command.args.ArgumentParseException;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures splitting command arguments with the {@link InputTokenizers}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class InputTokenizerBenchmark {
+
+    private static final String INPUT = "give Notch minecraft:diamond_sword 1 \"a \\\"quoted\\\" name\" --flag value";
+
+    private InputTokenizer quotedStrings;
+    private InputTokenizer spaceSplit;
+    private InputTokenizer rawInput;
+
+    @Setup
+    public void setup() {
+        this.quotedStrings = InputTokenizers.quotedStrings(false);
+        this.spaceSplit = InputTokenizers.spaceSplitString();
+        this.rawInput = InputTokenizers.rawInput();
+    }
+
+    @Benchmark
+    public List<SingleArg> quotedStrings() throws ArgumentParseException {
+        return this.quotedStrings.tokenize(INPUT, false);
+    }
+
+    @Benchmark
+    public List<SingleArg> spaceSplitString() throws ArgumentParseException {
+        return this.spaceSplit.tokenize(INPUT, false);
+    }
+
+    @Benchmark
+    public List<SingleArg> rawInput() throws ArgumentParseException {
+        return this.rawInput.tokenize(INPUT, false);
+    }
+
+}
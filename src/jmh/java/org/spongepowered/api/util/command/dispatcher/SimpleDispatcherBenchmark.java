@@ -0,0 +1,118 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.command.dispatcher;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.ImmutableList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.util.Stubs;
+import org.spongepowered.api.util.command.CommandCallable;
+import org.spongepowered.api.util.command.CommandException;
+import org.spongepowered.api.util.command.CommandResult;
+import org.spongepowered.api.util.command.CommandSource;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures dispatching a command line through a {@link SimpleDispatcher}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SimpleDispatcherBenchmark {
+
+    private SimpleDispatcher dispatcher;
+    private CommandSource source;
+
+    @Setup
+    public void setup() {
+        this.dispatcher = new SimpleDispatcher();
+        for (int i = 0; i < 100; i++) {
+            this.dispatcher.register(new BenchmarkCommand(), "command" + i, "alias" + i);
+        }
+        this.source = Stubs.stub(CommandSource.class);
+    }
+
+    @Benchmark
+    public Optional<CommandResult> process() throws CommandException {
+        return this.dispatcher.process(this.source, "Command50 first second third");
+    }
+
+    @Benchmark
+    public Optional<CommandResult> processUnknown() throws CommandException {
+        return this.dispatcher.process(this.source, "unknown first second third");
+    }
+
+    private static final class BenchmarkCommand implements CommandCallable {
+
+        private final Optional<CommandResult> result = Optional.of(CommandResult.success());
+
+        @Override
+        public Optional<CommandResult> process(CommandSource source, String arguments) {
+            return this.result;
+        }
+
+        @Override
+        public List<String> getSuggestions(CommandSource source, String arguments) {
+            return ImmutableList.of();
+        }
+
+        @Override
+        public boolean testPermission(CommandSource source) {
+            return true;
+        }
+
+        @Override
+        public Optional<Text> getShortDescription(CommandSource source) {
+            return Optional.absent();
+        }
+
+        @Override
+        public Optional<Text> getHelp(CommandSource source) {
+            return Optional.absent();
+        }
+
+        @Override
+        public Text getUsage(CommandSource source) {
+            throw new UnsupportedOperationException();
+        }
+
+    }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.event.callback;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.spongepowered.api.event.Order;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link CallbackList#runAll()}. Run with {@code -prof gc} to
+ * check that running the callbacks does not allocate.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CallbackListBenchmark {
+
+    @Param({"1", "8", "64"})
+    private int size;
+
+    private CallbackList list;
+    private CountingCallback[] callbacks;
+
+    @Setup
+    public void setup() {
+        this.list = new CallbackList();
+        this.callbacks = new CountingCallback[this.size];
+        Order[] orders = Order.values();
+        for (int i = 0; i < this.size; i++) {
+            this.callbacks[i] = new CountingCallback(orders[i % orders.length]);
+            this.list.add(this.callbacks[i]);
+        }
+    }
+
+    @Benchmark
+    public int runAll() {
+        this.list.runAll();
+        return this.callbacks[0].count;
+    }
+
+    private static final class CountingCallback extends AbstractEventCallback {
+
+        private final Order order;
+        int count;
+
+        CountingCallback(Order order) {
+            this.order = order;
+        }
+
+        @Override
+        public Order getOrder() {
+            return this.order;
+        }
+
+        @Override
+        public void run() {
+            this.count++;
+        }
+
+    }
+
+}
@@ -0,0 +1,682 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.spongepowered.api.data.DataQuery.of;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.primitives.Bytes;
+import com.google.common.primitives.Doubles;
+import com.google.common.primitives.Ints;
+import com.google.common.primitives.Longs;
+import org.spongepowered.api.service.persistence.DataBuilder;
+import org.spongepowered.api.service.persistence.SerializationService;
+import org.spongepowered.api.util.Coerce;
+
+import java.lang.reflect.Array;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Base implementation of a {@link DataView}, implementing the typed getters
+ * on top of {@link #get(DataQuery)} and the bulk accessors on top of
+ * {@link #accept(DataVisitor)}.
+ */
+public abstract class AbstractDataView implements DataView {
+
+    @Override
+    public Set<DataQuery> getKeys(boolean deep) {
+        ImmutableSet.Builder<DataQuery> builder = ImmutableSet.builder();
+        accept(new KeysVisitor(builder, deep));
+        return builder.build();
+    }
+
+    @Override
+    public Map<DataQuery, Object> getValues(boolean deep) {
+        ValuesVisitor visitor = new ValuesVisitor(deep);
+        accept(visitor);
+        return visitor.builders.pop().build();
+    }
+
+    @Override
+    public DataView createView(DataQuery path, Map<?, ?> map) {
+        checkNotNull(path, "path");
+        DataView section = createView(path);
+
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (entry.getValue() instanceof Map) {
+                section.createView(of('.', entry.getKey().toString()), (Map<?, ?>) entry.getValue());
+            } else {
+                section.set(of('.', entry.getKey().toString()), entry.getValue());
+            }
+        }
+        return section;
+    }
+
+    @Override
+    public Optional<DataView> getView(DataQuery path) {
+        Optional<Object> val = get(path);
+        if (val.isPresent()) {
+            if (val.get() instanceof DataView) {
+                return Optional.of((DataView) val.get());
+            }
+        }
+        return Optional.absent();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<? extends Map<?, ?>> getMap(DataQuery path) {
+        Optional<Object> val = get(path);
+        if (val.isPresent()) {
+            if (val.get() instanceof DataView) {
+                ImmutableMap.Builder<String, Object> builder = ImmutableMap.builder();
+                for (Map.Entry<DataQuery, Object> entry : ((DataView) val.get()).getValues(false).entrySet()) {
+                    if (entry.getValue() instanceof Collection) {
+                        builder.put(entry.getKey().asString('.'), ImmutableList.copyOf((Collection) entry.getValue()));
+                    } else if (entry.getValue() instanceof Map) {
+                        builder.put(entry.getKey().asString('.'), ImmutableMap.copyOf((Map) entry.getValue()));
+                    } else {
+                        builder.put(entry.getKey().asString('.'), entry.getValue());
+                    }
+                }
+                return Optional.of(builder.build());
+            } else if (val.get() instanceof Map) {
+                return Optional.of((Map<?, ?>) val.get());
+            }
+        }
+        return Optional.absent();
+    }
+
+    private Optional<DataView> getUnsafeView(DataQuery path) {
+        Optional<Object> val = get(path);
+        if (val.isPresent()) {
+            if (val.get() instanceof DataView) {
+                return Optional.of((DataView) val.get());
+            }
+        }
+        return Optional.absent();
+    }
+
+    @Override
+    public Optional<Boolean> getBoolean(DataQuery path) {
+        Optional<Object> val = get(path);
+        if (val.isPresent()) {
+            return Coerce.asBoolean(val.get());
+        }
+        return Optional.absent();
+    }
+
+    @Override
+    public Optional<Integer> getInt(DataQuery path) {
+        Optional<Object> val = get(path);
+        if (val.isPresent()) {
+            return Coerce.asInteger(val.get());
+        }
+        return Optional.absent();
+    }
+
+    @Override
+    public Optional<Long> getLong(DataQuery path) {
+        Optional<Object> val = get(path);
+        if (val.isPresent()) {
+            return Coerce.asLong(val.get());
+        }
+        return Optional.absent();
+    }
+
+    @Override
+    public Optional<Double> getDouble(DataQuery path) {
+        Optional<Object> val = get(path);
+        if (val.isPresent()) {
+            return Coerce.asDouble(val.get());
+        }
+        return Optional.absent();
+    }
+
+    @Override
+    public Optional<String> getString(DataQuery path) {
+        Optional<Object> val = get(path);
+        if (val.isPresent()) {
+            return Coerce.asString(val.get());
+        }
+        return Optional.absent();
+    }
+
+    @Override
+    public Optional<List<?>> getList(DataQuery path) {
+        Optional<Object> val = get(path);
+        if (val.isPresent()) {
+            if (val.get() instanceof List<?>) {
+                return Optional.<List<?>>of(Lists.newArrayList((List<?>) val.get()));
+            }
+            if (val.get() instanceof Object[]) {
+                return Optional.<List<?>>of(Lists.newArrayList((Object[]) val.get()));
+            }
+            if (val.get().getClass().isArray()) {
+                return Optional.<List<?>>of(Lists.newArrayList(Coerce.toList(val.get())));
+            }
+        }
+        return Optional.absent();
+    }
+
+    @Override
+    public Optional<List<String>> getStringList(DataQuery path) {
+        Optional<List<?>> list = getUnsafeList(path);
+
+        if (!list.isPresent()) {
+            return Optional.absent();
+        }
+
+        List<String> newList = Lists.newArrayList();
+
+        for (Object object : list.get()) {
+            Optional<String> optional = Coerce.asString(object);
+            if (optional.isPresent()) {
+                newList.add(optional.get());
+            }
+        }
+        return Optional.of(newList);
+    }
+
+    private Optional<List<?>> getUnsafeList(DataQuery path) {
+        Optional<Object> val = get(path);
+        if (val.isPresent()) {
+            if (val.get() instanceof List<?>) {
+                return Optional.<List<?>>of((List<?>) val.get());
+            } else if (val.get() instanceof Object[]) {
+                return Optional.<List<?>>of(Arrays.asList(((Object[]) val.get())));
+            } else if (val.get().getClass().isArray()) {
+                return Optional.<List<?>>of(Coerce.toList(val.get()));
+            }
+        }
+        return Optional.absent();
+    }
+
+    @Override
+    public Optional<List<Character>> getCharacterList(DataQuery path) {
+        Optional<List<?>> list = getUnsafeList(path);
+
+        if (!list.isPresent()) {
+            return Optional.absent();
+        }
+
+        List<Character> newList = Lists.newArrayList();
+
+        for (Object object : list.get()) {
+            Optional<Character> optional = Coerce.asChar(object);
+            if (optional.isPresent()) {
+                newList.add(optional.get());
+            }
+        }
+        return Optional.of(newList);
+    }
+
+    @Override
+    public Optional<List<Boolean>> getBooleanList(DataQuery path) {
+        Optional<List<?>> list = getUnsafeList(path);
+
+        if (!list.isPresent()) {
+            return Optional.absent();
+        }
+
+        List<Boolean> newList = Lists.newArrayList();
+
+        for (Object object : list.get()) {
+            Optional<Boolean> optional = Coerce.asBoolean(object);
+            if (optional.isPresent()) {
+                newList.add(optional.get());
+            }
+        }
+        return Optional.of(newList);
+    }
+
+    @Override
+    public Optional<List<Byte>> getByteList(DataQuery path) {
+        Optional<List<?>> list = getUnsafeList(path);
+
+        if (!list.isPresent()) {
+            return Optional.absent();
+        }
+
+        List<Byte> newList = Lists.newArrayList();
+
+        for (Object object : list.get()) {
+            Optional<Byte> optional = Coerce.asByte(object);
+            if (optional.isPresent()) {
+                newList.add(optional.get());
+            }
+        }
+        return Optional.of(newList);
+    }
+
+    @Override
+    public Optional<List<Short>> getShortList(DataQuery path) {
+        Optional<List<?>> list = getUnsafeList(path);
+
+        if (!list.isPresent()) {
+            return Optional.absent();
+        }
+
+        List<Short> newList = Lists.newArrayList();
+
+        for (Object object : list.get()) {
+            Optional<Short> optional = Coerce.asShort(object);
+            if (optional.isPresent()) {
+                newList.add(optional.get());
+            }
+        }
+        return Optional.of(newList);
+    }
+
+    @Override
+    public Optional<List<Integer>> getIntegerList(DataQuery path) {
+        Optional<List<?>> list = getUnsafeList(path);
+
+        if (!list.isPresent()) {
+            return Optional.absent();
+        }
+
+        List<Integer> newList = Lists.newArrayList();
+
+        for (Object object : list.get()) {
+            Optional<Integer> optional = Coerce.asInteger(object);
+            if (optional.isPresent()) {
+                newList.add(optional.get());
+            }
+        }
+        return Optional.of(newList);
+    }
+
+    @Override
+    public Optional<List<Long>> getLongList(DataQuery path) {
+        Optional<List<?>> list = getUnsafeList(path);
+
+        if (!list.isPresent()) {
+            return Optional.absent();
+        }
+
+        List<Long> newList = Lists.newArrayList();
+
+        for (Object object : list.get()) {
+            Optional<Long> optional = Coerce.asLong(object);
+            if (optional.isPresent()) {
+                newList.add(optional.get());
+            }
+        }
+        return Optional.of(newList);
+    }
+
+    @Override
+    public Optional<List<Float>> getFloatList(DataQuery path) {
+        Optional<List<?>> list = getUnsafeList(path);
+
+        if (!list.isPresent()) {
+            return Optional.absent();
+        }
+
+        List<Float> newList = Lists.newArrayList();
+
+        for (Object object : list.get()) {
+            Optional<Float> optional = Coerce.asFloat(object);
+            if (optional.isPresent()) {
+                newList.add(optional.get());
+            }
+        }
+        return Optional.of(newList);
+    }
+
+    @Override
+    public Optional<List<Double>> getDoubleList(DataQuery path) {
+        Optional<List<?>> list = getUnsafeList(path);
+
+        if (!list.isPresent()) {
+            return Optional.absent();
+        }
+
+        List<Double> newList = Lists.newArrayList();
+
+        for (Object object : list.get()) {
+            Optional<Double> optional = Coerce.asDouble(object);
+            if (optional.isPresent()) {
+                newList.add(optional.get());
+            }
+        }
+        return Optional.of(newList);
+    }
+
+    @Override
+    public Optional<int[]> getIntArray(DataQuery path) {
+        Optional<Object> val = get(path);
+        if (val.isPresent() && val.get() instanceof int[]) {
+            int[] array = (int[]) val.get();
+            int[] copy = new int[array.length];
+            System.arraycopy(array, 0, copy, 0, array.length);
+            return Optional.of(copy);
+        }
+        Optional<List<Integer>> list = getIntegerList(path);
+        if (list.isPresent()) {
+            return Optional.of(Ints.toArray(list.get()));
+        }
+        return Optional.absent();
+    }
+
+    @Override
+    public Optional<long[]> getLongArray(DataQuery path) {
+        Optional<Object> val = get(path);
+        if (val.isPresent() && val.get() instanceof long[]) {
+            long[] array = (long[]) val.get();
+            long[] copy = new long[array.length];
+            System.arraycopy(array, 0, copy, 0, array.length);
+            return Optional.of(copy);
+        }
+        Optional<List<Long>> list = getLongList(path);
+        if (list.isPresent()) {
+            return Optional.of(Longs.toArray(list.get()));
+        }
+        return Optional.absent();
+    }
+
+    @Override
+    public Optional<byte[]> getByteArray(DataQuery path) {
+        Optional<Object> val = get(path);
+        if (val.isPresent() && val.get() instanceof byte[]) {
+            byte[] array = (byte[]) val.get();
+            byte[] copy = new byte[array.length];
+            System.arraycopy(array, 0, copy, 0, array.length);
+            return Optional.of(copy);
+        }
+        Optional<List<Byte>> list = getByteList(path);
+        if (list.isPresent()) {
+            return Optional.of(Bytes.toArray(list.get()));
+        }
+        return Optional.absent();
+    }
+
+    @Override
+    public Optional<double[]> getDoubleArray(DataQuery path) {
+        Optional<Object> val = get(path);
+        if (val.isPresent() && val.get() instanceof double[]) {
+            double[] array = (double[]) val.get();
+            double[] copy = new double[array.length];
+            System.arraycopy(array, 0, copy, 0, array.length);
+            return Optional.of(copy);
+        }
+        Optional<List<Double>> list = getDoubleList(path);
+        if (list.isPresent()) {
+            return Optional.of(Doubles.toArray(list.get()));
+        }
+        return Optional.absent();
+    }
+
+    @Override
+    public Optional<List<Map<?, ?>>> getMapList(DataQuery path) {
+        Optional<List<?>> list = getUnsafeList(path);
+
+        if (!list.isPresent()) {
+            return Optional.absent();
+        }
+
+        List<Map<?, ?>> newList = Lists.newArrayList();
+
+        for (Object object : list.get()) {
+            if (object instanceof Map) {
+                newList.add((Map<?, ?>) object);
+            }
+        }
+
+        return Optional.of(newList);
+    }
+
+    @Override
+    public Optional<List<DataView>> getViewList(DataQuery path) {
+        Optional<List<?>> list = getUnsafeList(path);
+
+        if (!list.isPresent()) {
+            return Optional.absent();
+        }
+
+        List<DataView> newList = Lists.newArrayList();
+
+        for (Object object : list.get()) {
+            if (object instanceof DataView) {
+                newList.add((DataView) object);
+            }
+        }
+
+        return Optional.of(newList);
+    }
+
+    @Override
+    public <T extends DataSerializable> Optional<T> getSerializable(DataQuery path, Class<T> clazz, SerializationService service) {
+        checkNotNull(path, "path");
+        checkNotNull(clazz, "clazz");
+        checkNotNull(service, "service");
+        Optional<DataView> optional = getUnsafeView(path);
+
+        if (!optional.isPresent()) {
+            return Optional.absent();
+        }
+
+        Optional<DataBuilder<T>> builderOptional = service.getBuilder(clazz);
+        if (!builderOptional.isPresent()) {
+            return Optional.absent();
+        } else {
+            return builderOptional.get().build(optional.get());
+        }
+    }
+
+    @Override
+    public <T extends DataSerializable> Optional<List<T>> getSerializableList(DataQuery path, Class<T> clazz, SerializationService service) {
+        checkNotNull(path, "path");
+        checkNotNull(clazz, "clazz");
+        checkNotNull(service, "service");
+        Optional<List<DataView>> optional = getViewList(path);
+
+        if (!optional.isPresent()) {
+            return Optional.absent();
+        }
+
+        Optional<DataBuilder<T>> builderOptional = service.getBuilder(clazz);
+        if (!builderOptional.isPresent()) {
+            return Optional.absent();
+        } else {
+            List<T> newList = Lists.newArrayList();
+            for (DataView view : optional.get()) {
+                Optional<T> element = builderOptional.get().build(view);
+                if (element.isPresent()) {
+                    newList.add(element.get());
+                }
+            }
+            return Optional.of(newList);
+        }
+    }
+
+    @Override
+    public DataContainer copy() {
+        MemoryDataContainer container = new MemoryDataContainer();
+        container.copyFrom(this);
+        return container;
+    }
+
+    /**
+     * Compares the entries of two maps, comparing arrays by their contents.
+     *
+     * @param map The map
+     * @param other The other map
+     * @return Whether the entries are equal
+     */
+    static boolean entriesEqual(Map<?, ?> map, Map<?, ?> other) {
+        if (map.size() != other.size()) {
+            return false;
+        }
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            Object value = entry.getValue();
+            Object otherValue = other.get(entry.getKey());
+            if (value instanceof Map && otherValue instanceof Map) {
+                if (!entriesEqual((Map<?, ?>) value, (Map<?, ?>) otherValue)) {
+                    return false;
+                }
+            } else if (otherValue == null || !valueEquals(value, otherValue)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Compares two values, comparing arrays by their contents.
+     *
+     * @param value The value
+     * @param other The other value
+     * @return Whether the values are equal
+     */
+    static boolean valueEquals(Object value, Object other) {
+        return Arrays.deepEquals(new Object[] {value}, new Object[] {other});
+    }
+
+    /**
+     * Computes a hash code of the entries of a map which is consistent with
+     * {@link #entriesEqual(Map, Map)}.
+     *
+     * @param map The map
+     * @return The hash code
+     */
+    static int entriesHash(Map<?, ?> map) {
+        int hash = 0;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            Object value = entry.getValue();
+            int valueHash = value instanceof Map ? entriesHash((Map<?, ?>) value) : Arrays.deepHashCode(new Object[] {value});
+            hash += entry.getKey().hashCode() ^ valueHash;
+        }
+        return hash;
+    }
+
+    /**
+     * Copies a primitive array.
+     *
+     * @param array The array to copy
+     * @return The copy
+     */
+    static Object copyArray(Object array) {
+        int length = Array.getLength(array);
+        Object copy = Array.newInstance(array.getClass().getComponentType(), length);
+        System.arraycopy(array, 0, copy, 0, length);
+        return copy;
+    }
+
+    /**
+     * Collects the keys of the visited contents, as paths relative to the
+     * view the visit started at.
+     */
+    private static final class KeysVisitor implements DataVisitor {
+
+        private final ImmutableSet.Builder<DataQuery> builder;
+        private final boolean deep;
+        private final Deque<DataQuery> paths = new ArrayDeque<DataQuery>();
+
+        KeysVisitor(ImmutableSet.Builder<DataQuery> builder, boolean deep) {
+            this.builder = builder;
+            this.deep = deep;
+        }
+
+        private DataQuery path(String key) {
+            return this.paths.isEmpty() ? of(key) : this.paths.peek().then(of(key));
+        }
+
+        @Override
+        public boolean enterView(String key, DataView view) {
+            DataQuery path = path(key);
+            this.builder.add(path);
+            if (!this.deep) {
+                return false;
+            }
+            this.paths.push(path);
+            return true;
+        }
+
+        @Override
+        public void visitValue(String key, Object value) {
+            this.builder.add(path(key));
+        }
+
+        @Override
+        public void exitView(String key, DataView view) {
+            this.paths.pop();
+        }
+
+    }
+
+    /**
+     * Collects the visited contents into maps, where each child view is
+     * represented by the map of its own values.
+     */
+    private static final class ValuesVisitor implements DataVisitor {
+
+        private final boolean deep;
+        final Deque<ImmutableMap.Builder<DataQuery, Object>> builders = new ArrayDeque<ImmutableMap.Builder<DataQuery, Object>>();
+
+        ValuesVisitor(boolean deep) {
+            this.deep = deep;
+            this.builders.push(ImmutableMap.<DataQuery, Object>builder());
+        }
+
+        @Override
+        public boolean enterView(String key, DataView view) {
+            this.builders.push(ImmutableMap.<DataQuery, Object>builder());
+            return true;
+        }
+
+        @Override
+        public void visitValue(String key, Object value) {
+            this.builders.peek().put(of(key), value);
+        }
+
+        @Override
+        public void exitView(String key, DataView view) {
+            Map<DataQuery, Object> values = this.builders.pop().build();
+            ImmutableMap.Builder<DataQuery, Object> parent = this.builders.peek();
+            DataQuery path = of(key);
+            parent.put(path, values);
+            if (this.deep) {
+                for (Map.Entry<DataQuery, Object> entry : values.entrySet()) {
+                    parent.put(path.then(entry.getKey()), entry.getValue());
+                }
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,85 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.spongepowered.api.data.BinaryDataFormat.MAGIC;
+import static org.spongepowered.api.data.BinaryDataFormat.VERSION;
+
+import org.spongepowered.api.service.persistence.InvalidDataException;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * A read-only {@link DataContainer} backed by a buffer holding a record
+ * written by a {@link BinaryDataWriter}, which may be a heap buffer or a
+ * memory-mapped file.
+ *
+ * <p>Only the parts of the record that are queried are decoded, which makes
+ * this container much cheaper than a {@link MemoryDataContainer} when few of
+ * its values are used. Use {@link #copy()} to obtain a modifiable copy.</p>
+ */
+public class BinaryDataContainer extends BinaryDataView implements DataContainer {
+
+    /**
+     * Creates a new container reading the record at the current position
+     * of the given buffer. The buffer must not be modified while the
+     * container is in use.
+     *
+     * @param buffer The buffer to read from
+     * @throws InvalidDataException If the buffer does not hold a record
+     */
+    public BinaryDataContainer(ByteBuffer buffer) {
+        this(open(checkNotNull(buffer, "buffer")), buffer.position() + 5);
+    }
+
+    BinaryDataContainer(BinaryRecord record, int offset) {
+        super(record, offset);
+    }
+
+    private static BinaryRecord open(ByteBuffer buffer) {
+        ByteBuffer duplicate = buffer.duplicate().order(ByteOrder.BIG_ENDIAN);
+        if (duplicate.remaining() < 5 || duplicate.getInt(duplicate.position()) != MAGIC) {
+            throw new InvalidDataException("Not a binary data record");
+        }
+        int version = duplicate.get(duplicate.position() + 4) & 0xFF;
+        if (version != VERSION) {
+            throw new InvalidDataException("Unsupported binary data version: " + version);
+        }
+        return new BinaryRecord(duplicate, duplicate.position() + 5);
+    }
+
+    @Override
+    public DataContainer set(DataQuery path, Object value) {
+        throw new UnsupportedOperationException("This container is read-only");
+    }
+
+    @Override
+    public DataContainer remove(DataQuery path) {
+        throw new UnsupportedOperationException("This container is read-only");
+    }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+/**
+ * Constants of the binary format written by {@link BinaryDataWriter} and
+ * read by {@link BinaryDataReader}.
+ *
+ * <p>A record starts with the {@link #MAGIC} number and the format
+ * {@link #VERSION}, followed by the entries of the root view. A view is a
+ * sequence of entries terminated by {@link #END}, where each entry is a
+ * type tag, the key and the value.</p>
+ *
+ * <p>Keys are compressed with a dictionary local to the record: a key is
+ * written as a variable length integer which is zero if the key is written
+ * out for the first time, as a string, or otherwise one more than the index
+ * of the key in the order keys were first written.</p>
+ *
+ * <p>Integers, longs, shorts, characters and lengths are written as
+ * variable length integers, using zig-zag encoding for signed values.
+ * Strings are written as their length in UTF-8 bytes followed by the
+ * bytes. Arrays are written as their length followed by their elements at
+ * fixed width, so they can be skipped without being read. Other primitive
+ * arrays are written as lists.</p>
+ */
+final class BinaryDataFormat {
+
+    static final int MAGIC = 0x53504456; // "SPDV"
+    static final int VERSION = 1;
+
+    static final int END = 0;
+    static final int VIEW = 1;
+    static final int BYTE = 2;
+    static final int SHORT = 3;
+    static final int INT = 4;
+    static final int LONG = 5;
+    static final int FLOAT = 6;
+    static final int DOUBLE = 7;
+    static final int BOOLEAN = 8;
+    static final int CHAR = 9;
+    static final int STRING = 10;
+    static final int LIST = 11;
+    static final int MAP = 12;
+    static final int BYTE_ARRAY = 13;
+    static final int INT_ARRAY = 14;
+    static final int LONG_ARRAY = 15;
+    static final int DOUBLE_ARRAY = 16;
+
+    private BinaryDataFormat() {
+    }
+
+}
@@ -0,0 +1,237 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.spongepowered.api.data.BinaryDataFormat.BOOLEAN;
+import static org.spongepowered.api.data.BinaryDataFormat.BYTE;
+import static org.spongepowered.api.data.BinaryDataFormat.BYTE_ARRAY;
+import static org.spongepowered.api.data.BinaryDataFormat.CHAR;
+import static org.spongepowered.api.data.BinaryDataFormat.DOUBLE;
+import static org.spongepowered.api.data.BinaryDataFormat.DOUBLE_ARRAY;
+import static org.spongepowered.api.data.BinaryDataFormat.END;
+import static org.spongepowered.api.data.BinaryDataFormat.FLOAT;
+import static org.spongepowered.api.data.BinaryDataFormat.INT;
+import static org.spongepowered.api.data.BinaryDataFormat.INT_ARRAY;
+import static org.spongepowered.api.data.BinaryDataFormat.LIST;
+import static org.spongepowered.api.data.BinaryDataFormat.LONG;
+import static org.spongepowered.api.data.BinaryDataFormat.LONG_ARRAY;
+import static org.spongepowered.api.data.BinaryDataFormat.MAGIC;
+import static org.spongepowered.api.data.BinaryDataFormat.MAP;
+import static org.spongepowered.api.data.BinaryDataFormat.SHORT;
+import static org.spongepowered.api.data.BinaryDataFormat.STRING;
+import static org.spongepowered.api.data.BinaryDataFormat.VERSION;
+import static org.spongepowered.api.data.BinaryDataFormat.VIEW;
+import static org.spongepowered.api.data.DataQuery.of;
+
+import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.spongepowered.api.service.persistence.InvalidDataException;
+
+import java.io.DataInput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads {@link DataContainer}s written by a {@link BinaryDataWriter} from a
+ * {@link DataInput}.
+ *
+ * <p>Entries are set directly on the resulting container while they are
+ * read.</p>
+ *
+ * @see BinaryDataFormat
+ */
+public final class BinaryDataReader {
+
+    private final DataInput in;
+
+    /**
+     * Creates a new reader.
+     *
+     * @param in The input to read from
+     */
+    public BinaryDataReader(DataInput in) {
+        this.in = checkNotNull(in, "in");
+    }
+
+    /**
+     * Reads a single record.
+     *
+     * @return The read container
+     * @throws IOException If the input could not be read from
+     * @throws InvalidDataException If the input is not in the expected
+     *     format
+     */
+    public DataContainer read() throws IOException {
+        int magic = this.in.readInt();
+        if (magic != MAGIC) {
+            throw new InvalidDataException("Not a binary data record: " + Integer.toHexString(magic));
+        }
+        int version = this.in.readUnsignedByte();
+        if (version != VERSION) {
+            throw new InvalidDataException("Unsupported binary data version: " + version);
+        }
+        DataContainer container = new MemoryDataContainer();
+        readEntries(container, new ArrayList<String>());
+        return container;
+    }
+
+    private void readEntries(DataView view, List<String> keys) throws IOException {
+        int type;
+        while ((type = this.in.readUnsignedByte()) != END) {
+            DataQuery key = of(readKey(keys));
+            if (type == VIEW) {
+                readEntries(view.createView(key), keys);
+            } else {
+                view.set(key, readValue(type, keys));
+            }
+        }
+    }
+
+    private String readKey(List<String> keys) throws IOException {
+        int index = readVarInt(this.in);
+        if (index == 0) {
+            String key = readString(this.in);
+            keys.add(key);
+            return key;
+        } else if (index > keys.size()) {
+            throw new InvalidDataException("Unknown key index: " + (index - 1));
+        }
+        return keys.get(index - 1);
+    }
+
+    private Object readValue(int type, List<String> keys) throws IOException {
+        switch (type) {
+            case VIEW:
+                DataContainer container = new MemoryDataContainer();
+                readEntries(container, keys);
+                return container;
+            case BYTE:
+                return this.in.readByte();
+            case SHORT:
+                return (short) zigZag(readVarInt(this.in));
+            case INT:
+                return zigZag(readVarInt(this.in));
+            case LONG:
+                long l = readVarLong(this.in);
+                return (l >>> 1) ^ -(l & 1);
+            case FLOAT:
+                return this.in.readFloat();
+            case DOUBLE:
+                return this.in.readDouble();
+            case BOOLEAN:
+                return this.in.readBoolean();
+            case CHAR:
+                return (char) readVarInt(this.in);
+            case STRING:
+                return readString(this.in);
+            case LIST:
+                int size = readVarInt(this.in);
+                ImmutableList.Builder<Object> list = ImmutableList.builder();
+                for (int i = 0; i < size; i++) {
+                    list.add(readValue(this.in.readUnsignedByte(), keys));
+                }
+                return list.build();
+            case MAP:
+                int entries = readVarInt(this.in);
+                ImmutableMap.Builder<Object, Object> map = ImmutableMap.builder();
+                for (int i = 0; i < entries; i++) {
+                    Object key = readValue(this.in.readUnsignedByte(), keys);
+                    map.put(key, readValue(this.in.readUnsignedByte(), keys));
+                }
+                return map.build();
+            case BYTE_ARRAY:
+                byte[] bytes = new byte[readLength(this.in)];
+                this.in.readFully(bytes);
+                return bytes;
+            case INT_ARRAY:
+                int[] ints = new int[readLength(this.in)];
+                for (int i = 0; i < ints.length; i++) {
+                    ints[i] = this.in.readInt();
+                }
+                return ints;
+            case LONG_ARRAY:
+                long[] longs = new long[readLength(this.in)];
+                for (int i = 0; i < longs.length; i++) {
+                    longs[i] = this.in.readLong();
+                }
+                return longs;
+            case DOUBLE_ARRAY:
+                double[] doubles = new double[readLength(this.in)];
+                for (int i = 0; i < doubles.length; i++) {
+                    doubles[i] = this.in.readDouble();
+                }
+                return doubles;
+            default:
+                throw new InvalidDataException("Unknown type: " + type);
+        }
+    }
+
+    private static int zigZag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    static int readVarInt(DataInput in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new InvalidDataException("Variable length integer is too long");
+    }
+
+    static long readVarLong(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new InvalidDataException("Variable length long is too long");
+    }
+
+    static int readLength(DataInput in) throws IOException {
+        int length = readVarInt(in);
+        if (length < 0) {
+            throw new InvalidDataException("Negative length: " + length);
+        }
+        return length;
+    }
+
+    static String readString(DataInput in) throws IOException {
+        int length = readLength(in);
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, Charsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,222 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.Objects;
+import com.google.common.base.Optional;
+import com.google.common.collect.ImmutableSet;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+/**
+ * A read-only {@link DataView} backed by a record in the format of
+ * {@link BinaryDataWriter}, which is decoded on demand.
+ *
+ * <p>The entries of a view are indexed on first access, and only the values
+ * that are actually queried are decoded. Sub-views are not decoded until
+ * they are queried themselves.</p>
+ *
+ * @see BinaryDataContainer
+ */
+public class BinaryDataView extends AbstractDataView {
+
+    private final BinaryRecord record;
+    private final int offset;
+    private final DataContainer container;
+    @Nullable private final DataView parent;
+    private final DataQuery path;
+    private volatile BinaryRecord.Index index;
+    private volatile BinaryDataView[] views;
+
+    BinaryDataView(BinaryRecord record, int offset) {
+        this.record = record;
+        this.offset = offset;
+        this.container = (DataContainer) this;
+        this.parent = null;
+        this.path = DataQuery.of();
+    }
+
+    BinaryDataView(BinaryRecord record, DataView parent, DataQuery path, int offset) {
+        this.record = record;
+        this.offset = offset;
+        this.container = parent.getContainer();
+        this.parent = parent;
+        this.path = parent.getCurrentPath().then(path);
+    }
+
+    private BinaryRecord.Index getIndex() {
+        BinaryRecord.Index index = this.index;
+        if (index == null) {
+            this.index = index = this.record.index(this.offset);
+        }
+        return index;
+    }
+
+    private Object getValue(BinaryRecord.Index index, int entry) {
+        int type = index.types[entry];
+        if (type != BinaryDataFormat.VIEW) {
+            return this.record.decode(this, null, type, index.offsets[entry]);
+        }
+        BinaryDataView[] views = this.views;
+        if (views == null) {
+            this.views = views = new BinaryDataView[index.size];
+        }
+        BinaryDataView view = views[entry];
+        if (view == null) {
+            String key = this.record.getKey(index.ids[entry]);
+            views[entry] = view = (BinaryDataView) this.record.decode(this, key, type, index.offsets[entry]);
+        }
+        return view;
+    }
+
+    @Nullable
+    private Object getValue(String key) {
+        int id = this.record.getId(key);
+        if (id < 0) {
+            return null;
+        }
+        BinaryRecord.Index index = getIndex();
+        int entry = index.find(id);
+        return entry < 0 ? null : getValue(index, entry);
+    }
+
+    @Override
+    public DataContainer getContainer() {
+        return this.container;
+    }
+
+    @Override
+    public DataQuery getCurrentPath() {
+        return this.path;
+    }
+
+    @Override
+    public String getName() {
+        List<String> parts = this.path.getParts();
+        return parts.isEmpty() ? "" : parts.get(parts.size() - 1);
+    }
+
+    @Override
+    public Optional<DataView> getParent() {
+        return Optional.fromNullable(this.parent);
+    }
+
+    @Override
+    public Set<DataQuery> getKeys(boolean deep) {
+        if (deep) {
+            return super.getKeys(true);
+        }
+        BinaryRecord.Index index = getIndex();
+        ImmutableSet.Builder<DataQuery> builder = ImmutableSet.builder();
+        for (int i = 0; i < index.size; i++) {
+            builder.add(DataQuery.of(this.record.getKey(index.ids[i])));
+        }
+        return builder.build();
+    }
+
+    @Override
+    public void accept(DataVisitor visitor) {
+        checkNotNull(visitor, "visitor");
+        BinaryRecord.Index index = getIndex();
+        for (int i = 0; i < index.size; i++) {
+            String key = this.record.getKey(index.ids[i]);
+            Object value = getValue(index, i);
+            if (value instanceof BinaryDataView) {
+                DataView view = (DataView) value;
+                if (visitor.enterView(key, view)) {
+                    view.accept(visitor);
+                    visitor.exitView(key, view);
+                }
+            } else {
+                visitor.visitValue(key, value);
+            }
+        }
+    }
+
+    @Override
+    public boolean contains(DataQuery path) {
+        checkNotNull(path, "path");
+        List<String> parts = path.getParts();
+        return !parts.isEmpty() && get(path).isPresent();
+    }
+
+    @Override
+    public Optional<Object> get(DataQuery path) {
+        checkNotNull(path, "path");
+        List<String> parts = path.getParts();
+        Object value = this;
+        for (int i = 0, size = parts.size(); i < size; i++) {
+            if (!(value instanceof BinaryDataView)) {
+                return Optional.absent();
+            }
+            value = ((BinaryDataView) value).getValue(parts.get(i));
+        }
+        return Optional.fromNullable(value);
+    }
+
+    @Override
+    public DataView set(DataQuery path, Object value) {
+        throw new UnsupportedOperationException("This view is read-only");
+    }
+
+    @Override
+    public DataView remove(DataQuery path) {
+        throw new UnsupportedOperationException("This view is read-only");
+    }
+
+    @Override
+    public DataView createView(DataQuery path) {
+        throw new UnsupportedOperationException("This view is read-only");
+    }
+
+    @Override
+    public DataView createView(DataQuery path, Map<?, ?> map) {
+        throw new UnsupportedOperationException("This view is read-only");
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(entriesHash(getValues(false)), this.path);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof BinaryDataView)) {
+            return false;
+        }
+        BinaryDataView other = (BinaryDataView) obj;
+        return this.path.equals(other.path) && entriesEqual(getValues(false), other.getValues(false));
+    }
+
+}
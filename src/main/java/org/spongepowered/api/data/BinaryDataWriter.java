@@ -0,0 +1,310 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.spongepowered.api.data.BinaryDataFormat.BOOLEAN;
+import static org.spongepowered.api.data.BinaryDataFormat.BYTE;
+import static org.spongepowered.api.data.BinaryDataFormat.BYTE_ARRAY;
+import static org.spongepowered.api.data.BinaryDataFormat.CHAR;
+import static org.spongepowered.api.data.BinaryDataFormat.DOUBLE;
+import static org.spongepowered.api.data.BinaryDataFormat.DOUBLE_ARRAY;
+import static org.spongepowered.api.data.BinaryDataFormat.END;
+import static org.spongepowered.api.data.BinaryDataFormat.FLOAT;
+import static org.spongepowered.api.data.BinaryDataFormat.INT;
+import static org.spongepowered.api.data.BinaryDataFormat.INT_ARRAY;
+import static org.spongepowered.api.data.BinaryDataFormat.LIST;
+import static org.spongepowered.api.data.BinaryDataFormat.LONG;
+import static org.spongepowered.api.data.BinaryDataFormat.LONG_ARRAY;
+import static org.spongepowered.api.data.BinaryDataFormat.MAGIC;
+import static org.spongepowered.api.data.BinaryDataFormat.MAP;
+import static org.spongepowered.api.data.BinaryDataFormat.SHORT;
+import static org.spongepowered.api.data.BinaryDataFormat.STRING;
+import static org.spongepowered.api.data.BinaryDataFormat.VERSION;
+import static org.spongepowered.api.data.BinaryDataFormat.VIEW;
+
+import com.google.common.base.Charsets;
+import org.spongepowered.api.service.persistence.InvalidDataException;
+import org.spongepowered.api.util.Coerce;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Writes {@link DataView}s to a {@link DataOutput} in a compact binary
+ * format, which can be read back with a {@link BinaryDataReader}.
+ *
+ * <p>Views are written while they are traversed, without copying their
+ * contents first. Supported values are {@link DataView}s, numbers,
+ * booleans, characters, strings, primitive arrays and lists and maps of
+ * those.</p>
+ *
+ * @see BinaryDataFormat
+ */
+public final class BinaryDataWriter {
+
+    private final DataOutput out;
+
+    /**
+     * Creates a new writer.
+     *
+     * @param out The output to write to
+     */
+    public BinaryDataWriter(DataOutput out) {
+        this.out = checkNotNull(out, "out");
+    }
+
+    /**
+     * Writes the given view as a single record.
+     *
+     * @param view The view to write
+     * @throws IOException If the output could not be written to
+     * @throws InvalidDataException If the view contains a value of an
+     *     unsupported type
+     */
+    public void write(DataView view) throws IOException {
+        checkNotNull(view, "view");
+        this.out.writeInt(MAGIC);
+        this.out.writeByte(VERSION);
+
+        RecordWriter writer = new RecordWriter();
+        try {
+            view.accept(writer);
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        this.out.writeByte(END);
+    }
+
+    static void writeVarInt(DataOutput out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    static void writeVarLong(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    static void writeString(DataOutput out, String value) throws IOException {
+        byte[] bytes = value.getBytes(Charsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Writes the entries of a single record, keeping its key dictionary.
+     */
+    private final class RecordWriter implements DataVisitor {
+
+        private final Map<String, Integer> keys = new HashMap<String, Integer>();
+
+        private void writeKey(String key) throws IOException {
+            Integer index = this.keys.get(key);
+            if (index != null) {
+                writeVarInt(BinaryDataWriter.this.out, index + 1);
+            } else {
+                this.keys.put(key, this.keys.size());
+                writeVarInt(BinaryDataWriter.this.out, 0);
+                writeString(BinaryDataWriter.this.out, key);
+            }
+        }
+
+        @Override
+        public boolean enterView(String key, DataView view) {
+            try {
+                BinaryDataWriter.this.out.writeByte(VIEW);
+                writeKey(key);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return true;
+        }
+
+        @Override
+        public void visitValue(String key, Object value) {
+            try {
+                BinaryDataWriter.this.out.writeByte(getType(value));
+                writeKey(key);
+                writeValue(value);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void exitView(String key, DataView view) {
+            try {
+                BinaryDataWriter.this.out.writeByte(END);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private int getType(Object value) {
+            if (value instanceof DataView) {
+                return VIEW;
+            } else if (value instanceof Byte) {
+                return BYTE;
+            } else if (value instanceof Short) {
+                return SHORT;
+            } else if (value instanceof Integer) {
+                return INT;
+            } else if (value instanceof Long) {
+                return LONG;
+            } else if (value instanceof Float) {
+                return FLOAT;
+            } else if (value instanceof Double) {
+                return DOUBLE;
+            } else if (value instanceof Boolean) {
+                return BOOLEAN;
+            } else if (value instanceof Character) {
+                return CHAR;
+            } else if (value instanceof String) {
+                return STRING;
+            } else if (value instanceof Collection) {
+                return LIST;
+            } else if (value instanceof Map) {
+                return MAP;
+            } else if (value instanceof byte[]) {
+                return BYTE_ARRAY;
+            } else if (value instanceof int[]) {
+                return INT_ARRAY;
+            } else if (value instanceof long[]) {
+                return LONG_ARRAY;
+            } else if (value instanceof double[]) {
+                return DOUBLE_ARRAY;
+            } else if (value.getClass().isArray()) {
+                return LIST;
+            }
+            throw new InvalidDataException("Unsupported value of type " + value.getClass().getName());
+        }
+
+        /**
+         * Writes an element of a list or map, which is preceded by its type
+         * but has no key.
+         */
+        private void writeElement(Object value) throws IOException {
+            int type = getType(value);
+            BinaryDataWriter.this.out.writeByte(type);
+            if (type == VIEW) {
+                ((DataView) value).accept(this);
+                BinaryDataWriter.this.out.writeByte(END);
+            } else {
+                writeValue(value);
+            }
+        }
+
+        private void writeValue(Object value) throws IOException {
+            DataOutput out = BinaryDataWriter.this.out;
+            if (value instanceof Byte) {
+                out.writeByte((Byte) value);
+            } else if (value instanceof Short) {
+                int s = (Short) value;
+                writeVarInt(out, (s << 1) ^ (s >> 31));
+            } else if (value instanceof Integer) {
+                int i = (Integer) value;
+                writeVarInt(out, (i << 1) ^ (i >> 31));
+            } else if (value instanceof Long) {
+                long l = (Long) value;
+                writeVarLong(out, (l << 1) ^ (l >> 63));
+            } else if (value instanceof Float) {
+                out.writeFloat((Float) value);
+            } else if (value instanceof Double) {
+                out.writeDouble((Double) value);
+            } else if (value instanceof Boolean) {
+                out.writeBoolean((Boolean) value);
+            } else if (value instanceof Character) {
+                writeVarInt(out, (Character) value);
+            } else if (value instanceof String) {
+                writeString(out, (String) value);
+            } else if (value instanceof Map) {
+                Map<?, ?> map = (Map<?, ?>) value;
+                writeVarInt(out, map.size());
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    writeElement(entry.getKey());
+                    writeElement(entry.getValue());
+                }
+            } else if (value instanceof byte[]) {
+                byte[] array = (byte[]) value;
+                writeVarInt(out, array.length);
+                out.write(array);
+            } else if (value instanceof int[]) {
+                int[] array = (int[]) value;
+                writeVarInt(out, array.length);
+                for (int element : array) {
+                    out.writeInt(element);
+                }
+            } else if (value instanceof long[]) {
+                long[] array = (long[]) value;
+                writeVarInt(out, array.length);
+                for (long element : array) {
+                    out.writeLong(element);
+                }
+            } else if (value instanceof double[]) {
+                double[] array = (double[]) value;
+                writeVarInt(out, array.length);
+                for (double element : array) {
+                    out.writeDouble(element);
+                }
+            } else {
+                Collection<?> collection = value instanceof Collection ? (Collection<?>) value : Coerce.toList(value);
+                writeVarInt(out, collection.size());
+                for (Object element : collection) {
+                    writeElement(element);
+                }
+            }
+        }
+
+    }
+
+    /**
+     * Carries an {@link IOException} out of the {@link DataVisitor}.
+     */
+    private static final class UncheckedIOException extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        UncheckedIOException(IOException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized IOException getCause() {
+            return (IOException) super.getCause();
+        }
+
+    }
+
+}
@@ -0,0 +1,442 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import static org.spongepowered.api.data.BinaryDataFormat.BOOLEAN;
+import static org.spongepowered.api.data.BinaryDataFormat.BYTE;
+import static org.spongepowered.api.data.BinaryDataFormat.BYTE_ARRAY;
+import static org.spongepowered.api.data.BinaryDataFormat.CHAR;
+import static org.spongepowered.api.data.BinaryDataFormat.DOUBLE;
+import static org.spongepowered.api.data.BinaryDataFormat.DOUBLE_ARRAY;
+import static org.spongepowered.api.data.BinaryDataFormat.END;
+import static org.spongepowered.api.data.BinaryDataFormat.FLOAT;
+import static org.spongepowered.api.data.BinaryDataFormat.INT;
+import static org.spongepowered.api.data.BinaryDataFormat.INT_ARRAY;
+import static org.spongepowered.api.data.BinaryDataFormat.LIST;
+import static org.spongepowered.api.data.BinaryDataFormat.LONG;
+import static org.spongepowered.api.data.BinaryDataFormat.LONG_ARRAY;
+import static org.spongepowered.api.data.BinaryDataFormat.MAP;
+import static org.spongepowered.api.data.BinaryDataFormat.SHORT;
+import static org.spongepowered.api.data.BinaryDataFormat.STRING;
+import static org.spongepowered.api.data.BinaryDataFormat.VIEW;
+
+import com.google.common.base.Charsets;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import org.spongepowered.api.service.persistence.InvalidDataException;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A record in the format of {@link BinaryDataWriter}, held in a buffer and
+ * decoded on demand by {@link BinaryDataView}s.
+ *
+ * <p>The key dictionary of the record is collected on first use by a single
+ * scan over the record, which skips over values without decoding them.</p>
+ */
+final class BinaryRecord {
+
+    private final ByteBuffer buffer;
+    private final int body;
+    private volatile Dictionary dictionary;
+
+    BinaryRecord(ByteBuffer buffer, int body) {
+        this.buffer = buffer;
+        this.body = body;
+    }
+
+    private Dictionary getDictionary() {
+        Dictionary dictionary = this.dictionary;
+        if (dictionary == null) {
+            Cursor cursor = new Cursor(this.body);
+            cursor.dictionary = new Dictionary();
+            cursor.skipEntries();
+            this.dictionary = dictionary = cursor.dictionary;
+        }
+        return dictionary;
+    }
+
+    /**
+     * Gets the id of the given key in the dictionary of this record.
+     *
+     * @param key The key
+     * @return The id, or -1 if no entry of this record has the key
+     */
+    int getId(String key) {
+        Integer id = getDictionary().getIds(this).get(key);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Gets the key with the given id.
+     *
+     * @param id The id
+     * @return The key
+     */
+    String getKey(int id) {
+        return getDictionary().getKeys(this)[id];
+    }
+
+    /**
+     * Indexes the entries of the view whose body starts at the given offset.
+     *
+     * @param offset The offset of the body
+     * @return The index of the entries
+     */
+    Index index(int offset) {
+        Dictionary dictionary = getDictionary();
+        Index index = new Index();
+        Cursor cursor = new Cursor(offset);
+        int type;
+        while ((type = cursor.readByte()) != END) {
+            int marker = cursor.readVarInt();
+            int id;
+            if (marker == 0) {
+                id = Arrays.binarySearch(dictionary.offsets, 0, dictionary.size, cursor.pos);
+                cursor.skipString();
+            } else {
+                id = marker - 1;
+            }
+            index.add(id, type, cursor.pos);
+            cursor.skip(type);
+        }
+        return index;
+    }
+
+    /**
+     * Decodes the value at the given offset. Views are not decoded, but
+     * returned as {@link BinaryDataView}s.
+     *
+     * @param parent The view holding the value
+     * @param key The key of the value
+     * @param type The type of the value
+     * @param offset The offset of the value
+     * @return The value
+     */
+    Object decode(BinaryDataView parent, String key, int type, int offset) {
+        if (type == VIEW) {
+            return new BinaryDataView(this, parent, DataQuery.of(key), offset);
+        }
+        return new Cursor(offset).readValue(type);
+    }
+
+    /**
+     * The keys of a record, in the order they were first written, by the
+     * offset of their string.
+     */
+    private static final class Dictionary {
+
+        int[] offsets = new int[16];
+        int size;
+        private volatile String[] keys;
+        private volatile Map<String, Integer> ids;
+
+        void add(int offset) {
+            if (this.size == this.offsets.length) {
+                this.offsets = Arrays.copyOf(this.offsets, this.size * 2);
+            }
+            this.offsets[this.size++] = offset;
+        }
+
+        String[] getKeys(BinaryRecord record) {
+            String[] keys = this.keys;
+            if (keys == null) {
+                keys = new String[this.size];
+                for (int i = 0; i < this.size; i++) {
+                    keys[i] = record.new Cursor(this.offsets[i]).readString();
+                }
+                this.keys = keys;
+            }
+            return keys;
+        }
+
+        Map<String, Integer> getIds(BinaryRecord record) {
+            Map<String, Integer> ids = this.ids;
+            if (ids == null) {
+                String[] keys = getKeys(record);
+                ids = new HashMap<String, Integer>(keys.length * 2);
+                for (int i = 0; i < keys.length; i++) {
+                    ids.put(keys[i], i);
+                }
+                this.ids = ids;
+            }
+            return ids;
+        }
+
+    }
+
+    /**
+     * The entries of a single view, in order.
+     */
+    static final class Index {
+
+        int size;
+        int[] ids = new int[8];
+        int[] types = new int[8];
+        int[] offsets = new int[8];
+
+        void add(int id, int type, int offset) {
+            if (this.size == this.ids.length) {
+                int length = this.size * 2;
+                this.ids = Arrays.copyOf(this.ids, length);
+                this.types = Arrays.copyOf(this.types, length);
+                this.offsets = Arrays.copyOf(this.offsets, length);
+            }
+            this.ids[this.size] = id;
+            this.types[this.size] = type;
+            this.offsets[this.size] = offset;
+            this.size++;
+        }
+
+        int find(int id) {
+            for (int i = 0; i < this.size; i++) {
+                if (this.ids[i] == id) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+    }
+
+    /**
+     * Reads from the buffer of the record at an absolute position.
+     */
+    private final class Cursor {
+
+        int pos;
+        Dictionary dictionary;
+
+        Cursor(int pos) {
+            this.pos = pos;
+        }
+
+        int readByte() {
+            return BinaryRecord.this.buffer.get(this.pos++) & 0xFF;
+        }
+
+        int readVarInt() {
+            int value = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                int b = readByte();
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new InvalidDataException("Variable length integer is too long");
+        }
+
+        long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < 70; shift += 7) {
+                int b = readByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new InvalidDataException("Variable length long is too long");
+        }
+
+        /**
+         * Gets a buffer starting at the current position, without advancing
+         * it.
+         */
+        ByteBuffer slice() {
+            ByteBuffer slice = BinaryRecord.this.buffer.duplicate();
+            slice.position(this.pos);
+            return slice.slice().order(BinaryRecord.this.buffer.order());
+        }
+
+        String readString() {
+            int length = readVarInt();
+            ByteBuffer buffer = BinaryRecord.this.buffer;
+            String value;
+            if (buffer.hasArray()) {
+                value = new String(buffer.array(), buffer.arrayOffset() + this.pos, length, Charsets.UTF_8);
+            } else {
+                byte[] bytes = new byte[length];
+                slice().get(bytes);
+                value = new String(bytes, Charsets.UTF_8);
+            }
+            this.pos += length;
+            return value;
+        }
+
+        void skipString() {
+            int length = readVarInt();
+            this.pos += length;
+        }
+
+        void skipArray(int width) {
+            int length = readVarInt();
+            this.pos += length * width;
+        }
+
+        void skipEntries() {
+            int type;
+            while ((type = readByte()) != END) {
+                int marker = readVarInt();
+                if (marker == 0) {
+                    if (this.dictionary != null) {
+                        this.dictionary.add(this.pos);
+                    }
+                    skipString();
+                }
+                skip(type);
+            }
+        }
+
+        void skip(int type) {
+            switch (type) {
+                case VIEW:
+                    skipEntries();
+                    break;
+                case BYTE:
+                case BOOLEAN:
+                    this.pos++;
+                    break;
+                case SHORT:
+                case INT:
+                case CHAR:
+                    readVarInt();
+                    break;
+                case LONG:
+                    readVarLong();
+                    break;
+                case FLOAT:
+                    this.pos += 4;
+                    break;
+                case DOUBLE:
+                    this.pos += 8;
+                    break;
+                case STRING:
+                    skipString();
+                    break;
+                case LIST:
+                    for (int i = readVarInt(); i > 0; i--) {
+                        skip(readByte());
+                    }
+                    break;
+                case MAP:
+                    for (int i = readVarInt() * 2; i > 0; i--) {
+                        skip(readByte());
+                    }
+                    break;
+                case BYTE_ARRAY:
+                    skipArray(1);
+                    break;
+                case INT_ARRAY:
+                    skipArray(4);
+                    break;
+                case LONG_ARRAY:
+                case DOUBLE_ARRAY:
+                    skipArray(8);
+                    break;
+                default:
+                    throw new InvalidDataException("Unknown type: " + type);
+            }
+        }
+
+        Object readValue(int type) {
+            switch (type) {
+                case VIEW:
+                    BinaryDataContainer container = new BinaryDataContainer(BinaryRecord.this, this.pos);
+                    skipEntries();
+                    return container;
+                case BYTE:
+                    return BinaryRecord.this.buffer.get(this.pos++);
+                case SHORT:
+                    return (short) zigZag(readVarInt());
+                case INT:
+                    return zigZag(readVarInt());
+                case LONG:
+                    long l = readVarLong();
+                    return (l >>> 1) ^ -(l & 1);
+                case FLOAT:
+                    float f = BinaryRecord.this.buffer.getFloat(this.pos);
+                    this.pos += 4;
+                    return f;
+                case DOUBLE:
+                    double d = BinaryRecord.this.buffer.getDouble(this.pos);
+                    this.pos += 8;
+                    return d;
+                case BOOLEAN:
+                    return readByte() != 0;
+                case CHAR:
+                    return (char) readVarInt();
+                case STRING:
+                    return readString();
+                case LIST:
+                    int size = readVarInt();
+                    ImmutableList.Builder<Object> list = ImmutableList.builder();
+                    for (int i = 0; i < size; i++) {
+                        list.add(readValue(readByte()));
+                    }
+                    return list.build();
+                case MAP:
+                    int entries = readVarInt();
+                    ImmutableMap.Builder<Object, Object> map = ImmutableMap.builder();
+                    for (int i = 0; i < entries; i++) {
+                        Object key = readValue(readByte());
+                        map.put(key, readValue(readByte()));
+                    }
+                    return map.build();
+                case BYTE_ARRAY:
+                    byte[] bytes = new byte[readVarInt()];
+                    slice().get(bytes);
+                    this.pos += bytes.length;
+                    return bytes;
+                case INT_ARRAY:
+                    int[] ints = new int[readVarInt()];
+                    slice().asIntBuffer().get(ints);
+                    this.pos += ints.length * 4;
+                    return ints;
+                case LONG_ARRAY:
+                    long[] longs = new long[readVarInt()];
+                    slice().asLongBuffer().get(longs);
+                    this.pos += longs.length * 8;
+                    return longs;
+                case DOUBLE_ARRAY:
+                    double[] doubles = new double[readVarInt()];
+                    slice().asDoubleBuffer().get(doubles);
+                    this.pos += doubles.length * 8;
+                    return doubles;
+                default:
+                    throw new InvalidDataException("Unknown type: " + type);
+            }
+        }
+
+        private int zigZag(int value) {
+            return (value >>> 1) ^ -(value & 1);
+        }
+
+    }
+
+}
@@ -28,7 +28,9 @@
 
 import ninja.leaping.configurate.ConfigurationNode;
 import ninja.leaping.configurate.SimpleConfigurationNode;
+import org.spongepowered.api.util.Coerce;
 
+import java.util.Collections;
 import java.util.Map;
 
 /**
@@ -51,13 +53,33 @@ public static ConfigurateTranslator instance() {
         return instance;
     }
 
-    private static void populateNode(ConfigurationNode node, DataView container) {
+    private static void populateNode(final ConfigurationNode node, DataView container) {
         checkNotNull(node, "node");
         checkNotNull(container, "container");
-        Map<DataQuery, Object> values = container.getValues(false);
-        for (Map.Entry<DataQuery, Object> entry : values.entrySet()) {
-            node.getNode(entry.getKey().getParts()).setValue(entry.getValue());
-        }
+        container.accept(new DataVisitor() {
+            private ConfigurationNode current = node;
+
+            @Override
+            public boolean enterView(String key, DataView view) {
+                this.current = this.current.getNode(key);
+                if (view.getKeys(false).isEmpty()) {
+                    // Nothing is set below an empty view, which would leave its node virtual
+                    this.current.setValue(Collections.emptyMap());
+                }
+                return true;
+            }
+
+            @Override
+            public void visitValue(String key, Object value) {
+                // Configurate has no array types, primitive arrays are read back as lists
+                this.current.getNode(key).setValue(value.getClass().isArray() ? Coerce.toList(value) : value);
+            }
+
+            @Override
+            public void exitView(String key, DataView view) {
+                this.current = this.current.getParent();
+            }
+        });
     }
 
     private static DataView translateFromNode(ConfigurationNode node) {
@@ -0,0 +1,285 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.spongepowered.api.data.DataQuery.of;
+
+import com.google.common.base.Objects;
+import com.google.common.base.Optional;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import org.spongepowered.api.service.persistence.InvalidDataException;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+/**
+ * A set of changes that turns one {@link DataView} into another.
+ *
+ * <p>A delta is computed by {@link #between(DataView, DataView)}, which
+ * walks both views once and only descends into views present in both, so
+ * the changes are minimal: unchanged values produce no change, and a changed
+ * value inside a view only changes that value.</p>
+ */
+public final class DataDelta implements DataSerializable {
+
+    private static final DataQuery CHANGES = of("Changes");
+    private static final DataQuery PATH = of("Path");
+    private static final DataQuery VALUE = of("Value");
+
+    private final ImmutableList<Change> changes;
+
+    private DataDelta(ImmutableList<Change> changes) {
+        this.changes = changes;
+    }
+
+    /**
+     * Computes the changes that turn the given view into the other view.
+     *
+     * <p>Values of the other view are not copied into the delta, so it
+     * should not be modified while the delta is in use.</p>
+     *
+     * @param from The view to change
+     * @param to The view to change it into
+     * @return The delta
+     */
+    public static DataDelta between(DataView from, DataView to) {
+        checkNotNull(from, "from");
+        checkNotNull(to, "to");
+        ImmutableList.Builder<Change> changes = ImmutableList.builder();
+        diff(from, to, of(), changes);
+        return new DataDelta(changes.build());
+    }
+
+    private static void diff(DataView from, DataView to, DataQuery path, ImmutableList.Builder<Change> changes) {
+        for (DataQuery key : from.getKeys(false)) {
+            if (!to.contains(key)) {
+                changes.add(new Change(path.then(key), null));
+            }
+        }
+        for (DataQuery key : to.getKeys(false)) {
+            Object value = to.get(key).get();
+            Optional<Object> previous = from.get(key);
+            if (previous.isPresent() && previous.get() instanceof DataView && value instanceof DataView) {
+                diff((DataView) previous.get(), (DataView) value, path.then(key), changes);
+            } else if (!previous.isPresent() || !contentEquals(previous.get(), value)) {
+                changes.add(new Change(path.then(key), value));
+            }
+        }
+    }
+
+    /**
+     * Compares two values by their contents, so views in lists and maps
+     * are equal whatever their implementation is.
+     */
+    private static boolean contentEquals(Object value, Object other) {
+        if (value instanceof DataView && other instanceof DataView) {
+            return contentEquals(((DataView) value).getValues(false), ((DataView) other).getValues(false));
+        }
+        if (value instanceof List && other instanceof List) {
+            List<?> list = (List<?>) value;
+            List<?> otherList = (List<?>) other;
+            if (list.size() != otherList.size()) {
+                return false;
+            }
+            Iterator<?> iterator = otherList.iterator();
+            for (Object element : list) {
+                if (!contentEquals(element, iterator.next())) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (value instanceof Map && other instanceof Map) {
+            Map<?, ?> map = (Map<?, ?>) value;
+            Map<?, ?> otherMap = (Map<?, ?>) other;
+            if (map.size() != otherMap.size()) {
+                return false;
+            }
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                if (!otherMap.containsKey(entry.getKey()) || !contentEquals(entry.getValue(), otherMap.get(entry.getKey()))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return AbstractDataView.valueEquals(value, other);
+    }
+
+    /**
+     * Reads a delta from a view created by {@link #toContainer()}.
+     *
+     * @param view The view to read from
+     * @return The delta
+     * @throws InvalidDataException If the view does not hold a delta
+     */
+    public static DataDelta fromContainer(DataView view) throws InvalidDataException {
+        checkNotNull(view, "view");
+        Optional<List<DataView>> views = view.getViewList(CHANGES);
+        if (!views.isPresent()) {
+            throw new InvalidDataException("Missing changes");
+        }
+        ImmutableList.Builder<Change> changes = ImmutableList.builder();
+        for (DataView change : views.get()) {
+            Optional<List<String>> path = change.getStringList(PATH);
+            if (!path.isPresent() || path.get().isEmpty()) {
+                throw new InvalidDataException("Missing path of change");
+            }
+            changes.add(new Change(of(path.get()), change.get(VALUE).orNull()));
+        }
+        return new DataDelta(changes.build());
+    }
+
+    /**
+     * Gets the changes of this delta, in the order they are applied.
+     *
+     * @return The changes
+     */
+    public List<Change> getChanges() {
+        return this.changes;
+    }
+
+    /**
+     * Checks whether this delta has no changes.
+     *
+     * @return True if there are no changes
+     */
+    public boolean isEmpty() {
+        return this.changes.isEmpty();
+    }
+
+    /**
+     * Applies the changes of this delta to the given view.
+     *
+     * @param view The view to change
+     */
+    public void applyTo(DataView view) {
+        checkNotNull(view, "view");
+        for (Change change : this.changes) {
+            if (change.value == null) {
+                view.remove(change.path);
+            } else {
+                view.set(change.path, change.value);
+            }
+        }
+    }
+
+    /**
+     * Applies the changes of this delta to the given immutable container.
+     *
+     * @param container The container to change
+     * @return The changed container
+     */
+    public ImmutableDataContainer applyTo(ImmutableDataContainer container) {
+        checkNotNull(container, "container");
+        for (Change change : this.changes) {
+            if (change.value == null) {
+                container = container.without(change.path);
+            } else {
+                container = container.with(change.path, change.value);
+            }
+        }
+        return container;
+    }
+
+    @Override
+    public DataContainer toContainer() {
+        List<DataView> views = Lists.newArrayListWithCapacity(this.changes.size());
+        for (Change change : this.changes) {
+            DataContainer view = new MemoryDataContainer();
+            view.set(PATH, change.path.getParts());
+            if (change.value != null) {
+                view.set(VALUE, change.value);
+            }
+            views.add(view);
+        }
+        DataContainer container = new MemoryDataContainer();
+        container.set(CHANGES, views);
+        return container;
+    }
+
+    @Override
+    public String toString() {
+        return Objects.toStringHelper(this)
+                .add("changes", this.changes)
+                .toString();
+    }
+
+    /**
+     * A single change of a {@link DataDelta}, which either sets or removes
+     * the value at a path.
+     */
+    public static final class Change {
+
+        private final DataQuery path;
+        @Nullable private final Object value;
+
+        Change(DataQuery path, @Nullable Object value) {
+            this.path = path;
+            this.value = value;
+        }
+
+        /**
+         * Gets the path of the changed value.
+         *
+         * @return The path
+         */
+        public DataQuery getPath() {
+            return this.path;
+        }
+
+        /**
+         * Gets the new value, or absent if the value is removed.
+         *
+         * @return The new value, if it is set
+         */
+        public Optional<Object> getValue() {
+            return Optional.fromNullable(this.value);
+        }
+
+        /**
+         * Checks whether this change removes the value.
+         *
+         * @return True if the value is removed
+         */
+        public boolean isRemoval() {
+            return this.value == null;
+        }
+
+        @Override
+        public String toString() {
+            return Objects.toStringHelper(this)
+                    .add("path", this.path)
+                    .add("value", this.value)
+                    .toString();
+        }
+
+    }
+
+}
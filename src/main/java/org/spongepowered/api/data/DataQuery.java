@@ -25,23 +25,40 @@
 package org.spongepowered.api.data;
 
 import com.google.common.base.Joiner;
-import com.google.common.base.Objects;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Pattern;
+
+import javax.annotation.Nullable;
 
 /**
  * Represents a query that can be done on views. Queries do not depend on
  * their separator, it is just a way to construct them.
+ *
+ * <p>Queries created through the static factory methods are interned, so
+ * equal queries share a single instance, along with its precomputed hash
+ * code and {@link #getQueryParts() query parts}.</p>
  */
 public final class DataQuery {
 
+    private static final Interner<DataQuery> interner = Interners.newWeakInterner();
+
     /**
      * The parts that make up this query.
      */
     private final ImmutableList<String> parts;
 
+    private final int hash;
+
+    /**
+     * The parts of this query as individual queries, created when first
+     * requested.
+     */
+    @Nullable private volatile ImmutableList<DataQuery> queryParts;
+
     /**
      * Constructs a query using the given separator character and path.
      *
@@ -53,7 +70,7 @@ public final class DataQuery {
      * @param path The path
      */
     public DataQuery(char separator, String path) {
-        this(path.split(Pattern.quote(String.valueOf(separator))));
+        this(split(separator, path));
     }
 
     /**
@@ -62,7 +79,7 @@ public DataQuery(char separator, String path) {
      * @param parts The parts
      */
     public DataQuery(String... parts) {
-        this.parts = ImmutableList.copyOf(parts);
+        this(ImmutableList.copyOf(parts));
     }
 
     /**
@@ -72,6 +89,33 @@ public DataQuery(String... parts) {
      */
     public DataQuery(List<String> parts) {
         this.parts = ImmutableList.copyOf(parts);
+        this.hash = this.parts.hashCode();
+    }
+
+    /**
+     * Splits the path at each occurrence of the separator, dropping any
+     * trailing empty parts like {@link String#split(String)} does.
+     */
+    private static List<String> split(char separator, String path) {
+        int index = path.indexOf(separator);
+        if (index < 0) {
+            return ImmutableList.of(path);
+        }
+
+        List<String> parts = new ArrayList<String>();
+        int start = 0;
+        while (index >= 0) {
+            parts.add(path.substring(start, index));
+            start = index + 1;
+            index = path.indexOf(separator, start);
+        }
+        parts.add(path.substring(start));
+
+        int size = parts.size();
+        while (size > 0 && parts.get(size - 1).isEmpty()) {
+            size--;
+        }
+        return parts.subList(0, size);
     }
 
     /**
@@ -86,7 +130,7 @@ public DataQuery(List<String> parts) {
      * @return The newly constructed {@link DataQuery}
      */
     public static DataQuery of(char separator, String path) {
-        return new DataQuery(separator, path);
+        return interner.intern(new DataQuery(separator, path));
     }
 
     /**
@@ -96,7 +140,7 @@ public static DataQuery of(char separator, String path) {
      * @return The newly constructed {@link DataQuery}
      */
     public static DataQuery of(String... parts) {
-        return new DataQuery(parts);
+        return interner.intern(new DataQuery(parts));
     }
 
     /**
@@ -106,7 +150,7 @@ public static DataQuery of(String... parts) {
      * @return The newly constructed {@link DataQuery}
      */
     public static DataQuery of(List<String> parts) {
-        return new DataQuery(parts);
+        return interner.intern(new DataQuery(parts));
     }
 
     /**
@@ -132,7 +176,7 @@ public DataQuery then(DataQuery that) {
         builder.addAll(this.parts);
         builder.addAll(that.parts);
 
-        return new DataQuery(builder.build());
+        return of(builder.build());
     }
 
     /**
@@ -141,14 +185,19 @@ public DataQuery then(DataQuery that) {
      * @return The constructed queries
      */
     public ImmutableList<DataQuery> getQueryParts() {
-        ImmutableList.Builder<DataQuery> builder =
-                new ImmutableList.Builder<DataQuery>();
+        ImmutableList<DataQuery> queryParts = this.queryParts;
+        if (queryParts == null) {
+            ImmutableList.Builder<DataQuery> builder =
+                    new ImmutableList.Builder<DataQuery>();
 
-        for (String part : getParts()) {
-            builder.add(new DataQuery(part));
-        }
+            for (String part : getParts()) {
+                builder.add(of(part));
+            }
 
-        return builder.build();
+            queryParts = builder.build();
+            this.queryParts = queryParts;
+        }
+        return queryParts;
     }
 
     /**
@@ -178,7 +227,7 @@ public String toString() {
 
     @Override
     public int hashCode() {
-        return Objects.hashCode(this.parts);
+        return this.hash;
     }
 
     @Override
@@ -190,6 +239,6 @@ public boolean equals(Object obj) {
             return false;
         }
         final DataQuery other = (DataQuery) obj;
-        return Objects.equal(this.parts, other.parts);
+        return this.hash == other.hash && this.parts.equals(other.parts);
     }
 }
@@ -126,6 +126,9 @@ public interface DataView {
      * Gets an object from the desired path. If the path is not defined,
      * an absent Optional is returned.
      *
+     * <p>Primitive arrays are returned as they are stored and must not be
+     * modified, use the typed array getters to get a copy.</p>
+     *
      * @param path The path to the Object
      * @return The Object, if available
      */
@@ -378,6 +381,50 @@ public interface DataView {
      */
     Optional<List<Double>> getDoubleList(DataQuery path);
 
+    /**
+     * Gets a copy of the int array by path, if available.
+     *
+     * <p>If neither an int array nor a {@link List} of {@link Integer}
+     * exists at the path, an absent is returned.</p>
+     *
+     * @param path The path of the value to get
+     * @return The int array, if available
+     */
+    Optional<int[]> getIntArray(DataQuery path);
+
+    /**
+     * Gets a copy of the long array by path, if available.
+     *
+     * <p>If neither a long array nor a {@link List} of {@link Long}
+     * exists at the path, an absent is returned.</p>
+     *
+     * @param path The path of the value to get
+     * @return The long array, if available
+     */
+    Optional<long[]> getLongArray(DataQuery path);
+
+    /**
+     * Gets a copy of the byte array by path, if available.
+     *
+     * <p>If neither a byte array nor a {@link List} of {@link Byte}
+     * exists at the path, an absent is returned.</p>
+     *
+     * @param path The path of the value to get
+     * @return The byte array, if available
+     */
+    Optional<byte[]> getByteArray(DataQuery path);
+
+    /**
+     * Gets a copy of the double array by path, if available.
+     *
+     * <p>If neither a double array nor a {@link List} of {@link Double}
+     * exists at the path, an absent is returned.</p>
+     *
+     * @param path The path of the value to get
+     * @return The double array, if available
+     */
+    Optional<double[]> getDoubleArray(DataQuery path);
+
     /**
      * Gets the {@link List} of {@link Map} by path, if available.
      *
@@ -456,4 +503,12 @@ public interface DataView {
      */
     DataContainer copy();
 
+    /**
+     * Visits all contents of this {@link DataView}, including the contents
+     * of its children, in a single pass.
+     *
+     * @param visitor The visitor to pass the contents to
+     */
+    void accept(DataVisitor visitor);
+
 }
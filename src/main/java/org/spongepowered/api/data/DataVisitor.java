@@ -0,0 +1,66 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+/**
+ * Receives the contents of a {@link DataView} as it is traversed by
+ * {@link DataView#accept(DataVisitor)}.
+ *
+ * <p>Entries are passed in the order they are stored in, with the contents
+ * of each child {@link DataView} passed between the calls to
+ * {@link #enterView(String, DataView)} and
+ * {@link #exitView(String, DataView)} for that view. The keys passed are
+ * relative to the view currently being visited.</p>
+ */
+public interface DataVisitor {
+
+    /**
+     * Called when a child {@link DataView} is reached, before any of its
+     * contents.
+     *
+     * @param key The key of the view within its parent
+     * @param view The view
+     * @return Whether to visit the contents of the view, if false neither
+     *     its contents nor {@link #exitView(String, DataView)} are visited
+     */
+    boolean enterView(String key, DataView view);
+
+    /**
+     * Called for each value that is not a {@link DataView}.
+     *
+     * @param key The key of the value within the view being visited
+     * @param value The value
+     */
+    void visitValue(String key, Object value);
+
+    /**
+     * Called after all contents of a child {@link DataView} were visited.
+     *
+     * @param key The key of the view within its parent
+     * @param view The view
+     */
+    void exitView(String key, DataView view);
+
+}
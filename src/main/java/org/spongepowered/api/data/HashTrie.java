@@ -0,0 +1,315 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import java.util.Arrays;
+
+import javax.annotation.Nullable;
+
+/**
+ * A persistent hash array mapped trie from string keys to values, used by
+ * {@link ImmutableDataView}.
+ *
+ * <p>Every modification returns a new trie sharing all nodes that were not
+ * on the path to the modified entry, which makes it O(log n) in time and
+ * space. Unmodified tries are returned as is.</p>
+ */
+final class HashTrie {
+
+    static final HashTrie EMPTY = new HashTrie(BitmapNode.EMPTY, 0);
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+
+    private final Node root;
+    private final int size;
+
+    private HashTrie(Node root, int size) {
+        this.root = root;
+        this.size = size;
+    }
+
+    int size() {
+        return this.size;
+    }
+
+    @Nullable
+    Object get(String key) {
+        return this.root.get(key, key.hashCode(), 0);
+    }
+
+    HashTrie with(String key, Object value) {
+        boolean[] added = new boolean[1];
+        Node root = this.root.with(key, key.hashCode(), value, 0, added);
+        if (root == this.root) {
+            return this;
+        }
+        return new HashTrie(root, added[0] ? this.size + 1 : this.size);
+    }
+
+    HashTrie without(String key) {
+        Node root = this.root.without(key, key.hashCode(), 0);
+        if (root == this.root) {
+            return this;
+        } else if (root == null) {
+            return EMPTY;
+        }
+        return new HashTrie(root, this.size - 1);
+    }
+
+    /**
+     * Gets the entries of this trie as an array of alternating keys and
+     * values.
+     *
+     * @return The entries
+     */
+    Object[] entries() {
+        Object[] entries = new Object[this.size * 2];
+        this.root.fill(entries, 0);
+        return entries;
+    }
+
+    private abstract static class Node {
+
+        @Nullable
+        abstract Object get(String key, int hash, int shift);
+
+        abstract Node with(String key, int hash, Object value, int shift, boolean[] added);
+
+        /**
+         * Removes a key from this node.
+         *
+         * @return This node if the key was not present, or null if the node
+         *     became empty
+         */
+        @Nullable
+        abstract Node without(String key, int hash, int shift);
+
+        abstract int fill(Object[] entries, int index);
+
+    }
+
+    /**
+     * A node holding a key and value, or a null key and a child node, for
+     * each set bit of its bitmap.
+     */
+    private static final class BitmapNode extends Node {
+
+        static final BitmapNode EMPTY = new BitmapNode(0, new Object[0]);
+
+        private final int bitmap;
+        private final Object[] array;
+
+        BitmapNode(int bitmap, Object[] array) {
+            this.bitmap = bitmap;
+            this.array = array;
+        }
+
+        private int index(int bit) {
+            return Integer.bitCount(this.bitmap & (bit - 1));
+        }
+
+        @Override
+        Object get(String key, int hash, int shift) {
+            int bit = 1 << ((hash >>> shift) & MASK);
+            if ((this.bitmap & bit) == 0) {
+                return null;
+            }
+            int index = index(bit) * 2;
+            Object k = this.array[index];
+            Object v = this.array[index + 1];
+            if (k == null) {
+                return ((Node) v).get(key, hash, shift + BITS);
+            }
+            return key.equals(k) ? v : null;
+        }
+
+        @Override
+        Node with(String key, int hash, Object value, int shift, boolean[] added) {
+            int bit = 1 << ((hash >>> shift) & MASK);
+            int index = index(bit) * 2;
+            if ((this.bitmap & bit) == 0) {
+                Object[] array = new Object[this.array.length + 2];
+                System.arraycopy(this.array, 0, array, 0, index);
+                array[index] = key;
+                array[index + 1] = value;
+                System.arraycopy(this.array, index, array, index + 2, this.array.length - index);
+                added[0] = true;
+                return new BitmapNode(this.bitmap | bit, array);
+            }
+            Object k = this.array[index];
+            Object v = this.array[index + 1];
+            Node child;
+            if (k == null) {
+                child = ((Node) v).with(key, hash, value, shift + BITS, added);
+                if (child == v) {
+                    return this;
+                }
+            } else if (key.equals(k)) {
+                if (value == v) {
+                    return this;
+                }
+                return replace(index + 1, value, k);
+            } else {
+                added[0] = true;
+                child = create((String) k, v, key, hash, value, shift + BITS);
+            }
+            return replace(index + 1, child, null);
+        }
+
+        private BitmapNode replace(int index, Object value, @Nullable Object key) {
+            Object[] array = this.array.clone();
+            array[index - 1] = key;
+            array[index] = value;
+            return new BitmapNode(this.bitmap, array);
+        }
+
+        private static Node create(String key1, Object value1, String key2, int hash2, Object value2, int shift) {
+            int hash1 = key1.hashCode();
+            if (hash1 == hash2) {
+                return new CollisionNode(hash1, new Object[] {key1, value1, key2, value2});
+            }
+            boolean[] added = new boolean[1];
+            return EMPTY.with(key1, hash1, value1, shift, added).with(key2, hash2, value2, shift, added);
+        }
+
+        @Override
+        Node without(String key, int hash, int shift) {
+            int bit = 1 << ((hash >>> shift) & MASK);
+            if ((this.bitmap & bit) == 0) {
+                return this;
+            }
+            int index = index(bit) * 2;
+            Object k = this.array[index];
+            Object v = this.array[index + 1];
+            if (k == null) {
+                Node child = ((Node) v).without(key, hash, shift + BITS);
+                if (child == v) {
+                    return this;
+                } else if (child != null) {
+                    return replace(index + 1, child, null);
+                }
+            } else if (!key.equals(k)) {
+                return this;
+            }
+            if (this.bitmap == bit) {
+                return null;
+            }
+            Object[] array = new Object[this.array.length - 2];
+            System.arraycopy(this.array, 0, array, 0, index);
+            System.arraycopy(this.array, index + 2, array, index, array.length - index);
+            return new BitmapNode(this.bitmap ^ bit, array);
+        }
+
+        @Override
+        int fill(Object[] entries, int index) {
+            for (int i = 0; i < this.array.length; i += 2) {
+                Object k = this.array[i];
+                if (k == null) {
+                    index = ((Node) this.array[i + 1]).fill(entries, index);
+                } else {
+                    entries[index++] = k;
+                    entries[index++] = this.array[i + 1];
+                }
+            }
+            return index;
+        }
+
+    }
+
+    /**
+     * A node holding the entries of keys with the same hash code.
+     */
+    private static final class CollisionNode extends Node {
+
+        private final int hash;
+        private final Object[] array;
+
+        CollisionNode(int hash, Object[] array) {
+            this.hash = hash;
+            this.array = array;
+        }
+
+        private int find(String key) {
+            for (int i = 0; i < this.array.length; i += 2) {
+                if (key.equals(this.array[i])) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        Object get(String key, int hash, int shift) {
+            int index = find(key);
+            return index < 0 ? null : this.array[index + 1];
+        }
+
+        @Override
+        Node with(String key, int hash, Object value, int shift, boolean[] added) {
+            if (hash != this.hash) {
+                BitmapNode node = new BitmapNode(1 << ((this.hash >>> shift) & MASK), new Object[] {null, this});
+                return node.with(key, hash, value, shift, added);
+            }
+            int index = find(key);
+            Object[] array;
+            if (index >= 0) {
+                if (this.array[index + 1] == value) {
+                    return this;
+                }
+                array = this.array.clone();
+            } else {
+                index = this.array.length;
+                array = Arrays.copyOf(this.array, index + 2);
+                array[index] = key;
+                added[0] = true;
+            }
+            array[index + 1] = value;
+            return new CollisionNode(this.hash, array);
+        }
+
+        @Override
+        Node without(String key, int hash, int shift) {
+            int index = find(key);
+            if (index < 0) {
+                return this;
+            } else if (this.array.length == 2) {
+                return null;
+            }
+            Object[] array = new Object[this.array.length - 2];
+            System.arraycopy(this.array, 0, array, 0, index);
+            System.arraycopy(this.array, index + 2, array, index, array.length - index);
+            return new CollisionNode(this.hash, array);
+        }
+
+        @Override
+        int fill(Object[] entries, int index) {
+            System.arraycopy(this.array, 0, entries, index, this.array.length);
+            return index + this.array.length;
+        }
+
+    }
+
+}
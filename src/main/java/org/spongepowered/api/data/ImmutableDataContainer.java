@@ -0,0 +1,147 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import java.util.List;
+
+/**
+ * An immutable {@link DataContainer} with structural sharing.
+ *
+ * <p>Modifications through {@link #with(DataQuery, Object)} and
+ * {@link #without(DataQuery)} return a new container in O(log n), sharing
+ * all views that were not modified with this one. {@link #copy()} returns
+ * this container, which makes it cheap to take snapshots of data, for
+ * example to save it from another thread.</p>
+ */
+public class ImmutableDataContainer extends ImmutableDataView implements DataContainer {
+
+    private static final ImmutableDataContainer EMPTY = new ImmutableDataContainer(HashTrie.EMPTY);
+
+    ImmutableDataContainer(HashTrie entries) {
+        super(entries);
+    }
+
+    /**
+     * Gets an empty container.
+     *
+     * @return The empty container
+     */
+    public static ImmutableDataContainer of() {
+        return EMPTY;
+    }
+
+    /**
+     * Gets an immutable container with the contents of the given view. If
+     * the view is immutable itself, its contents are shared instead of
+     * copied.
+     *
+     * @param view The view to copy
+     * @return The immutable container
+     */
+    public static ImmutableDataContainer copyOf(DataView view) {
+        checkNotNull(view, "view");
+        if (view instanceof ImmutableDataContainer) {
+            return (ImmutableDataContainer) view;
+        }
+        return new ImmutableDataContainer(toTrie(view));
+    }
+
+    /**
+     * Gets a container with the value at the given path set, creating views
+     * along the path where necessary. {@link DataView}s and
+     * {@link DataSerializable}s are stored as views.
+     *
+     * @param path The path of the value
+     * @param value The value
+     * @return The new container, or this container if it already has the
+     *     value
+     */
+    public ImmutableDataContainer with(DataQuery path, Object value) {
+        checkNotNull(path, "path");
+        checkNotNull(value, "value");
+        List<String> parts = path.getParts();
+        checkArgument(!parts.isEmpty(), "The size of the query must be at least 1");
+        checkArgument(value != this, "Cannot set a DataView to itself.");
+        return wrap(with(this.entries, parts, 0, toEntry(value)));
+    }
+
+    private static HashTrie with(HashTrie trie, List<String> parts, int index, Object value) {
+        String key = parts.get(index);
+        if (index == parts.size() - 1) {
+            return trie.with(key, value);
+        }
+        Object child = trie.get(key);
+        HashTrie view = child instanceof HashTrie ? (HashTrie) child : HashTrie.EMPTY;
+        return trie.with(key, with(view, parts, index + 1, value));
+    }
+
+    /**
+     * Gets a container without the value at the given path.
+     *
+     * @param path The path of the value
+     * @return The new container, or this container if it has no such value
+     */
+    public ImmutableDataContainer without(DataQuery path) {
+        checkNotNull(path, "path");
+        List<String> parts = path.getParts();
+        checkArgument(!parts.isEmpty(), "The size of the query must be at least 1");
+        return wrap(without(this.entries, parts, 0));
+    }
+
+    private static HashTrie without(HashTrie trie, List<String> parts, int index) {
+        String key = parts.get(index);
+        if (index == parts.size() - 1) {
+            return trie.without(key);
+        }
+        Object child = trie.get(key);
+        if (!(child instanceof HashTrie)) {
+            return trie;
+        }
+        return trie.with(key, without((HashTrie) child, parts, index + 1));
+    }
+
+    private ImmutableDataContainer wrap(HashTrie entries) {
+        return entries == this.entries ? this : new ImmutableDataContainer(entries);
+    }
+
+    @Override
+    public ImmutableDataContainer copy() {
+        return this;
+    }
+
+    @Override
+    public DataContainer set(DataQuery path, Object value) {
+        throw new UnsupportedOperationException("This container is immutable, use with(DataQuery, Object)");
+    }
+
+    @Override
+    public DataContainer remove(DataQuery path) {
+        throw new UnsupportedOperationException("This container is immutable, use without(DataQuery)");
+    }
+
+}
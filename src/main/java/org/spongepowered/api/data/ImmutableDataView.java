@@ -0,0 +1,283 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.spongepowered.api.data.DataQuery.of;
+
+import com.google.common.base.Objects;
+import com.google.common.base.Optional;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+/**
+ * An immutable {@link DataView} whose contents are held in a persistent
+ * hash trie, shared with the snapshots it was derived from.
+ *
+ * @see ImmutableDataContainer
+ */
+public class ImmutableDataView extends AbstractDataView {
+
+    final HashTrie entries;
+    private final DataContainer container;
+    @Nullable private final DataView parent;
+    private final DataQuery path;
+
+    ImmutableDataView(HashTrie entries) {
+        this.entries = entries;
+        this.container = (DataContainer) this;
+        this.parent = null;
+        this.path = of();
+    }
+
+    ImmutableDataView(DataView parent, String key, HashTrie entries) {
+        this.entries = entries;
+        this.container = parent.getContainer();
+        this.parent = parent;
+        this.path = parent.getCurrentPath().then(of(key));
+    }
+
+    @Override
+    public DataContainer getContainer() {
+        return this.container;
+    }
+
+    @Override
+    public DataQuery getCurrentPath() {
+        return this.path;
+    }
+
+    @Override
+    public String getName() {
+        List<String> parts = this.path.getParts();
+        return parts.isEmpty() ? "" : parts.get(parts.size() - 1);
+    }
+
+    @Override
+    public Optional<DataView> getParent() {
+        return Optional.fromNullable(this.parent);
+    }
+
+    @Override
+    public void accept(DataVisitor visitor) {
+        checkNotNull(visitor, "visitor");
+        Object[] entries = this.entries.entries();
+        for (int i = 0; i < entries.length; i += 2) {
+            String key = (String) entries[i];
+            Object value = entries[i + 1];
+            if (value instanceof HashTrie) {
+                DataView view = new ImmutableDataView(this, key, (HashTrie) value);
+                if (visitor.enterView(key, view)) {
+                    view.accept(visitor);
+                    visitor.exitView(key, view);
+                }
+            } else {
+                visitor.visitValue(key, value);
+            }
+        }
+    }
+
+    @Override
+    public boolean contains(DataQuery path) {
+        checkNotNull(path, "path");
+        return !path.getParts().isEmpty() && get(path).isPresent();
+    }
+
+    @Override
+    public Optional<Object> get(DataQuery path) {
+        checkNotNull(path, "path");
+        List<String> parts = path.getParts();
+        if (parts.isEmpty()) {
+            return Optional.<Object>of(this);
+        }
+        ImmutableDataView view = this;
+        for (int i = 0, last = parts.size() - 1; i <= last; i++) {
+            Object value = view.entries.get(parts.get(i));
+            if (value instanceof HashTrie) {
+                view = new ImmutableDataView(view, parts.get(i), (HashTrie) value);
+            } else if (i == last) {
+                return Optional.fromNullable(value);
+            } else {
+                return Optional.absent();
+            }
+        }
+        return Optional.<Object>of(view);
+    }
+
+    @Override
+    public DataView set(DataQuery path, Object value) {
+        throw new UnsupportedOperationException("This view is immutable");
+    }
+
+    @Override
+    public DataView remove(DataQuery path) {
+        throw new UnsupportedOperationException("This view is immutable");
+    }
+
+    @Override
+    public DataView createView(DataQuery path) {
+        throw new UnsupportedOperationException("This view is immutable");
+    }
+
+    @Override
+    public DataView createView(DataQuery path, Map<?, ?> map) {
+        throw new UnsupportedOperationException("This view is immutable");
+    }
+
+    /**
+     * Gets the contents of this view as a new {@link ImmutableDataContainer},
+     * which shares them with this view.
+     *
+     * @return The new container
+     */
+    @Override
+    public ImmutableDataContainer copy() {
+        return new ImmutableDataContainer(this.entries);
+    }
+
+    /**
+     * Copies the contents of this view into a new {@link MemoryDataContainer}
+     * which can be modified.
+     *
+     * @return The new container
+     */
+    public DataContainer mutableCopy() {
+        return super.copy();
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(entriesHash(getValues(false)), this.path);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof ImmutableDataView)) {
+            return false;
+        }
+        ImmutableDataView other = (ImmutableDataView) obj;
+        return this.path.equals(other.path)
+               && (this.entries == other.entries || entriesEqual(getValues(false), other.getValues(false)));
+    }
+
+    /**
+     * Converts a value to the form it is held in by an immutable view.
+     *
+     * @param value The value
+     * @return The converted value
+     */
+    static Object toEntry(Object value) {
+        if (value instanceof ImmutableDataView) {
+            return ((ImmutableDataView) value).entries;
+        } else if (value instanceof DataView) {
+            return toTrie((DataView) value);
+        } else if (value instanceof DataSerializable) {
+            return toTrie(((DataSerializable) value).toContainer());
+        } else if (value instanceof Map) {
+            HashTrie trie = HashTrie.EMPTY;
+            for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+                trie = trie.with(entry.getKey().toString(), toEntry(entry.getValue()));
+            }
+            return trie;
+        } else if (value instanceof Collection) {
+            return toList((Collection<?>) value);
+        } else if (value instanceof Object[]) {
+            return toList(Arrays.asList((Object[]) value));
+        } else if (value.getClass().isArray()) {
+            return copyArray(value);
+        }
+        return value;
+    }
+
+    private static List<Object> toList(Collection<?> collection) {
+        ImmutableList.Builder<Object> builder = ImmutableList.builder();
+        for (Object element : collection) {
+            if (element instanceof DataView || element instanceof DataSerializable) {
+                builder.add(new ImmutableDataContainer((HashTrie) toEntry(element)));
+            } else if (element instanceof Map) {
+                builder.add(ImmutableMap.copyOf((Map<?, ?>) element));
+            } else {
+                builder.add(element);
+            }
+        }
+        return builder.build();
+    }
+
+    static HashTrie toTrie(DataView view) {
+        if (view instanceof ImmutableDataView) {
+            return ((ImmutableDataView) view).entries;
+        }
+        TrieVisitor visitor = new TrieVisitor();
+        view.accept(visitor);
+        return visitor.tries.pop();
+    }
+
+    /**
+     * Builds a trie from the visited contents.
+     */
+    private static final class TrieVisitor implements DataVisitor {
+
+        final Deque<HashTrie> tries = new ArrayDeque<HashTrie>();
+
+        TrieVisitor() {
+            this.tries.push(HashTrie.EMPTY);
+        }
+
+        @Override
+        public boolean enterView(String key, DataView view) {
+            if (view instanceof ImmutableDataView) {
+                this.tries.push(this.tries.pop().with(key, ((ImmutableDataView) view).entries));
+                return false;
+            }
+            this.tries.push(HashTrie.EMPTY);
+            return true;
+        }
+
+        @Override
+        public void visitValue(String key, Object value) {
+            this.tries.push(this.tries.pop().with(key, toEntry(value)));
+        }
+
+        @Override
+        public void exitView(String key, DataView view) {
+            HashTrie child = this.tries.pop();
+            this.tries.push(this.tries.pop().with(key, child));
+        }
+
+    }
+
+}
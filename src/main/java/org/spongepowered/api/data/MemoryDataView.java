@@ -36,11 +36,7 @@
 import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
-import org.spongepowered.api.service.persistence.DataBuilder;
-import org.spongepowered.api.service.persistence.SerializationService;
-import org.spongepowered.api.util.Coerce;
 
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -51,7 +47,7 @@
 /**
  * Default implementation of a {@link DataView} being used in memory.
  */
-public class MemoryDataView implements DataView {
+public class MemoryDataView extends AbstractDataView {
 
     protected final Map<String, Object> map = Maps.newLinkedHashMap();
     private final DataContainer container;
@@ -95,92 +91,85 @@ public Optional<DataView> getParent() {
 
     @Override
     public Set<DataQuery> getKeys(boolean deep) {
+        if (deep) {
+            return super.getKeys(true);
+        }
         ImmutableSet.Builder<DataQuery> builder = ImmutableSet.builder();
+        for (String key : this.map.keySet()) {
+            builder.add(of(key));
+        }
+        return builder.build();
+    }
 
+    @Override
+    public void accept(DataVisitor visitor) {
+        checkNotNull(visitor, "visitor");
         for (Map.Entry<String, Object> entry : this.map.entrySet()) {
-            builder.add(of(entry.getKey()));
-        }
-        if (deep) {
-            for (Map.Entry<String, Object> entry : this.map.entrySet()) {
-                if (entry.getValue() instanceof DataView) {
-                    for (DataQuery query : ((DataView) entry.getValue()).getKeys(true)) {
-                        builder.add(of(entry.getKey()).then(query));
-                    }
+            Object value = entry.getValue();
+            if (value instanceof DataView) {
+                DataView view = (DataView) value;
+                if (visitor.enterView(entry.getKey(), view)) {
+                    view.accept(visitor);
+                    visitor.exitView(entry.getKey(), view);
                 }
+            } else {
+                visitor.visitValue(entry.getKey(), value);
             }
         }
-        return builder.build();
     }
 
-    @Override
-    public Map<DataQuery, Object> getValues(boolean deep) {
-        ImmutableMap.Builder<DataQuery, Object> builder = ImmutableMap.builder();
-        for (DataQuery query : getKeys(deep)) {
-            Object value = get(query).get();
-            if (value instanceof DataView) {
-                builder.put(query, ((DataView) value).getValues(deep));
+    /**
+     * Walks the views along the given path, up to but excluding its last
+     * part, by index rather than through sub-queries.
+     *
+     * @param parts The parts of the path, at least one
+     * @param create Whether to create views that do not exist, replacing any
+     *     other value in the way
+     * @return The view holding the last part of the path, or null if it does
+     *     not exist and was not created
+     */
+    @Nullable
+    private MemoryDataView walk(List<String> parts, boolean create) {
+        MemoryDataView view = this;
+        for (int i = 0, last = parts.size() - 1; i < last; i++) {
+            String key = parts.get(i);
+            Object child = view.map.get(key);
+            if (child instanceof MemoryDataView) {
+                view = (MemoryDataView) child;
+            } else if (create) {
+                view = view.getOrCreateView(key);
             } else {
-                builder.put(query, get(query).get());
+                return null;
             }
         }
-        return builder.build();
+        return view;
     }
 
     @Override
     public boolean contains(DataQuery path) {
         checkNotNull(path, "path");
-        List<DataQuery> queryParts = path.getQueryParts();
-
-        if (queryParts.size() == 1) {
-            String key = queryParts.get(0).getParts().get(0);
-            return this.map.containsKey(key);
-        } else {
-            DataQuery subQuery = queryParts.get(0);
-            Optional<DataView> subViewOptional = this.getUnsafeView(subQuery);
-            if (!subViewOptional.isPresent()) {
-                return false;
-            }
-            List<String> subParts = Lists.newArrayListWithCapacity(queryParts.size() - 1);
-            for (int i = 1; i < queryParts.size(); i++) {
-                subParts.add(queryParts.get(i).asString("."));
-            }
-            return subViewOptional.get().contains(of(subParts));
+        List<String> parts = path.getParts();
+        if (parts.isEmpty()) {
+            return false;
         }
+
+        MemoryDataView view = walk(parts, false);
+        return view != null && view.map.containsKey(parts.get(parts.size() - 1));
     }
 
     @Override
     public Optional<Object> get(DataQuery path) {
         checkNotNull(path, "path");
-        List<DataQuery> queryParts = path.getQueryParts();
-
-        int sz = queryParts.size();
-
-        if (sz == 0) {
+        List<String> parts = path.getParts();
+        if (parts.isEmpty()) {
             return Optional.<Object>of(this);
         }
 
-        if (sz == 1) {
-            String key = queryParts.get(0).getParts().get(0);
-            if (this.map.containsKey(key)) {
-                return Optional.of(this.map.get(key));
-            } else {
-                return Optional.absent();
-            }
-        }
-        DataQuery subQuery = queryParts.get(0);
-        Optional<DataView> subViewOptional = this.getUnsafeView(subQuery);
-        DataView subView;
-        if (!subViewOptional.isPresent()) {
+        MemoryDataView view = walk(parts, false);
+        if (view == null) {
             return Optional.absent();
-        } else {
-            subView = subViewOptional.get();
         }
-        List<String> subParts = Lists.newArrayListWithCapacity(queryParts.size() - 1);
-        for (int i = 1; i < queryParts.size(); i++) {
-            subParts.add(queryParts.get(i).asString("."));
-        }
-        return subView.get(of(subParts));
-
+        return Optional.fromNullable(view.map.get(parts.get(parts.size() - 1)));
     }
 
     @Override
@@ -198,32 +187,19 @@ public DataView set(DataQuery path, Object value) {
             copyDataView(path, valueContainer);
         } else {
             List<String> parts = path.getParts();
-            if (parts.size() > 1) {
-                String subKey = parts.get(0);
-                DataQuery subQuery = of(subKey);
-                Optional<DataView> subViewOptional = this.getUnsafeView(subQuery);
-                DataView subView;
-                if (!subViewOptional.isPresent()) {
-                    this.createView(subQuery);
-                    subView = (DataView) this.map.get(subKey);
-                } else {
-                    subView = subViewOptional.get();
-                }
-                List<String> subParts = Lists.newArrayListWithCapacity(parts.size() - 1);
-                for (int i = 1; i < parts.size(); i++) {
-                    subParts.add(parts.get(i));
-                }
-                subView.set(of(subParts), value);
+            checkArgument(!parts.isEmpty(), "The size of the query must be at least 1");
+            MemoryDataView view = walk(parts, true);
+            String key = parts.get(parts.size() - 1);
+            if (value instanceof Collection) {
+                view.setCollection(key, (Collection) value);
+            } else if (value instanceof Object[]) {
+                view.setCollection(key, Lists.newArrayList((Object[]) value));
+            } else if (value instanceof Map) {
+                view.setMap(key, (Map) value);
+            } else if (value.getClass().isArray()) {
+                view.map.put(key, copyArray(value));
             } else {
-                if (value instanceof Collection) {
-                    setCollection(parts.get(0), (Collection) value);
-                } else if (value instanceof Object[]) {
-                    setCollection(parts.get(0), Lists.newArrayList((Object[]) value));
-                } else if (value instanceof Map) {
-                    setMap(parts.get(0), (Map) value);
-                } else {
-                    this.map.put(parts.get(0), value);
-                }
+                view.map.put(key, value);
             }
         }
         return this;
@@ -260,477 +236,108 @@ private void setMap(String key, Map<?, ?> value) {
     }
 
     private void copyDataView(DataQuery path, DataView value) {
-        Collection<DataQuery> valueKeys = value.getKeys(true);
-        for (DataQuery oldKey : valueKeys) {
-            set(path.then(oldKey), value.get(oldKey).get());
-        }
-    }
-
-    @Override
-    public DataView remove(DataQuery path) {
-        checkNotNull(path, "path");
         List<String> parts = path.getParts();
-        if (parts.size() > 1) {
-            String subKey = parts.get(0);
-            DataQuery subQuery = of(subKey);
-            Optional<DataView> subViewOptional = this.getUnsafeView(subQuery);
-            DataView subView;
-            if (!subViewOptional.isPresent()) {
-                return this;
-            } else {
-                subView = subViewOptional.get();
-            }
-            List<String> subParts = Lists.newArrayListWithCapacity(parts.size() - 1);
-            for (int i = 1; i < parts.size(); i++) {
-                subParts.add(parts.get(i));
-            }
-            subView.remove(of(subParts));
-        } else {
-            this.map.remove(parts.get(0));
-        }
-        return this;
-    }
-
-    @Override
-    public DataView createView(DataQuery path) {
-        checkNotNull(path, "path");
-        List<DataQuery> queryParts = path.getQueryParts();
-
-        int sz = queryParts.size();
-
-        checkArgument(sz != 0, "The size of the query must be at least 1");
-
-        if (sz == 1) {
-            DataQuery key = queryParts.get(0);
-            DataView result = new MemoryDataView(this, key);
-            this.map.put(key.getParts().get(0), result);
-            return result;
-        } else {
-            List<String> subParts = Lists
-                    .newArrayListWithCapacity(queryParts.size() - 1);
-            for (int i = 1; i < sz; i++) {
-                subParts.add(queryParts.get(i).asString('.'));
-            }
-            DataQuery subQuery = of(subParts);
-            DataView subView = (DataView) this.map.get(queryParts.get(0).asString('.'));
-            if (subView == null) {
-                subView = new MemoryDataView(this.parent, queryParts.get(0));
-                this.map.put(queryParts.get(0).asString('.'), subView);
-            }
-            return subView.createView(subQuery);
-        }
-    }
-
-    @Override
-    public DataView createView(DataQuery path, Map<?, ?> map) {
-        checkNotNull(path, "path");
-        DataView section = createView(path);
-
-        for (Map.Entry<?, ?> entry : map.entrySet()) {
-            if (entry.getValue() instanceof Map) {
-                section.createView(of('.', entry.getKey().toString()), (Map<?, ?>) entry.getValue());
-            } else {
-                section.set(of('.', entry.getKey().toString()), entry.getValue());
-            }
-        }
-        return section;
-    }
-
-    @Override
-    public Optional<DataView> getView(DataQuery path) {
-        Optional<Object> val = get(path);
-        if (val.isPresent()) {
-            if (val.get() instanceof DataView) {
-                return Optional.of((DataView) val.get());
-            }
-        }
-        return Optional.absent();
-    }
-
-    @Override
-    @SuppressWarnings("unchecked")
-    public Optional<? extends Map<?, ?>> getMap(DataQuery path) {
-        Optional<Object> val = get(path);
-        if (val.isPresent()) {
-            if (val.get() instanceof DataView) {
-                ImmutableMap.Builder<String, Object> builder = ImmutableMap.builder();
-                for (Map.Entry<DataQuery, Object> entry : ((DataView) val.get()).getValues(false).entrySet()) {
-                    if (entry.getValue() instanceof Collection) {
-                        builder.put(entry.getKey().asString('.'), ImmutableList.copyOf((Collection) entry.getValue()));
-                    } else if (entry.getValue() instanceof Map) {
-                        builder.put(entry.getKey().asString('.'), ImmutableMap.copyOf((Map) entry.getValue()));
-                    } else {
-                        builder.put(entry.getKey().asString('.'), entry.getValue());
-                    }
-                }
-                return Optional.of(builder.build());
-            } else if (val.get() instanceof Map) {
-                return Optional.of((Map<?, ?>) val.get());
-            }
-        }
-        return Optional.absent();
-    }
-
-    private Optional<DataView> getUnsafeView(DataQuery path) {
-        Optional<Object> val = get(path);
-        if (val.isPresent()) {
-            if (val.get() instanceof DataView) {
-                return Optional.of((DataView) val.get());
-            }
-        }
-        return Optional.absent();
-    }
-
-    @Override
-    public Optional<Boolean> getBoolean(DataQuery path) {
-        Optional<Object> val = get(path);
-        if (val.isPresent()) {
-            return Coerce.asBoolean(val.get());
-        }
-        return Optional.absent();
-    }
-
-    @Override
-    public Optional<Integer> getInt(DataQuery path) {
-        Optional<Object> val = get(path);
-        if (val.isPresent()) {
-            return Coerce.asInteger(val.get());
-        }
-        return Optional.absent();
-    }
-
-    @Override
-    public Optional<Long> getLong(DataQuery path) {
-        Optional<Object> val = get(path);
-        if (val.isPresent()) {
-            return Coerce.asLong(val.get());
-        }
-        return Optional.absent();
-    }
-
-    @Override
-    public Optional<Double> getDouble(DataQuery path) {
-        Optional<Object> val = get(path);
-        if (val.isPresent()) {
-            return Coerce.asDouble(val.get());
-        }
-        return Optional.absent();
-    }
-
-    @Override
-    public Optional<String> getString(DataQuery path) {
-        Optional<Object> val = get(path);
-        if (val.isPresent()) {
-            return Coerce.asString(val.get());
-        }
-        return Optional.absent();
-    }
-
-    @Override
-    public Optional<List<?>> getList(DataQuery path) {
-        Optional<Object> val = get(path);
-        if (val.isPresent()) {
-            if (val.get() instanceof List<?>) {
-                return Optional.<List<?>>of(Lists.newArrayList((List<?>) val.get()));
-            }
-            if (val.get() instanceof Object[]) {
-                return Optional.<List<?>>of(Lists.newArrayList((Object[]) val.get()));
-            }
-        }
-        return Optional.absent();
-    }
-
-    @Override
-    public Optional<List<String>> getStringList(DataQuery path) {
-        Optional<List<?>> list = getUnsafeList(path);
-
-        if (!list.isPresent()) {
-            return Optional.absent();
-        }
-
-        List<String> newList = Lists.newArrayList();
-
-        for (Object object : list.get()) {
-            Optional<String> optional = Coerce.asString(object);
-            if (optional.isPresent()) {
-                newList.add(optional.get());
-            }
-        }
-        return Optional.of(newList);
-    }
-
-    private Optional<List<?>> getUnsafeList(DataQuery path) {
-        Optional<Object> val = get(path);
-        if (val.isPresent()) {
-            if (val.get() instanceof List<?>) {
-                return Optional.<List<?>>of((List<?>) val.get());
-            } else if (val.get() instanceof Object[]) {
-                return Optional.<List<?>>of(Arrays.asList(((Object[]) val.get())));
-            }
-        }
-        return Optional.absent();
-    }
-
-    @Override
-    public Optional<List<Character>> getCharacterList(DataQuery path) {
-        Optional<List<?>> list = getUnsafeList(path);
-
-        if (!list.isPresent()) {
-            return Optional.absent();
-        }
-
-        List<Character> newList = Lists.newArrayList();
-
-        for (Object object : list.get()) {
-            Optional<Character> optional = Coerce.asChar(object);
-            if (optional.isPresent()) {
-                newList.add(optional.get());
-            }
-        }
-        return Optional.of(newList);
-    }
-
-    @Override
-    public Optional<List<Boolean>> getBooleanList(DataQuery path) {
-        Optional<List<?>> list = getUnsafeList(path);
-
-        if (!list.isPresent()) {
-            return Optional.absent();
-        }
-
-        List<Boolean> newList = Lists.newArrayList();
-
-        for (Object object : list.get()) {
-            Optional<Boolean> optional = Coerce.asBoolean(object);
-            if (optional.isPresent()) {
-                newList.add(optional.get());
-            }
-        }
-        return Optional.of(newList);
-    }
-
-    @Override
-    public Optional<List<Byte>> getByteList(DataQuery path) {
-        Optional<List<?>> list = getUnsafeList(path);
-
-        if (!list.isPresent()) {
-            return Optional.absent();
-        }
-
-        List<Byte> newList = Lists.newArrayList();
-
-        for (Object object : list.get()) {
-            Optional<Byte> optional = Coerce.asByte(object);
-            if (optional.isPresent()) {
-                newList.add(optional.get());
-            }
-        }
-        return Optional.of(newList);
-    }
-
-    @Override
-    public Optional<List<Short>> getShortList(DataQuery path) {
-        Optional<List<?>> list = getUnsafeList(path);
-
-        if (!list.isPresent()) {
-            return Optional.absent();
-        }
-
-        List<Short> newList = Lists.newArrayList();
-
-        for (Object object : list.get()) {
-            Optional<Short> optional = Coerce.asShort(object);
-            if (optional.isPresent()) {
-                newList.add(optional.get());
-            }
+        MemoryDataView target = this;
+        if (!parts.isEmpty()) {
+            MemoryDataView view = walk(parts, true);
+            target = view.getOrCreateView(parts.get(parts.size() - 1));
         }
-        return Optional.of(newList);
+        target.copyFrom(value);
     }
 
-    @Override
-    public Optional<List<Integer>> getIntegerList(DataQuery path) {
-        Optional<List<?>> list = getUnsafeList(path);
-
-        if (!list.isPresent()) {
-            return Optional.absent();
-        }
-
-        List<Integer> newList = Lists.newArrayList();
-
-        for (Object object : list.get()) {
-            Optional<Integer> optional = Coerce.asInteger(object);
-            if (optional.isPresent()) {
-                newList.add(optional.get());
-            }
-        }
-        return Optional.of(newList);
+    /**
+     * Copies the contents of the given view into this view, merging them with
+     * its existing contents.
+     *
+     * @param value The view to copy
+     */
+    void copyFrom(DataView value) {
+        value.accept(new CopyVisitor(this));
     }
 
-    @Override
-    public Optional<List<Long>> getLongList(DataQuery path) {
-        Optional<List<?>> list = getUnsafeList(path);
-
-        if (!list.isPresent()) {
-            return Optional.absent();
+    private MemoryDataView getOrCreateView(String key) {
+        Object child = this.map.get(key);
+        if (child instanceof MemoryDataView) {
+            return (MemoryDataView) child;
         }
-
-        List<Long> newList = Lists.newArrayList();
-
-        for (Object object : list.get()) {
-            Optional<Long> optional = Coerce.asLong(object);
-            if (optional.isPresent()) {
-                newList.add(optional.get());
-            }
-        }
-        return Optional.of(newList);
+        MemoryDataView view = new MemoryDataView(this, of(key));
+        this.map.put(key, view);
+        return view;
     }
 
     @Override
-    public Optional<List<Float>> getFloatList(DataQuery path) {
-        Optional<List<?>> list = getUnsafeList(path);
-
-        if (!list.isPresent()) {
-            return Optional.absent();
-        }
-
-        List<Float> newList = Lists.newArrayList();
+    public DataView remove(DataQuery path) {
+        checkNotNull(path, "path");
+        List<String> parts = path.getParts();
+        checkArgument(!parts.isEmpty(), "The size of the query must be at least 1");
 
-        for (Object object : list.get()) {
-            Optional<Float> optional = Coerce.asFloat(object);
-            if (optional.isPresent()) {
-                newList.add(optional.get());
-            }
+        MemoryDataView view = walk(parts, false);
+        if (view != null) {
+            view.map.remove(parts.get(parts.size() - 1));
         }
-        return Optional.of(newList);
+        return this;
     }
 
     @Override
-    public Optional<List<Double>> getDoubleList(DataQuery path) {
-        Optional<List<?>> list = getUnsafeList(path);
-
-        if (!list.isPresent()) {
-            return Optional.absent();
-        }
-
-        List<Double> newList = Lists.newArrayList();
+    public DataView createView(DataQuery path) {
+        checkNotNull(path, "path");
+        List<String> parts = path.getParts();
+        checkArgument(!parts.isEmpty(), "The size of the query must be at least 1");
 
-        for (Object object : list.get()) {
-            Optional<Double> optional = Coerce.asDouble(object);
-            if (optional.isPresent()) {
-                newList.add(optional.get());
-            }
-        }
-        return Optional.of(newList);
+        MemoryDataView view = walk(parts, true);
+        String key = parts.get(parts.size() - 1);
+        DataView result = new MemoryDataView(view, of(key));
+        view.map.put(key, result);
+        return result;
     }
 
     @Override
-    public Optional<List<Map<?, ?>>> getMapList(DataQuery path) {
-        Optional<List<?>> list = getUnsafeList(path);
-
-        if (!list.isPresent()) {
-            return Optional.absent();
-        }
-
-        List<Map<?, ?>> newList = Lists.newArrayList();
-
-        for (Object object : list.get()) {
-            if (object instanceof Map) {
-                newList.add((Map<?, ?>) object);
-            }
-        }
-
-        return Optional.of(newList);
+    public int hashCode() {
+        return Objects.hashCode(entriesHash(this.map), this.path);
     }
 
     @Override
-    public Optional<List<DataView>> getViewList(DataQuery path) {
-        Optional<List<?>> list = getUnsafeList(path);
-
-        if (!list.isPresent()) {
-            return Optional.absent();
+    public boolean equals(@Nullable Object obj) {
+        if (this == obj) {
+            return true;
         }
-
-        List<DataView> newList = Lists.newArrayList();
-
-        for (Object object : list.get()) {
-            if (object instanceof DataView) {
-                newList.add((DataView) object);
-            }
+        if (obj == null || getClass() != obj.getClass()) {
+            return false;
         }
+        final MemoryDataView other = (MemoryDataView) obj;
 
-        return Optional.of(newList);
+        return entriesEqual(this.map, other.map)
+               && Objects.equal(this.path, other.path);
     }
 
-    @Override
-    public <T extends DataSerializable> Optional<T> getSerializable(DataQuery path, Class<T> clazz, SerializationService service) {
-        checkNotNull(path, "path");
-        checkNotNull(clazz, "clazz");
-        checkNotNull(service, "service");
-        Optional<DataView> optional = getUnsafeView(path);
+    /**
+     * Copies the visited contents into a target view, merging them with its
+     * existing contents.
+     */
+    private static final class CopyVisitor implements DataVisitor {
 
-        if (!optional.isPresent()) {
-            return Optional.absent();
-        }
+        private MemoryDataView target;
 
-        Optional<DataBuilder<T>> builderOptional = service.getBuilder(clazz);
-        if (!builderOptional.isPresent()) {
-            return Optional.absent();
-        } else {
-            return builderOptional.get().build(optional.get());
+        CopyVisitor(MemoryDataView target) {
+            this.target = target;
         }
-    }
 
-    @Override
-    public <T extends DataSerializable> Optional<List<T>> getSerializableList(DataQuery path, Class<T> clazz, SerializationService service) {
-        checkNotNull(path, "path");
-        checkNotNull(clazz, "clazz");
-        checkNotNull(service, "service");
-        Optional<List<DataView>> optional = getViewList(path);
-
-        if (!optional.isPresent()) {
-            return Optional.absent();
+        @Override
+        public boolean enterView(String key, DataView view) {
+            this.target = this.target.getOrCreateView(key);
+            return true;
         }
 
-        Optional<DataBuilder<T>> builderOptional = service.getBuilder(clazz);
-        if (!builderOptional.isPresent()) {
-            return Optional.absent();
-        } else {
-            List<T> newList = Lists.newArrayList();
-            for (DataView view : optional.get()) {
-                Optional<T> element = builderOptional.get().build(view);
-                if (element.isPresent()) {
-                    newList.add(element.get());
-                }
-            }
-            return Optional.of(newList);
+        @Override
+        public void visitValue(String key, Object value) {
+            this.target.set(of(key), value);
         }
-    }
 
-    @Override
-    public DataContainer copy() {
-        final DataContainer container = new MemoryDataContainer();
-        for (DataQuery query : getKeys(false)) {
-            container.set(query, get(query).get());
+        @Override
+        public void exitView(String key, DataView view) {
+            this.target = (MemoryDataView) this.target.parent;
         }
-        return container;
-    }
 
-    @Override
-    public int hashCode() {
-        return Objects.hashCode(this.map, this.path);
     }
 
-    @Override
-    public boolean equals(@Nullable Object obj) {
-        if (this == obj) {
-            return true;
-        }
-        if (obj == null || getClass() != obj.getClass()) {
-            return false;
-        }
-        final MemoryDataView other = (MemoryDataView) obj;
-
-        return Objects.equal(this.map.entrySet(), other.map.entrySet())
-               && Objects.equal(this.path, other.path);
-    }
 }
@@ -0,0 +1,154 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event;
+
+import com.google.common.base.Function;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Sets;
+import com.google.common.io.Files;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+/**
+ * Generates the implementation classes of the events in this package ahead of
+ * time, so they can be packaged into the API jar and don't have to be
+ * generated by {@link SpongeEventFactory} at runtime.
+ *
+ * <p>Events that are not part of the API, or that are created after an
+ * additional {@link org.spongepowered.api.util.event.factory.EventFactoryPlugin}
+ * has been registered, are still generated at runtime.</p>
+ */
+public final class EventClassPrecompiler {
+
+    private static final String EVENT_PACKAGE = "org.spongepowered.api.event";
+
+    private EventClassPrecompiler() {
+    }
+
+    /**
+     * Generates the classes for the events compiled into the classes
+     * directory given as the first argument, and writes them into the output
+     * directory given as the second argument.
+     *
+     * @param args The program args
+     * @throws IOException If the classes could not be written
+     * @throws ClassNotFoundException If a compiled class could not be loaded
+     */
+    public static void main(String[] args) throws IOException, ClassNotFoundException {
+        if (args.length != 2) {
+            System.err.println("Usage: " + EventClassPrecompiler.class.getName() + " <classes directory> <output directory>");
+            System.exit(1);
+        }
+
+        File classesDir = new File(args[0]);
+        File outputDir = new File(args[1]);
+        Map<String, byte[]> classes = SpongeEventFactory.recordGeneratedClasses().getRecordedDefinitions();
+
+        List<Class<?>> types = Lists.newArrayList();
+        for (File file : Files.fileTreeTraverser().preOrderTraversal(new File(classesDir, EVENT_PACKAGE.replace('.', '/')))) {
+            String path = file.getPath().substring(classesDir.getPath().length() + 1);
+            if (!file.isFile() || !path.endsWith(".class") || path.contains("$")) {
+                continue;
+            }
+
+            Class<?> type = Class.forName(path.substring(0, path.length() - ".class".length()).replace(File.separatorChar, '.'));
+            if (type.isInterface() && Event.class.isAssignableFrom(type) && Modifier.isPublic(type.getModifiers())) {
+                types.add(type);
+            }
+        }
+
+        int skipped = precompile(types, new Function<Class<?>, Void>() {
+            @Nullable
+            @Override
+            public Void apply(Class<?> type) {
+                SpongeEventFactory.generate(type);
+                return null;
+            }
+        }, classes, outputDir);
+
+        System.out.println("Generated classes for " + (types.size() - skipped) + " events, skipped " + skipped + " events");
+    }
+
+    /**
+     * Generates the classes for each of the given events, and writes the
+     * classes defined for the events which could be generated into the
+     * output directory.
+     *
+     * <p>Events which can't be generated are skipped, along with any class
+     * defined while trying to generate them. They can't be generated at
+     * runtime either, which is only an error if they are actually
+     * created.</p>
+     *
+     * @param types The event interfaces
+     * @param generator The function generating the classes of an event
+     * @param definitions The classes defined by the generator, by name
+     * @param outputDir The directory to write the classes into
+     * @return The number of skipped events
+     * @throws IOException If the classes could not be written
+     */
+    static int precompile(Iterable<Class<?>> types, Function<Class<?>, ?> generator, Map<String, byte[]> definitions, File outputDir)
+            throws IOException {
+        Set<String> skippedClasses = Sets.newHashSet();
+        int skipped = 0;
+        for (Class<?> type : types) {
+            Set<String> defined = ImmutableSet.copyOf(definitions.keySet());
+            Throwable failure = null;
+            try {
+                generator.apply(type);
+            } catch (UncheckedExecutionException e) {
+                failure = e.getCause();
+            } catch (ExecutionError e) {
+                failure = e.getCause();
+            } catch (LinkageError e) {
+                failure = e;
+            }
+            if (failure != null) {
+                System.err.println("Skipping " + type.getName() + ": " + failure);
+                skippedClasses.addAll(Sets.difference(definitions.keySet(), defined));
+                skipped++;
+            }
+        }
+
+        for (Map.Entry<String, byte[]> entry : definitions.entrySet()) {
+            if (!skippedClasses.contains(entry.getKey())) {
+                File file = new File(outputDir, entry.getKey().replace('.', '/') + ".class");
+                Files.createParentDirs(file);
+                Files.write(entry.getValue(), file);
+            }
+        }
+        return skipped;
+    }
+
+}
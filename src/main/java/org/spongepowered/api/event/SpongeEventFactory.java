@@ -26,7 +26,6 @@
 
 import com.flowpowered.math.vector.Vector3d;
 import com.flowpowered.math.vector.Vector3i;
-import com.google.common.base.Optional;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
@@ -151,6 +150,7 @@
 import org.spongepowered.api.util.command.CommandResult;
 import org.spongepowered.api.util.command.CommandSource;
 import org.spongepowered.api.util.command.source.RconSource;
+import org.spongepowered.api.util.event.factory.ClassGenerator;
 import org.spongepowered.api.util.event.factory.ClassGeneratorProvider;
 import org.spongepowered.api.util.event.factory.EventFactory;
 import org.spongepowered.api.util.event.factory.EventFactoryPlugin;
@@ -182,8 +182,14 @@ public final class SpongeEventFactory {
     private static final ClassGeneratorProvider factoryProvider;
     private static final LoadingCache<Class<?>, EventFactory<?>> factories;
     private static final List<EventFactoryPlugin> plugins = new ArrayList<EventFactoryPlugin>();
+    private static final Map<Class<?>, Class<?>> factoryInterfaces = Maps.newHashMap();
+    private static volatile boolean usePrecompiled = true;
 
     static {
+        for (Class<?> factoryInterface : TypedEventFactories.class.getClasses()) {
+            factoryInterfaces.put(ClassGenerator.getFactoryMethod(factoryInterface).getReturnType(), factoryInterface);
+        }
+
         factoryProvider = new ClassGeneratorProvider("org.spongepowered.api.event.impl");
         factoryProvider.setNullPolicy(NullPolicy.NON_NULL_BY_DEFAULT);
 
@@ -195,7 +201,13 @@ public final class SpongeEventFactory {
                         new CacheLoader<Class<?>, EventFactory<?>>() {
                             @Override
                             public EventFactory<?> load(Class<?> type) {
-                                return factoryProvider.create(type, getBaseClass(type));
+                                if (usePrecompiled) {
+                                    EventFactory<?> factory = factoryProvider.getPrecompiled(type);
+                                    if (factory != null) {
+                                        return factory;
+                                    }
+                                }
+                                return factoryProvider.create(type, getBaseClass(type), getFactoryInterface(type));
                             }
                         });
     }
@@ -211,14 +223,52 @@ private static Class<?> getBaseClass(Class<?> event) {
         return superClass;
     }
 
+    @Nullable
+    private static Class<?> getFactoryInterface(Class<?> event) {
+        Class<?> factoryInterface = factoryInterfaces.get(event);
+        if (factoryInterface == null && StateEvent.class.isAssignableFrom(event)) {
+            return TypedEventFactories.StateFactory.class;
+        }
+        return factoryInterface;
+    }
+
+    /**
+     * Starts recording the classes generated for events, and disables the
+     * use of classes generated ahead of time.
+     *
+     * <p>This is used by {@link EventClassPrecompiler} at build time.</p>
+     *
+     * @return The class loader recording the generated classes
+     */
+    static ClassGeneratorProvider.LocalClassLoader recordGeneratedClasses() {
+        usePrecompiled = false;
+        factoryProvider.getClassLoader().recordDefinitions();
+        return factoryProvider.getClassLoader();
+    }
+
+    /**
+     * Generates the classes for the given event type, if they haven't been
+     * generated yet.
+     *
+     * @param type The event interface to generate classes for
+     */
+    static void generate(Class<?> type) {
+        factories.getUnchecked(type);
+    }
+
     /**
      * Adds an {@link EventFactoryPlugin} to the chain of plugins.
      *
      * <p>The plugin chain is in LIFO order.</p>
      *
+     * <p>As the event classes generated ahead of time do not take additional
+     * plugins into account, events created after a plugin has been added
+     * always have their classes generated at runtime.</p>
+     *
      * @param plugin The {@link EventFactoryPlugin} to add to the chain
      */
     public static void addEventFactoryPlugin(EventFactoryPlugin plugin) {
+        usePrecompiled = false;
         plugins.add(0, plugin);
     }
 
@@ -243,10 +293,9 @@ public static <T> T createEvent(Class<T> type, Map<String, Object> values) {
      * @param <T> The type of the state event
      * @return A new instance of the event
      */
+    @SuppressWarnings("unchecked")
     public static <T extends StateEvent> T createState(Class<T> type, Game game) {
-        Map<String, Object> values = Maps.newHashMapWithExpectedSize(1);
-        values.put("game", game);
-        return createEvent(type, values);
+        return (T) ((TypedEventFactories.StateFactory) factories.getUnchecked(type)).create(game);
     }
 
     /**
@@ -260,13 +309,7 @@ public static <T extends StateEvent> T createState(Class<T> type, Game game) {
      * @return A new instance of the event
      */
     public static BlockBreakEvent createBlockBreak(Game game, Cause cause, Location block, BlockSnapshot replacementBlock, int exp) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("cause", Optional.fromNullable(cause));
-        values.put("block", block);
-        values.put("replacementBlock", replacementBlock);
-        values.put("exp", exp);
-        return createEvent(BlockBreakEvent.class, values);
+        return ((TypedEventFactories.BlockBreakFactory) factories.getUnchecked(BlockBreakEvent.class)).create(game, cause, block, replacementBlock, exp);
     }
 
     /**
@@ -279,12 +322,7 @@ public static BlockBreakEvent createBlockBreak(Game game, Cause cause, Location
      * @return A new instance of the event
      */
     public static BlockBurnEvent createBlockBurn(Game game, Cause cause, Location block, BlockSnapshot replacementBlock) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("cause", Optional.fromNullable(cause));
-        values.put("block", block);
-        values.put("replacementBlock", replacementBlock);
-        return createEvent(BlockBurnEvent.class, values);
+        return ((TypedEventFactories.BlockBurnFactory) factories.getUnchecked(BlockBurnEvent.class)).create(game, cause, block, replacementBlock);
     }
 
     /**
@@ -297,12 +335,7 @@ public static BlockBurnEvent createBlockBurn(Game game, Cause cause, Location bl
      * @return A new instance of the event
      */
     public static BlockChangeEvent createBlockChange(Game game, Cause cause, Location block, BlockSnapshot replacementBlock) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("cause", Optional.fromNullable(cause));
-        values.put("block", block);
-        values.put("replacementBlock", replacementBlock);
-        return createEvent(BlockChangeEvent.class, values);
+        return ((TypedEventFactories.BlockChangeFactory) factories.getUnchecked(BlockChangeEvent.class)).create(game, cause, block, replacementBlock);
     }
 
     /**
@@ -316,13 +349,8 @@ public static BlockChangeEvent createBlockChange(Game game, Cause cause, Locatio
      * @return A new instance of the event
      */
     public static BlockDispenseEvent createBlockDispense(Game game, Cause cause, Location block, Vector3d velocity, ItemStack dispensedItem) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("cause", Optional.fromNullable(cause));
-        values.put("block", block);
-        values.put("velocity", velocity);
-        values.put("dispensedItem", dispensedItem);
-        return createEvent(BlockDispenseEvent.class, values);
+        return ((TypedEventFactories.BlockDispenseFactory) factories.getUnchecked(BlockDispenseEvent.class))
+                .create(game, cause, block, velocity, dispensedItem);
     }
 
     /**
@@ -337,13 +365,8 @@ public static BlockDispenseEvent createBlockDispense(Game game, Cause cause, Loc
      * @return A new instance of the event
      */
     public static BlockHarvestEvent createBlockHarvest(Game game, Cause cause, Location block, Collection<ItemStack> droppedItems, float dropChance) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("cause", Optional.fromNullable(cause));
-        values.put("block", block);
-        values.put("droppedItems", droppedItems);
-        values.put("dropChance", dropChance);
-        return createEvent(BlockHarvestEvent.class, values);
+        return ((TypedEventFactories.BlockHarvestFactory) factories.getUnchecked(BlockHarvestEvent.class))
+                .create(game, cause, block, droppedItems, dropChance);
     }
 
     /**
@@ -355,11 +378,7 @@ public static BlockHarvestEvent createBlockHarvest(Game game, Cause cause, Locat
      * @return A new instance of the event
      */
     public static BlockIgniteEvent createBlockIgnite(Game game, Cause cause, Location block) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("cause", Optional.fromNullable(cause));
-        values.put("block", block);
-        return createEvent(BlockIgniteEvent.class, values);
+        return ((TypedEventFactories.BlockIgniteFactory) factories.getUnchecked(BlockIgniteEvent.class)).create(game, cause, block);
     }
 
     /**
@@ -372,12 +391,7 @@ public static BlockIgniteEvent createBlockIgnite(Game game, Cause cause, Locatio
      * @return A new instance of the event
      */
     public static BlockInteractEvent createBlockInteract(Game game, Cause cause, Location block, Direction side) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("cause", Optional.fromNullable(cause));
-        values.put("block", block);
-        values.put("side", side);
-        return createEvent(BlockInteractEvent.class, values);
+        return ((TypedEventFactories.BlockInteractFactory) factories.getUnchecked(BlockInteractEvent.class)).create(game, cause, block, side);
     }
 
     /**
@@ -389,11 +403,7 @@ public static BlockInteractEvent createBlockInteract(Game game, Cause cause, Loc
      * @return A new instance of the event
      */
     public static BlockMoveEvent createBlockMove(Game game, Cause cause, List<Location> blocks) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("cause", Optional.fromNullable(cause));
-        values.put("blocks", blocks);
-        return createEvent(BlockMoveEvent.class, values);
+        return ((TypedEventFactories.BlockMoveFactory) factories.getUnchecked(BlockMoveEvent.class)).create(game, cause, blocks);
     }
 
     /**
@@ -406,12 +416,7 @@ public static BlockMoveEvent createBlockMove(Game game, Cause cause, List<Locati
      * @return A new instance of the event
      */
     public static BlockPlaceEvent createBlockPlace(Game game, Cause cause, Location block, BlockSnapshot replacementBlock) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("cause", Optional.fromNullable(cause));
-        values.put("block", block);
-        values.put("replacementBlock", replacementBlock);
-        return createEvent(BlockPlaceEvent.class, values);
+        return ((TypedEventFactories.BlockPlaceFactory) factories.getUnchecked(BlockPlaceEvent.class)).create(game, cause, block, replacementBlock);
     }
 
     /**
@@ -423,11 +428,7 @@ public static BlockPlaceEvent createBlockPlace(Game game, Cause cause, Location
      * @return A new instance of the event
      */
     public static BlockRandomTickEvent createBlockRandomTick(Game game, Cause cause, Location block) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("cause", Optional.fromNullable(cause));
-        values.put("block", block);
-        return createEvent(BlockRandomTickEvent.class, values);
+        return ((TypedEventFactories.BlockRandomTickFactory) factories.getUnchecked(BlockRandomTickEvent.class)).create(game, cause, block);
     }
 
     /**
@@ -440,12 +441,7 @@ public static BlockRandomTickEvent createBlockRandomTick(Game game, Cause cause,
      * @return A new instance of the event
      */
     public static BlockUpdateEvent createBlockUpdate(Game game, Cause cause, Location block, Collection<Location> affectedBlocks) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("cause", Optional.fromNullable(cause));
-        values.put("block", block);
-        values.put("affectedBlocks", affectedBlocks);
-        return createEvent(BlockUpdateEvent.class, values);
+        return ((TypedEventFactories.BlockUpdateFactory) factories.getUnchecked(BlockUpdateEvent.class)).create(game, cause, block, affectedBlocks);
     }
 
     /**
@@ -458,12 +454,7 @@ public static BlockUpdateEvent createBlockUpdate(Game game, Cause cause, Locatio
      * @return A new instance of the event
      */
     public static FloraGrowEvent createFloraGrow(Game game, Cause cause, Location block, BlockSnapshot replacementBlock) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("cause", Optional.fromNullable(cause));
-        values.put("block", block);
-        values.put("replacementBlock", replacementBlock);
-        return createEvent(FloraGrowEvent.class, values);
+        return ((TypedEventFactories.FloraGrowFactory) factories.getUnchecked(FloraGrowEvent.class)).create(game, cause, block, replacementBlock);
     }
 
     /**
@@ -475,11 +466,7 @@ public static FloraGrowEvent createFloraGrow(Game game, Cause cause, Location bl
      * @return A new instance of the event
      */
     public static FluidSpreadEvent createFluidSpread(Game game, Cause cause, List<Location> blocks) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("cause", Optional.fromNullable(cause));
-        values.put("blocks", blocks);
-        return createEvent(FluidSpreadEvent.class, values);
+        return ((TypedEventFactories.FluidSpreadFactory) factories.getUnchecked(FluidSpreadEvent.class)).create(game, cause, blocks);
     }
 
     /**
@@ -492,12 +479,7 @@ public static FluidSpreadEvent createFluidSpread(Game game, Cause cause, List<Lo
      * @return A new instance of the event
      */
     public static LeafDecayEvent createLeafDecay(Game game, Cause cause, Location block, BlockSnapshot replacementBlock) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("cause", Optional.fromNullable(cause));
-        values.put("block", block);
-        values.put("replacementBlock", replacementBlock);
-        return createEvent(LeafDecayEvent.class, values);
+        return ((TypedEventFactories.LeafDecayFactory) factories.getUnchecked(LeafDecayEvent.class)).create(game, cause, block, replacementBlock);
     }
 
     /**
@@ -513,14 +495,8 @@ public static LeafDecayEvent createLeafDecay(Game game, Cause cause, Location bl
      */
     public static EntityBreakBlockEvent createEntityBreakBlock(Game game, Cause cause, Entity entity, Location block, BlockSnapshot replacementBlock,
             int exp) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("cause", Optional.fromNullable(cause));
-        values.put("block", block);
-        values.put("entity", entity);
-        values.put("replacementBlock", replacementBlock);
-        values.put("exp", exp);
-        return createEvent(EntityBreakBlockEvent.class, values);
+        return ((TypedEventFactories.EntityBreakBlockFactory) factories.getUnchecked(EntityBreakBlockEvent.class))
+                .create(game, cause, entity, block, replacementBlock, exp);
     }
 
     /**
@@ -533,12 +509,7 @@ public static EntityBreakBlockEvent createEntityBreakBlock(Game game, Cause caus
      * @return A new instance of the event
      */
     public static EntityBreedEvent createEntityBreed(Game game, Ageable entity, Ageable parent, Ageable otherParent) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("entity", entity);
-        values.put("parent", parent);
-        values.put("otherParent", otherParent);
-        return createEvent(EntityBreedEvent.class, values);
+        return ((TypedEventFactories.EntityBreedFactory) factories.getUnchecked(EntityBreedEvent.class)).create(game, entity, parent, otherParent);
     }
 
     /**
@@ -553,13 +524,8 @@ public static EntityBreedEvent createEntityBreed(Game game, Ageable entity, Agea
      */
     public static EntityChangeBlockEvent createEntityChangeBlock(Game game, Cause cause, Entity entity, Location block,
             BlockSnapshot replacementBlock) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("cause", Optional.fromNullable(cause));
-        values.put("block", block);
-        values.put("entity", entity);
-        values.put("replacementBlock", replacementBlock);
-        return createEvent(EntityChangeBlockEvent.class, values);
+        return ((TypedEventFactories.EntityChangeBlockFactory) factories.getUnchecked(EntityChangeBlockEvent.class))
+                .create(game, cause, entity, block, replacementBlock);
     }
 
     /**
@@ -571,11 +537,7 @@ public static EntityChangeBlockEvent createEntityChangeBlock(Game game, Cause ca
      * @return A new instance of the event
      */
     public static EntityCollisionEvent createEntityCollision(Game game, Cause cause, Entity entity) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("cause", Optional.fromNullable(cause));
-        values.put("entity", entity);
-        return createEvent(EntityCollisionEvent.class, values);
+        return ((TypedEventFactories.EntityCollisionFactory) factories.getUnchecked(EntityCollisionEvent.class)).create(game, cause, entity);
     }
 
     /**
@@ -588,12 +550,8 @@ public static EntityCollisionEvent createEntityCollision(Game game, Cause cause,
      * @return A new instance of the event
      */
     public static EntityCollisionWithBlockEvent createEntityCollisionWithBlock(Game game, Cause cause, Entity entity, Location block) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("cause", Optional.fromNullable(cause));
-        values.put("block", block);
-        values.put("entity", entity);
-        return createEvent(EntityCollisionWithBlockEvent.class, values);
+        return ((TypedEventFactories.EntityCollisionWithBlockFactory) factories.getUnchecked(EntityCollisionWithBlockEvent.class))
+                .create(game, cause, entity, block);
     }
 
     /**
@@ -606,12 +564,8 @@ public static EntityCollisionWithBlockEvent createEntityCollisionWithBlock(Game
      * @return A new instance of the event
      */
     public static EntityCollisionWithEntityEvent createEntityCollisionWithEntity(Game game, Cause cause, Entity entity, Entity collided) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("cause", Optional.fromNullable(cause));
-        values.put("entity", entity);
-        values.put("collided", collided);
-        return createEvent(EntityCollisionWithEntityEvent.class, values);
+        return ((TypedEventFactories.EntityCollisionWithEntityFactory) factories.getUnchecked(EntityCollisionWithEntityEvent.class))
+                .create(game, cause, entity, collided);
     }
 
     /**
@@ -625,13 +579,7 @@ public static EntityCollisionWithEntityEvent createEntityCollisionWithEntity(Gam
      * @return A new instance of the event
      */
     public static EntityDeathEvent createEntityDeath(Game game, Cause cause, Entity entity, Location location, int exp) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("cause", Optional.fromNullable(cause));
-        values.put("entity", entity);
-        values.put("location", location);
-        values.put("exp", exp);
-        return createEvent(EntityDeathEvent.class, values);
+        return ((TypedEventFactories.EntityDeathFactory) factories.getUnchecked(EntityDeathEvent.class)).create(game, cause, entity, location, exp);
     }
 
     /**
@@ -643,11 +591,7 @@ public static EntityDeathEvent createEntityDeath(Game game, Cause cause, Entity
      * @return A new instance of the event
      */
     public static EntityDismountEvent createEntityDismount(Game game, Entity entity, Entity dismounted) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("entity", entity);
-        values.put("dismounted", dismounted);
-        return createEvent(EntityDismountEvent.class, values);
+        return ((TypedEventFactories.EntityDismountFactory) factories.getUnchecked(EntityDismountEvent.class)).create(game, entity, dismounted);
     }
 
     /**
@@ -662,13 +606,8 @@ public static EntityDismountEvent createEntityDismount(Game game, Entity entity,
      */
     public static EntityDisplaceEvent createEntityDisplace(Game game, Entity entity,
             Location oldLocation, Location newLocation, Vector3d rotation) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("entity", entity);
-        values.put("oldLocation", oldLocation);
-        values.put("newLocation", newLocation);
-        values.put("rotation", rotation);
-        return createEvent(EntityDisplaceEvent.class, values);
+        return ((TypedEventFactories.EntityDisplaceFactory) factories.getUnchecked(EntityDisplaceEvent.class))
+                .create(game, entity, oldLocation, newLocation, rotation);
     }
 
     /**
@@ -681,12 +620,7 @@ public static EntityDisplaceEvent createEntityDisplace(Game game, Entity entity,
      * @return A new instance of the event
      */
     public static EntityDropItemEvent createEntityDropItem(Game game, Cause cause, Entity entity, Collection<ItemStack> droppedItems) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("cause", Optional.fromNullable(cause));
-        values.put("entity", entity);
-        values.put("droppedItems", droppedItems);
-        return createEvent(EntityDropItemEvent.class, values);
+        return ((TypedEventFactories.EntityDropItemFactory) factories.getUnchecked(EntityDropItemEvent.class)).create(game, cause, entity, droppedItems);
     }
 
     /**
@@ -703,14 +637,8 @@ public static EntityDropItemEvent createEntityDropItem(Game game, Cause cause, E
      */
     public static EntityHarvestBlockEvent createEntityHarvestBlock(Game game, Cause cause, Entity entity, Location block,
             Collection<ItemStack> droppedItems, float dropChance) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("cause", Optional.fromNullable(cause));
-        values.put("block", block);
-        values.put("entity", entity);
-        values.put("droppedItems", droppedItems);
-        values.put("dropChance", dropChance);
-        return createEvent(EntityHarvestBlockEvent.class, values);
+        return ((TypedEventFactories.EntityHarvestBlockFactory) factories.getUnchecked(EntityHarvestBlockEvent.class))
+                .create(game, cause, entity, block, droppedItems, dropChance);
     }
 
     /**
@@ -724,13 +652,8 @@ public static EntityHarvestBlockEvent createEntityHarvestBlock(Game game, Cause
      * @return A new instance of the event
      */
     public static EntityInteractBlockEvent createEntityInteractBlock(Game game, Cause cause, Entity entity, Location block, Direction side) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("cause", Optional.fromNullable(cause));
-        values.put("block", block);
-        values.put("entity", entity);
-        values.put("side", side);
-        return createEvent(EntityInteractBlockEvent.class, values);
+        return ((TypedEventFactories.EntityInteractBlockFactory) factories.getUnchecked(EntityInteractBlockEvent.class))
+                .create(game, cause, entity, block, side);
     }
 
     /**
@@ -742,11 +665,8 @@ public static EntityInteractBlockEvent createEntityInteractBlock(Game game, Caus
      * @return A new instance of the event
      */
     public static EntityInteractEntityEvent createEntityInteractEntity(Game game, Entity entity, Entity targetEntity) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("entity", entity);
-        values.put("targetEntity", targetEntity);
-        return createEvent(EntityInteractEntityEvent.class, values);
+        return ((TypedEventFactories.EntityInteractEntityFactory) factories.getUnchecked(EntityInteractEntityEvent.class))
+                .create(game, entity, targetEntity);
     }
 
     /**
@@ -757,10 +677,7 @@ public static EntityInteractEntityEvent createEntityInteractEntity(Game game, En
      * @return A new instance of the event
      */
     public static EntityInteractEvent createEntityInteract(Game game, Entity entity) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("entity", entity);
-        return createEvent(EntityInteractEvent.class, values);
+        return ((TypedEventFactories.EntityInteractFactory) factories.getUnchecked(EntityInteractEvent.class)).create(game, entity);
     }
 
     /**
@@ -772,11 +689,7 @@ public static EntityInteractEvent createEntityInteract(Game game, Entity entity)
      * @return A new instance of the event
      */
     public static EntityLeashEvent createEntityLeash(Game game, Entity entity, Entity leashHolder) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("entity", entity);
-        values.put("leashHolder", leashHolder);
-        return createEvent(EntityLeashEvent.class, values);
+        return ((TypedEventFactories.EntityLeashFactory) factories.getUnchecked(EntityLeashEvent.class)).create(game, entity, leashHolder);
     }
 
     /**
@@ -788,11 +701,7 @@ public static EntityLeashEvent createEntityLeash(Game game, Entity entity, Entit
      * @return A new instance of the event
      */
     public static EntityUnleashEvent createEntityUnleash(Game game, Entity entity, Entity leashHolder) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("entity", entity);
-        values.put("leashHolder", leashHolder);
-        return createEvent(EntityUnleashEvent.class, values);
+        return ((TypedEventFactories.EntityUnleashFactory) factories.getUnchecked(EntityUnleashEvent.class)).create(game, entity, leashHolder);
     }
 
     /**
@@ -804,11 +713,7 @@ public static EntityUnleashEvent createEntityUnleash(Game game, Entity entity, E
      * @return A new instance of the event
      */
     public static EntityMountEvent createEntityMount(Game game, Entity entity, Entity vehicle) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("entity", entity);
-        values.put("vehicle", vehicle);
-        return createEvent(EntityMountEvent.class, values);
+        return ((TypedEventFactories.EntityMountFactory) factories.getUnchecked(EntityMountEvent.class)).create(game, entity, vehicle);
     }
 
     /**
@@ -823,13 +728,8 @@ public static EntityMountEvent createEntityMount(Game game, Entity entity, Entit
      */
     public static EntityMoveEvent createEntityMove(Game game, Entity entity,
             Location oldLocation, Location newLocation, Vector3d rotation) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("entity", entity);
-        values.put("oldLocation", oldLocation);
-        values.put("newLocation", newLocation);
-        values.put("rotation", rotation);
-        return createEvent(EntityMoveEvent.class, values);
+        return ((TypedEventFactories.EntityMoveFactory) factories.getUnchecked(EntityMoveEvent.class))
+                .create(game, entity, oldLocation, newLocation, rotation);
     }
 
     /**
@@ -842,12 +742,7 @@ public static EntityMoveEvent createEntityMove(Game game, Entity entity,
      * @return A new instance of the event
      */
     public static EntityPickUpItemEvent createEntityPickUpItem(Game game, Entity entity, Collection<Entity> items, Inventory inventory) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("entity", entity);
-        values.put("items", items);
-        values.put("inventory", inventory);
-        return createEvent(EntityPickUpItemEvent.class, values);
+        return ((TypedEventFactories.EntityPickUpItemFactory) factories.getUnchecked(EntityPickUpItemEvent.class)).create(game, entity, items, inventory);
     }
 
     /**
@@ -862,13 +757,8 @@ public static EntityPickUpItemEvent createEntityPickUpItem(Game game, Entity ent
      */
     public static EntityPlaceBlockEvent createEntityPlaceBlock(Game game, Cause cause, Entity entity, Location block,
             BlockSnapshot replacementBlock) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("cause", Optional.fromNullable(cause));
-        values.put("block", block);
-        values.put("entity", entity);
-        values.put("replacementBlock", replacementBlock);
-        return createEvent(EntityPlaceBlockEvent.class, values);
+        return ((TypedEventFactories.EntityPlaceBlockFactory) factories.getUnchecked(EntityPlaceBlockEvent.class))
+                .create(game, cause, entity, block, replacementBlock);
     }
 
     /**
@@ -880,11 +770,7 @@ public static EntityPlaceBlockEvent createEntityPlaceBlock(Game game, Cause caus
      * @return A new instance of the event
      */
     public static EntitySpawnEvent createEntitySpawn(Game game, Entity entity, Location location) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("entity", entity);
-        values.put("location", location);
-        return createEvent(EntitySpawnEvent.class, values);
+        return ((TypedEventFactories.EntitySpawnFactory) factories.getUnchecked(EntitySpawnEvent.class)).create(game, entity, location);
     }
 
     /**
@@ -895,10 +781,7 @@ public static EntitySpawnEvent createEntitySpawn(Game game, Entity entity, Locat
      * @return A new instance of the event
      */
     public static EntityConstructingEvent createEntityConstructing(Game game, Entity entity) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("entity", entity);
-        return createEvent(EntityConstructingEvent.class, values);
+        return ((TypedEventFactories.EntityConstructingFactory) factories.getUnchecked(EntityConstructingEvent.class)).create(game, entity);
     }
 
     /**
@@ -910,11 +793,7 @@ public static EntityConstructingEvent createEntityConstructing(Game game, Entity
      * @return A new instance of the event
      */
     public static EntityTameEvent createEntityTame(Game game, Entity entity, Tamer tamer) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("entity", entity);
-        values.put("tamer", tamer);
-        return createEvent(EntityTameEvent.class, values);
+        return ((TypedEventFactories.EntityTameFactory) factories.getUnchecked(EntityTameEvent.class)).create(game, entity, tamer);
     }
 
     /**
@@ -931,15 +810,8 @@ public static EntityTameEvent createEntityTame(Game game, Entity entity, Tamer t
      */
     public static EntityTeleportEvent createEntityTeleport(Game game, Cause cause, Entity entity, Location oldLocation, Location newLocation,
             Vector3d rotation, boolean keepsVelocity) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("cause", Optional.fromNullable(cause));
-        values.put("entity", entity);
-        values.put("oldLocation", oldLocation);
-        values.put("newLocation", newLocation);
-        values.put("rotation", rotation);
-        values.put("keepsVelocity", keepsVelocity);
-        return createEvent(EntityTeleportEvent.class, values);
+        return ((TypedEventFactories.EntityTeleportFactory) factories.getUnchecked(EntityTeleportEvent.class))
+                .create(game, cause, entity, oldLocation, newLocation, rotation, keepsVelocity);
     }
 
     /**
@@ -950,10 +822,7 @@ public static EntityTeleportEvent createEntityTeleport(Game game, Cause cause, E
      * @return A new instance of the event
      */
     public static EntityUpdateEvent createEntityUpdate(Game game, Entity entity) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("entity", entity);
-        return createEvent(EntityUpdateEvent.class, values);
+        return ((TypedEventFactories.EntityUpdateFactory) factories.getUnchecked(EntityUpdateEvent.class)).create(game, entity);
     }
 
     /**
@@ -966,13 +835,7 @@ public static EntityUpdateEvent createEntityUpdate(Game game, Entity entity) {
      * @return A new instance of the event
      */
     public static ProjectileLaunchEvent createProjectileLaunch(Game game, Cause cause, Projectile entity, ProjectileSource source) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("cause", Optional.fromNullable(cause));
-        values.put("entity", entity);
-        values.put("launchedProjectile", entity);
-        values.put("source", Optional.fromNullable(source));
-        return createEvent(ProjectileLaunchEvent.class, values);
+        return ((TypedEventFactories.ProjectileLaunchFactory) factories.getUnchecked(ProjectileLaunchEvent.class)).create(game, cause, entity, source);
     }
 
     /**
@@ -986,13 +849,7 @@ public static ProjectileLaunchEvent createProjectileLaunch(Game game, Cause caus
      * @return A new instance of the event
      */
     public static CommandEvent createCommand(Game game, String arguments, CommandSource source, String command, @Nullable CommandResult result) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("arguments", arguments);
-        values.put("source", source);
-        values.put("command", command);
-        values.put("result", Optional.fromNullable(result));
-        return createEvent(CommandEvent.class, values);
+        return ((TypedEventFactories.CommandFactory) factories.getUnchecked(CommandEvent.class)).create(game, arguments, source, command, result);
     }
 
     /**
@@ -1007,13 +864,8 @@ public static CommandEvent createCommand(Game game, String arguments, CommandSou
      */
     public static CommandSuggestionsEvent createCommandSuggestions(Game game, String arguments, CommandSource source, String command,
             List<String> suggestions) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("arguments", arguments);
-        values.put("source", source);
-        values.put("command", command);
-        values.put("suggestions", suggestions);
-        return createEvent(CommandSuggestionsEvent.class, values);
+        return ((TypedEventFactories.CommandSuggestionsFactory) factories.getUnchecked(CommandSuggestionsEvent.class))
+                .create(game, arguments, source, command, suggestions);
     }
 
 
@@ -1027,13 +879,7 @@ public static CommandSuggestionsEvent createCommandSuggestions(Game game, String
      * @return A new instance of the event
      */
     public static MessageEvent createMessage(Game game, CommandSource source, Text message, MessageSink sink) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("source", source);
-        values.put("message", message);
-        values.put("newMessage", message);
-        values.put("sink", sink);
-        return createEvent(MessageEvent.class, values);
+        return ((TypedEventFactories.MessageFactory) factories.getUnchecked(MessageEvent.class)).create(game, source, message, sink);
     }
 
     /**
@@ -1050,16 +896,8 @@ public static MessageEvent createMessage(Game game, CommandSource source, Text m
      */
     public static PlayerBreakBlockEvent createPlayerBreakBlock(Game game, Cause cause, Player player, Direction blockFace, Location block,
             BlockSnapshot replacementBlock, int exp) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("cause", Optional.fromNullable(cause));
-        values.put("block", block);
-        values.put("entity", player);
-        values.put("replacementBlock", replacementBlock);
-        values.put("user", player);
-        values.put("blockFace", blockFace);
-        values.put("exp", exp);
-        return createEvent(PlayerBreakBlockEvent.class, values);
+        return ((TypedEventFactories.PlayerBreakBlockFactory) factories.getUnchecked(PlayerBreakBlockEvent.class))
+                .create(game, cause, player, blockFace, block, replacementBlock, exp);
     }
 
     /**
@@ -1071,12 +909,7 @@ public static PlayerBreakBlockEvent createPlayerBreakBlock(Game game, Cause caus
      * @return A new instance of the event
      */
     public static PlayerCastFishingLineEvent createPlayerCastFishingLineEvent(Game game, Player player, FishHook fishHook) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("entity", player);
-        values.put("user", player);
-        values.put("fishHook", fishHook);
-        return createEvent(PlayerCastFishingLineEvent.class, values);
+        return ((TypedEventFactories.PlayerCastFishingLineFactory) factories.getUnchecked(PlayerCastFishingLineEvent.class)).create(game, player, fishHook);
     }
 
     /**
@@ -1089,13 +922,8 @@ public static PlayerCastFishingLineEvent createPlayerCastFishingLineEvent(Game g
      * @return A new instance of the event
      */
     public static PlayerHookedEntityEvent createPlayerHookedEntityEvent(Game game, Player player, FishHook fishHook, Entity caughtEntity) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("entity", player);
-        values.put("user", player);
-        values.put("fishHook", fishHook);
-        values.put("caughtEntity", Optional.fromNullable(caughtEntity));
-        return createEvent(PlayerHookedEntityEvent.class, values);
+        return ((TypedEventFactories.PlayerHookedEntityFactory) factories.getUnchecked(PlayerHookedEntityEvent.class))
+                .create(game, player, fishHook, caughtEntity);
     }
 
     /**
@@ -1111,15 +939,8 @@ public static PlayerHookedEntityEvent createPlayerHookedEntityEvent(Game game, P
      */
     public static PlayerRetractFishingLineEvent createPlayerRetractFishingLineEvent(Game game, Player player, FishHook fishHook, ItemStack caughtItem,
             Entity caughtEntity, int exp) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("entity", player);
-        values.put("user", player);
-        values.put("fishHook", fishHook);
-        values.put("caughtEntity", Optional.fromNullable(caughtEntity));
-        values.put("caughtItem", Optional.fromNullable(caughtItem));
-        values.put("exp", exp);
-        return createEvent(PlayerRetractFishingLineEvent.class, values);
+        return ((TypedEventFactories.PlayerRetractFishingLineFactory) factories.getUnchecked(PlayerRetractFishingLineEvent.class))
+                .create(game, player, fishHook, caughtItem, caughtEntity, exp);
     }
 
     /**
@@ -1135,15 +956,8 @@ public static PlayerRetractFishingLineEvent createPlayerRetractFishingLineEvent(
      */
     public static PlayerChangeBlockEvent createPlayerChangeBlock(Game game, Cause cause, Player player, Direction blockFace, Location block,
             BlockSnapshot replacementBlock) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("cause", Optional.fromNullable(cause));
-        values.put("block", block);
-        values.put("entity", player);
-        values.put("replacementBlock", replacementBlock);
-        values.put("user", player);
-        values.put("blockFace", blockFace);
-        return createEvent(PlayerChangeBlockEvent.class, values);
+        return ((TypedEventFactories.PlayerChangeBlockFactory) factories.getUnchecked(PlayerChangeBlockEvent.class))
+                .create(game, cause, player, blockFace, block, replacementBlock);
     }
 
     /**
@@ -1156,13 +970,8 @@ public static PlayerChangeBlockEvent createPlayerChangeBlock(Game game, Cause ca
      * @return A new instance of the event
      */
     public static PlayerChangeGameModeEvent createPlayerChangeGameMode(Game game, Player player, GameMode newGameMode, GameMode oldGameMode) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("entity", player);
-        values.put("newGameMode", newGameMode);
-        values.put("oldGameMode", oldGameMode);
-        values.put("user", player);
-        return createEvent(PlayerChangeGameModeEvent.class, values);
+        return ((TypedEventFactories.PlayerChangeGameModeFactory) factories.getUnchecked(PlayerChangeGameModeEvent.class))
+                .create(game, player, newGameMode, oldGameMode);
     }
 
     /**
@@ -1175,13 +984,8 @@ public static PlayerChangeGameModeEvent createPlayerChangeGameMode(Game game, Pl
      * @return A new instance of the event
      */
     public static PlayerChangeWorldEvent createPlayerChangeWorld(Game game, Player player, World fromWorld, World toWorld) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("entity", player);
-        values.put("fromWorld", fromWorld);
-        values.put("toWorld", toWorld);
-        values.put("user", player);
-        return createEvent(PlayerChangeWorldEvent.class, values);
+        return ((TypedEventFactories.PlayerChangeWorldFactory) factories.getUnchecked(PlayerChangeWorldEvent.class))
+                .create(game, player, fromWorld, toWorld);
     }
 
     /**
@@ -1195,16 +999,8 @@ public static PlayerChangeWorldEvent createPlayerChangeWorld(Game game, Player p
      * @return A new instance of the event
      */
     public static PlayerChatEvent createPlayerChat(Game game, Player player, Text message, Text unformattedMessage, MessageSink sink) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("entity", player);
-        values.put("source", player);
-        values.put("message", message);
-        values.put("newMessage", message);
-        values.put("unformattedMessage", unformattedMessage);
-        values.put("sink", sink);
-        values.put("user", player);
-        return createEvent(PlayerChatEvent.class, values);
+        return ((TypedEventFactories.PlayerChatFactory) factories.getUnchecked(PlayerChatEvent.class))
+                .create(game, player, message, unformattedMessage, sink);
     }
 
     /**
@@ -1225,23 +1021,8 @@ public static PlayerChatEvent createPlayerChat(Game game, Player player, Text me
      */
     public static PlayerDeathEvent createPlayerDeath(Game game, Cause cause, Player player, Location location, Text message, MessageSink sink,
             int exp, int newExperience, int newLevel, boolean keepsLevel, boolean keepsInventory) {
-
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("cause", Optional.fromNullable(cause));
-        values.put("entity", player);
-        values.put("source", player);
-        values.put("message", message);
-        values.put("newMessage", message);
-        values.put("sink", sink);
-        values.put("user", player);
-        values.put("location", location);
-        values.put("exp", exp);
-        values.put("newExperience", newExperience);
-        values.put("newLevel", newLevel);
-        values.put("keepsLevel", keepsLevel);
-        values.put("keepsInventory", keepsInventory);
-        return createEvent(PlayerDeathEvent.class, values);
+        return ((TypedEventFactories.PlayerDeathFactory) factories.getUnchecked(PlayerDeathEvent.class))
+                .create(game, cause, player, location, message, sink, exp, newExperience, newLevel, keepsLevel, keepsInventory);
     }
 
     /**
@@ -1254,13 +1035,7 @@ public static PlayerDeathEvent createPlayerDeath(Game game, Cause cause, Player
      * @return A new instance of the event
      */
     public static PlayerDropItemEvent createPlayerDropItem(Game game, Player player, Cause cause, Collection<ItemStack> droppedItems) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("cause", Optional.fromNullable(cause));
-        values.put("entity", player);
-        values.put("droppedItems", droppedItems);
-        values.put("user", player);
-        return createEvent(PlayerDropItemEvent.class, values);
+        return ((TypedEventFactories.PlayerDropItemFactory) factories.getUnchecked(PlayerDropItemEvent.class)).create(game, player, cause, droppedItems);
     }
 
     /**
@@ -1278,16 +1053,8 @@ public static PlayerDropItemEvent createPlayerDropItem(Game game, Player player,
      */
     public static PlayerHarvestBlockEvent createPlayerHarvestBlock(Game game, Cause cause, Player player, Location block,
             Collection<ItemStack> droppedItems, float dropChance, boolean silkTouch) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("cause", Optional.fromNullable(cause));
-        values.put("block", block);
-        values.put("entity", player);
-        values.put("user", player);
-        values.put("droppedItems", droppedItems);
-        values.put("dropChance", dropChance);
-        values.put("silkTouch", silkTouch);
-        return createEvent(PlayerHarvestBlockEvent.class, values);
+        return ((TypedEventFactories.PlayerHarvestBlockFactory) factories.getUnchecked(PlayerHarvestBlockEvent.class))
+                .create(game, cause, player, block, droppedItems, dropChance, silkTouch);
     }
 
     /**
@@ -1304,16 +1071,8 @@ public static PlayerHarvestBlockEvent createPlayerHarvestBlock(Game game, Cause
      */
     public static PlayerInteractBlockEvent createPlayerInteractBlock(Game game, Cause cause, Player player, Location block, Direction side,
             EntityInteractionType interactionType, @Nullable Vector3d location) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("cause", Optional.fromNullable(cause));
-        values.put("block", block);
-        values.put("side", side);
-        values.put("entity", player);
-        values.put("interactionType", interactionType);
-        values.put("user", player);
-        values.put("clickedPosition", Optional.fromNullable(location));
-        return createEvent(PlayerInteractBlockEvent.class, values);
+        return ((TypedEventFactories.PlayerInteractBlockFactory) factories.getUnchecked(PlayerInteractBlockEvent.class))
+                .create(game, cause, player, block, side, interactionType, location);
     }
 
     /**
@@ -1328,14 +1087,8 @@ public static PlayerInteractBlockEvent createPlayerInteractBlock(Game game, Caus
      */
     public static PlayerInteractEntityEvent createPlayerInteractEntity(Game game, Player player, Entity targetEntity,
             EntityInteractionType interactionType, @Nullable Vector3d location) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("entity", player);
-        values.put("targetEntity", targetEntity);
-        values.put("interactionType", interactionType);
-        values.put("user", player);
-        values.put("clickedPosition", Optional.fromNullable(location));
-        return createEvent(PlayerInteractEntityEvent.class, values);
+        return ((TypedEventFactories.PlayerInteractEntityFactory) factories.getUnchecked(PlayerInteractEntityEvent.class))
+                .create(game, player, targetEntity, interactionType, location);
     }
 
     /**
@@ -1349,13 +1102,8 @@ public static PlayerInteractEntityEvent createPlayerInteractEntity(Game game, Pl
      */
     public static PlayerInteractEvent createPlayerInteract(Game game, Player player, EntityInteractionType interactionType,
             @Nullable Vector3d location) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("entity", player);
-        values.put("interactionType", interactionType);
-        values.put("user", player);
-        values.put("clickedPosition", Optional.fromNullable(location));
-        return createEvent(PlayerInteractEvent.class, values);
+        return ((TypedEventFactories.PlayerInteractFactory) factories.getUnchecked(PlayerInteractEvent.class))
+                .create(game, player, interactionType, location);
     }
 
     /**
@@ -1369,16 +1117,7 @@ public static PlayerInteractEvent createPlayerInteract(Game game, Player player,
      * @return A new instance of the event
      */
     public static PlayerJoinEvent createPlayerJoin(Game game, Player player, Location location, Text message, MessageSink sink) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("entity", player);
-        values.put("source", player);
-        values.put("location", location);
-        values.put("message", message);
-        values.put("newMessage", message);
-        values.put("sink" ,sink);
-        values.put("user", player);
-        return createEvent(PlayerJoinEvent.class, values);
+        return ((TypedEventFactories.PlayerJoinFactory) factories.getUnchecked(PlayerJoinEvent.class)).create(game, player, location, message, sink);
     }
 
     /**
@@ -1392,14 +1131,8 @@ public static PlayerJoinEvent createPlayerJoin(Game game, Player player, Locatio
      * @return A new instance of the event
      */
     public static PlayerMoveEvent createPlayerMove(Game game, Player player, Location oldLocation, Location newLocation, Vector3d rotation) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("entity", player);
-        values.put("oldLocation", oldLocation);
-        values.put("newLocation", newLocation);
-        values.put("user", player);
-        values.put("rotation", rotation);
-        return createEvent(PlayerMoveEvent.class, values);
+        return ((TypedEventFactories.PlayerMoveFactory) factories.getUnchecked(PlayerMoveEvent.class))
+                .create(game, player, oldLocation, newLocation, rotation);
     }
 
     /**
@@ -1412,13 +1145,7 @@ public static PlayerMoveEvent createPlayerMove(Game game, Player player, Locatio
      * @return A new instance of the event
      */
     public static PlayerPickUpItemEvent createPlayerPickUpItem(Game game, Player player, Collection<Entity> items, Inventory inventory) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("entity", player);
-        values.put("items", items);
-        values.put("user", player);
-        values.put("inventory", inventory);
-        return createEvent(PlayerPickUpItemEvent.class, values);
+        return ((TypedEventFactories.PlayerPickUpItemFactory) factories.getUnchecked(PlayerPickUpItemEvent.class)).create(game, player, items, inventory);
     }
 
     /**
@@ -1434,15 +1161,8 @@ public static PlayerPickUpItemEvent createPlayerPickUpItem(Game game, Player pla
      */
     public static PlayerPlaceBlockEvent createPlayerPlaceBlock(Game game, Cause cause, Player player, Location block,
             BlockSnapshot replacementBlock, Direction blockFace) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("cause", Optional.fromNullable(cause));
-        values.put("block", block);
-        values.put("entity", player);
-        values.put("replacementBlock", replacementBlock);
-        values.put("user", player);
-        values.put("blockFace", blockFace);
-        return createEvent(PlayerPlaceBlockEvent.class, values);
+        return ((TypedEventFactories.PlayerPlaceBlockFactory) factories.getUnchecked(PlayerPlaceBlockEvent.class))
+                .create(game, cause, player, block, replacementBlock, blockFace);
     }
 
     /**
@@ -1455,15 +1175,7 @@ public static PlayerPlaceBlockEvent createPlayerPlaceBlock(Game game, Cause caus
      * @return A new instance of the event
      */
     public static PlayerQuitEvent createPlayerQuit(Game game, Player player, Text message, MessageSink sink) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("entity", player);
-        values.put("source", player);
-        values.put("message", message);
-        values.put("newMessage", message);
-        values.put("sink", sink);
-        values.put("user", player);
-        return createEvent(PlayerQuitEvent.class, values);
+        return ((TypedEventFactories.PlayerQuitFactory) factories.getUnchecked(PlayerQuitEvent.class)).create(game, player, message, sink);
     }
 
     /**
@@ -1476,14 +1188,7 @@ public static PlayerQuitEvent createPlayerQuit(Game game, Player player, Text me
      * @return A new instance of the event
      */
     public static PlayerRespawnEvent createPlayerRespawn(Game game, Player player, boolean bedSpawn, Location respawnLocation) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("entity", player);
-        values.put("respawnLocation", respawnLocation);
-        values.put("newRespawnLocation", respawnLocation);
-        values.put("bedSpawn", bedSpawn);
-        values.put("user", player);
-        return createEvent(PlayerRespawnEvent.class, values);
+        return ((TypedEventFactories.PlayerRespawnFactory) factories.getUnchecked(PlayerRespawnEvent.class)).create(game, player, bedSpawn, respawnLocation);
     }
 
     /**
@@ -1494,11 +1199,7 @@ public static PlayerRespawnEvent createPlayerRespawn(Game game, Player player, b
      * @return A new instance of the event
      */
     public static PlayerUpdateEvent createPlayerUpdate(Game game, Player player) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("entity", player);
-        values.put("user", player);
-        return createEvent(PlayerUpdateEvent.class, values);
+        return ((TypedEventFactories.PlayerUpdateFactory) factories.getUnchecked(PlayerUpdateEvent.class)).create(game, player);
     }
 
     /**
@@ -1513,13 +1214,8 @@ public static PlayerUpdateEvent createPlayerUpdate(Game game, Player player) {
      */
     public static LightningStrikeEvent createLightningStrike(Game game, WeatherUniverse weatherUniverse, Lightning lightningStrike,
             List<Entity> struckEntities, List<Location> struckBlocks) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("lightningStrike", lightningStrike);
-        values.put("weatherUniverse", weatherUniverse);
-        values.put("struckEntities", struckEntities);
-        values.put("struckBlocks", struckBlocks);
-        return createEvent(LightningStrikeEvent.class, values);
+        return ((TypedEventFactories.LightningStrikeFactory) factories.getUnchecked(LightningStrikeEvent.class))
+                .create(game, weatherUniverse, lightningStrike, struckEntities, struckBlocks);
     }
 
     /**
@@ -1531,12 +1227,7 @@ public static LightningStrikeEvent createLightningStrike(Game game, WeatherUnive
      * @return A new instance of the event
      */
     public static AchievementEvent createAchievement(Game game, Player player, Achievement achievement) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("entity", player);
-        values.put("user", player);
-        values.put("achievement", achievement);
-        return createEvent(AchievementEvent.class, values);
+        return ((TypedEventFactories.AchievementFactory) factories.getUnchecked(AchievementEvent.class)).create(game, player, achievement);
     }
 
     /**
@@ -1551,14 +1242,8 @@ public static AchievementEvent createAchievement(Game game, Player player, Achie
      */
     public static StatisticChangeEvent createStatisticChangeEvent(Game game, Player player, Statistic changedStatistic,
                                                                   long newValue, long oldValue) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("entity", player);
-        values.put("user", player);
-        values.put("changedStatistic", changedStatistic);
-        values.put("newValue", newValue);
-        values.put("oldValue", oldValue);
-        return createEvent(StatisticChangeEvent.class, values);
+        return ((TypedEventFactories.StatisticChangeFactory) factories.getUnchecked(StatisticChangeEvent.class))
+                .create(game, player, changedStatistic, newValue, oldValue);
     }
 
     /**
@@ -1573,13 +1258,8 @@ public static StatisticChangeEvent createStatisticChangeEvent(Game game, Player
      */
     public static WeatherChangeEvent createWeatherChange(Game game, WeatherUniverse weatherUniverse, Weather initialWeather,
             Weather resultingWeather, int duration) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("initialWeather", initialWeather);
-        values.put("weatherUniverse", weatherUniverse);
-        values.put("resultingWeather", resultingWeather);
-        values.put("duration", duration);
-        return createEvent(WeatherChangeEvent.class, values);
+        return ((TypedEventFactories.WeatherChangeFactory) factories.getUnchecked(WeatherChangeEvent.class))
+                .create(game, weatherUniverse, initialWeather, resultingWeather, duration);
     }
 
     /**
@@ -1591,11 +1271,7 @@ public static WeatherChangeEvent createWeatherChange(Game game, WeatherUniverse
      * @return A new instance of the event
      */
     public static ChunkForcedEvent createChunkForced(Game game, LoadingTicket ticket, Vector3i chunkCoords) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("ticket", ticket);
-        values.put("chunkCoords", chunkCoords);
-        return createEvent(ChunkForcedEvent.class, values);
+        return ((TypedEventFactories.ChunkForcedFactory) factories.getUnchecked(ChunkForcedEvent.class)).create(game, ticket, chunkCoords);
     }
 
     /**
@@ -1606,10 +1282,7 @@ public static ChunkForcedEvent createChunkForced(Game game, LoadingTicket ticket
      * @return A new instance of the event
      */
     public static ChunkLoadEvent createChunkLoad(Game game, Chunk chunk) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("chunk", chunk);
-        return createEvent(ChunkLoadEvent.class, values);
+        return ((TypedEventFactories.ChunkLoadFactory) factories.getUnchecked(ChunkLoadEvent.class)).create(game, chunk);
     }
 
     /**
@@ -1620,10 +1293,7 @@ public static ChunkLoadEvent createChunkLoad(Game game, Chunk chunk) {
      * @return A new instance of the event
      */
     public static ChunkPostGenerateEvent createChunkPostGenerate(Game game, Chunk chunk) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("chunk", chunk);
-        return createEvent(ChunkPostGenerateEvent.class, values);
+        return ((TypedEventFactories.ChunkPostGenerateFactory) factories.getUnchecked(ChunkPostGenerateEvent.class)).create(game, chunk);
     }
 
     /**
@@ -1634,10 +1304,7 @@ public static ChunkPostGenerateEvent createChunkPostGenerate(Game game, Chunk ch
      * @return A new instance of the event
      */
     public static ChunkPostPopulateEvent createChunkPostPopulate(Game game, Chunk chunk) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("chunk", chunk);
-        return createEvent(ChunkPostPopulateEvent.class, values);
+        return ((TypedEventFactories.ChunkPostPopulateFactory) factories.getUnchecked(ChunkPostPopulateEvent.class)).create(game, chunk);
     }
 
     /**
@@ -1648,10 +1315,7 @@ public static ChunkPostPopulateEvent createChunkPostPopulate(Game game, Chunk ch
      * @return A new instance of the event
      */
     public static ChunkPreGenerateEvent createChunkPreGenerate(Game game, Chunk chunk) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("chunk", chunk);
-        return createEvent(ChunkPreGenerateEvent.class, values);
+        return ((TypedEventFactories.ChunkPreGenerateFactory) factories.getUnchecked(ChunkPreGenerateEvent.class)).create(game, chunk);
     }
 
     /**
@@ -1663,11 +1327,7 @@ public static ChunkPreGenerateEvent createChunkPreGenerate(Game game, Chunk chun
      * @return A new instance of the event
      */
     public static ChunkPrePopulateEvent createChunkPrePopulate(Game game, Chunk chunk, List<Populator> pendingPopulators) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("chunk", chunk);
-        values.put("pendingPopulators", pendingPopulators);
-        return createEvent(ChunkPrePopulateEvent.class, values);
+        return ((TypedEventFactories.ChunkPrePopulateFactory) factories.getUnchecked(ChunkPrePopulateEvent.class)).create(game, chunk, pendingPopulators);
     }
 
     /**
@@ -1679,11 +1339,7 @@ public static ChunkPrePopulateEvent createChunkPrePopulate(Game game, Chunk chun
      * @return A new instance of the event
      */
     public static ChunkUnforcedEvent createChunkUnforced(Game game, Vector3i chunkCoords, LoadingTicket ticket) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("ticket", ticket);
-        values.put("chunkCoords", chunkCoords);
-        return createEvent(ChunkUnforcedEvent.class, values);
+        return ((TypedEventFactories.ChunkUnforcedFactory) factories.getUnchecked(ChunkUnforcedEvent.class)).create(game, chunkCoords, ticket);
     }
 
     /**
@@ -1694,10 +1350,7 @@ public static ChunkUnforcedEvent createChunkUnforced(Game game, Vector3i chunkCo
      * @return A new instance of the event
      */
     public static ChunkUnloadEvent createChunkUnload(Game game, Chunk chunk) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("chunk", chunk);
-        return createEvent(ChunkUnloadEvent.class, values);
+        return ((TypedEventFactories.ChunkUnloadFactory) factories.getUnchecked(ChunkUnloadEvent.class)).create(game, chunk);
     }
 
     /**
@@ -1711,13 +1364,7 @@ public static ChunkUnloadEvent createChunkUnload(Game game, Chunk chunk) {
      * @return A new instance of the event
      */
     public static GameRuleChangeEvent createGameRuleChange(Game game, World world, String name, String oldValue, String newValue) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("world", world);
-        values.put("newValue", newValue);
-        values.put("name", name);
-        values.put("oldValue", oldValue);
-        return createEvent(GameRuleChangeEvent.class, values);
+        return ((TypedEventFactories.GameRuleChangeFactory) factories.getUnchecked(GameRuleChangeEvent.class)).create(game, world, name, oldValue, newValue);
     }
 
     /**
@@ -1729,11 +1376,7 @@ public static GameRuleChangeEvent createGameRuleChange(Game game, World world, S
      * @return A new instance of the event
      */
     public static WorldCreateEvent createWorldCreate(Game game, WorldProperties properties, WorldCreationSettings settings) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("worldProperties", properties);
-        values.put("worldCreationSettings", settings);
-        return createEvent(WorldCreateEvent.class, values);
+        return ((TypedEventFactories.WorldCreateFactory) factories.getUnchecked(WorldCreateEvent.class)).create(game, properties, settings);
     }
 
     /**
@@ -1744,10 +1387,7 @@ public static WorldCreateEvent createWorldCreate(Game game, WorldProperties prop
      * @return A new instance of the event
      */
     public static WorldLoadEvent createWorldLoad(Game game, World world) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("world", world);
-        return createEvent(WorldLoadEvent.class, values);
+        return ((TypedEventFactories.WorldLoadFactory) factories.getUnchecked(WorldLoadEvent.class)).create(game, world);
     }
 
     /**
@@ -1758,10 +1398,7 @@ public static WorldLoadEvent createWorldLoad(Game game, World world) {
      * @return A new instance of the event
      */
     public static WorldUnloadEvent createWorldUnload(Game game, World world) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("world", world);
-        return createEvent(WorldUnloadEvent.class, values);
+        return ((TypedEventFactories.WorldUnloadFactory) factories.getUnchecked(WorldUnloadEvent.class)).create(game, world);
     }
 
     /**
@@ -1773,11 +1410,7 @@ public static WorldUnloadEvent createWorldUnload(Game game, World world) {
      * @return A new instance of the event
      */
     public static StatusPingEvent createStatusPing(Game game, StatusClient client, StatusPingEvent.Response response) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("client", client);
-        values.put("response", response);
-        return createEvent(StatusPingEvent.class, values);
+        return ((TypedEventFactories.StatusPingFactory) factories.getUnchecked(StatusPingEvent.class)).create(game, client, response);
     }
 
     /**
@@ -1798,18 +1431,8 @@ public static BrewingStandBrewEvent createBrewingStandBrew(Game game, BrewingSta
                                                                     List<ItemStack> sourceItems, ItemStack fuelSource, List<ItemStack> brewedItems,
                                                                     Cause cause, TileEntityInventory<TileEntityCarrier> inventory,
                                                                     Location block) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("tile", brewingStand);
-        values.put("sourceItems", sourceItems);
-        values.put("fuelSource", fuelSource);
-        values.put("brewedItems", brewedItems);
-        values.put("results", brewedItems);
-        values.put("inventory", inventory);
-        values.put("cause", Optional.fromNullable(cause));
-        values.put("block", block);
-        values.put("currentData", data);
-        return createEvent(BrewingStandBrewEvent.class, values);
+        return ((TypedEventFactories.BrewingStandBrewFactory) factories.getUnchecked(BrewingStandBrewEvent.class))
+                .create(game, brewingStand, data, sourceItems, fuelSource, brewedItems, cause, inventory, block);
     }
 
     /**
@@ -1828,17 +1451,8 @@ public static BrewingStandBrewEvent createBrewingStandBrew(Game game, BrewingSta
     public static FurnaceConsumeFuelEvent createFurnaceConsumeFuel(Game game, Furnace furnace, FurnaceData data, ItemStack burnedItem,
                                                                    ItemStack remainingFuel, Cause cause,
                                                                    TileEntityInventory<TileEntityCarrier> inventory, Location block) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("tile", furnace);
-        values.put("burnedItem", burnedItem);
-        values.put("remainingFuel", Optional.fromNullable(remainingFuel));
-        values.put("result", Optional.fromNullable(remainingFuel));
-        values.put("inventory", inventory);
-        values.put("cause", Optional.fromNullable(cause));
-        values.put("block", block);
-        values.put("currentData", data);
-        return createEvent(FurnaceConsumeFuelEvent.class, values);
+        return ((TypedEventFactories.FurnaceConsumeFuelFactory) factories.getUnchecked(FurnaceConsumeFuelEvent.class))
+                .create(game, furnace, data, burnedItem, remainingFuel, cause, inventory, block);
     }
 
     /**
@@ -1857,17 +1471,8 @@ public static FurnaceConsumeFuelEvent createFurnaceConsumeFuel(Game game, Furnac
     public static FurnaceSmeltItemEvent createFurnaceSmeltItem(Game game, Furnace furnace, FurnaceData data, ItemStack cookedItem,
                                                                ItemStack sourceItem, Cause cause, TileEntityInventory<TileEntityCarrier> inventory,
                                                                Location block) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("tile", furnace);
-        values.put("cookedItem", cookedItem);
-        values.put("sourceItem", sourceItem);
-        values.put("result", Optional.fromNullable(cookedItem));
-        values.put("cause", Optional.fromNullable(cause));
-        values.put("inventory", inventory);
-        values.put("block", block);
-        values.put("currentData", data);
-        return createEvent(FurnaceSmeltItemEvent.class, values);
+        return ((TypedEventFactories.FurnaceSmeltItemFactory) factories.getUnchecked(FurnaceSmeltItemEvent.class))
+                .create(game, furnace, data, cookedItem, sourceItem, cause, inventory, block);
     }
 
     /**
@@ -1880,13 +1485,7 @@ public static FurnaceSmeltItemEvent createFurnaceSmeltItem(Game game, Furnace fu
      * @return A new instance of the event
      */
     public static SignChangeEvent createSignChange(Game game, Cause cause, Sign sign, SignData currentData, SignData newData) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("cause", Optional.fromNullable(cause));
-        values.put("tile", sign);
-        values.put("currentData", currentData);
-        values.put("newData", newData);
-        return createEvent(SignChangeEvent.class, values);
+        return ((TypedEventFactories.SignChangeFactory) factories.getUnchecked(SignChangeEvent.class)).create(game, cause, sign, currentData, newData);
     }
 
     /**
@@ -1897,10 +1496,7 @@ public static SignChangeEvent createSignChange(Game game, Cause cause, Sign sign
      * @return A new instance of the event
      */
     public static RconLoginEvent createRconLogin(Game game, RconSource source) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("source", source);
-        return createEvent(RconLoginEvent.class, values);
+        return ((TypedEventFactories.RconLoginFactory) factories.getUnchecked(RconLoginEvent.class)).create(game, source);
     }
 
     /**
@@ -1911,9 +1507,6 @@ public static RconLoginEvent createRconLogin(Game game, RconSource source) {
      * @return A new instance of the event
      */
     public static RconQuitEvent createRconQuit(Game game, RconSource source) {
-        Map<String, Object> values = Maps.newHashMap();
-        values.put("game", game);
-        values.put("source", source);
-        return createEvent(RconQuitEvent.class, values);
+        return ((TypedEventFactories.RconQuitFactory) factories.getUnchecked(RconQuitEvent.class)).create(game, source);
     }
 }
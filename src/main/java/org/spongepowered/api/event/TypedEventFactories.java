@@ -0,0 +1,1878 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event;
+
+import com.flowpowered.math.vector.Vector3d;
+import com.flowpowered.math.vector.Vector3i;
+import org.spongepowered.api.Game;
+import org.spongepowered.api.block.BlockSnapshot;
+import org.spongepowered.api.block.tileentity.Sign;
+import org.spongepowered.api.block.tileentity.carrier.BrewingStand;
+import org.spongepowered.api.block.tileentity.carrier.Furnace;
+import org.spongepowered.api.block.tileentity.carrier.TileEntityCarrier;
+import org.spongepowered.api.data.manipulator.tileentity.BrewingData;
+import org.spongepowered.api.data.manipulator.tileentity.FurnaceData;
+import org.spongepowered.api.data.manipulator.tileentity.SignData;
+import org.spongepowered.api.entity.Entity;
+import org.spongepowered.api.entity.EntityInteractionType;
+import org.spongepowered.api.entity.Tamer;
+import org.spongepowered.api.entity.living.Ageable;
+import org.spongepowered.api.entity.player.Player;
+import org.spongepowered.api.entity.player.gamemode.GameMode;
+import org.spongepowered.api.entity.projectile.FishHook;
+import org.spongepowered.api.entity.projectile.Projectile;
+import org.spongepowered.api.entity.projectile.source.ProjectileSource;
+import org.spongepowered.api.entity.weather.Lightning;
+import org.spongepowered.api.event.block.BlockBreakEvent;
+import org.spongepowered.api.event.block.BlockBurnEvent;
+import org.spongepowered.api.event.block.BlockChangeEvent;
+import org.spongepowered.api.event.block.BlockDispenseEvent;
+import org.spongepowered.api.event.block.BlockHarvestEvent;
+import org.spongepowered.api.event.block.BlockIgniteEvent;
+import org.spongepowered.api.event.block.BlockInteractEvent;
+import org.spongepowered.api.event.block.BlockMoveEvent;
+import org.spongepowered.api.event.block.BlockPlaceEvent;
+import org.spongepowered.api.event.block.BlockRandomTickEvent;
+import org.spongepowered.api.event.block.BlockUpdateEvent;
+import org.spongepowered.api.event.block.FloraGrowEvent;
+import org.spongepowered.api.event.block.FluidSpreadEvent;
+import org.spongepowered.api.event.block.LeafDecayEvent;
+import org.spongepowered.api.event.block.tileentity.BrewingStandBrewEvent;
+import org.spongepowered.api.event.block.tileentity.FurnaceConsumeFuelEvent;
+import org.spongepowered.api.event.block.tileentity.FurnaceSmeltItemEvent;
+import org.spongepowered.api.event.block.tileentity.SignChangeEvent;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.event.entity.EntityBreakBlockEvent;
+import org.spongepowered.api.event.entity.EntityBreedEvent;
+import org.spongepowered.api.event.entity.EntityChangeBlockEvent;
+import org.spongepowered.api.event.entity.EntityCollisionEvent;
+import org.spongepowered.api.event.entity.EntityCollisionWithBlockEvent;
+import org.spongepowered.api.event.entity.EntityCollisionWithEntityEvent;
+import org.spongepowered.api.event.entity.EntityConstructingEvent;
+import org.spongepowered.api.event.entity.EntityDeathEvent;
+import org.spongepowered.api.event.entity.EntityDismountEvent;
+import org.spongepowered.api.event.entity.EntityDisplaceEvent;
+import org.spongepowered.api.event.entity.EntityDropItemEvent;
+import org.spongepowered.api.event.entity.EntityHarvestBlockEvent;
+import org.spongepowered.api.event.entity.EntityInteractBlockEvent;
+import org.spongepowered.api.event.entity.EntityInteractEntityEvent;
+import org.spongepowered.api.event.entity.EntityInteractEvent;
+import org.spongepowered.api.event.entity.EntityLeashEvent;
+import org.spongepowered.api.event.entity.EntityMountEvent;
+import org.spongepowered.api.event.entity.EntityMoveEvent;
+import org.spongepowered.api.event.entity.EntityPickUpItemEvent;
+import org.spongepowered.api.event.entity.EntityPlaceBlockEvent;
+import org.spongepowered.api.event.entity.EntitySpawnEvent;
+import org.spongepowered.api.event.entity.EntityTameEvent;
+import org.spongepowered.api.event.entity.EntityTeleportEvent;
+import org.spongepowered.api.event.entity.EntityUnleashEvent;
+import org.spongepowered.api.event.entity.EntityUpdateEvent;
+import org.spongepowered.api.event.entity.ProjectileLaunchEvent;
+import org.spongepowered.api.event.entity.player.PlayerBreakBlockEvent;
+import org.spongepowered.api.event.entity.player.PlayerChangeBlockEvent;
+import org.spongepowered.api.event.entity.player.PlayerChangeGameModeEvent;
+import org.spongepowered.api.event.entity.player.PlayerChangeWorldEvent;
+import org.spongepowered.api.event.entity.player.PlayerChatEvent;
+import org.spongepowered.api.event.entity.player.PlayerDeathEvent;
+import org.spongepowered.api.event.entity.player.PlayerDropItemEvent;
+import org.spongepowered.api.event.entity.player.PlayerHarvestBlockEvent;
+import org.spongepowered.api.event.entity.player.PlayerInteractBlockEvent;
+import org.spongepowered.api.event.entity.player.PlayerInteractEntityEvent;
+import org.spongepowered.api.event.entity.player.PlayerInteractEvent;
+import org.spongepowered.api.event.entity.player.PlayerJoinEvent;
+import org.spongepowered.api.event.entity.player.PlayerMoveEvent;
+import org.spongepowered.api.event.entity.player.PlayerPickUpItemEvent;
+import org.spongepowered.api.event.entity.player.PlayerPlaceBlockEvent;
+import org.spongepowered.api.event.entity.player.PlayerQuitEvent;
+import org.spongepowered.api.event.entity.player.PlayerRespawnEvent;
+import org.spongepowered.api.event.entity.player.PlayerUpdateEvent;
+import org.spongepowered.api.event.entity.player.fishing.PlayerCastFishingLineEvent;
+import org.spongepowered.api.event.entity.player.fishing.PlayerHookedEntityEvent;
+import org.spongepowered.api.event.entity.player.fishing.PlayerRetractFishingLineEvent;
+import org.spongepowered.api.event.message.CommandEvent;
+import org.spongepowered.api.event.message.CommandSuggestionsEvent;
+import org.spongepowered.api.event.message.MessageEvent;
+import org.spongepowered.api.event.rcon.RconLoginEvent;
+import org.spongepowered.api.event.rcon.RconQuitEvent;
+import org.spongepowered.api.event.server.StatusPingEvent;
+import org.spongepowered.api.event.state.StateEvent;
+import org.spongepowered.api.event.statistic.AchievementEvent;
+import org.spongepowered.api.event.statistic.StatisticChangeEvent;
+import org.spongepowered.api.event.weather.LightningStrikeEvent;
+import org.spongepowered.api.event.weather.WeatherChangeEvent;
+import org.spongepowered.api.event.world.ChunkForcedEvent;
+import org.spongepowered.api.event.world.ChunkLoadEvent;
+import org.spongepowered.api.event.world.ChunkPostGenerateEvent;
+import org.spongepowered.api.event.world.ChunkPostPopulateEvent;
+import org.spongepowered.api.event.world.ChunkPreGenerateEvent;
+import org.spongepowered.api.event.world.ChunkPrePopulateEvent;
+import org.spongepowered.api.event.world.ChunkUnforcedEvent;
+import org.spongepowered.api.event.world.ChunkUnloadEvent;
+import org.spongepowered.api.event.world.GameRuleChangeEvent;
+import org.spongepowered.api.event.world.WorldCreateEvent;
+import org.spongepowered.api.event.world.WorldLoadEvent;
+import org.spongepowered.api.event.world.WorldUnloadEvent;
+import org.spongepowered.api.item.inventory.Inventory;
+import org.spongepowered.api.item.inventory.ItemStack;
+import org.spongepowered.api.item.inventory.type.TileEntityInventory;
+import org.spongepowered.api.statistic.Statistic;
+import org.spongepowered.api.statistic.achievement.Achievement;
+import org.spongepowered.api.status.StatusClient;
+import org.spongepowered.api.text.Text;
+import org.spongepowered.api.text.sink.MessageSink;
+import org.spongepowered.api.util.Direction;
+import org.spongepowered.api.util.annotation.BindProperty;
+import org.spongepowered.api.util.command.CommandResult;
+import org.spongepowered.api.util.command.CommandSource;
+import org.spongepowered.api.util.command.source.RconSource;
+import org.spongepowered.api.world.Chunk;
+import org.spongepowered.api.world.ChunkManager.LoadingTicket;
+import org.spongepowered.api.world.Location;
+import org.spongepowered.api.world.World;
+import org.spongepowered.api.world.WorldCreationSettings;
+import org.spongepowered.api.world.gen.Populator;
+import org.spongepowered.api.world.storage.WorldProperties;
+import org.spongepowered.api.world.weather.Weather;
+import org.spongepowered.api.world.weather.WeatherUniverse;
+
+import java.util.Collection;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+/**
+ * Typed factory interfaces for the events created by
+ * {@link SpongeEventFactory}.
+ *
+ * <p>The factories generated for these events implement the matching
+ * interface, which creates the event by passing the parameters straight to a
+ * generated constructor, rather than collecting them in a map first.</p>
+ */
+public final class TypedEventFactories {
+
+    private TypedEventFactories() {
+    }
+
+    /**
+     * Creates new instances of {@link StateEvent}s.
+     *
+     * <p>This factory is implemented for every type of state event.</p>
+     */
+    public interface StateFactory {
+
+        /**
+         * Creates a new {@link StateEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @return A new instance of the event
+         */
+        StateEvent create(@BindProperty("game") Game game);
+
+    }
+
+    /**
+     * Creates new instances of {@link BlockBreakEvent}.
+     */
+    public interface BlockBreakFactory {
+
+        /**
+         * Creates a new {@link BlockBreakEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param cause The cause of the event, can be null
+         * @param block The block affected by this event
+         * @param replacementBlock The block that will replace the existing block
+         * @param exp The experience to give, or take for negative values
+         * @return A new instance of the event
+         */
+        BlockBreakEvent create(@BindProperty("game") Game game, @BindProperty("cause") Cause cause, @BindProperty("block") Location block,
+                @BindProperty("replacementBlock") BlockSnapshot replacementBlock, @BindProperty("exp") int exp);
+
+    }
+
+    /**
+     * Creates new instances of {@link BlockBurnEvent}.
+     */
+    public interface BlockBurnFactory {
+
+        /**
+         * Creates a new {@link BlockBurnEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param cause The cause of the event, can be null
+         * @param block The block affected by this event
+         * @param replacementBlock The block that will replace the existing block
+         * @return A new instance of the event
+         */
+        BlockBurnEvent create(@BindProperty("game") Game game, @BindProperty("cause") Cause cause, @BindProperty("block") Location block,
+                @BindProperty("replacementBlock") BlockSnapshot replacementBlock);
+
+    }
+
+    /**
+     * Creates new instances of {@link BlockChangeEvent}.
+     */
+    public interface BlockChangeFactory {
+
+        /**
+         * Creates a new {@link BlockChangeEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param cause The cause of the event, can be null
+         * @param block The block affected by this event
+         * @param replacementBlock The block that will replace the existing block
+         * @return A new instance of the event
+         */
+        BlockChangeEvent create(@BindProperty("game") Game game, @BindProperty("cause") Cause cause, @BindProperty("block") Location block,
+                @BindProperty("replacementBlock") BlockSnapshot replacementBlock);
+
+    }
+
+    /**
+     * Creates new instances of {@link BlockDispenseEvent}.
+     */
+    public interface BlockDispenseFactory {
+
+        /**
+         * Creates a new {@link BlockDispenseEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param cause The cause of the event, can be null
+         * @param block The block affected by this event
+         * @param velocity The velocity to dispense the item at
+         * @param dispensedItem The item to dispense from the block
+         * @return A new instance of the event
+         */
+        BlockDispenseEvent create(@BindProperty("game") Game game, @BindProperty("cause") Cause cause, @BindProperty("block") Location block,
+                @BindProperty("velocity") Vector3d velocity, @BindProperty("dispensedItem") ItemStack dispensedItem);
+
+    }
+
+    /**
+     * Creates new instances of {@link BlockHarvestEvent}.
+     */
+    public interface BlockHarvestFactory {
+
+        /**
+         * Creates a new {@link BlockHarvestEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param cause The cause of the event, can be null
+         * @param block The block affected by this event
+         * @param droppedItems The items to drop
+         * @param dropChance The chance the items will drop, see
+         *        {@link BlockHarvestEvent#setDropChance(float)}
+         * @return A new instance of the event
+         */
+        BlockHarvestEvent create(@BindProperty("game") Game game, @BindProperty("cause") Cause cause, @BindProperty("block") Location block,
+                @BindProperty("droppedItems") Collection<ItemStack> droppedItems, @BindProperty("dropChance") float dropChance);
+
+    }
+
+    /**
+     * Creates new instances of {@link BlockIgniteEvent}.
+     */
+    public interface BlockIgniteFactory {
+
+        /**
+         * Creates a new {@link BlockIgniteEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param cause The cause of the event, can be null
+         * @param block The block affected by this event
+         * @return A new instance of the event
+         */
+        BlockIgniteEvent create(@BindProperty("game") Game game, @BindProperty("cause") Cause cause, @BindProperty("block") Location block);
+
+    }
+
+    /**
+     * Creates new instances of {@link BlockInteractEvent}.
+     */
+    public interface BlockInteractFactory {
+
+        /**
+         * Creates a new {@link BlockInteractEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param cause The cause of the event, can be null
+         * @param block The block affected by this event
+         * @param side The face interacted with as a direction
+         * @return A new instance of the event
+         */
+        BlockInteractEvent create(@BindProperty("game") Game game, @BindProperty("cause") Cause cause, @BindProperty("block") Location block,
+                @BindProperty("side") Direction side);
+
+    }
+
+    /**
+     * Creates new instances of {@link BlockMoveEvent}.
+     */
+    public interface BlockMoveFactory {
+
+        /**
+         * Creates a new {@link BlockMoveEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param cause The cause of the event, can be null
+         * @param blocks The blocks affected by this event
+         * @return A new instance of the event
+         */
+        BlockMoveEvent create(@BindProperty("game") Game game, @BindProperty("cause") Cause cause, @BindProperty("blocks") List<Location> blocks);
+
+    }
+
+    /**
+     * Creates new instances of {@link BlockPlaceEvent}.
+     */
+    public interface BlockPlaceFactory {
+
+        /**
+         * Creates a new {@link BlockPlaceEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param cause The cause of the event, can be null
+         * @param block The block affected by this event
+         * @param replacementBlock The block that will replace the existing block
+         * @return A new instance of the event
+         */
+        BlockPlaceEvent create(@BindProperty("game") Game game, @BindProperty("cause") Cause cause, @BindProperty("block") Location block,
+                @BindProperty("replacementBlock") BlockSnapshot replacementBlock);
+
+    }
+
+    /**
+     * Creates new instances of {@link BlockRandomTickEvent}.
+     */
+    public interface BlockRandomTickFactory {
+
+        /**
+         * Creates a new {@link BlockRandomTickEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param cause The cause of the event, can be null
+         * @param block The block affected by this event
+         * @return A new instance of the event
+         */
+        BlockRandomTickEvent create(@BindProperty("game") Game game, @BindProperty("cause") Cause cause, @BindProperty("block") Location block);
+
+    }
+
+    /**
+     * Creates new instances of {@link BlockUpdateEvent}.
+     */
+    public interface BlockUpdateFactory {
+
+        /**
+         * Creates a new {@link BlockUpdateEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param cause The cause of the event, can be null
+         * @param block The block affected by this event
+         * @param affectedBlocks The blocks affeceted by the event
+         * @return A new instance of the event
+         */
+        BlockUpdateEvent create(@BindProperty("game") Game game, @BindProperty("cause") Cause cause, @BindProperty("block") Location block,
+                @BindProperty("affectedBlocks") Collection<Location> affectedBlocks);
+
+    }
+
+    /**
+     * Creates new instances of {@link FloraGrowEvent}.
+     */
+    public interface FloraGrowFactory {
+
+        /**
+         * Creates a new {@link FloraGrowEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param cause The cause of the event, can be null
+         * @param block The block affected by this event
+         * @param replacementBlock The block that will replace the existing block
+         * @return A new instance of the event
+         */
+        FloraGrowEvent create(@BindProperty("game") Game game, @BindProperty("cause") Cause cause, @BindProperty("block") Location block,
+                @BindProperty("replacementBlock") BlockSnapshot replacementBlock);
+
+    }
+
+    /**
+     * Creates new instances of {@link FluidSpreadEvent}.
+     */
+    public interface FluidSpreadFactory {
+
+        /**
+         * Creates a new {@link FluidSpreadEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param cause The cause of the event, can be null
+         * @param blocks The blocks affected by this event
+         * @return A new instance of the event
+         */
+        FluidSpreadEvent create(@BindProperty("game") Game game, @BindProperty("cause") Cause cause, @BindProperty("blocks") List<Location> blocks);
+
+    }
+
+    /**
+     * Creates new instances of {@link LeafDecayEvent}.
+     */
+    public interface LeafDecayFactory {
+
+        /**
+         * Creates a new {@link LeafDecayEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param cause The cause of the event, can be null
+         * @param block The block affected by this event
+         * @param replacementBlock The block that will replace the existing block
+         * @return A new instance of the event
+         */
+        LeafDecayEvent create(@BindProperty("game") Game game, @BindProperty("cause") Cause cause, @BindProperty("block") Location block,
+                @BindProperty("replacementBlock") BlockSnapshot replacementBlock);
+
+    }
+
+    /**
+     * Creates new instances of {@link EntityBreakBlockEvent}.
+     */
+    public interface EntityBreakBlockFactory {
+
+        /**
+         * Creates a new {@link EntityBreakBlockEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param cause The cause of the event, can be null
+         * @param entity The entity involved in this event
+         * @param block The block affected by this event
+         * @param replacementBlock The block that will replace the existing block
+         * @param exp The experience to give, or take for negative values
+         * @return A new instance of the event
+         */
+        EntityBreakBlockEvent create(@BindProperty("game") Game game, @BindProperty("cause") Cause cause, @BindProperty("entity") Entity entity,
+                @BindProperty("block") Location block, @BindProperty("replacementBlock") BlockSnapshot replacementBlock,
+                @BindProperty("exp") int exp);
+
+    }
+
+    /**
+     * Creates new instances of {@link EntityBreedEvent}.
+     */
+    public interface EntityBreedFactory {
+
+        /**
+         * Creates a new {@link EntityBreedEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param entity The entity involved in this event
+         * @param parent The parent of the entity
+         * @param otherParent The other parent of the entity
+         * @return A new instance of the event
+         */
+        EntityBreedEvent create(@BindProperty("game") Game game, @BindProperty("entity") Ageable entity, @BindProperty("parent") Ageable parent,
+                @BindProperty("otherParent") Ageable otherParent);
+
+    }
+
+    /**
+     * Creates new instances of {@link EntityChangeBlockEvent}.
+     */
+    public interface EntityChangeBlockFactory {
+
+        /**
+         * Creates a new {@link EntityChangeBlockEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param cause The cause of the event, can be null
+         * @param entity The entity involved in this event
+         * @param block The block affected by this event
+         * @param replacementBlock The block that will replace the existing block
+         * @return A new instance of the event
+         */
+        EntityChangeBlockEvent create(@BindProperty("game") Game game, @BindProperty("cause") Cause cause, @BindProperty("entity") Entity entity,
+                @BindProperty("block") Location block, @BindProperty("replacementBlock") BlockSnapshot replacementBlock);
+
+    }
+
+    /**
+     * Creates new instances of {@link EntityCollisionEvent}.
+     */
+    public interface EntityCollisionFactory {
+
+        /**
+         * Creates a new {@link EntityCollisionEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param cause The cause of the event, can be null
+         * @param entity The entity involved in this event
+         * @return A new instance of the event
+         */
+        EntityCollisionEvent create(@BindProperty("game") Game game, @BindProperty("cause") Cause cause, @BindProperty("entity") Entity entity);
+
+    }
+
+    /**
+     * Creates new instances of {@link EntityCollisionWithBlockEvent}.
+     */
+    public interface EntityCollisionWithBlockFactory {
+
+        /**
+         * Creates a new {@link EntityCollisionWithBlockEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param cause The cause of the event, can be null
+         * @param entity The entity involved in this event
+         * @param block The block affected by this event
+         * @return A new instance of the event
+         */
+        EntityCollisionWithBlockEvent create(@BindProperty("game") Game game, @BindProperty("cause") Cause cause,
+                @BindProperty("entity") Entity entity, @BindProperty("block") Location block);
+
+    }
+
+    /**
+     * Creates new instances of {@link EntityCollisionWithEntityEvent}.
+     */
+    public interface EntityCollisionWithEntityFactory {
+
+        /**
+         * Creates a new {@link EntityCollisionWithEntityEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param cause The cause of the event, can be null
+         * @param entity The entity involved in this event
+         * @param collided The entity that was collided with
+         * @return A new instance of the event
+         */
+        EntityCollisionWithEntityEvent create(@BindProperty("game") Game game, @BindProperty("cause") Cause cause,
+                @BindProperty("entity") Entity entity, @BindProperty("collided") Entity collided);
+
+    }
+
+    /**
+     * Creates new instances of {@link EntityDeathEvent}.
+     */
+    public interface EntityDeathFactory {
+
+        /**
+         * Creates a new {@link EntityDeathEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param cause The cause of the event, can be null
+         * @param entity The entity involved in this event
+         * @param location The location of death
+         * @param exp The experience to give, or take for negative values
+         * @return A new instance of the event
+         */
+        EntityDeathEvent create(@BindProperty("game") Game game, @BindProperty("cause") Cause cause, @BindProperty("entity") Entity entity,
+                @BindProperty("location") Location location, @BindProperty("exp") int exp);
+
+    }
+
+    /**
+     * Creates new instances of {@link EntityDismountEvent}.
+     */
+    public interface EntityDismountFactory {
+
+        /**
+         * Creates a new {@link EntityDismountEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param entity The entity involved in this event
+         * @param dismounted The entity being dismounted from
+         * @return A new instance of the event
+         */
+        EntityDismountEvent create(@BindProperty("game") Game game, @BindProperty("entity") Entity entity,
+                @BindProperty("dismounted") Entity dismounted);
+
+    }
+
+    /**
+     * Creates new instances of {@link EntityDisplaceEvent}.
+     */
+    public interface EntityDisplaceFactory {
+
+        /**
+         * Creates a new {@link EntityDisplaceEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param entity The entity involved in this event
+         * @param oldLocation The previous location of the entity
+         * @param newLocation The new location of the entity
+         * @param rotation The rotation the entity is facing
+         * @return A new instance of the event
+         */
+        EntityDisplaceEvent create(@BindProperty("game") Game game, @BindProperty("entity") Entity entity,
+                @BindProperty("oldLocation") Location oldLocation, @BindProperty("newLocation") Location newLocation,
+                @BindProperty("rotation") Vector3d rotation);
+
+    }
+
+    /**
+     * Creates new instances of {@link EntityDropItemEvent}.
+     */
+    public interface EntityDropItemFactory {
+
+        /**
+         * Creates a new {@link EntityDropItemEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param cause The cause of this event
+         * @param entity The entity involved in this event
+         * @param droppedItems The items to drop
+         * @return A new instance of the event
+         */
+        EntityDropItemEvent create(@BindProperty("game") Game game, @BindProperty("cause") Cause cause, @BindProperty("entity") Entity entity,
+                @BindProperty("droppedItems") Collection<ItemStack> droppedItems);
+
+    }
+
+    /**
+     * Creates new instances of {@link EntityHarvestBlockEvent}.
+     */
+    public interface EntityHarvestBlockFactory {
+
+        /**
+         * Creates a new {@link EntityHarvestBlockEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param cause The cause of the event, can be null
+         * @param entity The entity involved in this event
+         * @param block The block affected by this event
+         * @param droppedItems The items to drop
+         * @param dropChance The chance the items will drop, see
+         *        {@link BlockHarvestEvent#setDropChance(float)}
+         * @return A new instance of the event
+         */
+        EntityHarvestBlockEvent create(@BindProperty("game") Game game, @BindProperty("cause") Cause cause, @BindProperty("entity") Entity entity,
+                @BindProperty("block") Location block, @BindProperty("droppedItems") Collection<ItemStack> droppedItems,
+                @BindProperty("dropChance") float dropChance);
+
+    }
+
+    /**
+     * Creates new instances of {@link EntityInteractBlockEvent}.
+     */
+    public interface EntityInteractBlockFactory {
+
+        /**
+         * Creates a new {@link EntityInteractBlockEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param cause The cause of the event, can be null
+         * @param entity The entity involved in this event
+         * @param block The block affected by this event
+         * @param side The side of the block affected
+         * @return A new instance of the event
+         */
+        EntityInteractBlockEvent create(@BindProperty("game") Game game, @BindProperty("cause") Cause cause, @BindProperty("entity") Entity entity,
+                @BindProperty("block") Location block, @BindProperty("side") Direction side);
+
+    }
+
+    /**
+     * Creates new instances of {@link EntityInteractEntityEvent}.
+     */
+    public interface EntityInteractEntityFactory {
+
+        /**
+         * Creates a new {@link EntityInteractEntityEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param entity The entity involved in this event
+         * @param targetEntity The entity being interacted with
+         * @return A new instance of the event
+         */
+        EntityInteractEntityEvent create(@BindProperty("game") Game game, @BindProperty("entity") Entity entity,
+                @BindProperty("targetEntity") Entity targetEntity);
+
+    }
+
+    /**
+     * Creates new instances of {@link EntityInteractEvent}.
+     */
+    public interface EntityInteractFactory {
+
+        /**
+         * Creates a new {@link EntityInteractEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param entity The entity involved in this event
+         * @return A new instance of the event
+         */
+        EntityInteractEvent create(@BindProperty("game") Game game, @BindProperty("entity") Entity entity);
+
+    }
+
+    /**
+     * Creates new instances of {@link EntityLeashEvent}.
+     */
+    public interface EntityLeashFactory {
+
+        /**
+         * Creates a new {@link EntityLeashEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param entity The entity involved in this event
+         * @param leashHolder The entity holding the leash
+         * @return A new instance of the event
+         */
+        EntityLeashEvent create(@BindProperty("game") Game game, @BindProperty("entity") Entity entity,
+                @BindProperty("leashHolder") Entity leashHolder);
+
+    }
+
+    /**
+     * Creates new instances of {@link EntityUnleashEvent}.
+     */
+    public interface EntityUnleashFactory {
+
+        /**
+         * Creates a new {@link EntityUnleashEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param entity The entity involved in this event
+         * @param leashHolder The entity holding the leash
+         * @return A new instance of the event
+         */
+        EntityUnleashEvent create(@BindProperty("game") Game game, @BindProperty("entity") Entity entity,
+                @BindProperty("leashHolder") Entity leashHolder);
+
+    }
+
+    /**
+     * Creates new instances of {@link EntityMountEvent}.
+     */
+    public interface EntityMountFactory {
+
+        /**
+         * Creates a new {@link EntityMountEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param entity The entity involved in this event
+         * @param vehicle The entity being mounted
+         * @return A new instance of the event
+         */
+        EntityMountEvent create(@BindProperty("game") Game game, @BindProperty("entity") Entity entity, @BindProperty("vehicle") Entity vehicle);
+
+    }
+
+    /**
+     * Creates new instances of {@link EntityMoveEvent}.
+     */
+    public interface EntityMoveFactory {
+
+        /**
+         * Creates a new {@link EntityMoveEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param entity The entity involved in this event
+         * @param oldLocation The previous location of the entity
+         * @param newLocation The new location of the entity
+         * @param rotation The rotation the entity is facing
+         * @return A new instance of the event
+         */
+        EntityMoveEvent create(@BindProperty("game") Game game, @BindProperty("entity") Entity entity,
+                @BindProperty("oldLocation") Location oldLocation, @BindProperty("newLocation") Location newLocation,
+                @BindProperty("rotation") Vector3d rotation);
+
+    }
+
+    /**
+     * Creates new instances of {@link EntityPickUpItemEvent}.
+     */
+    public interface EntityPickUpItemFactory {
+
+        /**
+         * Creates a new {@link EntityPickUpItemEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param entity The entity involved in this event
+         * @param items The items that will be picked up
+         * @param inventory The inventory involved with the event
+         * @return A new instance of the event
+         */
+        EntityPickUpItemEvent create(@BindProperty("game") Game game, @BindProperty("entity") Entity entity,
+                @BindProperty("items") Collection<Entity> items, @BindProperty("inventory") Inventory inventory);
+
+    }
+
+    /**
+     * Creates new instances of {@link EntityPlaceBlockEvent}.
+     */
+    public interface EntityPlaceBlockFactory {
+
+        /**
+         * Creates a new {@link EntityPlaceBlockEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param cause The cause of the event, can be null
+         * @param entity The entity involved in this event
+         * @param block The block affected by this event
+         * @param replacementBlock The block that will replace the existing block
+         * @return A new instance of the event
+         */
+        EntityPlaceBlockEvent create(@BindProperty("game") Game game, @BindProperty("cause") Cause cause, @BindProperty("entity") Entity entity,
+                @BindProperty("block") Location block, @BindProperty("replacementBlock") BlockSnapshot replacementBlock);
+
+    }
+
+    /**
+     * Creates new instances of {@link EntitySpawnEvent}.
+     */
+    public interface EntitySpawnFactory {
+
+        /**
+         * Creates a new {@link EntitySpawnEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param entity The entity involved in this event
+         * @param location The location the entity will spawn at
+         * @return A new instance of the event
+         */
+        EntitySpawnEvent create(@BindProperty("game") Game game, @BindProperty("entity") Entity entity, @BindProperty("location") Location location);
+
+    }
+
+    /**
+     * Creates new instances of {@link EntityConstructingEvent}.
+     */
+    public interface EntityConstructingFactory {
+
+        /**
+         * Creates a new {@link EntityConstructingEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param entity The entity involved in this event
+         * @return A new instance of the event
+         */
+        EntityConstructingEvent create(@BindProperty("game") Game game, @BindProperty("entity") Entity entity);
+
+    }
+
+    /**
+     * Creates new instances of {@link EntityTameEvent}.
+     */
+    public interface EntityTameFactory {
+
+        /**
+         * Creates a new {@link EntityTameEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param entity The entity involved in this event
+         * @param tamer The tamer that has tamed the entity
+         * @return A new instance of the event
+         */
+        EntityTameEvent create(@BindProperty("game") Game game, @BindProperty("entity") Entity entity, @BindProperty("tamer") Tamer tamer);
+
+    }
+
+    /**
+     * Creates new instances of {@link EntityTeleportEvent}.
+     */
+    public interface EntityTeleportFactory {
+
+        /**
+         * Creates a new {@link EntityTeleportEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param cause The cause of the event, can be null
+         * @param entity The entity involved in this event
+         * @param oldLocation The previous location of the entity
+         * @param newLocation The new location of the entity
+         * @param rotation The rotation the entity is facing
+         * @param keepsVelocity Whether the entity will maintain velocity
+         * @return A new instance of the event
+         */
+        EntityTeleportEvent create(@BindProperty("game") Game game, @BindProperty("cause") Cause cause, @BindProperty("entity") Entity entity,
+                @BindProperty("oldLocation") Location oldLocation, @BindProperty("newLocation") Location newLocation,
+                @BindProperty("rotation") Vector3d rotation, @BindProperty("keepsVelocity") boolean keepsVelocity);
+
+    }
+
+    /**
+     * Creates new instances of {@link EntityUpdateEvent}.
+     */
+    public interface EntityUpdateFactory {
+
+        /**
+         * Creates a new {@link EntityUpdateEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param entity The entity involved in this event
+         * @return A new instance of the event
+         */
+        EntityUpdateEvent create(@BindProperty("game") Game game, @BindProperty("entity") Entity entity);
+
+    }
+
+    /**
+     * Creates new instances of {@link ProjectileLaunchEvent}.
+     */
+    public interface ProjectileLaunchFactory {
+
+        /**
+         * Creates a new {@link ProjectileLaunchEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param cause The cause of the event, can be null
+         * @param entity The entity involved in this event
+         * @param source The projectile source
+         * @return A new instance of the event
+         */
+        ProjectileLaunchEvent create(@BindProperty("game") Game game, @BindProperty("cause") Cause cause,
+                @BindProperty({"entity", "launchedProjectile"}) Projectile entity, @BindProperty("source") ProjectileSource source);
+
+    }
+
+    /**
+     * Creates new instances of {@link CommandEvent}.
+     */
+    public interface CommandFactory {
+
+        /**
+         * Creates a new {@link CommandEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param arguments The arguments provided
+         * @param source The source of the command
+         * @param command The command name
+         * @param result The result of the command, or null
+         * @return A new instance of the event
+         */
+        CommandEvent create(@BindProperty("game") Game game, @BindProperty("arguments") String arguments,
+                @BindProperty("source") CommandSource source, @BindProperty("command") String command,
+                @BindProperty("result") @Nullable CommandResult result);
+
+    }
+
+    /**
+     * Creates new instances of {@link CommandSuggestionsEvent}.
+     */
+    public interface CommandSuggestionsFactory {
+
+        /**
+         * Creates a new {@link CommandSuggestionsEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param arguments The arguments provided
+         * @param source The source of the command
+         * @param command The command name
+         * @param suggestions The list of suggestion. Must be mutable.
+         * @return A new instance of the event
+         */
+        CommandSuggestionsEvent create(@BindProperty("game") Game game, @BindProperty("arguments") String arguments,
+                @BindProperty("source") CommandSource source, @BindProperty("command") String command,
+                @BindProperty("suggestions") List<String> suggestions);
+
+    }
+
+    /**
+     * Creates new instances of {@link MessageEvent}.
+     */
+    public interface MessageFactory {
+
+        /**
+         * Creates a new {@link MessageEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param source The source of the message
+         * @param message The message to say
+         * @param sink The destination for the message
+         * @return A new instance of the event
+         */
+        MessageEvent create(@BindProperty("game") Game game, @BindProperty("source") CommandSource source,
+                @BindProperty({"message", "newMessage"}) Text message, @BindProperty("sink") MessageSink sink);
+
+    }
+
+    /**
+     * Creates new instances of {@link PlayerBreakBlockEvent}.
+     */
+    public interface PlayerBreakBlockFactory {
+
+        /**
+         * Creates a new {@link PlayerBreakBlockEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param cause The cause of the event, can be null
+         * @param player The player involved in this event
+         * @param blockFace The block face the player was breaking
+         * @param block The block affected by this event
+         * @param replacementBlock The block that will replace the existing block
+         * @param exp The experience to give, or take for negative values
+         * @return A new instance of the event
+         */
+        PlayerBreakBlockEvent create(@BindProperty("game") Game game, @BindProperty("cause") Cause cause,
+                @BindProperty({"entity", "user"}) Player player, @BindProperty("blockFace") Direction blockFace,
+                @BindProperty("block") Location block, @BindProperty("replacementBlock") BlockSnapshot replacementBlock,
+                @BindProperty("exp") int exp);
+
+    }
+
+    /**
+     * Creates new instances of {@link PlayerCastFishingLineEvent}.
+     */
+    public interface PlayerCastFishingLineFactory {
+
+        /**
+         * Creates a new {@link PlayerCastFishingLineEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param player The player involved in this event
+         * @param fishHook The {@link FishHook} effected by this event
+         * @return A new instance of the event
+         */
+        PlayerCastFishingLineEvent create(@BindProperty("game") Game game, @BindProperty({"entity", "user"}) Player player,
+                @BindProperty("fishHook") FishHook fishHook);
+
+    }
+
+    /**
+     * Creates new instances of {@link PlayerHookedEntityEvent}.
+     */
+    public interface PlayerHookedEntityFactory {
+
+        /**
+         * Creates a new {@link PlayerHookedEntityEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param player The player involved in this event
+         * @param fishHook The {@link FishHook} affected by this event
+         * @param caughtEntity The {@link Entity} caught by the player, can be null
+         * @return A new instance of the event
+         */
+        PlayerHookedEntityEvent create(@BindProperty("game") Game game, @BindProperty({"entity", "user"}) Player player,
+                @BindProperty("fishHook") FishHook fishHook, @BindProperty("caughtEntity") Entity caughtEntity);
+
+    }
+
+    /**
+     * Creates new instances of {@link PlayerRetractFishingLineEvent}.
+     */
+    public interface PlayerRetractFishingLineFactory {
+
+        /**
+         * Creates a new {@link PlayerRetractFishingLineEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param player The player involved in this event
+         * @param fishHook The {@link FishHook} affected by this event
+         * @param caughtItem The {@link ItemStack} caught by the player, can be null
+         * @param caughtEntity The {@link Entity} caught by the player, can be null
+         * @param exp The experience to give, or take for negative values
+         * @return A new instance of the event
+         */
+        PlayerRetractFishingLineEvent create(@BindProperty("game") Game game, @BindProperty({"entity", "user"}) Player player,
+                @BindProperty("fishHook") FishHook fishHook, @BindProperty("caughtItem") ItemStack caughtItem,
+                @BindProperty("caughtEntity") Entity caughtEntity, @BindProperty("exp") int exp);
+
+    }
+
+    /**
+     * Creates new instances of {@link PlayerChangeBlockEvent}.
+     */
+    public interface PlayerChangeBlockFactory {
+
+        /**
+         * Creates a new {@link PlayerChangeBlockEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param cause The cause of the event, can be null
+         * @param player The player involved in this event
+         * @param blockFace The face of the block the player was changing
+         * @param block The block affected by this event
+         * @param replacementBlock The block that will replace the existing block
+         * @return A new instance of the event
+         */
+        PlayerChangeBlockEvent create(@BindProperty("game") Game game, @BindProperty("cause") Cause cause,
+                @BindProperty({"entity", "user"}) Player player, @BindProperty("blockFace") Direction blockFace,
+                @BindProperty("block") Location block, @BindProperty("replacementBlock") BlockSnapshot replacementBlock);
+
+    }
+
+    /**
+     * Creates new instances of {@link PlayerChangeGameModeEvent}.
+     */
+    public interface PlayerChangeGameModeFactory {
+
+        /**
+         * Creates a new {@link PlayerChangeGameModeEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param player The player involved in this event
+         * @param newGameMode The game mode to change to
+         * @param oldGameMode The Player's old game mode
+         * @return A new instance of the event
+         */
+        PlayerChangeGameModeEvent create(@BindProperty("game") Game game, @BindProperty({"entity", "user"}) Player player,
+                @BindProperty("newGameMode") GameMode newGameMode, @BindProperty("oldGameMode") GameMode oldGameMode);
+
+    }
+
+    /**
+     * Creates new instances of {@link PlayerChangeWorldEvent}.
+     */
+    public interface PlayerChangeWorldFactory {
+
+        /**
+         * Creates a new {@link PlayerChangeWorldEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param player The player involved in this event
+         * @param fromWorld The world the player was in
+         * @param toWorld The world the player is changing to
+         * @return A new instance of the event
+         */
+        PlayerChangeWorldEvent create(@BindProperty("game") Game game, @BindProperty({"entity", "user"}) Player player,
+                @BindProperty("fromWorld") World fromWorld, @BindProperty("toWorld") World toWorld);
+
+    }
+
+    /**
+     * Creates new instances of {@link PlayerChatEvent}.
+     */
+    public interface PlayerChatFactory {
+
+        /**
+         * Creates a new {@link PlayerChatEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param player The player involved in this event
+         * @param message The message to say
+         * @param unformattedMessage The unformatted message
+         * @param sink The destination for the message
+         * @return A new instance of the event
+         */
+        PlayerChatEvent create(@BindProperty("game") Game game, @BindProperty({"entity", "source", "user"}) Player player,
+                @BindProperty({"message", "newMessage"}) Text message, @BindProperty("unformattedMessage") Text unformattedMessage,
+                @BindProperty("sink") MessageSink sink);
+
+    }
+
+    /**
+     * Creates new instances of {@link PlayerDeathEvent}.
+     */
+    public interface PlayerDeathFactory {
+
+        /**
+         * Creates a new {@link PlayerDeathEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param cause The cause of the event, can be null
+         * @param player The player involved in this event
+         * @param location The location of death
+         * @param message The message to show to the player because they died
+         * @param sink The destination for the message
+         * @param exp The experience to give, or take for negative values
+         * @param newExperience The new experience the player will have towards the next level
+         * @param newLevel The new level the player will have after death
+         * @param keepsLevel Whether the player keeps all of their exp on death
+         * @param keepsInventory Whether the player should keep inventory
+         * @return A new instance of the event
+         */
+        PlayerDeathEvent create(@BindProperty("game") Game game, @BindProperty("cause") Cause cause,
+                @BindProperty({"entity", "source", "user"}) Player player, @BindProperty("location") Location location,
+                @BindProperty({"message", "newMessage"}) Text message, @BindProperty("sink") MessageSink sink, @BindProperty("exp") int exp,
+                @BindProperty("newExperience") int newExperience, @BindProperty("newLevel") int newLevel,
+                @BindProperty("keepsLevel") boolean keepsLevel, @BindProperty("keepsInventory") boolean keepsInventory);
+
+    }
+
+    /**
+     * Creates new instances of {@link PlayerDropItemEvent}.
+     */
+    public interface PlayerDropItemFactory {
+
+        /**
+         * Creates a new {@link PlayerDropItemEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param player The player involved in this event
+         * @param cause The cause of the event
+         * @param droppedItems The items to drop
+         * @return A new instance of the event
+         */
+        PlayerDropItemEvent create(@BindProperty("game") Game game, @BindProperty({"entity", "user"}) Player player,
+                @BindProperty("cause") Cause cause, @BindProperty("droppedItems") Collection<ItemStack> droppedItems);
+
+    }
+
+    /**
+     * Creates new instances of {@link PlayerHarvestBlockEvent}.
+     */
+    public interface PlayerHarvestBlockFactory {
+
+        /**
+         * Creates a new {@link PlayerHarvestBlockEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param cause The cause of the event, can be null
+         * @param player The player involved in this event
+         * @param block The block affected by this event
+         * @param droppedItems The items to drop
+         * @param dropChance The chance the items will drop, see
+         *        {@link BlockHarvestEvent#setDropChance(float)}
+         * @param silkTouch Whether the player is harvesting with silk touch
+         * @return A new instance of the event
+         */
+        PlayerHarvestBlockEvent create(@BindProperty("game") Game game, @BindProperty("cause") Cause cause,
+                @BindProperty({"entity", "user"}) Player player, @BindProperty("block") Location block,
+                @BindProperty("droppedItems") Collection<ItemStack> droppedItems, @BindProperty("dropChance") float dropChance,
+                @BindProperty("silkTouch") boolean silkTouch);
+
+    }
+
+    /**
+     * Creates new instances of {@link PlayerInteractBlockEvent}.
+     */
+    public interface PlayerInteractBlockFactory {
+
+        /**
+         * Creates a new {@link PlayerInteractBlockEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param cause The cause of the event, can be null
+         * @param player The player involved in this event
+         * @param block The block affected by this event
+         * @param side The face interacted with as a direction
+         * @param interactionType The type of interaction used
+         * @param location The location of the interaction
+         * @return A new instance of the event
+         */
+        PlayerInteractBlockEvent create(@BindProperty("game") Game game, @BindProperty("cause") Cause cause,
+                @BindProperty({"entity", "user"}) Player player, @BindProperty("block") Location block, @BindProperty("side") Direction side,
+                @BindProperty("interactionType") EntityInteractionType interactionType, @BindProperty("clickedPosition") @Nullable Vector3d location);
+
+    }
+
+    /**
+     * Creates new instances of {@link PlayerInteractEntityEvent}.
+     */
+    public interface PlayerInteractEntityFactory {
+
+        /**
+         * Creates a new {@link PlayerInteractEntityEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param player The player involved in this event
+         * @param targetEntity The entity being interacted with
+         * @param interactionType The type of interaction used
+         * @param location The location of the targeted interaction
+         * @return A new instance of the event
+         */
+        PlayerInteractEntityEvent create(@BindProperty("game") Game game, @BindProperty({"entity", "user"}) Player player,
+                @BindProperty("targetEntity") Entity targetEntity, @BindProperty("interactionType") EntityInteractionType interactionType,
+                @BindProperty("clickedPosition") @Nullable Vector3d location);
+
+    }
+
+    /**
+     * Creates new instances of {@link PlayerInteractEvent}.
+     */
+    public interface PlayerInteractFactory {
+
+        /**
+         * Creates a new {@link PlayerInteractEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param player The player involved in this event
+         * @param interactionType The type of interaction used
+         * @param location The location of the interaction
+         * @return A new instance of the event
+         */
+        PlayerInteractEvent create(@BindProperty("game") Game game, @BindProperty({"entity", "user"}) Player player,
+                @BindProperty("interactionType") EntityInteractionType interactionType, @BindProperty("clickedPosition") @Nullable Vector3d location);
+
+    }
+
+    /**
+     * Creates new instances of {@link PlayerJoinEvent}.
+     */
+    public interface PlayerJoinFactory {
+
+        /**
+         * Creates a new {@link PlayerJoinEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param player The player involved in this event
+         * @param location The location of where the player is joining
+         * @param message The message displayed when the player joins
+         * @param sink The destination for the message
+         * @return A new instance of the event
+         */
+        PlayerJoinEvent create(@BindProperty("game") Game game, @BindProperty({"entity", "source", "user"}) Player player,
+                @BindProperty("location") Location location, @BindProperty({"message", "newMessage"}) Text message,
+                @BindProperty("sink") MessageSink sink);
+
+    }
+
+    /**
+     * Creates new instances of {@link PlayerMoveEvent}.
+     */
+    public interface PlayerMoveFactory {
+
+        /**
+         * Creates a new {@link PlayerMoveEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param player The player involved in this event
+         * @param oldLocation The previous location of the entity
+         * @param newLocation The new location of the entity
+         * @param rotation The rotation the entity is facing
+         * @return A new instance of the event
+         */
+        PlayerMoveEvent create(@BindProperty("game") Game game, @BindProperty({"entity", "user"}) Player player,
+                @BindProperty("oldLocation") Location oldLocation, @BindProperty("newLocation") Location newLocation,
+                @BindProperty("rotation") Vector3d rotation);
+
+    }
+
+    /**
+     * Creates new instances of {@link PlayerPickUpItemEvent}.
+     */
+    public interface PlayerPickUpItemFactory {
+
+        /**
+         * Creates a new {@link PlayerPickUpItemEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param player The player involved in this event
+         * @param items The items that will be picked up
+         * @param inventory The inventory involved with the event
+         * @return A new instance of the event
+         */
+        PlayerPickUpItemEvent create(@BindProperty("game") Game game, @BindProperty({"entity", "user"}) Player player,
+                @BindProperty("items") Collection<Entity> items, @BindProperty("inventory") Inventory inventory);
+
+    }
+
+    /**
+     * Creates new instances of {@link PlayerPlaceBlockEvent}.
+     */
+    public interface PlayerPlaceBlockFactory {
+
+        /**
+         * Creates a new {@link PlayerPlaceBlockEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param cause The cause of the event, can be null
+         * @param player The player involved in this event
+         * @param block The block affected by this event
+         * @param replacementBlock The block that will replace the existing block
+         * @param blockFace The face the block was placed
+         * @return A new instance of the event
+         */
+        PlayerPlaceBlockEvent create(@BindProperty("game") Game game, @BindProperty("cause") Cause cause,
+                @BindProperty({"entity", "user"}) Player player, @BindProperty("block") Location block,
+                @BindProperty("replacementBlock") BlockSnapshot replacementBlock, @BindProperty("blockFace") Direction blockFace);
+
+    }
+
+    /**
+     * Creates new instances of {@link PlayerQuitEvent}.
+     */
+    public interface PlayerQuitFactory {
+
+        /**
+         * Creates a new {@link PlayerQuitEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param player The player involved in this event
+         * @param message The message to display to the player because they quit
+         * @param sink The destination for the message
+         * @return A new instance of the event
+         */
+        PlayerQuitEvent create(@BindProperty("game") Game game, @BindProperty({"entity", "source", "user"}) Player player,
+                @BindProperty({"message", "newMessage"}) Text message, @BindProperty("sink") MessageSink sink);
+
+    }
+
+    /**
+     * Creates new instances of {@link PlayerRespawnEvent}.
+     */
+    public interface PlayerRespawnFactory {
+
+        /**
+         * Creates a new {@link PlayerRespawnEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param player The player involved in this event
+         * @param bedSpawn Whether this respawn is to a bed
+         * @param respawnLocation The location the player will spawn in
+         * @return A new instance of the event
+         */
+        PlayerRespawnEvent create(@BindProperty("game") Game game, @BindProperty({"entity", "user"}) Player player,
+                @BindProperty("bedSpawn") boolean bedSpawn, @BindProperty({"respawnLocation", "newRespawnLocation"}) Location respawnLocation);
+
+    }
+
+    /**
+     * Creates new instances of {@link PlayerUpdateEvent}.
+     */
+    public interface PlayerUpdateFactory {
+
+        /**
+         * Creates a new {@link PlayerUpdateEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param player The player involved in this event
+         * @return A new instance of the event
+         */
+        PlayerUpdateEvent create(@BindProperty("game") Game game, @BindProperty({"entity", "user"}) Player player);
+
+    }
+
+    /**
+     * Creates new instances of {@link LightningStrikeEvent}.
+     */
+    public interface LightningStrikeFactory {
+
+        /**
+         * Creates a new {@link LightningStrikeEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param weatherUniverse The volume the weather changed in
+         * @param lightningStrike The lightning entity that struck
+         * @param struckEntities The entities the lightning had struck
+         * @param struckBlocks The blocks the lightning had struck
+         * @return A new instance of the event
+         */
+        LightningStrikeEvent create(@BindProperty("game") Game game, @BindProperty("weatherUniverse") WeatherUniverse weatherUniverse,
+                @BindProperty("lightningStrike") Lightning lightningStrike, @BindProperty("struckEntities") List<Entity> struckEntities,
+                @BindProperty("struckBlocks") List<Location> struckBlocks);
+
+    }
+
+    /**
+     * Creates new instances of {@link AchievementEvent}.
+     */
+    public interface AchievementFactory {
+
+        /**
+         * Creates a new {@link AchievementEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param player The player involved in this event
+         * @param achievement The achievement being added to the player
+         * @return A new instance of the event
+         */
+        AchievementEvent create(@BindProperty("game") Game game, @BindProperty({"entity", "user"}) Player player,
+                @BindProperty("achievement") Achievement achievement);
+
+    }
+
+    /**
+     * Creates new instances of {@link StatisticChangeEvent}.
+     */
+    public interface StatisticChangeFactory {
+
+        /**
+         * Creates a new {@link StatisticChangeEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param player The player involved in this event
+         * @param changedStatistic Any statistics changed by this event
+         * @param newValue The new value of the statistic
+         * @param oldValue The old value of the statistic
+         * @return A new instance of the event
+         */
+        StatisticChangeEvent create(@BindProperty("game") Game game, @BindProperty({"entity", "user"}) Player player,
+                @BindProperty("changedStatistic") Statistic changedStatistic, @BindProperty("newValue") long newValue,
+                @BindProperty("oldValue") long oldValue);
+
+    }
+
+    /**
+     * Creates new instances of {@link WeatherChangeEvent}.
+     */
+    public interface WeatherChangeFactory {
+
+        /**
+         * Creates a new {@link WeatherChangeEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param weatherUniverse The volume the weather changed in
+         * @param initialWeather The previous weather
+         * @param resultingWeather The weather to change to
+         * @param duration The lenfth of the resulting weather, in ticks
+         * @return A new instance of the event
+         */
+        WeatherChangeEvent create(@BindProperty("game") Game game, @BindProperty("weatherUniverse") WeatherUniverse weatherUniverse,
+                @BindProperty("initialWeather") Weather initialWeather, @BindProperty("resultingWeather") Weather resultingWeather,
+                @BindProperty("duration") int duration);
+
+    }
+
+    /**
+     * Creates new instances of {@link ChunkForcedEvent}.
+     */
+    public interface ChunkForcedFactory {
+
+        /**
+         * Creates a new {@link ChunkForcedEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param ticket The ticket that will load the chunk
+         * @param chunkCoords The coordinates of the chunk being added
+         * @return A new instance of the event
+         */
+        ChunkForcedEvent create(@BindProperty("game") Game game, @BindProperty("ticket") LoadingTicket ticket,
+                @BindProperty("chunkCoords") Vector3i chunkCoords);
+
+    }
+
+    /**
+     * Creates new instances of {@link ChunkLoadEvent}.
+     */
+    public interface ChunkLoadFactory {
+
+        /**
+         * Creates a new {@link ChunkLoadEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param chunk The chunk involved in this event
+         * @return A new instance of the event
+         */
+        ChunkLoadEvent create(@BindProperty("game") Game game, @BindProperty("chunk") Chunk chunk);
+
+    }
+
+    /**
+     * Creates new instances of {@link ChunkPostGenerateEvent}.
+     */
+    public interface ChunkPostGenerateFactory {
+
+        /**
+         * Creates a new {@link ChunkPostGenerateEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param chunk The chunk involved in this event
+         * @return A new instance of the event
+         */
+        ChunkPostGenerateEvent create(@BindProperty("game") Game game, @BindProperty("chunk") Chunk chunk);
+
+    }
+
+    /**
+     * Creates new instances of {@link ChunkPostPopulateEvent}.
+     */
+    public interface ChunkPostPopulateFactory {
+
+        /**
+         * Creates a new {@link ChunkPostPopulateEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param chunk The chunk involved in this event
+         * @return A new instance of the event
+         */
+        ChunkPostPopulateEvent create(@BindProperty("game") Game game, @BindProperty("chunk") Chunk chunk);
+
+    }
+
+    /**
+     * Creates new instances of {@link ChunkPreGenerateEvent}.
+     */
+    public interface ChunkPreGenerateFactory {
+
+        /**
+         * Creates a new {@link ChunkPreGenerateEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param chunk The chunk involved in this event
+         * @return A new instance of the event
+         */
+        ChunkPreGenerateEvent create(@BindProperty("game") Game game, @BindProperty("chunk") Chunk chunk);
+
+    }
+
+    /**
+     * Creates new instances of {@link ChunkPrePopulateEvent}.
+     */
+    public interface ChunkPrePopulateFactory {
+
+        /**
+         * Creates a new {@link ChunkPrePopulateEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param chunk The chunk involved in this event
+         * @param pendingPopulators All populator's that will populate the chunk
+         * @return A new instance of the event
+         */
+        ChunkPrePopulateEvent create(@BindProperty("game") Game game, @BindProperty("chunk") Chunk chunk,
+                @BindProperty("pendingPopulators") List<Populator> pendingPopulators);
+
+    }
+
+    /**
+     * Creates new instances of {@link ChunkUnforcedEvent}.
+     */
+    public interface ChunkUnforcedFactory {
+
+        /**
+         * Creates a new {@link ChunkUnforcedEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param chunkCoords The coordinates of the removed chunk
+         * @param ticket The ticket the chunk was removed from
+         * @return A new instance of the event
+         */
+        ChunkUnforcedEvent create(@BindProperty("game") Game game, @BindProperty("chunkCoords") Vector3i chunkCoords,
+                @BindProperty("ticket") LoadingTicket ticket);
+
+    }
+
+    /**
+     * Creates new instances of {@link ChunkUnloadEvent}.
+     */
+    public interface ChunkUnloadFactory {
+
+        /**
+         * Creates a new {@link ChunkUnloadEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param chunk The chunk involved in this event
+         * @return A new instance of the event
+         */
+        ChunkUnloadEvent create(@BindProperty("game") Game game, @BindProperty("chunk") Chunk chunk);
+
+    }
+
+    /**
+     * Creates new instances of {@link GameRuleChangeEvent}.
+     */
+    public interface GameRuleChangeFactory {
+
+        /**
+         * Creates a new {@link GameRuleChangeEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param world The world involved in this event
+         * @param name The name of the game rule
+         * @param oldValue The previous value for the rule
+         * @param newValue The new value for the rule
+         * @return A new instance of the event
+         */
+        GameRuleChangeEvent create(@BindProperty("game") Game game, @BindProperty("world") World world, @BindProperty("name") String name,
+                @BindProperty("oldValue") String oldValue, @BindProperty("newValue") String newValue);
+
+    }
+
+    /**
+     * Creates new instances of {@link WorldCreateEvent}.
+     */
+    public interface WorldCreateFactory {
+
+        /**
+         * Creates a new {@link WorldCreateEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param properties The properties of the new world
+         * @param settings The creation settings
+         * @return A new instance of the event
+         */
+        WorldCreateEvent create(@BindProperty("game") Game game, @BindProperty("worldProperties") WorldProperties properties,
+                @BindProperty("worldCreationSettings") WorldCreationSettings settings);
+
+    }
+
+    /**
+     * Creates new instances of {@link WorldLoadEvent}.
+     */
+    public interface WorldLoadFactory {
+
+        /**
+         * Creates a new {@link WorldLoadEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param world The world involved in this event
+         * @return A new instance of the event
+         */
+        WorldLoadEvent create(@BindProperty("game") Game game, @BindProperty("world") World world);
+
+    }
+
+    /**
+     * Creates new instances of {@link WorldUnloadEvent}.
+     */
+    public interface WorldUnloadFactory {
+
+        /**
+         * Creates a new {@link WorldUnloadEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param world The world involved in this event
+         * @return A new instance of the event
+         */
+        WorldUnloadEvent create(@BindProperty("game") Game game, @BindProperty("world") World world);
+
+    }
+
+    /**
+     * Creates new instances of {@link StatusPingEvent}.
+     */
+    public interface StatusPingFactory {
+
+        /**
+         * Creates a new {@link StatusPingEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param client The client that is pinging the server
+         * @param response The response to send to the client
+         * @return A new instance of the event
+         */
+        StatusPingEvent create(@BindProperty("game") Game game, @BindProperty("client") StatusClient client,
+                @BindProperty("response") StatusPingEvent.Response response);
+
+    }
+
+    /**
+     * Creates new instances of {@link BrewingStandBrewEvent}.
+     */
+    public interface BrewingStandBrewFactory {
+
+        /**
+         * Creates a new {@link BrewingStandBrewEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param brewingStand The {@link BrewingStand} involved in this event
+         * @param data The brewing stand data
+         * @param sourceItems The {@link ItemStack}s being modified
+         * @param fuelSource The {@link ItemStack} used as the reagent to modify the source items
+         * @param brewedItems The {@link ItemStack}s produced as a result
+         * @param cause The cause
+         * @param inventory The inventory of the brewing stand
+         * @param block The location of the brewing stand
+         * @return A new instance of the event
+         */
+        BrewingStandBrewEvent create(@BindProperty("game") Game game, @BindProperty("tile") BrewingStand brewingStand,
+                @BindProperty("currentData") BrewingData data, @BindProperty("sourceItems") List<ItemStack> sourceItems,
+                @BindProperty("fuelSource") ItemStack fuelSource, @BindProperty({"brewedItems", "results"}) List<ItemStack> brewedItems,
+                @BindProperty("cause") Cause cause, @BindProperty("inventory") TileEntityInventory<TileEntityCarrier> inventory,
+                @BindProperty("block") Location block);
+
+    }
+
+    /**
+     * Creates new instances of {@link FurnaceConsumeFuelEvent}.
+     */
+    public interface FurnaceConsumeFuelFactory {
+
+        /**
+         * Creates a new {@link FurnaceConsumeFuelEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param furnace The {@link Furnace} involved in this event
+         * @param data The furnace data
+         * @param burnedItem The {@link ItemStack} consumed for fuel
+         * @param remainingFuel The {@link ItemStack} representing the remaining fuel, can be null
+         * @param cause The cause
+         * @param inventory The inventory of the furnace
+         * @param block The location of the furnace
+         * @return A new instance of the event
+         */
+        FurnaceConsumeFuelEvent create(@BindProperty("game") Game game, @BindProperty("tile") Furnace furnace,
+                @BindProperty("currentData") FurnaceData data, @BindProperty("burnedItem") ItemStack burnedItem,
+                @BindProperty({"remainingFuel", "result"}) ItemStack remainingFuel, @BindProperty("cause") Cause cause,
+                @BindProperty("inventory") TileEntityInventory<TileEntityCarrier> inventory, @BindProperty("block") Location block);
+
+    }
+
+    /**
+     * Creates new instances of {@link FurnaceSmeltItemEvent}.
+     */
+    public interface FurnaceSmeltItemFactory {
+
+        /**
+         * Creates a new {@link FurnaceSmeltItemEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param furnace The {@link Furnace} involved in this event
+         * @param data The furnace data
+         * @param cookedItem The {@link ItemStack} resulting from smelting the source item
+         * @param sourceItem The {@link ItemStack} smelted to create the cooked item
+         * @param cause The cause
+         * @param inventory The inventory of the furnace
+         * @param block The location of the furnace
+         * @return A new instance of the event
+         */
+        FurnaceSmeltItemEvent create(@BindProperty("game") Game game, @BindProperty("tile") Furnace furnace,
+                @BindProperty("currentData") FurnaceData data, @BindProperty({"cookedItem", "result"}) ItemStack cookedItem,
+                @BindProperty("sourceItem") ItemStack sourceItem, @BindProperty("cause") Cause cause,
+                @BindProperty("inventory") TileEntityInventory<TileEntityCarrier> inventory, @BindProperty("block") Location block);
+
+    }
+
+    /**
+     * Creates new instances of {@link SignChangeEvent}.
+     */
+    public interface SignChangeFactory {
+
+        /**
+         * Creates a new {@link SignChangeEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param cause The cause
+         * @param sign The {@link Sign}
+         * @param currentData The current sign data
+         * @param newData The new sign data
+         * @return A new instance of the event
+         */
+        SignChangeEvent create(@BindProperty("game") Game game, @BindProperty("cause") Cause cause, @BindProperty("tile") Sign sign,
+                @BindProperty("currentData") SignData currentData, @BindProperty("newData") SignData newData);
+
+    }
+
+    /**
+     * Creates new instances of {@link RconLoginEvent}.
+     */
+    public interface RconLoginFactory {
+
+        /**
+         * Creates a new {@link RconLoginEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param source The {@link RconSource} that caused this event
+         * @return A new instance of the event
+         */
+        RconLoginEvent create(@BindProperty("game") Game game, @BindProperty("source") RconSource source);
+
+    }
+
+    /**
+     * Creates new instances of {@link RconQuitEvent}.
+     */
+    public interface RconQuitFactory {
+
+        /**
+         * Creates a new {@link RconQuitEvent}.
+         *
+         * @param game The game instance for this {@link GameEvent}
+         * @param source The {@link RconSource} that caused this event
+         * @return A new instance of the event
+         */
+        RconQuitEvent create(@BindProperty("game") Game game, @BindProperty("source") RconSource source);
+
+    }
+}
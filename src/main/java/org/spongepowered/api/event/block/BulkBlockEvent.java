@@ -30,6 +30,7 @@
 import org.spongepowered.api.event.cause.CauseTracked;
 import org.spongepowered.api.util.annotation.ImplementedBy;
 import org.spongepowered.api.util.event.superclasses.AbstractBulkBlockEvent;
+import org.spongepowered.api.world.BlockLocationList;
 import org.spongepowered.api.world.Location;
 
 import java.util.List;
@@ -48,6 +49,9 @@ public interface BulkBlockEvent extends GameEvent, CauseTracked {
      * the list is dependent on the event, though it may "cancel" the event
      * for the removed block .</p>
      *
+     * <p>The list may be a {@link BlockLocationList}, in which case the
+     * {@link Location}s are only created as they are retrieved.</p>
+     *
      * @return An list of blocks
      */
     List<Location> getBlocks();
@@ -26,6 +26,7 @@
 
 import com.google.common.base.Optional;
 import org.spongepowered.api.GameProfile;
+import org.spongepowered.api.event.AsyncSafe;
 import org.spongepowered.api.event.Cancellable;
 import org.spongepowered.api.event.GameEvent;
 import org.spongepowered.api.status.Favicon;
@@ -44,6 +45,7 @@
  * sending any response.
  * </p>
  */
+@AsyncSafe
 public interface StatusPingEvent extends GameEvent, Cancellable {
 
     /**
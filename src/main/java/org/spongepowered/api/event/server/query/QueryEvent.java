@@ -24,6 +24,7 @@
  */
 package org.spongepowered.api.event.server.query;
 
+import org.spongepowered.api.event.AsyncSafe;
 import org.spongepowered.api.event.GameEvent;
 
 import java.net.InetSocketAddress;
@@ -31,6 +32,7 @@
 /**
  * Called when the server is queried through the Query protocol.
  */
+@AsyncSafe
 public interface QueryEvent extends GameEvent {
 
     /**
@@ -232,10 +232,12 @@ public boolean containsMapping(CommandMapping mapping) {
     @Override
     public Optional<CommandResult> process(CommandSource source, String commandLine) {
         final String[] argSplit = commandLine.split(" ", 2);
-        final CommandEvent event = SpongeEventFactory.createCommand(this.game, argSplit.length > 1 ? argSplit[1] : "", source, argSplit[0], null);
-        this.game.getEventManager().post(event);
-        if (event.isCancelled()) {
-            return event.getResult();
+        if (this.game.getEventManager().hasListeners(CommandEvent.class)) {
+            final CommandEvent event = SpongeEventFactory.createCommand(this.game, argSplit.length > 1 ? argSplit[1] : "", source, argSplit[0], null);
+            this.game.getEventManager().post(event);
+            if (event.isCancelled()) {
+                return event.getResult();
+            }
         }
 
         try {
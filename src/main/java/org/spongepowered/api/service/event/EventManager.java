@@ -24,6 +24,8 @@
  */
 package org.spongepowered.api.service.event;
 
+import com.google.common.util.concurrent.ListenableFuture;
+import org.spongepowered.api.event.AsyncSafe;
 import org.spongepowered.api.event.Event;
 import org.spongepowered.api.event.EventHandler;
 import org.spongepowered.api.event.Order;
@@ -94,6 +96,19 @@ public interface EventManager {
      */
     void unregisterPlugin(Object plugin);
 
+    /**
+     * Gets whether any handler is registered for the specified event class or
+     * any of its supertypes.
+     *
+     * <p>This may be used to avoid creating an event altogether if nothing
+     * would receive it. The result is only valid until the next handler is
+     * registered or un-registered.</p>
+     *
+     * @param eventClass The event class
+     * @return True if the event would be received by at least one handler
+     */
+    boolean hasListeners(Class<? extends Event> eventClass);
+
     /**
      * Calls a {@link Event} to all handlers that handle it.
      *
@@ -102,4 +117,19 @@ public interface EventManager {
      */
     boolean post(Event event);
 
+    /**
+     * Calls a {@link Event} to all handlers that handle it, without blocking
+     * the calling thread.
+     *
+     * <p>The handlers are called one after another in {@link Order}, but
+     * separate events may be handled concurrently. Only events marked as
+     * {@link AsyncSafe} may be posted asynchronously.</p>
+     *
+     * @param event The event
+     * @return A future completing with true if the event was cancelled, false
+     *     if not
+     * @throws IllegalArgumentException If the event is not {@link AsyncSafe}
+     */
+    ListenableFuture<Boolean> postAsync(Event event);
+
 }
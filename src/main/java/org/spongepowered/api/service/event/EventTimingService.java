@@ -0,0 +1,71 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.event;
+
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataSerializable;
+
+import java.util.Collection;
+
+/**
+ * Records how long the handlers registered to an {@link EventManager} take
+ * to handle events.
+ *
+ * <p>Timings are only recorded while enabled, and are kept per plugin,
+ * handler and event class. {@link #toContainer()} exports all recorded
+ * timings to a {@link DataContainer}.</p>
+ */
+public interface EventTimingService extends DataSerializable {
+
+    /**
+     * Gets whether timings are currently being recorded.
+     *
+     * @return Whether timings are recorded
+     */
+    boolean isEnabled();
+
+    /**
+     * Sets whether timings should be recorded.
+     *
+     * <p>Timings that were already recorded are kept when this is
+     * disabled.</p>
+     *
+     * @param enabled Whether timings should be recorded
+     */
+    void setEnabled(boolean enabled);
+
+    /**
+     * Discards all timings recorded so far.
+     */
+    void reset();
+
+    /**
+     * Gets a snapshot of the timings recorded so far.
+     *
+     * @return The recorded timings
+     */
+    Collection<HandlerTiming> getTimings();
+
+}
@@ -0,0 +1,97 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.event;
+
+import org.spongepowered.api.data.DataSerializable;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.plugin.PluginContainer;
+
+/**
+ * The time a single handler has taken to handle events of a single class.
+ *
+ * @see EventTimingService
+ */
+public interface HandlerTiming extends DataSerializable {
+
+    /**
+     * The number of buckets in the {@link #getHistogram() histogram}.
+     */
+    int HISTOGRAM_BUCKETS = 64;
+
+    /**
+     * Gets the plugin that registered the handler.
+     *
+     * @return The plugin
+     */
+    PluginContainer getPlugin();
+
+    /**
+     * Gets a description of the handler, usually the method it calls.
+     *
+     * @return The handler
+     */
+    String getHandler();
+
+    /**
+     * Gets the class of the events handled.
+     *
+     * @return The event class
+     */
+    Class<? extends Event> getEventClass();
+
+    /**
+     * Gets the number of events handled.
+     *
+     * @return The number of events
+     */
+    long getCount();
+
+    /**
+     * Gets the total time taken to handle the events, in nanoseconds.
+     *
+     * @return The total time
+     */
+    long getTotalNanos();
+
+    /**
+     * Gets the longest time taken to handle a single event, in nanoseconds.
+     *
+     * @return The longest time
+     */
+    long getMaxNanos();
+
+    /**
+     * Gets a histogram of the time taken to handle each event.
+     *
+     * <p>The element at index {@code i} counts the events that took at least
+     * {@code 2^i} and less than {@code 2^(i + 1)} nanoseconds, where the first
+     * element also counts the events that took no measurable time.</p>
+     *
+     * @return A copy of the histogram, with {@link #HISTOGRAM_BUCKETS}
+     *     elements
+     */
+    long[] getHistogram();
+
+}
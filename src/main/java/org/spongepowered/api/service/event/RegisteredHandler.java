@@ -0,0 +1,93 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.event;
+
+import com.google.common.base.Objects;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventHandler;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.api.plugin.PluginContainer;
+
+/**
+ * A handler registered to a {@link SimpleEventManager}.
+ */
+final class RegisteredHandler {
+
+    private final PluginContainer plugin;
+    private final Object owner;
+    private final Class<? extends Event> eventClass;
+    private final Order order;
+    private final boolean ignoreCancelled;
+    private final EventHandler<Event> handler;
+
+    RegisteredHandler(PluginContainer plugin, Object owner, Class<? extends Event> eventClass, Order order, boolean ignoreCancelled,
+            EventHandler<Event> handler) {
+        this.plugin = plugin;
+        this.owner = owner;
+        this.eventClass = eventClass;
+        this.order = order;
+        this.ignoreCancelled = ignoreCancelled;
+        this.handler = handler;
+    }
+
+    PluginContainer getPlugin() {
+        return this.plugin;
+    }
+
+    Object getOwner() {
+        return this.owner;
+    }
+
+    Class<? extends Event> getEventClass() {
+        return this.eventClass;
+    }
+
+    Order getOrder() {
+        return this.order;
+    }
+
+    boolean isIgnoreCancelled() {
+        return this.ignoreCancelled;
+    }
+
+    EventHandler<Event> getHandler() {
+        return this.handler;
+    }
+
+    RegisteredHandler withHandler(EventHandler<Event> handler) {
+        return new RegisteredHandler(this.plugin, this.owner, this.eventClass, this.order, this.ignoreCancelled, handler);
+    }
+
+    @Override
+    public String toString() {
+        return Objects.toStringHelper(this)
+                .add("plugin", this.plugin.getId())
+                .add("eventClass", this.eventClass.getName())
+                .add("order", this.order)
+                .add("handler", this.handler)
+                .toString();
+    }
+
+}
@@ -0,0 +1,479 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.event;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.spongepowered.api.data.DataQuery.of;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.ArrayListMultimap;
+import com.google.common.collect.HashBasedTable;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ListMultimap;
+import com.google.common.collect.MapMaker;
+import com.google.common.collect.Table;
+import com.google.common.reflect.TypeToken;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.ListeningExecutorService;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.MemoryDataContainer;
+import org.spongepowered.api.event.AsyncSafe;
+import org.spongepowered.api.event.Cancellable;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventHandler;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.api.event.Subscribe;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.api.plugin.PluginManager;
+import org.spongepowered.api.util.event.factory.EventHandlerGenerator;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+
+/**
+ * A simple implementation of {@link EventManager}.
+ *
+ * <p>For each event class that is posted, the handlers registered for the
+ * class and its supertypes are baked into an array sorted by {@link Order}.
+ * The arrays are replaced rather than modified when handlers are registered
+ * or un-registered, and only for the event classes affected by the change, so
+ * posting events never needs to lock or to walk the class hierarchy.</p>
+ *
+ * <p>While {@link #setEnabled(boolean) timings} are enabled, the baked arrays
+ * hold handlers that record the time taken by each handler. They are
+ * replaced again when timings are disabled, so timings cost nothing while
+ * disabled.</p>
+ *
+ * <p>Events posted with {@link #postAsync(Event)} are handled on the
+ * {@link #setAsyncExecutor(ExecutorService) async executor}, which defaults
+ * to a pool of daemon threads.</p>
+ */
+public class SimpleEventManager implements EventManager, EventTimingService {
+
+    private static final Comparator<RegisteredHandler> ORDER_COMPARATOR = new Comparator<RegisteredHandler>() {
+        @Override
+        public int compare(RegisteredHandler o1, RegisteredHandler o2) {
+            return o1.getOrder().compareTo(o2.getOrder());
+        }
+    };
+
+    private final PluginManager pluginManager;
+    private final Logger logger;
+    private final ListMultimap<Class<?>, RegisteredHandler> handlers = ArrayListMultimap.create();
+    private final Object lock = new Object();
+    private final EventHandlerGenerator handlerGenerator = new EventHandlerGenerator();
+    private final ConcurrentMap<Class<?>, BakedHandlers> baked = new MapMaker().weakKeys().makeMap();
+    private final Table<RegisteredHandler, Class<?>, SimpleHandlerTiming> timings = HashBasedTable.create();
+    private volatile boolean timingsEnabled;
+    @Nullable private volatile ListeningExecutorService asyncExecutor;
+
+    /**
+     * Construct a simple {@link EventManager}.
+     *
+     * @param pluginManager The plugin manager to get the
+     *            {@link PluginContainer} for a given plugin
+     * @param logger The logger to log errors thrown by handlers to
+     */
+    @Inject
+    public SimpleEventManager(PluginManager pluginManager, Logger logger) {
+        checkNotNull(pluginManager, "pluginManager");
+        checkNotNull(logger, "logger");
+        this.pluginManager = pluginManager;
+        this.logger = logger;
+    }
+
+    /**
+     * Sets the executor used to handle events posted with
+     * {@link #postAsync(Event)}.
+     *
+     * @param executor The executor
+     */
+    public void setAsyncExecutor(ExecutorService executor) {
+        checkNotNull(executor, "executor");
+        this.asyncExecutor = MoreExecutors.listeningDecorator(executor);
+    }
+
+    private ListeningExecutorService getAsyncExecutor() {
+        ListeningExecutorService executor = this.asyncExecutor;
+        if (executor == null) {
+            synchronized (this.lock) {
+                executor = this.asyncExecutor;
+                if (executor == null) {
+                    executor = MoreExecutors.listeningDecorator(Executors.newCachedThreadPool(new ThreadFactoryBuilder()
+                            .setNameFormat("Sponge Async Event Thread #%d")
+                            .setDaemon(true)
+                            .build()));
+                    this.asyncExecutor = executor;
+                }
+            }
+        }
+        return executor;
+    }
+
+    private PluginContainer getPlugin(Object plugin) {
+        checkNotNull(plugin, "plugin");
+
+        Optional<PluginContainer> containerOptional = this.pluginManager.fromInstance(plugin);
+        if (!containerOptional.isPresent()) {
+            throw new IllegalArgumentException(
+                    "The provided plugin object does not have an associated plugin container "
+                            + "(in other words, is 'plugin' actually your plugin object?)");
+        }
+        return containerOptional.get();
+    }
+
+    /**
+     * Creates the {@link EventHandler} used to call a {@link Subscribe}d
+     * method.
+     *
+     * <p>A handler calling the method directly is generated where possible,
+     * with reflection used for methods that are not publicly accessible.</p>
+     *
+     * @param obj The object the method is declared by
+     * @param method The method
+     * @return The event handler
+     */
+    protected EventHandler<Event> createHandler(Object obj, Method method) {
+        if (EventHandlerGenerator.canGenerate(method)) {
+            return this.handlerGenerator.create(obj, method);
+        }
+        return new ReflectiveEventHandler(obj, method);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void register(Object plugin, Object obj) {
+        PluginContainer container = getPlugin(plugin);
+        checkNotNull(obj, "obj");
+
+        List<RegisteredHandler> found = new ArrayList<RegisteredHandler>();
+        for (Method method : obj.getClass().getMethods()) {
+            Subscribe subscribe = method.getAnnotation(Subscribe.class);
+            if (subscribe == null) {
+                continue;
+            }
+
+            Class<?>[] parameters = method.getParameterTypes();
+            if (parameters.length != 1 || !Event.class.isAssignableFrom(parameters[0]) || Modifier.isStatic(method.getModifiers())) {
+                throw new IllegalArgumentException("The @Subscribe method " + method + " must be non-static and take a single event parameter");
+            }
+
+            found.add(new RegisteredHandler(container, obj, (Class<? extends Event>) parameters[0], subscribe.order(), subscribe.ignoreCancelled(),
+                    createHandler(obj, method)));
+        }
+
+        synchronized (this.lock) {
+            Set<Class<?>> changed = new HashSet<Class<?>>();
+            for (RegisteredHandler handler : found) {
+                this.handlers.put(handler.getEventClass(), handler);
+                changed.add(handler.getEventClass());
+            }
+            rebake(changed);
+        }
+    }
+
+    @Override
+    public <T extends Event> void register(Object plugin, Class<T> eventClass, EventHandler<? super T> handler) {
+        register(plugin, eventClass, Order.DEFAULT, handler);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends Event> void register(Object plugin, Class<T> eventClass, Order order, EventHandler<? super T> handler) {
+        PluginContainer container = getPlugin(plugin);
+        checkNotNull(eventClass, "eventClass");
+        checkNotNull(order, "order");
+        checkNotNull(handler, "handler");
+
+        synchronized (this.lock) {
+            this.handlers.put(eventClass, new RegisteredHandler(container, handler, eventClass, order, false, (EventHandler<Event>) handler));
+            rebake(Collections.<Class<?>>singleton(eventClass));
+        }
+    }
+
+    @Override
+    public void unregister(Object obj) {
+        checkNotNull(obj, "obj");
+
+        synchronized (this.lock) {
+            Set<Class<?>> changed = new HashSet<Class<?>>();
+            Iterator<RegisteredHandler> it = this.handlers.values().iterator();
+            while (it.hasNext()) {
+                RegisteredHandler handler = it.next();
+                if (handler.getOwner() == obj) {
+                    it.remove();
+                    changed.add(handler.getEventClass());
+                }
+            }
+            rebake(changed);
+        }
+    }
+
+    @Override
+    public void unregisterPlugin(Object plugin) {
+        PluginContainer container = getPlugin(plugin);
+
+        synchronized (this.lock) {
+            Set<Class<?>> changed = new HashSet<Class<?>>();
+            Iterator<RegisteredHandler> it = this.handlers.values().iterator();
+            while (it.hasNext()) {
+                RegisteredHandler handler = it.next();
+                if (handler.getPlugin().equals(container)) {
+                    it.remove();
+                    changed.add(handler.getEventClass());
+                }
+            }
+            rebake(changed);
+        }
+    }
+
+    /**
+     * Re-bakes the handlers of the event classes that are a subtype of any of
+     * the changed classes. Must be called while holding {@link #lock}.
+     *
+     * @param changed The event classes whose handlers have changed
+     */
+    private void rebake(Set<Class<?>> changed) {
+        if (changed.isEmpty()) {
+            return;
+        }
+
+        for (Map.Entry<Class<?>, BakedHandlers> entry : this.baked.entrySet()) {
+            for (Class<?> type : changed) {
+                if (type.isAssignableFrom(entry.getKey())) {
+                    entry.setValue(bake(entry.getKey()));
+                    break;
+                }
+            }
+        }
+    }
+
+    private void rebakeAll() {
+        for (Map.Entry<Class<?>, BakedHandlers> entry : this.baked.entrySet()) {
+            entry.setValue(bake(entry.getKey()));
+        }
+    }
+
+    /**
+     * Bakes the handlers of the given event class. Must be called while
+     * holding {@link #lock}.
+     *
+     * @param eventClass The event class
+     * @return The baked handlers
+     */
+    @SuppressWarnings("unchecked")
+    private BakedHandlers bake(Class<?> eventClass) {
+        List<RegisteredHandler> handlers = new ArrayList<RegisteredHandler>();
+        for (Class<?> type : TypeToken.of(eventClass).getTypes().rawTypes()) {
+            for (RegisteredHandler handler : this.handlers.get(type)) {
+                if (this.timingsEnabled) {
+                    SimpleHandlerTiming timing = this.timings.get(handler, eventClass);
+                    if (timing == null) {
+                        timing = new SimpleHandlerTiming(handler.getPlugin(), handler.getHandler().toString(),
+                                (Class<? extends Event>) eventClass);
+                        this.timings.put(handler, eventClass, timing);
+                    }
+                    handler = handler.withHandler(new TimedEventHandler(handler.getHandler(), timing));
+                }
+                handlers.add(handler);
+            }
+        }
+        return new BakedHandlers(eventClass, handlers);
+    }
+
+    private BakedHandlers getBaked(Class<?> eventClass) {
+        BakedHandlers handlers = this.baked.get(eventClass);
+        if (handlers == null) {
+            synchronized (this.lock) {
+                handlers = this.baked.get(eventClass);
+                if (handlers == null) {
+                    handlers = bake(eventClass);
+                    this.baked.put(eventClass, handlers);
+                }
+            }
+        }
+        return handlers;
+    }
+
+    @Override
+    public boolean hasListeners(Class<? extends Event> eventClass) {
+        checkNotNull(eventClass, "eventClass");
+        return getBaked(eventClass).handlers.length != 0;
+    }
+
+    @Override
+    public boolean post(Event event) {
+        checkNotNull(event, "event");
+
+        BakedHandlers baked = getBaked(event.getClass());
+        RegisteredHandler[] handlers = baked.handlers;
+
+        if (!baked.cancellable) {
+            for (RegisteredHandler handler : handlers) {
+                call(event, handler);
+            }
+            return false;
+        }
+
+        Cancellable cancellable = (Cancellable) event;
+        int[] nextReceivingCancelled = baked.nextReceivingCancelled;
+        for (int i = 0; i < handlers.length; i++) {
+            if (cancellable.isCancelled()) {
+                i = nextReceivingCancelled[i];
+                if (i == handlers.length) {
+                    break;
+                }
+            }
+            call(event, handlers[i]);
+        }
+
+        return cancellable.isCancelled();
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return this.timingsEnabled;
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        synchronized (this.lock) {
+            if (this.timingsEnabled != enabled) {
+                this.timingsEnabled = enabled;
+                rebakeAll();
+            }
+        }
+    }
+
+    @Override
+    public void reset() {
+        synchronized (this.lock) {
+            this.timings.clear();
+            if (this.timingsEnabled) {
+                rebakeAll();
+            }
+        }
+    }
+
+    @Override
+    public Collection<HandlerTiming> getTimings() {
+        synchronized (this.lock) {
+            return ImmutableList.<HandlerTiming>copyOf(this.timings.values());
+        }
+    }
+
+    @Override
+    public DataContainer toContainer() {
+        DataContainer container = new MemoryDataContainer();
+        container.set(of("Timings"), getTimings());
+        return container;
+    }
+
+    @Override
+    public ListenableFuture<Boolean> postAsync(final Event event) {
+        checkNotNull(event, "event");
+        checkArgument(getBaked(event.getClass()).asyncSafe, "%s is not @AsyncSafe", event.getClass().getName());
+
+        return getAsyncExecutor().submit(new Callable<Boolean>() {
+            @Override
+            public Boolean call() throws Exception {
+                return post(event);
+            }
+        });
+    }
+
+    private void call(Event event, RegisteredHandler handler) {
+        try {
+            handler.getHandler().handle(event);
+        } catch (Throwable t) {
+            this.logger.error("Could not pass " + event.getClass().getSimpleName() + " to " + handler.getPlugin().getId() + " ("
+                              + handler.getHandler() + ")", t);
+        }
+    }
+
+    private static boolean isAsyncSafe(Class<?> eventClass) {
+        for (Class<?> type : TypeToken.of(eventClass).getTypes().rawTypes()) {
+            if (type.isAnnotationPresent(AsyncSafe.class)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The handlers for a single event class, sorted by {@link Order}.
+     *
+     * <p>For cancellable events, {@link #nextReceivingCancelled} holds for each
+     * position the index of the first handler at or after that position which
+     * does not ignore cancelled events, so a cancelled event can skip straight
+     * to it.</p>
+     */
+    private static final class BakedHandlers {
+
+        final RegisteredHandler[] handlers;
+        final boolean cancellable;
+        final boolean asyncSafe;
+        final int[] nextReceivingCancelled;
+
+        BakedHandlers(Class<?> eventClass, List<RegisteredHandler> handlers) {
+            this.handlers = handlers.toArray(new RegisteredHandler[handlers.size()]);
+            Arrays.sort(this.handlers, ORDER_COMPARATOR);
+            this.cancellable = Cancellable.class.isAssignableFrom(eventClass);
+            this.asyncSafe = isAsyncSafe(eventClass);
+
+            this.nextReceivingCancelled = new int[this.handlers.length];
+            int next = this.handlers.length;
+            for (int i = this.handlers.length - 1; i >= 0; i--) {
+                if (!this.handlers[i].isIgnoreCancelled()) {
+                    next = i;
+                }
+                this.nextReceivingCancelled[i] = next;
+            }
+        }
+
+    }
+
+}
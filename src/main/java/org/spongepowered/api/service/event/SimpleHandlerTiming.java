@@ -0,0 +1,139 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.event;
+
+import static org.spongepowered.api.data.DataQuery.of;
+
+import com.google.common.base.Objects;
+import com.google.common.primitives.Longs;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.MemoryDataContainer;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.plugin.PluginContainer;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A {@link HandlerTiming} that is safe to record to from multiple threads.
+ */
+final class SimpleHandlerTiming implements HandlerTiming {
+
+    private final PluginContainer plugin;
+    private final String handler;
+    private final Class<? extends Event> eventClass;
+
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong totalNanos = new AtomicLong();
+    private final AtomicLong maxNanos = new AtomicLong();
+    private final AtomicLongArray histogram = new AtomicLongArray(HISTOGRAM_BUCKETS);
+
+    SimpleHandlerTiming(PluginContainer plugin, String handler, Class<? extends Event> eventClass) {
+        this.plugin = plugin;
+        this.handler = handler;
+        this.eventClass = eventClass;
+    }
+
+    void record(long nanos) {
+        if (nanos < 0) {
+            nanos = 0;
+        }
+
+        this.count.incrementAndGet();
+        this.totalNanos.addAndGet(nanos);
+
+        long max;
+        do {
+            max = this.maxNanos.get();
+        } while (nanos > max && !this.maxNanos.compareAndSet(max, nanos));
+
+        this.histogram.incrementAndGet(nanos == 0 ? 0 : 63 - Long.numberOfLeadingZeros(nanos));
+    }
+
+    @Override
+    public PluginContainer getPlugin() {
+        return this.plugin;
+    }
+
+    @Override
+    public String getHandler() {
+        return this.handler;
+    }
+
+    @Override
+    public Class<? extends Event> getEventClass() {
+        return this.eventClass;
+    }
+
+    @Override
+    public long getCount() {
+        return this.count.get();
+    }
+
+    @Override
+    public long getTotalNanos() {
+        return this.totalNanos.get();
+    }
+
+    @Override
+    public long getMaxNanos() {
+        return this.maxNanos.get();
+    }
+
+    @Override
+    public long[] getHistogram() {
+        long[] histogram = new long[HISTOGRAM_BUCKETS];
+        for (int i = 0; i < histogram.length; i++) {
+            histogram[i] = this.histogram.get(i);
+        }
+        return histogram;
+    }
+
+    @Override
+    public DataContainer toContainer() {
+        DataContainer container = new MemoryDataContainer();
+        container.set(of("Plugin"), this.plugin.getId());
+        container.set(of("Handler"), this.handler);
+        container.set(of("EventClass"), this.eventClass.getName());
+        container.set(of("Count"), getCount());
+        container.set(of("TotalNanos"), getTotalNanos());
+        container.set(of("MaxNanos"), getMaxNanos());
+        container.set(of("Histogram"), Longs.asList(getHistogram()));
+        return container;
+    }
+
+    @Override
+    public String toString() {
+        return Objects.toStringHelper(this)
+                .add("plugin", this.plugin.getId())
+                .add("handler", this.handler)
+                .add("eventClass", this.eventClass.getName())
+                .add("count", getCount())
+                .add("totalNanos", getTotalNanos())
+                .add("maxNanos", getMaxNanos())
+                .toString();
+    }
+
+}
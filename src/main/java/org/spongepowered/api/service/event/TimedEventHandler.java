@@ -0,0 +1,58 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.event;
+
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventHandler;
+
+/**
+ * An {@link EventHandler} that records the time taken by another handler.
+ */
+final class TimedEventHandler implements EventHandler<Event> {
+
+    private final EventHandler<Event> handler;
+    private final SimpleHandlerTiming timing;
+
+    TimedEventHandler(EventHandler<Event> handler, SimpleHandlerTiming timing) {
+        this.handler = handler;
+        this.timing = timing;
+    }
+
+    @Override
+    public void handle(Event event) throws Exception {
+        long start = System.nanoTime();
+        try {
+            this.handler.handle(event);
+        } finally {
+            this.timing.record(System.nanoTime() - start);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return this.handler.toString();
+    }
+
+}
@@ -0,0 +1,175 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.permission;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableList;
+import org.spongepowered.api.service.permission.context.Context;
+import org.spongepowered.api.util.Tristate;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Evaluates one permission for many subjects at once, as needed by
+ * {@link PermissionService#hasPermission(List, String)}.
+ *
+ * <p>The value a subject inherits depends only on its parents and its
+ * active contexts, so subjects whose data is held in
+ * {@link MemorySubjectData} are grouped by both. Each subject's own
+ * permissions are checked with a single lookup, and the parents of a group
+ * are only consulted once. Subjects with other kinds of data are checked
+ * with {@link Subject#hasPermission(Set, String)}.</p>
+ *
+ * <p>A subject's transient permissions are checked first, then its
+ * persistent ones, and then the values of its parents in order. Services
+ * which resolve permissions differently should not use this class.</p>
+ */
+public final class BulkPermissionEvaluator {
+
+    private BulkPermissionEvaluator() {
+    }
+
+    /**
+     * Tests a permission for each of the given subjects in their active
+     * contexts.
+     *
+     * @param subjects The subjects to test
+     * @param permission The permission to test
+     * @return A bit set with the bit at each subject's index set if that
+     *     subject has the permission
+     */
+    public static BitSet evaluate(List<? extends Subject> subjects, String permission) {
+        checkNotNull(subjects, "subjects");
+        checkNotNull(permission, "permission");
+        BitSet result = new BitSet(subjects.size());
+        Map<Group, Tristate> inherited = new HashMap<Group, Tristate>();
+        int index = 0;
+        for (Subject subject : subjects) {
+            if (evaluate(subject, permission, inherited)) {
+                result.set(index);
+            }
+            index++;
+        }
+        return result;
+    }
+
+    /**
+     * Filters the given subjects down to those which have a permission in
+     * their active contexts.
+     *
+     * @param subjects The subjects to filter
+     * @param permission The permission to test
+     * @param <T> The type of subject
+     * @return The subjects with the permission, in their original order
+     */
+    public static <T extends Subject> List<T> filter(List<T> subjects, String permission) {
+        BitSet permitted = evaluate(subjects, permission);
+        ImmutableList.Builder<T> ret = ImmutableList.builder();
+        for (int i = permitted.nextSetBit(0); i >= 0; i = permitted.nextSetBit(i + 1)) {
+            ret.add(subjects.get(i));
+        }
+        return ret.build();
+    }
+
+    private static boolean evaluate(Subject subject, String permission, Map<Group, Tristate> inherited) {
+        SubjectData transientData = subject.getTransientSubjectData();
+        SubjectData data = subject.getSubjectData();
+        if (!(transientData instanceof MemorySubjectData) || !(data instanceof MemorySubjectData)) {
+            return subject.hasPermission(subject.getActiveContexts(), permission);
+        }
+
+        Set<Context> contexts = subject.getActiveContexts();
+        MemorySubjectData memoryTransientData = (MemorySubjectData) transientData;
+        MemorySubjectData memoryData = (MemorySubjectData) data;
+        Tristate value = memoryTransientData.getNodeTree(contexts).get(permission);
+        if (value == Tristate.UNDEFINED && data != transientData) {
+            value = memoryData.getNodeTree(contexts).get(permission);
+        }
+        if (value == Tristate.UNDEFINED) {
+            Group group = new Group(contexts, memoryTransientData.getParentIdentifiers(contexts),
+                    data != transientData ? memoryData.getParentIdentifiers(contexts) : null);
+            value = inherited.get(group);
+            if (value == null) {
+                value = inherit(subject, contexts, permission);
+                inherited.put(group, value);
+            }
+        }
+        return value.asBoolean();
+    }
+
+    private static Tristate inherit(Subject subject, Set<Context> contexts, String permission) {
+        for (Subject parent : subject.getParents(contexts)) {
+            Tristate value = parent.getPermissionValue(contexts, permission);
+            if (value != Tristate.UNDEFINED) {
+                return value;
+            }
+        }
+        return Tristate.UNDEFINED;
+    }
+
+    /**
+     * The parents and contexts shared by a group of subjects.
+     */
+    private static final class Group {
+
+        private final Set<Context> contexts;
+        private final List<Map.Entry<String, String>> transientParents;
+        private final List<Map.Entry<String, String>> parents;
+
+        Group(Set<Context> contexts, List<Map.Entry<String, String>> transientParents, List<Map.Entry<String, String>> parents) {
+            this.contexts = contexts;
+            this.transientParents = transientParents;
+            this.parents = parents;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Group)) {
+                return false;
+            }
+            Group other = (Group) o;
+            return this.contexts.equals(other.contexts)
+                   && this.transientParents.equals(other.transientParents)
+                   && (this.parents == null ? other.parents == null : this.parents.equals(other.parents));
+        }
+
+        @Override
+        public int hashCode() {
+            int result = this.contexts.hashCode();
+            result = 31 * result + this.transientParents.hashCode();
+            result = 31 * result + (this.parents == null ? 0 : this.parents.hashCode());
+            return result;
+        }
+    }
+
+}
@@ -28,19 +28,21 @@
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
-import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Maps;
 import org.spongepowered.api.service.permission.context.Context;
+import org.spongepowered.api.service.permission.context.ContextCache;
 import org.spongepowered.api.service.permission.option.OptionSubjectData;
 import org.spongepowered.api.util.Tristate;
 
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import javax.annotation.Nullable;
 
@@ -48,13 +50,26 @@
  * A subject data implementation storing all contained data in memory.
  *
  * <p>This class is thread-safe.
+ *
+ * <p>The permissions inherited from parents are flattened into a single
+ * {@link NodeTree} per set of contexts by {@link #getEffectiveNodeTree(Set)},
+ * which is cached until any memory subject data changes. Sets of contexts
+ * are stored {@link ContextCache#intern(Set) interned}, so lookups with the
+ * sets calculated by a {@link ContextCache} find them by identity.
  */
 public class MemorySubjectData implements OptionSubjectData {
 
+    /**
+     * Bumped whenever the data of any memory subject changes, invalidating
+     * every cached effective tree.
+     */
+    private static final AtomicLong version = new AtomicLong();
+
     private final PermissionService service;
     private final ConcurrentMap<Set<Context>, Map<String, String>> options = Maps.newConcurrentMap();
     private final ConcurrentMap<Set<Context>, NodeTree> permissions = Maps.newConcurrentMap();
     private final ConcurrentMap<Set<Context>, List<Map.Entry<String, String>>> parents = Maps.newConcurrentMap();
+    private final ConcurrentMap<Set<Context>, EffectiveTree> effectiveTrees = Maps.newConcurrentMap();
 
     /**
      * Creates a new subject data instance, using the provided service to request instances of permission subjects.
@@ -87,6 +102,78 @@ public NodeTree getNodeTree(Set<Context> contexts) {
         return perms == null ? NodeTree.of(Collections.<String, Boolean>emptyMap()) : perms;
     }
 
+    /**
+     * Get the node tree of the permissions for this subject data instance,
+     * including those inherited from its parents in the given contexts.
+     *
+     * <p>A permission is inherited from a parent only if neither this data
+     * nor an earlier parent defines a value for it or any of its parents.
+     * The tree is cached until the data of any memory subject changes.
+     * Changes to parents with other kinds of subject data are not seen
+     * until then.</p>
+     *
+     * @param contexts The contexts to get a node tree for
+     * @return The node tree
+     */
+    public NodeTree getEffectiveNodeTree(Set<Context> contexts) {
+        checkNotNull(contexts, "contexts");
+        long currentVersion = version.get();
+        EffectiveTree cached = this.effectiveTrees.get(contexts);
+        if (cached != null && cached.version == currentVersion) {
+            return cached.tree;
+        }
+        NodeTree tree = flatten(this, contexts, new IdentityHashMap<SubjectData, Boolean>());
+        this.effectiveTrees.put(ContextCache.intern(contexts), new EffectiveTree(currentVersion, tree));
+        return tree;
+    }
+
+    /**
+     * Get the value of a permission for this subject data instance,
+     * including the values inherited from its parents in the given contexts.
+     *
+     * @param contexts The contexts to check in
+     * @param permission The permission to check
+     * @return The value of the permission
+     * @see #getEffectiveNodeTree(Set)
+     */
+    public Tristate getEffectivePermissionValue(Set<Context> contexts, String permission) {
+        return getEffectiveNodeTree(contexts).get(permission);
+    }
+
+    private static NodeTree flatten(SubjectData data, Set<Context> contexts, Map<SubjectData, Boolean> visited) {
+        if (visited.put(data, Boolean.TRUE) != null) {
+            return NodeTree.of(Collections.<String, Boolean>emptyMap());
+        }
+        NodeTree tree;
+        List<Subject> parents;
+        if (data instanceof MemorySubjectData) {
+            MemorySubjectData memoryData = (MemorySubjectData) data;
+            tree = memoryData.getNodeTree(contexts);
+            parents = memoryData.getParents(contexts);
+        } else {
+            tree = NodeTree.of(data.getPermissions(contexts));
+            parents = data.getParents(contexts);
+        }
+        for (Subject parent : parents) {
+            tree = inherit(tree, flatten(parent.getSubjectData(), contexts, visited));
+        }
+        visited.remove(data);
+        return tree;
+    }
+
+    private static NodeTree inherit(NodeTree tree, NodeTree parentTree) {
+        Map<String, Boolean> merged = null;
+        for (Map.Entry<String, Boolean> ent : parentTree.asMap().entrySet()) {
+            if (tree.get(ent.getKey()) == Tristate.UNDEFINED) {
+                if (merged == null) {
+                    merged = new HashMap<String, Boolean>(tree.asMap());
+                }
+                merged.put(ent.getKey(), ent.getValue());
+            }
+        }
+        return merged == null ? tree : NodeTree.of(merged);
+    }
+
     @Override
     public Map<String, Boolean> getPermissions(Set<Context> contexts) {
         NodeTree perms = this.permissions.get(contexts);
@@ -95,37 +182,35 @@ public Map<String, Boolean> getPermissions(Set<Context> contexts) {
 
     @Override
     public boolean setPermission(Set<Context> contexts, String permission, Tristate value) {
-        contexts = ImmutableSet.copyOf(contexts);
+        contexts = ContextCache.intern(contexts);
         while (true) {
             NodeTree oldTree = this.permissions.get(contexts);
             if (oldTree != null && oldTree.get(permission) == value) {
                 return false;
             }
+            if (oldTree == null && value == Tristate.UNDEFINED) {
+                return true;
+            }
 
-            if (oldTree == null && value != Tristate.UNDEFINED) {
-                if (this.permissions.putIfAbsent(contexts, NodeTree.of(ImmutableMap.of(permission, value.asBoolean()))) == null) {
-                    break;
-                }
-            } else {
-                if (oldTree == null || this.permissions.replace(contexts, oldTree, oldTree.withValue(permission, value))) {
-                    break;
-                }
+            NodeTree newTree = oldTree == null ? NodeTree.of(ImmutableMap.of(permission, value.asBoolean()))
+                    : oldTree.withValue(permission, value);
+            if (updateCollection(this.permissions, contexts, oldTree, newTree)) {
+                return true;
             }
         }
-        return true;
-
     }
 
     @Override
     public boolean clearPermissions() {
         boolean wasEmpty = this.permissions.isEmpty();
         this.permissions.clear();
+        changed();
         return !wasEmpty;
     }
 
     @Override
     public boolean clearPermissions(Set<Context> context) {
-        return this.permissions.remove(context) != null;
+        return removeCollection(this.permissions, context);
     }
 
     @Override
@@ -146,6 +231,15 @@ List<Subject> toSubjectList(List<Map.Entry<String, String>> parents) {
         return ret.build();
     }
 
+    /**
+     * Gets the collection and subject identifiers of the parents in the
+     * given contexts, without looking up the subjects.
+     */
+    List<Map.Entry<String, String>> getParentIdentifiers(Set<Context> contexts) {
+        List<Map.Entry<String, String>> ret = this.parents.get(contexts);
+        return ret == null ? Collections.<Map.Entry<String, String>>emptyList() : ret;
+    }
+
     @Override
     public List<Subject> getParents(Set<Context> contexts) {
         List<Map.Entry<String, String>> ret = this.parents.get(contexts);
@@ -154,7 +248,7 @@ public List<Subject> getParents(Set<Context> contexts) {
 
     @Override
     public boolean addParent(Set<Context> contexts, Subject parent) {
-        contexts = ImmutableSet.copyOf(contexts);
+        contexts = ContextCache.intern(contexts);
         while (true) {
             Map.Entry<String, String> newEnt = Maps.immutableEntry(parent.getContainingCollection().getIdentifier(),
                     parent.getIdentifier());
@@ -176,19 +270,79 @@ public boolean addParent(Set<Context> contexts, Subject parent) {
     private <K, V> boolean updateCollection(ConcurrentMap<K, V> collection, K key, @Nullable V oldValue, V newValue) {
         if (oldValue == null) {
             if (collection.putIfAbsent(key, newValue) == null) {
+                changed();
                 return true;
             }
         } else {
             if (collection.replace(key, oldValue, newValue)) {
+                changed();
                 return true;
             }
         }
         return false;
     }
 
+    private void changed() {
+        version.incrementAndGet();
+        onChange();
+    }
+
+    /**
+     * Called after any of the data held by this instance has changed.
+     *
+     * <p>This may be called concurrently from several threads, and after
+     * other changes have already been made.</p>
+     */
+    protected void onChange() {
+    }
+
+    /**
+     * Gets the collection and subject identifiers of the parents in every
+     * set of contexts.
+     */
+    Map<Set<Context>, List<Map.Entry<String, String>>> getAllParentIdentifiers() {
+        return ImmutableMap.copyOf(this.parents);
+    }
+
+    /**
+     * Restores the permissions in the given contexts.
+     *
+     * <p>Unlike other changes, this neither invalidates cached effective
+     * trees nor calls {@link #onChange()}, so it may only be used while
+     * the data isn't visible to any subject yet.</p>
+     */
+    void restorePermissions(Set<Context> contexts, Map<String, Boolean> permissions) {
+        this.permissions.put(ContextCache.intern(contexts), NodeTree.of(permissions));
+    }
+
+    /**
+     * Restores the parents in the given contexts to the subjects of the
+     * given collection and subject identifiers, like
+     * {@link #restorePermissions}.
+     */
+    void restoreParentIdentifiers(Set<Context> contexts, List<Map.Entry<String, String>> parents) {
+        this.parents.put(ContextCache.intern(contexts), ImmutableList.copyOf(parents));
+    }
+
+    /**
+     * Restores the options in the given contexts, like
+     * {@link #restorePermissions}.
+     */
+    void restoreOptions(Set<Context> contexts, Map<String, String> options) {
+        this.options.put(ContextCache.intern(contexts), ImmutableMap.copyOf(options));
+    }
+
+    private <K, V> boolean removeCollection(ConcurrentMap<K, V> collection, K key) {
+        if (collection.remove(key) != null) {
+            changed();
+            return true;
+        }
+        return false;
+    }
+
     @Override
     public boolean removeParent(Set<Context> contexts, Subject parent) {
-        contexts = ImmutableSet.copyOf(contexts);
+        contexts = ContextCache.intern(contexts);
         while (true) {
             Map.Entry<String, String> removeEnt = Maps.immutableEntry(parent.getContainingCollection().getIdentifier(),
                     parent.getIdentifier());
@@ -212,12 +366,13 @@ public boolean removeParent(Set<Context> contexts, Subject parent) {
     public boolean clearParents() {
         boolean wasEmpty = this.parents.isEmpty();
         this.parents.clear();
+        changed();
         return !wasEmpty;
     }
 
     @Override
     public boolean clearParents(Set<Context> contexts) {
-        return this.parents.remove(contexts) != null;
+        return removeCollection(this.parents, contexts);
     }
 
     @Override
@@ -236,7 +391,8 @@ public boolean setOption(Set<Context> contexts, String key, @Nullable String val
         Map<String, String> newMap;
 
         if (origMap == null) {
-            if ((origMap = this.options.putIfAbsent(ImmutableSet.copyOf(contexts), ImmutableMap.of(key.toLowerCase(), value))) == null) {
+            if ((origMap = this.options.putIfAbsent(ContextCache.intern(contexts), ImmutableMap.of(key.toLowerCase(), value))) == null) {
+                changed();
                 return true;
             }
         }
@@ -255,17 +411,30 @@ public boolean setOption(Set<Context> contexts, String key, @Nullable String val
             }
             newMap = Collections.unmodifiableMap(newMap);
         } while (!this.options.replace(contexts, origMap, newMap));
+        changed();
         return true;
     }
 
     @Override
     public boolean clearOptions(Set<Context> contexts) {
-        return this.options.remove(contexts) != null;
+        return removeCollection(this.options, contexts);
     }
 
     @Override
     public boolean clearOptions() {
         this.options.clear();
+        changed();
         return true;
     }
+
+    private static final class EffectiveTree {
+
+        final long version;
+        final NodeTree tree;
+
+        EffectiveTree(long version, NodeTree tree) {
+            this.version = version;
+            this.tree = tree;
+        }
+    }
 }
@@ -27,23 +27,32 @@
 import com.google.common.collect.ImmutableMap;
 import org.spongepowered.api.util.Tristate;
 
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.regex.Pattern;
 
 /**
  * An immutable tree structure for determining node data. Any changes will create new copies of the necessary tree objects.
  * Keys are case-insensitive.
  * Segments of nodes are split by the '.' character
+ *
+ * <p>Lookups scan the node in place and match each segment against the
+ * lower case keys of the children without creating substrings. The results
+ * of lookups are memoised for the first 1024 distinct nodes looked up in a
+ * tree, which is safe because trees never change.</p>
  */
 public class NodeTree {
 
     private static final Pattern SPLIT_REGEX = Pattern.compile("\\.");
+    private static final int MAX_MEMOISED = 1024;
     private final Node rootNode;
-
+    // Created on the first lookup, as intermediate copies are never queried
+    private volatile ConcurrentMap<String, Tristate> memoised;
 
     private NodeTree(Tristate value) {
-        this.rootNode = new Node(new HashMap<String, Node>());
+        this.rootNode = new Node();
         this.rootNode.value = value;
     }
 
@@ -71,16 +80,15 @@ public static NodeTree of(Map<String, Boolean> values) {
     public static NodeTree of(Map<String, Boolean> values, Tristate defaultValue) {
         NodeTree newTree = new NodeTree(defaultValue);
         for (Map.Entry<String, Boolean> value : values.entrySet()) {
-            String[] parts = SPLIT_REGEX.split(value.getKey().toLowerCase());
+            String[] parts = SPLIT_REGEX.split(toLowerCase(value.getKey()));
             Node currentNode = newTree.rootNode;
             for (String part : parts) {
-                if (currentNode.children.containsKey(part)) {
-                    currentNode = currentNode.children.get(part);
-                } else {
-                    Node newNode = new Node(new HashMap<String, Node>());
-                    currentNode.children.put(part, newNode);
-                    currentNode = newNode;
+                Node child = currentNode.get(part);
+                if (child == null) {
+                    child = new Node();
+                    currentNode.put(part, child);
                 }
+                currentNode = child;
             }
             currentNode.value = Tristate.fromBoolean(value.getValue());
         }
@@ -94,17 +102,47 @@ public static NodeTree of(Map<String, Boolean> values, Tristate defaultValue) {
      * @return The tristate value for the given node
      */
     public Tristate get(String node) {
-        String[] parts = SPLIT_REGEX.split(node.toLowerCase());
+        ConcurrentMap<String, Tristate> memoised = this.memoised;
+        if (memoised == null) {
+            // Racing lookups may each create a map, losing only memoised values
+            memoised = this.memoised = new ConcurrentHashMap<String, Tristate>(16, 0.75f, 1);
+        }
+        Tristate value = memoised.get(node);
+        if (value == null) {
+            value = resolve(node);
+            if (memoised.size() < MAX_MEMOISED) {
+                memoised.put(node, value);
+            }
+        }
+        return value;
+    }
+
+    private Tristate resolve(String node) {
+        // Trailing empty segments are ignored, as they are when splitting
+        int end = node.length();
+        while (end > 0 && node.charAt(end - 1) == '.') {
+            end--;
+        }
+        if (end == 0 && node.length() > 0) {
+            return Tristate.UNDEFINED;
+        }
+
         Node currentNode = this.rootNode;
         Tristate lastUndefinedVal = Tristate.UNDEFINED;
-        for (String str : parts) {
-            if (!currentNode.children.containsKey(str)) {
+        int start = 0;
+        while (start <= end) {
+            int split = node.indexOf('.', start);
+            if (split < 0 || split > end) {
+                split = end;
+            }
+            currentNode = currentNode.get(node, start, split);
+            if (currentNode == null) {
                 break;
             }
-            currentNode = currentNode.children.get(str);
             if (currentNode.value != Tristate.UNDEFINED) {
                 lastUndefinedVal = currentNode.value;
             }
+            start = split + 1;
         }
         return lastUndefinedVal;
 
@@ -117,8 +155,11 @@ public Tristate get(String node) {
      */
     public Map<String, Boolean> asMap() {
         ImmutableMap.Builder<String, Boolean> ret = ImmutableMap.builder();
-        for (Map.Entry<String, Node> ent : this.rootNode.children.entrySet()) {
-            populateMap(ret, ent.getKey(), ent.getValue());
+        Node root = this.rootNode;
+        for (int i = 0; i < root.keys.length; i++) {
+            if (root.keys[i] != null) {
+                populateMap(ret, root.keys[i], root.children[i]);
+            }
         }
         return ret.build();
     }
@@ -127,8 +168,10 @@ private void populateMap(ImmutableMap.Builder<String, Boolean> values, String pr
         if (currentNode.value != Tristate.UNDEFINED) {
             values.put(prefix, currentNode.value.asBoolean());
         }
-        for (Map.Entry<String, Node> ent : currentNode.children.entrySet()) {
-            populateMap(values, prefix + '.' + ent.getKey(), ent.getValue());
+        for (int i = 0; i < currentNode.keys.length; i++) {
+            if (currentNode.keys[i] != null) {
+                populateMap(values, prefix + '.' + currentNode.keys[i], currentNode.children[i]);
+            }
         }
     }
 
@@ -140,16 +183,17 @@ private void populateMap(ImmutableMap.Builder<String, Boolean> values, String pr
      * @return The new, modified node tree
      */
     public NodeTree withValue(String node, Tristate value) {
-        String[] parts = SPLIT_REGEX.split(node.toLowerCase());
-        Node newRoot = new Node(new HashMap<String, Node>(this.rootNode.children));
+        String[] parts = SPLIT_REGEX.split(toLowerCase(node));
+        Node newRoot = this.rootNode.copy();
         Node newPtr = newRoot;
         Node currentPtr = this.rootNode;
 
         newPtr.value = currentPtr == null ? Tristate.UNDEFINED : currentPtr.value;
         for (String part : parts) {
-            Node oldChild = currentPtr == null ? null : currentPtr.children.get(part);
-            Node newChild = new Node(oldChild != null ? new HashMap<String, Node>(oldChild.children) : new HashMap<String, Node>());
-            newPtr.children.put(part, newChild);
+            Node oldChild = currentPtr == null ? null : currentPtr.get(part);
+            Node newChild = oldChild != null ? oldChild.copy() : new Node();
+            newChild.value = Tristate.UNDEFINED;
+            newPtr.put(part, newChild);
             currentPtr = oldChild;
             newPtr = newChild;
         }
@@ -171,13 +215,105 @@ public NodeTree withAll(Map<String, Tristate> values) {
         return ret;
     }
 
+    /**
+     * Lower cases a node one character at a time, the same way segments
+     * are hashed by {@link Node#hash(String, int, int)}.
+     */
+    private static String toLowerCase(String node) {
+        char[] chars = node.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            chars[i] = Character.toLowerCase(chars[i]);
+        }
+        return new String(chars);
+    }
+
+    /**
+     * A node holding its children in an open addressed table of lower case
+     * keys, so a segment of a larger string can be looked up in place.
+     *
+     * <p>Nodes are only modified while the tree containing them is being
+     * built.</p>
+     */
     private static class Node {
 
-        private final Map<String, Node> children;
+        private static final String[] NO_KEYS = new String[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        private String[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+        private int size;
         private Tristate value = Tristate.UNDEFINED;
 
-        private Node(Map<String, Node> children) {
-            this.children = children;
+        private Node() {
+        }
+
+        private static int hash(String s, int start, int end) {
+            int h = 0;
+            for (int i = start; i < end; i++) {
+                h = 31 * h + Character.toLowerCase(s.charAt(i));
+            }
+            return h ^ (h >>> 16);
+        }
+
+        Node get(String key) {
+            return get(key, 0, key.length());
+        }
+
+        Node get(String node, int start, int end) {
+            if (this.size == 0) {
+                return null;
+            }
+            int length = end - start;
+            int mask = this.keys.length - 1;
+            for (int i = hash(node, start, end) & mask; this.keys[i] != null; i = (i + 1) & mask) {
+                String key = this.keys[i];
+                if (key.length() == length && node.regionMatches(true, start, key, 0, length)) {
+                    return this.children[i];
+                }
+            }
+            return null;
+        }
+
+        void put(String key, Node child) {
+            if ((this.size + 1) * 2 > this.keys.length) {
+                resize(Math.max(4, this.keys.length * 2));
+            }
+            int mask = this.keys.length - 1;
+            int i = hash(key, 0, key.length()) & mask;
+            while (this.keys[i] != null) {
+                if (this.keys[i].equals(key)) {
+                    this.children[i] = child;
+                    return;
+                }
+                i = (i + 1) & mask;
+            }
+            this.keys[i] = key;
+            this.children[i] = child;
+            this.size++;
+        }
+
+        private void resize(int capacity) {
+            String[] oldKeys = this.keys;
+            Node[] oldChildren = this.children;
+            this.keys = new String[capacity];
+            this.children = new Node[capacity];
+            this.size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != null) {
+                    put(oldKeys[i], oldChildren[i]);
+                }
+            }
+        }
+
+        Node copy() {
+            Node copy = new Node();
+            if (this.size > 0) {
+                copy.keys = Arrays.copyOf(this.keys, this.keys.length);
+                copy.children = Arrays.copyOf(this.children, this.children.length);
+                copy.size = this.size;
+            }
+            copy.value = this.value;
+            return copy;
         }
     }
 }
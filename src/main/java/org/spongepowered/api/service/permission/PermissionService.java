@@ -26,9 +26,10 @@
 
 import org.spongepowered.api.service.permission.context.ContextCalculator;
 
+import java.util.BitSet;
+import java.util.List;
 import java.util.Map;
 
-
 /**
  * Represents a provider for permissions. This is the interface that a
  * permissions plugin must implement to provide permissions for a user.
@@ -80,6 +81,23 @@ public interface PermissionService {
      */
     Map<String, SubjectCollection> getKnownSubjects();
 
+    /**
+     * Tests a permission for many subjects at once, each in its active
+     * contexts, such as when sending a message to every subject with a
+     * permission.
+     *
+     * <p>Implementations should share the work of resolving inherited
+     * values between subjects with the same parents and contexts.
+     * {@link BulkPermissionEvaluator} does so for subjects whose data is
+     * held in {@link MemorySubjectData}.</p>
+     *
+     * @param subjects The subjects to test
+     * @param permission The permission to test
+     * @return A bit set with the bit at each subject's index set if that
+     *     subject has the permission
+     */
+    BitSet hasPermission(List<? extends Subject> subjects, String permission);
+
     /**
      * Register a function that calculates contexts relevant to a given user at
      * the time the function is called.
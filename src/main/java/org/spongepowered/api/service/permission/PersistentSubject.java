@@ -0,0 +1,162 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.permission;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.ImmutableList;
+import org.spongepowered.api.service.permission.context.Context;
+import org.spongepowered.api.util.Tristate;
+import org.spongepowered.api.util.command.CommandSource;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A subject of a {@link PersistentSubjectCollection}.
+ *
+ * <p>Permissions are resolved from the subject's transient data, then its
+ * persistent data and then the default data of the service, each including
+ * the values inherited from parents. Subjects have no active contexts of
+ * their own.</p>
+ */
+public class PersistentSubject implements Subject {
+
+    private final PermissionService service;
+    private final PersistentSubjectCollection collection;
+    private final PersistentSubjectData data;
+    private final MemorySubjectData transientData;
+
+    /**
+     * Creates a new subject.
+     *
+     * @param service The service the subject belongs to
+     * @param collection The collection containing the subject
+     * @param data The persistent data of the subject
+     */
+    PersistentSubject(PermissionService service, PersistentSubjectCollection collection, PersistentSubjectData data) {
+        this.service = checkNotNull(service, "service");
+        this.collection = checkNotNull(collection, "collection");
+        this.data = checkNotNull(data, "data");
+        this.transientData = new MemorySubjectData(service);
+    }
+
+    @Override
+    public String getIdentifier() {
+        return this.data.getIdentifier();
+    }
+
+    @Override
+    public Optional<CommandSource> getCommandSource() {
+        return Optional.absent();
+    }
+
+    @Override
+    public SubjectCollection getContainingCollection() {
+        return this.collection;
+    }
+
+    @Override
+    public PersistentSubjectData getSubjectData() {
+        return this.data;
+    }
+
+    @Override
+    public MemorySubjectData getTransientSubjectData() {
+        return this.transientData;
+    }
+
+    @Override
+    public boolean hasPermission(Set<Context> contexts, String permission) {
+        return getPermissionValue(contexts, permission).asBoolean();
+    }
+
+    @Override
+    public boolean hasPermission(String permission) {
+        return hasPermission(getActiveContexts(), permission);
+    }
+
+    @Override
+    public Tristate getPermissionValue(Set<Context> contexts, String permission) {
+        Tristate value = this.transientData.getEffectivePermissionValue(contexts, permission);
+        if (value == Tristate.UNDEFINED) {
+            value = this.data.getEffectivePermissionValue(contexts, permission);
+        }
+        if (value == Tristate.UNDEFINED) {
+            SubjectData defaults = this.service.getDefaultData();
+            if (defaults instanceof MemorySubjectData) {
+                value = ((MemorySubjectData) defaults).getEffectivePermissionValue(contexts, permission);
+            } else if (defaults != null) {
+                value = NodeTree.of(defaults.getPermissions(contexts)).get(permission);
+            }
+        }
+        return value;
+    }
+
+    @Override
+    public boolean isChildOf(Subject parent) {
+        return isChildOf(getActiveContexts(), parent);
+    }
+
+    @Override
+    public boolean isChildOf(Set<Context> contexts, Subject parent) {
+        return isChildOf(this, contexts, parent, new IdentityHashMap<Subject, Boolean>());
+    }
+
+    private static boolean isChildOf(Subject subject, Set<Context> contexts, Subject parent, Map<Subject, Boolean> visited) {
+        if (visited.put(subject, Boolean.TRUE) != null) {
+            return false;
+        }
+        for (Subject candidate : subject.getParents(contexts)) {
+            if (candidate.equals(parent) || isChildOf(candidate, contexts, parent, visited)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public List<Subject> getParents() {
+        return getParents(getActiveContexts());
+    }
+
+    @Override
+    public List<Subject> getParents(Set<Context> contexts) {
+        return ImmutableList.<Subject>builder()
+                .addAll(this.transientData.getParents(contexts))
+                .addAll(this.data.getParents(contexts))
+                .build();
+    }
+
+    @Override
+    public Set<Context> getActiveContexts() {
+        return Collections.emptySet();
+    }
+
+}
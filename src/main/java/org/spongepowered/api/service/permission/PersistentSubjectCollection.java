@@ -0,0 +1,261 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.permission;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import com.google.common.base.Function;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Iterables;
+import com.google.common.collect.MapMaker;
+import org.spongepowered.api.service.permission.context.Context;
+import org.spongepowered.api.service.persistence.MappedDataStore;
+import org.spongepowered.api.util.Tristate;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A subject collection which saves the data of its subjects to a
+ * {@link MappedDataStore}, and only keeps recently used subjects in memory.
+ *
+ * <p>The store is an append-only journal holding the full data of a subject
+ * in each frame. A frame is appended whenever the data changes, and the
+ * journal is compacted once it holds about as many outdated frames as
+ * subjects.</p>
+ *
+ * <p>Subjects are loaded when they are first requested, and are evicted
+ * from memory once they have been idle for a while or the most recently
+ * used subjects fill the collection. A subject which is still referenced
+ * elsewhere is returned again rather than loaded twice.</p>
+ */
+public class PersistentSubjectCollection implements SubjectCollection, Closeable {
+
+    /**
+     * The default maximum number of subjects which are kept in memory while
+     * they are idle.
+     */
+    public static final int DEFAULT_MAXIMUM_LOADED = 1024;
+
+    /**
+     * The default time in minutes a subject is kept in memory while idle.
+     */
+    public static final long DEFAULT_IDLE_MINUTES = 10;
+
+    private static final int MINIMUM_COMPACTION_THRESHOLD = 1024;
+
+    private final String identifier;
+    private final PermissionService service;
+    private final MappedDataStore store;
+    private final ConcurrentMap<String, PersistentSubject> referenced = new MapMaker().weakValues().makeMap();
+    private final LoadingCache<String, PersistentSubject> loaded;
+    private final AtomicInteger writes = new AtomicInteger();
+
+    /**
+     * Creates a collection saving its subjects to the given file, with the
+     * default limits on the subjects kept in memory.
+     *
+     * @param identifier The identifier of the collection
+     * @param service The service the collection belongs to
+     * @param file The file to save subjects to
+     * @throws IOException If the file couldn't be opened
+     */
+    public PersistentSubjectCollection(String identifier, PermissionService service, File file) throws IOException {
+        this(identifier, service, file, DEFAULT_MAXIMUM_LOADED, DEFAULT_IDLE_MINUTES, TimeUnit.MINUTES);
+    }
+
+    /**
+     * Creates a collection saving its subjects to the given file.
+     *
+     * @param identifier The identifier of the collection
+     * @param service The service the collection belongs to
+     * @param file The file to save subjects to
+     * @param maximumLoaded The maximum number of idle subjects kept in
+     *     memory
+     * @param idleTime The time a subject is kept in memory while idle
+     * @param unit The unit of the idle time
+     * @throws IOException If the file couldn't be opened
+     */
+    public PersistentSubjectCollection(String identifier, PermissionService service, File file, int maximumLoaded, long idleTime,
+            TimeUnit unit) throws IOException {
+        checkNotNull(identifier, "identifier");
+        checkNotNull(service, "service");
+        checkNotNull(file, "file");
+        checkArgument(maximumLoaded >= 0, "maximumLoaded must be non-negative");
+        checkArgument(idleTime >= 0, "idleTime must be non-negative");
+        checkNotNull(unit, "unit");
+        this.identifier = identifier;
+        this.service = service;
+        this.store = MappedDataStore.open(file);
+        this.loaded = CacheBuilder.newBuilder()
+                .maximumSize(maximumLoaded)
+                .expireAfterAccess(idleTime, unit)
+                .build(
+                        new CacheLoader<String, PersistentSubject>() {
+                            @Override
+                            public PersistentSubject load(String identifier) {
+                                return loadSubject(identifier);
+                            }
+                        });
+    }
+
+    @Override
+    public String getIdentifier() {
+        return this.identifier;
+    }
+
+    @Override
+    public PersistentSubject get(String identifier) {
+        checkNotNull(identifier, "identifier");
+        checkState(!this.store.isClosed(), "This collection is closed");
+        return this.loaded.getUnchecked(identifier.toLowerCase());
+    }
+
+    private PersistentSubject loadSubject(String identifier) {
+        while (true) {
+            PersistentSubject subject = this.referenced.get(identifier);
+            if (subject != null) {
+                return subject;
+            }
+            PersistentSubjectData data = new PersistentSubjectData(this.service, this, identifier);
+            data.load(this.store.get(identifier));
+            subject = new PersistentSubject(this.service, this, data);
+            if (this.referenced.putIfAbsent(identifier, subject) == null) {
+                return subject;
+            }
+        }
+    }
+
+    /**
+     * Appends the current state of the given data to the journal.
+     *
+     * @param data The data to save
+     * @throws RuntimeException If the data couldn't be written
+     */
+    void save(PersistentSubjectData data) {
+        try {
+            // Snapshots are taken and written under the lock, so the last
+            // frame written for a subject always holds its latest state
+            synchronized (data) {
+                this.store.put(data.getIdentifier(), data.toContainer());
+            }
+            if (this.writes.incrementAndGet() > Math.max(MINIMUM_COMPACTION_THRESHOLD, this.store.size())) {
+                compact();
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to save subject " + data.getIdentifier() + " of " + this.identifier, e);
+        }
+    }
+
+    /**
+     * Rewrites the journal to hold only the latest data of each subject.
+     *
+     * @throws IOException If the journal couldn't be rewritten
+     */
+    public void compact() throws IOException {
+        this.writes.set(0);
+        this.store.compact();
+    }
+
+    /**
+     * Forces all saved data to the disk.
+     *
+     * @throws IOException If the data couldn't be written
+     */
+    public void commit() throws IOException {
+        this.store.commit();
+    }
+
+    /**
+     * Gets the number of subjects currently kept in memory because they
+     * were used recently.
+     *
+     * @return The number of loaded subjects
+     */
+    public long getLoadedCount() {
+        this.loaded.cleanUp();
+        return this.loaded.size();
+    }
+
+    @Override
+    public boolean hasRegistered(String identifier) {
+        checkNotNull(identifier, "identifier");
+        return this.store.contains(identifier.toLowerCase());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Subjects are loaded as the returned iterable is iterated, and may
+     * be evicted again afterwards.</p>
+     */
+    @Override
+    public Iterable<Subject> getAllSubjects() {
+        return Iterables.transform(this.store.getKeys(), new Function<String, Subject>() {
+            @Override
+            public Subject apply(String identifier) {
+                return get(identifier);
+            }
+        });
+    }
+
+    @Override
+    public Map<Subject, Boolean> getAllWithPermission(String permission) {
+        return getAllWithPermission(Collections.<Context>emptySet(), permission);
+    }
+
+    @Override
+    public Map<Subject, Boolean> getAllWithPermission(Set<Context> contexts, String permission) {
+        checkNotNull(contexts, "contexts");
+        checkNotNull(permission, "permission");
+        ImmutableMap.Builder<Subject, Boolean> ret = ImmutableMap.builder();
+        for (Subject subject : getAllSubjects()) {
+            Tristate value = subject.getPermissionValue(contexts, permission);
+            if (value != Tristate.UNDEFINED) {
+                ret.put(subject, value.asBoolean());
+            }
+        }
+        return ret.build();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.loaded.invalidateAll();
+        this.store.close();
+    }
+
+}
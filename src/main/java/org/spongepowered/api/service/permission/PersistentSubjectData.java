@@ -0,0 +1,181 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.permission;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataView;
+import org.spongepowered.api.data.MemoryDataContainer;
+import org.spongepowered.api.service.permission.context.Context;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A subject data implementation which is held in memory like
+ * {@link MemorySubjectData}, and saved to the journal of its
+ * {@link PersistentSubjectCollection} whenever it changes.
+ *
+ * <p>This class is thread-safe.</p>
+ */
+public class PersistentSubjectData extends MemorySubjectData {
+
+    private static final DataQuery PERMISSIONS = DataQuery.of("Permissions");
+    private static final DataQuery PARENTS = DataQuery.of("Parents");
+    private static final DataQuery OPTIONS = DataQuery.of("Options");
+    private static final DataQuery CONTEXTS = DataQuery.of("Contexts");
+    private static final DataQuery VALUES = DataQuery.of("Values");
+    private static final DataQuery TYPE = DataQuery.of("Type");
+    private static final DataQuery NAME = DataQuery.of("Name");
+    private static final DataQuery COLLECTION = DataQuery.of("Collection");
+    private static final DataQuery IDENTIFIER = DataQuery.of("Identifier");
+
+    private final PersistentSubjectCollection collection;
+    private final String identifier;
+
+    /**
+     * Creates a new subject data instance for the subject with the given
+     * identifier, which is saved to the journal of the collection.
+     *
+     * @param service The service to request instances of permission
+     *     subjects from
+     * @param collection The collection of the subject
+     * @param identifier The identifier of the subject
+     */
+    PersistentSubjectData(PermissionService service, PersistentSubjectCollection collection, String identifier) {
+        super(service);
+        this.collection = checkNotNull(collection, "collection");
+        this.identifier = checkNotNull(identifier, "identifier");
+    }
+
+    /**
+     * Gets the identifier of the subject this data belongs to.
+     *
+     * @return The identifier
+     */
+    public String getIdentifier() {
+        return this.identifier;
+    }
+
+    /**
+     * Restores the data saved by {@link #toContainer()}, if any, without
+     * saving it again. Changes made after this are saved.
+     *
+     * @param view The saved data
+     */
+    void load(Optional<? extends DataView> view) {
+        if (view.isPresent()) {
+            for (DataView entry : view.get().getViewList(PERMISSIONS).or(ImmutableList.<DataView>of())) {
+                Map<String, Boolean> permissions = Maps.newHashMap();
+                for (Map.Entry<?, ?> value : entry.getMap(VALUES).get().entrySet()) {
+                    permissions.put(value.getKey().toString(), (Boolean) value.getValue());
+                }
+                restorePermissions(readContexts(entry), permissions);
+            }
+            for (DataView entry : view.get().getViewList(PARENTS).or(ImmutableList.<DataView>of())) {
+                List<Map.Entry<String, String>> parents = new ArrayList<Map.Entry<String, String>>();
+                for (DataView parent : entry.getViewList(VALUES).get()) {
+                    parents.add(Maps.immutableEntry(parent.getString(COLLECTION).get(), parent.getString(IDENTIFIER).get()));
+                }
+                restoreParentIdentifiers(readContexts(entry), parents);
+            }
+            for (DataView entry : view.get().getViewList(OPTIONS).or(ImmutableList.<DataView>of())) {
+                Map<String, String> options = Maps.newHashMap();
+                for (Map.Entry<?, ?> value : entry.getMap(VALUES).get().entrySet()) {
+                    options.put(value.getKey().toString(), value.getValue().toString());
+                }
+                restoreOptions(readContexts(entry), options);
+            }
+        }
+    }
+
+    private static Set<Context> readContexts(DataView entry) {
+        ImmutableSet.Builder<Context> contexts = ImmutableSet.builder();
+        for (DataView context : entry.getViewList(CONTEXTS).get()) {
+            contexts.add(new Context(context.getString(TYPE).get(), context.getString(NAME).get()));
+        }
+        return contexts.build();
+    }
+
+    private static List<DataView> writeContexts(Set<Context> contexts) {
+        List<DataView> ret = new ArrayList<DataView>(contexts.size());
+        for (Context context : contexts) {
+            ret.add(new MemoryDataContainer().set(TYPE, context.getType()).set(NAME, context.getName()));
+        }
+        return ret;
+    }
+
+    /**
+     * Creates a container holding all of the permissions, parents and
+     * options of this subject data.
+     *
+     * @return The container
+     */
+    public DataContainer toContainer() {
+        DataContainer container = new MemoryDataContainer();
+
+        List<DataView> permissions = new ArrayList<DataView>();
+        for (Map.Entry<Set<Context>, Map<String, Boolean>> ent : getAllPermissions().entrySet()) {
+            permissions.add(new MemoryDataContainer()
+                    .set(CONTEXTS, writeContexts(ent.getKey()))
+                    .set(VALUES, new LinkedHashMap<String, Boolean>(ent.getValue())));
+        }
+        container.set(PERMISSIONS, permissions);
+
+        List<DataView> parents = new ArrayList<DataView>();
+        for (Map.Entry<Set<Context>, List<Map.Entry<String, String>>> ent : getAllParentIdentifiers().entrySet()) {
+            List<DataView> values = new ArrayList<DataView>(ent.getValue().size());
+            for (Map.Entry<String, String> parent : ent.getValue()) {
+                values.add(new MemoryDataContainer().set(COLLECTION, parent.getKey()).set(IDENTIFIER, parent.getValue()));
+            }
+            parents.add(new MemoryDataContainer().set(CONTEXTS, writeContexts(ent.getKey())).set(VALUES, values));
+        }
+        container.set(PARENTS, parents);
+
+        List<DataView> options = new ArrayList<DataView>();
+        for (Map.Entry<Set<Context>, Map<String, String>> ent : getAllOptions().entrySet()) {
+            options.add(new MemoryDataContainer()
+                    .set(CONTEXTS, writeContexts(ent.getKey()))
+                    .set(VALUES, new LinkedHashMap<String, String>(ent.getValue())));
+        }
+        container.set(OPTIONS, options);
+        return container;
+    }
+
+    @Override
+    protected void onChange() {
+        this.collection.save(this);
+    }
+
+}
@@ -0,0 +1,181 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.permission.context;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
+import com.google.common.collect.MapMaker;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.api.event.Subscribe;
+import org.spongepowered.api.event.entity.player.PlayerChangeWorldEvent;
+import org.spongepowered.api.event.entity.player.PlayerQuitEvent;
+import org.spongepowered.api.service.permission.PermissionService;
+import org.spongepowered.api.service.permission.Subject;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Calculates the active contexts of subjects with the registered
+ * {@link ContextCalculator}s, and remembers them for the rest of the
+ * current tick.
+ *
+ * <p>A {@link PermissionService} using this cache should call
+ * {@link #nextTick()} once per tick and may register the cache as an event
+ * listener, which forgets the contexts of players changing worlds or
+ * leaving. Other changes relevant to a calculator can be applied with
+ * {@link #invalidate(Subject)}.</p>
+ *
+ * <p>The calculated sets are {@link #intern(Set) interned}, so maps keyed
+ * by context sets, like those of
+ * {@link org.spongepowered.api.service.permission.MemorySubjectData}, find
+ * their keys by identity.</p>
+ */
+public class ContextCache {
+
+    private static final Interner<Set<Context>> interner = Interners.newWeakInterner();
+
+    private final List<ContextCalculator> calculators = new CopyOnWriteArrayList<ContextCalculator>();
+    private final ConcurrentMap<Subject, Contexts> contexts = new MapMaker().weakKeys().makeMap();
+    private final AtomicLong tick = new AtomicLong();
+    private final AtomicLong invalidations = new AtomicLong();
+
+    /**
+     * Gets the canonical immutable instance of the given set of contexts.
+     *
+     * @param contexts The contexts
+     * @return The canonical set equal to the given one
+     */
+    public static Set<Context> intern(Set<Context> contexts) {
+        checkNotNull(contexts, "contexts");
+        return interner.intern(ImmutableSet.copyOf(contexts));
+    }
+
+    /**
+     * Registers a calculator of the contexts of subjects.
+     *
+     * @param calculator The calculator
+     */
+    public void registerCalculator(ContextCalculator calculator) {
+        this.calculators.add(checkNotNull(calculator, "calculator"));
+        invalidateAll();
+    }
+
+    /**
+     * Gets the active contexts of the given subject, calculating them if
+     * they haven't been yet during the current tick.
+     *
+     * @param subject The subject
+     * @return The interned set of active contexts
+     */
+    public Set<Context> getActiveContexts(Subject subject) {
+        checkNotNull(subject, "subject");
+        long currentTick = this.tick.get();
+        Contexts cached = this.contexts.get(subject);
+        if (cached != null && cached.tick == currentTick) {
+            return cached.contexts;
+        }
+        long currentInvalidations = this.invalidations.get();
+        Set<Context> accumulator = new HashSet<Context>();
+        for (ContextCalculator calculator : this.calculators) {
+            calculator.accumulateContexts(subject, accumulator);
+        }
+        Set<Context> calculated = intern(accumulator);
+
+        // Don't cache contexts calculated while they were invalidated
+        Contexts calculatedContexts = new Contexts(currentTick, calculated);
+        boolean stored = cached == null ? this.contexts.putIfAbsent(subject, calculatedContexts) == null
+                : this.contexts.replace(subject, cached, calculatedContexts);
+        if (stored && this.invalidations.get() != currentInvalidations) {
+            this.contexts.remove(subject, calculatedContexts);
+        }
+        return calculated;
+    }
+
+    /**
+     * Forgets the contexts calculated during the previous tick.
+     */
+    public void nextTick() {
+        this.tick.incrementAndGet();
+    }
+
+    /**
+     * Forgets the contexts calculated for the given subject.
+     *
+     * @param subject The subject
+     */
+    public void invalidate(Subject subject) {
+        checkNotNull(subject, "subject");
+        this.invalidations.incrementAndGet();
+        this.contexts.remove(subject);
+    }
+
+    /**
+     * Forgets the contexts calculated for all subjects.
+     */
+    public void invalidateAll() {
+        this.invalidations.incrementAndGet();
+        this.contexts.clear();
+    }
+
+    /**
+     * Forgets the contexts of a player changing worlds.
+     *
+     * @param event The event
+     */
+    @Subscribe(order = Order.POST)
+    public void onPlayerChangeWorld(PlayerChangeWorldEvent event) {
+        invalidate(event.getEntity());
+    }
+
+    /**
+     * Forgets the contexts of a player leaving the server.
+     *
+     * @param event The event
+     */
+    @Subscribe(order = Order.POST)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        invalidate(event.getEntity());
+    }
+
+    private static final class Contexts {
+
+        final long tick;
+        final Set<Context> contexts;
+
+        Contexts(long tick, Set<Context> contexts) {
+            this.tick = tick;
+            this.contexts = contexts;
+        }
+    }
+
+}
@@ -0,0 +1,157 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.persistence;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import com.google.common.base.Optional;
+import com.google.common.io.Files;
+import org.spongepowered.api.data.BinaryDataContainer;
+import org.spongepowered.api.data.BinaryDataReader;
+import org.spongepowered.api.data.BinaryDataWriter;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataSerializable;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * A {@link DataSource} storing a single {@link DataContainer} in a file,
+ * in the binary format of {@link BinaryDataWriter}.
+ */
+public class BinaryDataSource implements DataSource {
+
+    private final File file;
+    private final SerializationService service;
+    private volatile boolean closed;
+
+    /**
+     * Creates a new source backed by the given file.
+     *
+     * @param file The file to store the data in
+     * @param service The service to look up {@link DataBuilder}s with
+     */
+    public BinaryDataSource(File file, SerializationService service) {
+        this.file = checkNotNull(file, "file");
+        this.service = checkNotNull(service, "service");
+    }
+
+    /**
+     * Gets the file this source stores its data in.
+     *
+     * @return The file
+     */
+    public File getFile() {
+        return this.file;
+    }
+
+    @Override
+    public <T extends DataSerializable> Optional<T> deserialize(Class<T> clazz) throws InvalidDataException {
+        checkNotNull(clazz, "clazz");
+        Optional<DataBuilder<T>> builder = this.service.getBuilder(clazz);
+        if (!builder.isPresent()) {
+            throw new InvalidDataException("No builder is registered for " + clazz.getName());
+        }
+        Optional<DataContainer> container = view();
+        if (!container.isPresent()) {
+            return Optional.absent();
+        }
+        return builder.get().build(container.get());
+    }
+
+    @Override
+    public Optional<DataContainer> deserialize() {
+        checkState(!this.closed, "This source is closed");
+        if (!this.file.isFile()) {
+            return Optional.absent();
+        }
+        try {
+            DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(this.file)));
+            try {
+                return Optional.of(new BinaryDataReader(in).read());
+            } finally {
+                in.close();
+            }
+        } catch (IOException e) {
+            throw new InvalidDataException("Unable to read " + this.file, e);
+        }
+    }
+
+    /**
+     * Reads the data of this source into a read-only container, which only
+     * decodes the values that are queried from it.
+     *
+     * @return A read-only container with the data of this source
+     * @see BinaryDataContainer
+     */
+    public Optional<DataContainer> view() {
+        checkState(!this.closed, "This source is closed");
+        if (!this.file.isFile()) {
+            return Optional.absent();
+        }
+        try {
+            return Optional.<DataContainer>of(new BinaryDataContainer(ByteBuffer.wrap(Files.toByteArray(this.file))));
+        } catch (IOException e) {
+            throw new InvalidDataException("Unable to read " + this.file, e);
+        }
+    }
+
+    @Override
+    public void serialize(DataSerializable section) throws InvalidDataException {
+        checkNotNull(section, "section");
+        checkState(!this.closed, "This source is closed");
+        try {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(this.file)));
+            try {
+                new BinaryDataWriter(out).write(section.toContainer());
+            } finally {
+                out.close();
+            }
+        } catch (IOException e) {
+            throw new InvalidDataException("Unable to write " + this.file, e);
+        }
+    }
+
+    /**
+     * Closes this source, after which it can no longer be used.
+     */
+    public void close() {
+        this.closed = true;
+    }
+
+    @Override
+    public boolean isClosed() {
+        return this.closed;
+    }
+
+}
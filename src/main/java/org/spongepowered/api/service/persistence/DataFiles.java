@@ -0,0 +1,111 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.persistence;
+
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * File operations shared by the file based data sources.
+ */
+final class DataFiles {
+
+    private DataFiles() {
+    }
+
+    /**
+     * Replaces the target file with the source file by renaming it.
+     *
+     * <p>Where a file can't be renamed over an existing one, the target is
+     * first moved aside to a backup file, which is removed once the source
+     * is in place. A replacement interrupted by a crash in between is
+     * completed by {@link #recover(File, File)}.</p>
+     *
+     * @param source The file to rename, which must be completely written
+     * @param target The file to replace
+     * @throws IOException If the file couldn't be replaced
+     */
+    static void replace(File source, File target) throws IOException {
+        if (source.renameTo(target)) {
+            return;
+        }
+        File backup = getBackup(target);
+        if (target.exists()) {
+            delete(backup);
+            if (!target.renameTo(backup)) {
+                throw new IOException("Unable to move " + target + " to " + backup);
+            }
+        }
+        if (!source.renameTo(target)) {
+            throw new IOException("Unable to replace " + target + " with " + source);
+        }
+        backup.delete();
+    }
+
+    /**
+     * Completes a {@link #replace(File, File)} of the target file with the
+     * source file that was interrupted, if any.
+     *
+     * <p>The target is only moved aside once the source is completely
+     * written, so if the target is missing or empty the source is renamed
+     * into place, or the previous target is restored if the source is
+     * gone.</p>
+     *
+     * @param source The file that was renamed
+     * @param target The file that was replaced
+     * @throws IOException If the replacement couldn't be completed
+     */
+    static void recover(File source, File target) throws IOException {
+        File backup = getBackup(target);
+        if (!backup.exists()) {
+            return;
+        }
+        if (target.length() == 0) {
+            delete(target);
+            File recovered = source.isFile() ? source : backup;
+            if (!recovered.renameTo(target)) {
+                throw new IOException("Unable to recover " + target + " from " + recovered);
+            }
+        }
+        delete(backup);
+    }
+
+    private static File getBackup(File file) {
+        return new File(file.getPath() + ".old");
+    }
+
+    /**
+     * Deletes the file, if it exists.
+     *
+     * @param file The file to delete
+     * @throws IOException If the file exists and couldn't be deleted
+     */
+    static void delete(File file) throws IOException {
+        if (file.exists() && !file.delete()) {
+            throw new IOException("Unable to delete " + file);
+        }
+    }
+
+}
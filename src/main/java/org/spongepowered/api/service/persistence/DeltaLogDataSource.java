@@ -0,0 +1,255 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.persistence;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import com.google.common.base.Optional;
+import com.google.common.io.CountingInputStream;
+import org.spongepowered.api.data.BinaryDataReader;
+import org.spongepowered.api.data.BinaryDataWriter;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataDelta;
+import org.spongepowered.api.data.DataSerializable;
+import org.spongepowered.api.data.DataView;
+import org.spongepowered.api.data.ImmutableDataContainer;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link BinaryDataSource} which only writes the changes of each
+ * serialization.
+ *
+ * <p>Each serialization appends a {@link DataDelta} against the previously
+ * serialized data to a log file next to the data file, and serializations
+ * without changes do not write anything. After a number of deltas the data
+ * file is rewritten with the current data and the log is removed.</p>
+ *
+ * <p>A delta that was only partially written, for example because the
+ * server crashed, is ignored when the source is read, and an interrupted
+ * rewrite of the data file is completed.</p>
+ */
+public class DeltaLogDataSource extends BinaryDataSource {
+
+    /**
+     * The default number of deltas after which the log is compacted.
+     */
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 64;
+
+    private final File log;
+    private final int compactionThreshold;
+    @Nullable private ImmutableDataContainer current;
+    private boolean loaded;
+    private int deltas;
+
+    /**
+     * Creates a new source backed by the given file, compacting the log
+     * after {@link #DEFAULT_COMPACTION_THRESHOLD} deltas.
+     *
+     * @param file The file to store the data in
+     * @param service The service to look up {@link DataBuilder}s with
+     */
+    public DeltaLogDataSource(File file, SerializationService service) {
+        this(file, service, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a new source backed by the given file.
+     *
+     * @param file The file to store the data in
+     * @param service The service to look up {@link DataBuilder}s with
+     * @param compactionThreshold The number of deltas after which the log
+     *     is compacted
+     */
+    public DeltaLogDataSource(File file, SerializationService service, int compactionThreshold) {
+        super(file, service);
+        checkArgument(compactionThreshold > 0, "The compaction threshold must be positive");
+        this.log = new File(file.getPath() + ".log");
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    /**
+     * Gets the file the deltas are appended to.
+     *
+     * @return The log file
+     */
+    public File getLogFile() {
+        return this.log;
+    }
+
+    /**
+     * Gets the number of deltas currently in the log.
+     *
+     * @return The number of deltas
+     */
+    public synchronized int getDeltaCount() {
+        load();
+        return this.deltas;
+    }
+
+    @Override
+    public synchronized Optional<DataContainer> deserialize() {
+        Optional<ImmutableDataContainer> current = load();
+        return current.isPresent() ? Optional.of(current.get().mutableCopy()) : Optional.<DataContainer>absent();
+    }
+
+    @Override
+    public synchronized Optional<DataContainer> view() {
+        return Optional.<DataContainer>fromNullable(load().orNull());
+    }
+
+    @Override
+    public synchronized void serialize(DataSerializable section) throws InvalidDataException {
+        checkNotNull(section, "section");
+        checkState(!isClosed(), "This source is closed");
+        Optional<ImmutableDataContainer> current = load();
+        DataContainer container = section.toContainer();
+        if (!current.isPresent()) {
+            this.current = ImmutableDataContainer.copyOf(container);
+            compact();
+            return;
+        }
+        DataDelta delta = DataDelta.between(current.get(), container);
+        if (delta.isEmpty()) {
+            return;
+        }
+        try {
+            DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(this.log, true)));
+            try {
+                new BinaryDataWriter(out).write(delta.toContainer());
+            } finally {
+                out.close();
+            }
+        } catch (IOException e) {
+            throw new InvalidDataException("Unable to write " + this.log, e);
+        }
+        this.current = delta.applyTo(current.get());
+        if (++this.deltas >= this.compactionThreshold) {
+            compact();
+        }
+    }
+
+    /**
+     * Rewrites the data file with the current data and removes the log.
+     */
+    public synchronized void compact() {
+        checkState(!isClosed(), "This source is closed");
+        Optional<ImmutableDataContainer> current = load();
+        if (!current.isPresent()) {
+            return;
+        }
+        File file = getFile();
+        File temp = getTempFile();
+        try {
+            write(temp, current.get());
+            DataFiles.replace(temp, file);
+            DataFiles.delete(this.log);
+        } catch (IOException e) {
+            throw new InvalidDataException("Unable to compact " + file, e);
+        }
+        this.deltas = 0;
+    }
+
+    private File getTempFile() {
+        return new File(getFile().getPath() + ".tmp");
+    }
+
+    private static void write(File file, DataView view) throws IOException {
+        FileOutputStream stream = new FileOutputStream(file);
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream));
+        try {
+            new BinaryDataWriter(out).write(view);
+            out.flush();
+            stream.getFD().sync();
+        } finally {
+            out.close();
+        }
+    }
+
+    private Optional<ImmutableDataContainer> load() {
+        checkState(!isClosed(), "This source is closed");
+        if (this.loaded) {
+            return Optional.fromNullable(this.current);
+        }
+        try {
+            DataFiles.recover(getTempFile(), getFile());
+        } catch (IOException e) {
+            throw new InvalidDataException("Unable to recover " + getFile(), e);
+        }
+        Optional<DataContainer> snapshot = super.deserialize();
+        ImmutableDataContainer current = snapshot.isPresent() ? ImmutableDataContainer.copyOf(snapshot.get()) : null;
+        boolean truncated = false;
+        if (this.log.isFile()) {
+            if (current == null) {
+                current = ImmutableDataContainer.of();
+            }
+            try {
+                CountingInputStream counter = new CountingInputStream(new BufferedInputStream(new FileInputStream(this.log)));
+                try {
+                    BinaryDataReader reader = new BinaryDataReader(new DataInputStream(counter));
+                    while (true) {
+                        long start = counter.getCount();
+                        DataContainer delta;
+                        try {
+                            delta = reader.read();
+                        } catch (EOFException e) {
+                            // Only a partially written delta is left if any of it was read
+                            truncated = counter.getCount() > start;
+                            break;
+                        } catch (InvalidDataException e) {
+                            truncated = true;
+                            break;
+                        }
+                        current = DataDelta.fromContainer(delta).applyTo(current);
+                        this.deltas++;
+                    }
+                } finally {
+                    counter.close();
+                }
+            } catch (IOException e) {
+                throw new InvalidDataException("Unable to read " + this.log, e);
+            }
+        }
+        this.current = current;
+        this.loaded = true;
+        if (truncated) {
+            compact();
+        }
+        return Optional.fromNullable(current);
+    }
+
+}
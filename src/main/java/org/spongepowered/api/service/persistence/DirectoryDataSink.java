@@ -0,0 +1,134 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.persistence;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import org.spongepowered.api.data.BinaryDataReader;
+import org.spongepowered.api.data.BinaryDataWriter;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataView;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * A {@link DataSink} writing each key to its own file in a directory, in
+ * the format of {@link BinaryDataWriter} and optionally compressed.
+ *
+ * <p>Files are written to a temporary file first, which is synced to the
+ * disk and then renamed into place, so a file always holds either the
+ * previous or the new data. Where a file can't be renamed over another,
+ * the previous file is moved aside first, and a replacement interrupted by
+ * a crash is completed when the file is next read.</p>
+ */
+public class DirectoryDataSink implements DataSink {
+
+    private final File directory;
+    private final boolean compressed;
+
+    /**
+     * Creates a new sink.
+     *
+     * @param directory The directory to write files to
+     * @param compressed Whether to compress files with GZIP
+     */
+    public DirectoryDataSink(File directory, boolean compressed) {
+        this.directory = checkNotNull(directory, "directory");
+        this.compressed = compressed;
+    }
+
+    /**
+     * Gets the file data with the given key is written to.
+     *
+     * @param key The key
+     * @return The file
+     */
+    public File getFile(String key) {
+        checkNotNull(key, "key");
+        checkArgument(!key.isEmpty() && key.indexOf('/') < 0 && key.indexOf('\\') < 0 && !key.startsWith("."), "Invalid key: %s", key);
+        return new File(this.directory, key + (this.compressed ? ".dat.gz" : ".dat"));
+    }
+
+    @Override
+    public void write(String key, DataView data) throws IOException {
+        File file = getFile(key);
+        File temp = new File(file.getPath() + ".tmp");
+        if (!this.directory.isDirectory() && !this.directory.mkdirs()) {
+            throw new IOException("Unable to create " + this.directory);
+        }
+        FileOutputStream stream = new FileOutputStream(temp);
+        OutputStream out = stream;
+        try {
+            GZIPOutputStream gzip = null;
+            if (this.compressed) {
+                out = gzip = new GZIPOutputStream(out, 8192);
+            }
+            DataOutputStream dataOut = new DataOutputStream(new BufferedOutputStream(out));
+            new BinaryDataWriter(dataOut).write(data);
+            dataOut.flush();
+            if (gzip != null) {
+                gzip.finish();
+            }
+            stream.getFD().sync();
+        } finally {
+            out.close();
+        }
+        DataFiles.replace(temp, file);
+    }
+
+    /**
+     * Reads the data written with the given key.
+     *
+     * @param key The key
+     * @return The data
+     * @throws IOException If the data could not be read
+     */
+    public DataContainer read(String key) throws IOException {
+        File file = getFile(key);
+        DataFiles.recover(new File(file.getPath() + ".tmp"), file);
+        InputStream in = new FileInputStream(file);
+        try {
+            if (this.compressed) {
+                in = new GZIPInputStream(in, 8192);
+            }
+            return new BinaryDataReader(new DataInputStream(new BufferedInputStream(in))).read();
+        } finally {
+            in.close();
+        }
+    }
+
+}
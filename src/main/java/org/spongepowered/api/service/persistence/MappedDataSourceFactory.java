@@ -0,0 +1,117 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.persistence;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.Maps;
+import ninja.leaping.configurate.ConfigurationNode;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * A {@link DataSourceFactory} creating sources for records of
+ * {@link MappedDataStore}s.
+ *
+ * <p>The configuration must contain the path of the store file in
+ * {@code file} and the key of the record in {@code key}. Stores are opened
+ * once and shared by all sources for the same file until this factory is
+ * closed. The number of writes after which a store forces them to the disk
+ * may be set in {@code sync-batch-size}.</p>
+ */
+public class MappedDataSourceFactory implements DataSourceFactory {
+
+    private final SerializationService service;
+    private final Map<File, MappedDataStore> stores = Maps.newHashMap();
+
+    /**
+     * Creates a new factory.
+     *
+     * @param service The service for the created sources to look up
+     *     {@link DataBuilder}s with
+     */
+    public MappedDataSourceFactory(SerializationService service) {
+        this.service = checkNotNull(service, "service");
+    }
+
+    @Override
+    public Optional<DataSource> createSource(ConfigurationNode config) {
+        checkNotNull(config, "config");
+        String path = config.getNode("file").getString();
+        String key = config.getNode("key").getString();
+        if (path == null || key == null) {
+            return Optional.absent();
+        }
+        int syncBatchSize = config.getNode("sync-batch-size").getInt(MappedDataStore.DEFAULT_SYNC_BATCH_SIZE);
+        try {
+            return Optional.of(getStore(new File(path), syncBatchSize).getSource(key, this.service));
+        } catch (IOException e) {
+            throw new InvalidDataException("Unable to open " + path, e);
+        }
+    }
+
+    /**
+     * Gets the store in the given file, opening it if it is not open yet.
+     *
+     * @param file The file of the store
+     * @param syncBatchSize The number of writes after which the store forces
+     *     them to the disk, if it is opened
+     * @return The store
+     * @throws IOException If the store could not be opened
+     */
+    public synchronized MappedDataStore getStore(File file, int syncBatchSize) throws IOException {
+        File key = file.getAbsoluteFile();
+        MappedDataStore store = this.stores.get(key);
+        if (store == null || store.isClosed()) {
+            store = MappedDataStore.open(key, syncBatchSize);
+            this.stores.put(key, store);
+        }
+        return store;
+    }
+
+    /**
+     * Closes all stores opened by this factory.
+     *
+     * @throws IOException If a store could not be closed
+     */
+    public synchronized void close() throws IOException {
+        IOException exception = null;
+        for (MappedDataStore store : this.stores.values()) {
+            try {
+                store.close();
+            } catch (IOException e) {
+                exception = e;
+            }
+        }
+        this.stores.clear();
+        if (exception != null) {
+            throw exception;
+        }
+    }
+
+}
@@ -0,0 +1,499 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.persistence;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import com.google.common.base.Charsets;
+import com.google.common.base.Optional;
+import com.google.common.collect.ImmutableSet;
+import org.spongepowered.api.data.BinaryDataContainer;
+import org.spongepowered.api.data.BinaryDataWriter;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataSerializable;
+import org.spongepowered.api.data.DataView;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.zip.CRC32;
+
+/**
+ * A store of many keyed {@link DataContainer}s in a single memory-mapped
+ * file.
+ *
+ * <p>The file is an append-only journal of frames, each holding a key and
+ * either a record in the format of {@link BinaryDataWriter} or nothing if
+ * the key was removed. Every frame is protected by a checksum, and frames
+ * after the first damaged one, such as a frame that was only partially
+ * written when the server crashed, are discarded when the store is opened,
+ * and a compaction interrupted while replacing the file is completed.
+ * Writes are appended in place and forced to the disk in batches, or when
+ * {@link #commit()} is called.</p>
+ *
+ * <p>Records are read as {@link BinaryDataContainer}s directly from the
+ * mapped file, without copying them. Reads are safe from any number of
+ * threads, and may run concurrently with writes. Since the file is mapped
+ * as a whole, it is limited to 2 GiB.</p>
+ */
+public final class MappedDataStore implements DataSink, Closeable {
+
+    /**
+     * The default number of writes after which they are forced to the disk.
+     */
+    public static final int DEFAULT_SYNC_BATCH_SIZE = 64;
+
+    private static final int MAGIC = 0x53504453; // "SPDS"
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 8;
+    private static final int FRAME_HEADER_SIZE = 8;
+
+    private final File file;
+    private final int syncBatchSize;
+    private RandomAccessFile access;
+    private FileChannel channel;
+    private volatile State state;
+    private long end;
+    private int pending;
+    private volatile boolean closed;
+
+    private MappedDataStore(File file, int syncBatchSize) {
+        this.file = file;
+        this.syncBatchSize = syncBatchSize;
+    }
+
+    /**
+     * Opens the store in the given file, creating it if it does not exist.
+     *
+     * @param file The file of the store
+     * @return The opened store
+     * @throws IOException If the file could not be opened
+     */
+    public static MappedDataStore open(File file) throws IOException {
+        return open(file, DEFAULT_SYNC_BATCH_SIZE);
+    }
+
+    /**
+     * Opens the store in the given file, creating it if it does not exist.
+     *
+     * @param file The file of the store
+     * @param syncBatchSize The number of writes after which they are forced
+     *     to the disk
+     * @return The opened store
+     * @throws IOException If the file could not be opened
+     * @throws InvalidDataException If the file is not a store
+     */
+    public static MappedDataStore open(File file, int syncBatchSize) throws IOException {
+        checkNotNull(file, "file");
+        checkArgument(syncBatchSize > 0, "The sync batch size must be positive");
+        MappedDataStore store = new MappedDataStore(file, syncBatchSize);
+        store.load();
+        return store;
+    }
+
+    /**
+     * Gets the file of this store.
+     *
+     * @return The file
+     */
+    public File getFile() {
+        return this.file;
+    }
+
+    private synchronized void load() throws IOException {
+        DataFiles.recover(getCompactFile(), this.file);
+        this.access = new RandomAccessFile(this.file, "rw");
+        this.channel = this.access.getChannel();
+        if (this.channel.size() < HEADER_SIZE) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            header.putInt(MAGIC).putInt(VERSION).flip();
+            this.channel.truncate(0);
+            this.channel.write(header, 0);
+            this.channel.force(true);
+        }
+        MappedByteBuffer buffer = map();
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            this.channel.close();
+            throw new InvalidDataException("Not a data store: " + this.file);
+        }
+
+        ConcurrentMap<String, Entry> index = new ConcurrentHashMap<String, Entry>();
+        int pos = HEADER_SIZE;
+        CRC32 crc = new CRC32();
+        while (pos + FRAME_HEADER_SIZE <= buffer.capacity()) {
+            int length = buffer.getInt(pos);
+            int checksum = buffer.getInt(pos + 4);
+            int start = pos + FRAME_HEADER_SIZE;
+            if (length < 2 || length > buffer.capacity() - start || checksum != checksum(crc, buffer, start, length)) {
+                break;
+            }
+            int keyLength = buffer.getShort(start) & 0xFFFF;
+            if (2 + keyLength > length) {
+                break;
+            }
+            String key = decode(buffer, start + 2, keyLength);
+            int record = start + 2 + keyLength;
+            int recordLength = start + length - record;
+            if (recordLength == 0) {
+                index.remove(key);
+            } else {
+                index.put(key, new Entry(record, recordLength));
+            }
+            pos = start + length;
+        }
+        if (pos < this.channel.size()) {
+            // Discard the damaged tail of the journal
+            this.channel.truncate(pos);
+            this.channel.force(true);
+            buffer = map();
+        }
+        this.end = pos;
+        this.state = new State(buffer, index);
+    }
+
+    private MappedByteBuffer map() throws IOException {
+        long size = this.channel.size();
+        checkState(size <= Integer.MAX_VALUE, "The store is larger than 2 GiB");
+        return this.channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+    }
+
+    private static int checksum(CRC32 crc, ByteBuffer buffer, int start, int length) {
+        crc.reset();
+        if (buffer.hasArray()) {
+            crc.update(buffer.array(), buffer.arrayOffset() + start, length);
+        } else {
+            byte[] bytes = new byte[length];
+            ByteBuffer slice = buffer.duplicate();
+            slice.position(start);
+            slice.get(bytes);
+            crc.update(bytes);
+        }
+        return (int) crc.getValue();
+    }
+
+    private static String decode(ByteBuffer buffer, int start, int length) {
+        byte[] bytes = new byte[length];
+        ByteBuffer slice = buffer.duplicate();
+        slice.position(start);
+        slice.get(bytes);
+        return new String(bytes, Charsets.UTF_8);
+    }
+
+    /**
+     * Gets the keys of all records in this store.
+     *
+     * @return The keys
+     */
+    public Set<String> getKeys() {
+        checkState(!this.closed, "This store is closed");
+        return ImmutableSet.copyOf(this.state.index.keySet());
+    }
+
+    /**
+     * Gets the number of records in this store.
+     *
+     * @return The number of records
+     */
+    public int size() {
+        checkState(!this.closed, "This store is closed");
+        return this.state.index.size();
+    }
+
+    /**
+     * Checks whether this store has a record with the given key.
+     *
+     * @param key The key
+     * @return True if there is a record
+     */
+    public boolean contains(String key) {
+        checkNotNull(key, "key");
+        checkState(!this.closed, "This store is closed");
+        return this.state.index.containsKey(key);
+    }
+
+    /**
+     * Gets the record with the given key as a read-only container, which is
+     * decoded directly from the mapped file when it is queried.
+     *
+     * @param key The key
+     * @return The record, if present
+     */
+    public Optional<DataContainer> get(String key) {
+        checkNotNull(key, "key");
+        State state = this.state;
+        while (true) {
+            checkState(!this.closed, "This store is closed");
+            Entry entry = state.index.get(key);
+            if (entry == null) {
+                return Optional.absent();
+            } else if (entry.offset + entry.length <= state.buffer.capacity()) {
+                ByteBuffer buffer = state.buffer.duplicate();
+                buffer.position(entry.offset);
+                buffer.limit(entry.offset + entry.length);
+                return Optional.<DataContainer>of(new BinaryDataContainer(buffer.slice()));
+            }
+            state = remap(state);
+        }
+    }
+
+    private synchronized State remap(State state) {
+        if (state == this.state) {
+            try {
+                this.state = new State(map(), state.index);
+            } catch (IOException e) {
+                throw new InvalidDataException("Unable to map " + this.file, e);
+            }
+        }
+        return this.state;
+    }
+
+    /**
+     * Writes a record with the given key, replacing any previous record.
+     *
+     * @param key The key
+     * @param view The data of the record
+     * @throws IOException If the record could not be written
+     */
+    public void put(String key, DataView view) throws IOException {
+        checkNotNull(key, "key");
+        checkNotNull(view, "view");
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        new BinaryDataWriter(new DataOutputStream(bytes)).write(view);
+        append(key, bytes.toByteArray());
+    }
+
+    @Override
+    public void write(String key, DataView data) throws IOException {
+        put(key, data);
+    }
+
+    /**
+     * Removes the record with the given key.
+     *
+     * @param key The key
+     * @throws IOException If the removal could not be written
+     */
+    public void remove(String key) throws IOException {
+        checkNotNull(key, "key");
+        if (contains(key)) {
+            append(key, new byte[0]);
+        }
+    }
+
+    private synchronized void append(String key, byte[] record) throws IOException {
+        checkState(!this.closed, "This store is closed");
+        byte[] keyBytes = key.getBytes(Charsets.UTF_8);
+        checkArgument(keyBytes.length <= 0xFFFF, "The key is too long");
+        int length = 2 + keyBytes.length + record.length;
+        ByteBuffer frame = ByteBuffer.allocate(FRAME_HEADER_SIZE + length);
+        frame.position(FRAME_HEADER_SIZE);
+        frame.putShort((short) keyBytes.length).put(keyBytes).put(record);
+        frame.putInt(0, length);
+        frame.putInt(4, checksum(new CRC32(), frame, FRAME_HEADER_SIZE, length));
+        frame.flip();
+
+        long pos = this.end;
+        checkState(pos + frame.remaining() <= Integer.MAX_VALUE, "The store is larger than 2 GiB");
+        while (frame.hasRemaining()) {
+            pos += this.channel.write(frame, pos);
+        }
+        int recordOffset = (int) this.end + FRAME_HEADER_SIZE + 2 + keyBytes.length;
+        this.end = pos;
+        if (record.length == 0) {
+            this.state.index.remove(key);
+        } else {
+            this.state.index.put(key, new Entry(recordOffset, record.length));
+        }
+        if (++this.pending >= this.syncBatchSize) {
+            commit();
+        }
+    }
+
+    /**
+     * Forces all writes to the disk.
+     *
+     * @throws IOException If the writes could not be forced
+     */
+    public synchronized void commit() throws IOException {
+        checkState(!this.closed, "This store is closed");
+        if (this.pending > 0) {
+            this.channel.force(false);
+            this.pending = 0;
+        }
+    }
+
+    /**
+     * Rewrites the file of this store with only the current records.
+     *
+     * @throws IOException If the file could not be rewritten
+     */
+    public synchronized void compact() throws IOException {
+        commit();
+        File temp = getCompactFile();
+        DataFiles.delete(temp);
+        MappedDataStore compacted = open(temp, Integer.MAX_VALUE);
+        State state = this.end > this.state.buffer.capacity() ? remap(this.state) : this.state;
+        for (Map.Entry<String, Entry> entry : state.index.entrySet()) {
+            Entry value = entry.getValue();
+            byte[] record = new byte[value.length];
+            ByteBuffer buffer = state.buffer.duplicate();
+            buffer.position(value.offset);
+            buffer.get(record);
+            compacted.append(entry.getKey(), record);
+        }
+        compacted.commit();
+        compacted.close();
+        // The file can't be replaced while it is open on some platforms
+        this.channel.close();
+        try {
+            DataFiles.replace(temp, this.file);
+        } finally {
+            load();
+        }
+    }
+
+    private File getCompactFile() {
+        return new File(this.file.getPath() + ".compact");
+    }
+
+    /**
+     * Gets a {@link DataSource} for the record with the given key.
+     *
+     * @param key The key
+     * @param service The service to look up {@link DataBuilder}s with
+     * @return The source
+     */
+    public DataSource getSource(String key, SerializationService service) {
+        return new Source(checkNotNull(key, "key"), checkNotNull(service, "service"));
+    }
+
+    /**
+     * Checks whether this store is closed.
+     *
+     * @return True if it is closed
+     */
+    public boolean isClosed() {
+        return this.closed;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (!this.closed) {
+            commit();
+            this.closed = true;
+            this.channel.close();
+        }
+    }
+
+    /**
+     * The location of a record in the file.
+     */
+    private static final class Entry {
+
+        final int offset;
+        final int length;
+
+        Entry(int offset, int length) {
+            this.offset = offset;
+            this.length = length;
+        }
+
+    }
+
+    /**
+     * The mapping of the file with the index of the records within it.
+     */
+    private static final class State {
+
+        final MappedByteBuffer buffer;
+        final ConcurrentMap<String, Entry> index;
+
+        State(MappedByteBuffer buffer, ConcurrentMap<String, Entry> index) {
+            this.buffer = buffer;
+            this.index = index;
+        }
+
+    }
+
+    /**
+     * A {@link DataSource} for a single record of the store.
+     */
+    private final class Source implements DataSource {
+
+        private final String key;
+        private final SerializationService service;
+
+        Source(String key, SerializationService service) {
+            this.key = key;
+            this.service = service;
+        }
+
+        @Override
+        public <T extends DataSerializable> Optional<T> deserialize(Class<T> clazz) throws InvalidDataException {
+            checkNotNull(clazz, "clazz");
+            Optional<DataBuilder<T>> builder = this.service.getBuilder(clazz);
+            if (!builder.isPresent()) {
+                throw new InvalidDataException("No builder is registered for " + clazz.getName());
+            }
+            Optional<DataContainer> container = get(this.key);
+            return container.isPresent() ? builder.get().build(container.get()) : Optional.<T>absent();
+        }
+
+        @Override
+        public Optional<DataContainer> deserialize() {
+            Optional<DataContainer> container = get(this.key);
+            return container.isPresent() ? Optional.of(container.get().copy()) : container;
+        }
+
+        @Override
+        public void serialize(DataSerializable section) throws InvalidDataException {
+            checkNotNull(section, "section");
+            try {
+                put(this.key, section.toContainer());
+            } catch (IOException e) {
+                throw new InvalidDataException("Unable to write " + this.key + " to " + MappedDataStore.this.file, e);
+            }
+        }
+
+        @Override
+        public boolean isClosed() {
+            return MappedDataStore.this.closed;
+        }
+
+    }
+
+}
@@ -0,0 +1,255 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.persistence;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataSerializable;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+
+/**
+ * Writes {@link DataSerializable}s to a {@link DataSink} asynchronously.
+ *
+ * <p>{@link DataSerializable#toContainer()} is called on the thread
+ * submitting the object, which takes a snapshot of its data. Encoding and
+ * writing the snapshot is left to the sink, which is called on a bounded
+ * pool of worker threads.</p>
+ *
+ * <p>Writes to the same key are applied in the order they were submitted.
+ * A write submitted while an earlier write to the same key is still waiting
+ * replaces the data of that write, and both are completed by the same
+ * future. Once the configured number of distinct writes are waiting,
+ * {@link #submit(String, DataSerializable)} blocks until one of them
+ * completes.</p>
+ */
+public class SerializationPipeline {
+
+    private final DataSink sink;
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final Map<String, Slot> slots = Maps.newHashMap();
+    private volatile boolean shutdown;
+
+    /**
+     * Creates a new pipeline.
+     *
+     * @param sink The sink to write to
+     * @param threads The number of worker threads
+     * @param maxPending The maximum number of distinct writes that may be
+     *     waiting before submissions block
+     */
+    public SerializationPipeline(DataSink sink, int threads, int maxPending) {
+        checkArgument(threads > 0, "The number of threads must be positive");
+        checkArgument(maxPending > 0, "The maximum number of pending writes must be positive");
+        this.sink = checkNotNull(sink, "sink");
+        this.executor = Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder()
+                .setNameFormat("Sponge Serialization Thread #%d")
+                .setDaemon(true)
+                .build());
+        this.permits = new Semaphore(maxPending);
+    }
+
+    /**
+     * Submits the given object to be written under the given key.
+     *
+     * @param key The key to write the object under
+     * @param object The object to write
+     * @return A future completed once the data of the object, or data
+     *     submitted later for the same key, is written
+     */
+    public ListenableFuture<Void> submit(String key, DataSerializable object) {
+        checkNotNull(key, "key");
+        checkNotNull(object, "object");
+        return submit(key, object.toContainer());
+    }
+
+    /**
+     * Submits the given data to be written under the given key. The data
+     * must not be modified after it is submitted.
+     *
+     * @param key The key to write the data under
+     * @param data The data to write
+     * @return A future completed once the data, or data submitted later for
+     *     the same key, is written
+     */
+    public ListenableFuture<Void> submit(String key, DataContainer data) {
+        checkNotNull(key, "key");
+        checkNotNull(data, "data");
+        checkState(!this.shutdown, "The pipeline is shut down");
+        ListenableFuture<Void> coalesced = coalesce(key, data);
+        if (coalesced != null) {
+            return coalesced;
+        }
+        this.permits.acquireUninterruptibly();
+        synchronized (this.slots) {
+            coalesced = coalesce(key, data);
+            if (coalesced != null) {
+                this.permits.release();
+                return coalesced;
+            }
+            Slot slot = this.slots.get(key);
+            if (slot == null) {
+                slot = new Slot(key);
+                this.slots.put(key, slot);
+            }
+            SettableFuture<Void> future = SettableFuture.create();
+            slot.next = data;
+            slot.nextFuture = future;
+            if (slot.current == null) {
+                this.executor.execute(slot);
+            }
+            return future;
+        }
+    }
+
+    @Nullable
+    private ListenableFuture<Void> coalesce(String key, DataContainer data) {
+        synchronized (this.slots) {
+            Slot slot = this.slots.get(key);
+            if (slot != null && slot.next != null) {
+                slot.next = data;
+                return slot.nextFuture;
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Gets a future which is completed once all writes submitted before are
+     * completed.
+     *
+     * @return The future
+     */
+    public ListenableFuture<?> flush() {
+        List<ListenableFuture<Void>> futures = Lists.newArrayList();
+        synchronized (this.slots) {
+            for (Slot slot : this.slots.values()) {
+                if (slot.current != null) {
+                    futures.add(slot.current);
+                }
+                if (slot.nextFuture != null) {
+                    futures.add(slot.nextFuture);
+                }
+            }
+        }
+        return Futures.successfulAsList(futures);
+    }
+
+    /**
+     * Stops accepting writes and waits for the submitted writes to complete.
+     *
+     * @param timeout The maximum time to wait
+     * @param unit The unit of the timeout
+     * @return True if all writes were completed in time
+     * @throws InterruptedException If the thread was interrupted while
+     *     waiting
+     */
+    public boolean shutdown(long timeout, TimeUnit unit) throws InterruptedException {
+        this.shutdown = true;
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        while (true) {
+            synchronized (this.slots) {
+                if (this.slots.isEmpty()) {
+                    break;
+                }
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return false;
+            }
+            try {
+                flush().get(remaining, TimeUnit.NANOSECONDS);
+            } catch (Exception ignored) {
+                // Failures are reported through the futures of the writes
+            }
+        }
+        this.executor.shutdown();
+        return this.executor.awaitTermination(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * The writes of a single key, with at most one write running and one
+     * waiting.
+     */
+    private final class Slot implements Runnable {
+
+        private final String key;
+        @Nullable SettableFuture<Void> current;
+        @Nullable DataContainer next;
+        @Nullable SettableFuture<Void> nextFuture;
+
+        Slot(String key) {
+            this.key = key;
+        }
+
+        @Override
+        public void run() {
+            DataContainer data;
+            SettableFuture<Void> future;
+            synchronized (SerializationPipeline.this.slots) {
+                data = this.next;
+                future = this.nextFuture;
+                this.current = future;
+                this.next = null;
+                this.nextFuture = null;
+            }
+            try {
+                SerializationPipeline.this.sink.write(this.key, data);
+                future.set(null);
+            } catch (Throwable t) {
+                future.setException(t);
+            } finally {
+                SerializationPipeline.this.permits.release();
+            }
+            synchronized (SerializationPipeline.this.slots) {
+                this.current = null;
+                if (this.next != null) {
+                    SerializationPipeline.this.executor.execute(this);
+                } else {
+                    SerializationPipeline.this.slots.remove(this.key);
+                }
+            }
+        }
+
+    }
+
+}
@@ -31,6 +31,9 @@
 /**
  * A service that manages {@link DataBuilder}s and sometimes the
  * deserialization of various {@link DataSerializable}s.
+ *
+ * <p>To write {@link DataSerializable}s without blocking the calling thread,
+ * use a {@link SerializationPipeline}.</p>
  */
 public interface SerializationService {
 
@@ -0,0 +1,308 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.persistence.codec;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.Optional;
+import com.google.common.primitives.Bytes;
+import com.google.common.primitives.Doubles;
+import com.google.common.primitives.Ints;
+import com.google.common.primitives.Longs;
+import com.google.common.primitives.Primitives;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataSerializable;
+import org.spongepowered.api.data.DataView;
+import org.spongepowered.api.data.MemoryDataContainer;
+import org.spongepowered.api.service.persistence.DataBuilder;
+import org.spongepowered.api.service.persistence.InvalidDataException;
+import org.spongepowered.api.service.persistence.SerializationService;
+import org.spongepowered.api.util.Coerce;
+
+import java.lang.reflect.Array;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link DataBuilder} which can also create the container of the objects
+ * it builds.
+ *
+ * <p>Implementations are generated by {@link DataCodecs}, and read and
+ * write the properties of an object in a fixed order without reflection.
+ * </p>
+ *
+ * @param <T> The type of object
+ */
+public abstract class DataCodec<T extends DataSerializable> implements DataBuilder<T> {
+
+    private final Class<T> type;
+    @Nullable protected final SerializationService service;
+    protected final DataQuery[] queries;
+
+    /**
+     * Creates a new codec.
+     *
+     * @param type The type of object
+     * @param service The service to build nested objects with, if any
+     * @param queries The paths of the properties, in the order they are read
+     *     and written
+     */
+    protected DataCodec(Class<T> type, @Nullable SerializationService service, DataQuery[] queries) {
+        this.type = checkNotNull(type, "type");
+        this.service = service;
+        this.queries = checkNotNull(queries, "queries");
+    }
+
+    /**
+     * Gets the type of object this codec builds.
+     *
+     * @return The type
+     */
+    public Class<T> getType() {
+        return this.type;
+    }
+
+    @Override
+    public Optional<T> build(DataView container) throws InvalidDataException {
+        checkNotNull(container, "container");
+        try {
+            return Optional.of(this.type.cast(read(container)));
+        } catch (InvalidDataException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new InvalidDataException("Unable to build " + this.type.getName(), e);
+        }
+    }
+
+    /**
+     * Creates a container holding the properties of the given object.
+     *
+     * @param object The object
+     * @return The container
+     */
+    public DataContainer toContainer(T object) {
+        checkNotNull(object, "object");
+        DataContainer container = new MemoryDataContainer();
+        write(object, container);
+        return container;
+    }
+
+    /**
+     * Creates a new object and sets the properties present in the view.
+     *
+     * @param view The view to read
+     * @return The new object
+     */
+    protected abstract Object read(DataView view);
+
+    /**
+     * Sets the properties of the object in the view.
+     *
+     * @param object The object
+     * @param view The view to write to
+     */
+    protected abstract void write(Object object, DataView view);
+
+    /**
+     * Sets a property in a view, unless it is null. Enums are stored by
+     * their names.
+     *
+     * @param view The view
+     * @param path The path of the property
+     * @param value The value of the property
+     */
+    protected static void set(DataView view, DataQuery path, @Nullable Object value) {
+        if (value instanceof Enum) {
+            view.set(path, ((Enum<?>) value).name());
+        } else if (value != null) {
+            view.set(path, value);
+        }
+    }
+
+    /**
+     * Converts a stored value to a property of the given type.
+     *
+     * @param value The stored value
+     * @param type The type of the property
+     * @param service The service to build nested objects with, if any
+     * @return The converted value
+     * @throws InvalidDataException If the value can't be converted
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Nullable
+    protected static Object convert(Object value, Class<?> type, @Nullable SerializationService service) {
+        if (type.isArray() && type.getComponentType().isPrimitive()) {
+            return toArray(value, type);
+        } else if (type.isInstance(value)) {
+            return value;
+        } else if (type == String.class) {
+            return Coerce.toString(value);
+        } else if (type.isEnum()) {
+            return Enum.valueOf((Class<? extends Enum>) type, value.toString());
+        } else if (DataSerializable.class.isAssignableFrom(type) && value instanceof DataView) {
+            if (service == null) {
+                throw new InvalidDataException("A service is required to build " + type.getName());
+            }
+            Optional<? extends DataBuilder<?>> builder = service.getBuilder((Class<? extends DataSerializable>) type);
+            if (!builder.isPresent()) {
+                throw new InvalidDataException("No builder is registered for " + type.getName());
+            }
+            return builder.get().build((DataView) value).orNull();
+        } else if (Number.class.isAssignableFrom(type) || type == Boolean.class || type == Character.class) {
+            return convertBoxed(value, type);
+        }
+        throw new InvalidDataException("Can't convert " + value.getClass().getName() + " to " + type.getName());
+    }
+
+    @Nullable
+    private static Object convertBoxed(Object value, Class<?> type) {
+        if (type == Integer.class) {
+            return toInt(value);
+        } else if (type == Long.class) {
+            return toLong(value);
+        } else if (type == Double.class) {
+            return toDouble(value);
+        } else if (type == Float.class) {
+            return toFloat(value);
+        } else if (type == Short.class) {
+            return toShort(value);
+        } else if (type == Byte.class) {
+            return toByte(value);
+        } else if (type == Boolean.class) {
+            return toBoolean(value);
+        } else if (type == Character.class) {
+            return toChar(value);
+        }
+        throw new InvalidDataException("Can't convert " + value.getClass().getName() + " to " + type.getName());
+    }
+
+    private static Object toArray(Object value, Class<?> type) {
+        if (type.isInstance(value)) {
+            int length = Array.getLength(value);
+            Object copy = Array.newInstance(type.getComponentType(), length);
+            System.arraycopy(value, 0, copy, 0, length);
+            return copy;
+        }
+        List<?> list = Coerce.toList(value);
+        if (type == int[].class) {
+            return Ints.toArray(Coerce.toListOf(list, Integer.class));
+        } else if (type == long[].class) {
+            return Longs.toArray(Coerce.toListOf(list, Long.class));
+        } else if (type == byte[].class) {
+            return Bytes.toArray(Coerce.toListOf(list, Byte.class));
+        } else if (type == double[].class) {
+            return Doubles.toArray(Coerce.toListOf(list, Double.class));
+        }
+        Class<?> boxed = Primitives.wrap(type.getComponentType());
+        Object array = Array.newInstance(type.getComponentType(), list.size());
+        for (int i = 0; i < list.size(); i++) {
+            Array.set(array, i, convertBoxed(list.get(i), boxed));
+        }
+        return array;
+    }
+
+    /**
+     * Converts a stored value to an int.
+     *
+     * @param value The stored value
+     * @return The int
+     */
+    protected static int toInt(Object value) {
+        return value instanceof Number ? ((Number) value).intValue() : Coerce.toInteger(value);
+    }
+
+    /**
+     * Converts a stored value to a long.
+     *
+     * @param value The stored value
+     * @return The long
+     */
+    protected static long toLong(Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : Coerce.toLong(value);
+    }
+
+    /**
+     * Converts a stored value to a short.
+     *
+     * @param value The stored value
+     * @return The short
+     */
+    protected static short toShort(Object value) {
+        return value instanceof Number ? ((Number) value).shortValue() : Coerce.toShort(value);
+    }
+
+    /**
+     * Converts a stored value to a byte.
+     *
+     * @param value The stored value
+     * @return The byte
+     */
+    protected static byte toByte(Object value) {
+        return value instanceof Number ? ((Number) value).byteValue() : Coerce.toByte(value);
+    }
+
+    /**
+     * Converts a stored value to a float.
+     *
+     * @param value The stored value
+     * @return The float
+     */
+    protected static float toFloat(Object value) {
+        return value instanceof Number ? ((Number) value).floatValue() : Coerce.toFloat(value);
+    }
+
+    /**
+     * Converts a stored value to a double.
+     *
+     * @param value The stored value
+     * @return The double
+     */
+    protected static double toDouble(Object value) {
+        return value instanceof Number ? ((Number) value).doubleValue() : Coerce.toDouble(value);
+    }
+
+    /**
+     * Converts a stored value to a boolean.
+     *
+     * @param value The stored value
+     * @return The boolean
+     */
+    protected static boolean toBoolean(Object value) {
+        return value instanceof Boolean ? (Boolean) value : Coerce.toBoolean(value);
+    }
+
+    /**
+     * Converts a stored value to a char.
+     *
+     * @param value The stored value
+     * @return The char
+     */
+    protected static char toChar(Object value) {
+        return value instanceof Character ? (Character) value : Coerce.toChar(value);
+    }
+
+}
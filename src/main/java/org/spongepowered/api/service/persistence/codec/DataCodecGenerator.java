@@ -0,0 +1,306 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.persistence.codec;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.objectweb.asm.Opcodes.AALOAD;
+import static org.objectweb.asm.Opcodes.ACC_FINAL;
+import static org.objectweb.asm.Opcodes.ACC_PROTECTED;
+import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+import static org.objectweb.asm.Opcodes.ACC_SUPER;
+import static org.objectweb.asm.Opcodes.ALOAD;
+import static org.objectweb.asm.Opcodes.ARETURN;
+import static org.objectweb.asm.Opcodes.ASTORE;
+import static org.objectweb.asm.Opcodes.CHECKCAST;
+import static org.objectweb.asm.Opcodes.DUP;
+import static org.objectweb.asm.Opcodes.GETFIELD;
+import static org.objectweb.asm.Opcodes.IFNULL;
+import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
+import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
+import static org.objectweb.asm.Opcodes.INVOKESTATIC;
+import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
+import static org.objectweb.asm.Opcodes.NEW;
+import static org.objectweb.asm.Opcodes.RETURN;
+import static org.objectweb.asm.Opcodes.V1_6;
+
+import com.google.common.base.Optional;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.Maps;
+import com.google.common.primitives.Primitives;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataView;
+import org.spongepowered.api.service.persistence.SerializationService;
+import org.spongepowered.api.util.event.factory.ClassGeneratorProvider;
+import org.spongepowered.api.util.reflect.AccessorFirstStrategy;
+import org.spongepowered.api.util.reflect.Property;
+import org.spongepowered.api.util.reflect.PropertySearchStrategy;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nullable;
+
+/**
+ * Generates {@link DataCodec} implementations which read and write the
+ * properties of a type with direct calls to its accessors and mutators.
+ *
+ * <p>Generated classes strongly reference the types they are generated for
+ * through their class loaders, so codec classes and their loaders are
+ * kept for the lifetime of the generator.</p>
+ */
+final class DataCodecGenerator {
+
+    private static final String CODEC_PACKAGE = "org.spongepowered.api.service.persistence.codec.generated";
+    private static final String CODEC_NAME = Type.getInternalName(DataCodec.class);
+    private static final String VIEW_NAME = Type.getInternalName(DataView.class);
+    private static final String QUERY_DESCRIPTOR = Type.getDescriptor(DataQuery.class);
+    private static final String QUERIES_DESCRIPTOR = Type.getDescriptor(DataQuery[].class);
+    private static final String SERVICE_DESCRIPTOR = Type.getDescriptor(SerializationService.class);
+    private static final String CONSTRUCTOR_DESCRIPTOR = "(Ljava/lang/Class;" + SERVICE_DESCRIPTOR + QUERIES_DESCRIPTOR + ")V";
+
+    private final PropertySearchStrategy propertySearch = new AccessorFirstStrategy();
+    private final AtomicInteger id = new AtomicInteger();
+
+    private final LoadingCache<ClassLoader, ClassGeneratorProvider.LocalClassLoader> classLoaders = CacheBuilder.newBuilder()
+            .build(
+                    new CacheLoader<ClassLoader, ClassGeneratorProvider.LocalClassLoader>() {
+                        @Override
+                        public ClassGeneratorProvider.LocalClassLoader load(ClassLoader parent) {
+                            return new ClassGeneratorProvider.LocalClassLoader(parent);
+                        }
+                    });
+
+    private final LoadingCache<Class<?>, Generated> generated = CacheBuilder.newBuilder()
+            .build(
+                    new CacheLoader<Class<?>, Generated>() {
+                        @Override
+                        public Generated load(Class<?> type) throws Exception {
+                            return generate(type);
+                        }
+                    });
+
+    /**
+     * Creates a codec for the given type, generating its class the first
+     * time the type is seen.
+     *
+     * @param type The type
+     * @param service The service to build nested objects with, if any
+     * @return The codec
+     * @throws Exception If the codec couldn't be generated or created
+     */
+    DataCodec<?> create(Class<?> type, @Nullable SerializationService service) throws Exception {
+        Generated generated = this.generated.getUnchecked(type);
+        return (DataCodec<?>) generated.constructor.newInstance(type, service, generated.queries.clone());
+    }
+
+    private Generated generate(Class<?> type) throws NoSuchMethodException {
+        Map<DataQuery, Property> properties = findProperties(type);
+        String name = CODEC_PACKAGE + "." + type.getSimpleName() + "$Codec$" + this.id.incrementAndGet();
+        ClassLoader parent = type.getClassLoader() != null ? type.getClassLoader() : DataCodecGenerator.class.getClassLoader();
+        Class<?> codecClass = this.classLoaders.getUnchecked(parent).defineClass(name, createClass(name, type, properties.values()));
+        return new Generated(codecClass.getConstructor(Class.class, SerializationService.class, DataQuery[].class),
+                properties.keySet().toArray(new DataQuery[properties.size()]));
+    }
+
+    /**
+     * Finds the properties of the type which can be both read and written,
+     * ordered by the paths they are stored under.
+     */
+    private Map<DataQuery, Property> findProperties(Class<?> type) {
+        Map<String, Property> byName = Maps.newHashMap();
+        for (Property property : this.propertySearch.findProperties(type)) {
+            if (!isCodecProperty(property)) {
+                continue;
+            }
+            Property existing = byName.get(property.getName());
+            if (existing == null || property.getType() == property.getMutator().get().getParameterTypes()[0]) {
+                byName.put(property.getName(), property);
+            }
+        }
+
+        Map<String, Property> byKey = new TreeMap<String, Property>();
+        for (Property property : byName.values()) {
+            DataKey key = property.getAccessor().getAnnotation(DataKey.class);
+            byKey.put(key != null ? key.value() : property.getName(), property);
+        }
+        Map<DataQuery, Property> properties = Maps.newLinkedHashMap();
+        for (Map.Entry<String, Property> entry : byKey.entrySet()) {
+            properties.put(DataQuery.of('.', entry.getKey()), entry.getValue());
+        }
+        return properties;
+    }
+
+    private static boolean isCodecProperty(Property property) {
+        Method accessor = property.getAccessor();
+        if (!property.getMutator().isPresent() || accessor.getDeclaringClass() == Object.class || property.getType() == Optional.class) {
+            return false;
+        }
+        Method mutator = property.getMutator().get();
+        return !Modifier.isStatic(accessor.getModifiers()) && !Modifier.isStatic(mutator.getModifiers())
+               && Modifier.isPublic(accessor.getModifiers()) && Modifier.isPublic(mutator.getModifiers());
+    }
+
+    /**
+     * Create the codec class for the given type.
+     *
+     * @param name The canonical name of the generated class
+     * @param type The type read and written by the codec
+     * @param properties The properties, in the order of the codec's queries
+     * @return The class' contents, to be loaded via a {@link ClassLoader}
+     */
+    private static byte[] createClass(String name, Class<?> type, Iterable<Property> properties) {
+        final String internalName = name.replace('.', '/');
+        final String typeName = Type.getInternalName(type);
+
+        final ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS | ClassWriter.COMPUTE_FRAMES);
+        cw.visit(V1_6, ACC_PUBLIC + ACC_FINAL + ACC_SUPER, internalName, null, CODEC_NAME, null);
+
+        // Create the constructor
+        {
+            MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "<init>", CONSTRUCTOR_DESCRIPTOR, null, null);
+            mv.visitCode();
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitVarInsn(ALOAD, 2);
+            mv.visitVarInsn(ALOAD, 3);
+            mv.visitMethodInsn(INVOKESPECIAL, CODEC_NAME, "<init>", CONSTRUCTOR_DESCRIPTOR, false);
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+
+        // read(DataView): a new object with each present property set
+        {
+            MethodVisitor mv = cw.visitMethod(ACC_PROTECTED, "read", "(L" + VIEW_NAME + ";)Ljava/lang/Object;", null, null);
+            mv.visitCode();
+            mv.visitTypeInsn(NEW, typeName);
+            mv.visitInsn(DUP);
+            mv.visitMethodInsn(INVOKESPECIAL, typeName, "<init>", "()V", false);
+            mv.visitVarInsn(ASTORE, 2);
+
+            int index = 0;
+            for (Property property : properties) {
+                Method mutator = property.getMutator().get();
+                Class<?> parameter = mutator.getParameterTypes()[0];
+                Label absent = new Label();
+
+                // Object value = view.get(this.queries[index]).orNull()
+                mv.visitVarInsn(ALOAD, 1);
+                loadQuery(mv, index++);
+                mv.visitMethodInsn(INVOKEINTERFACE, VIEW_NAME, "get", "(" + QUERY_DESCRIPTOR + ")" + Type.getDescriptor(Optional.class), true);
+                mv.visitMethodInsn(INVOKEVIRTUAL, Type.getInternalName(Optional.class), "orNull", "()Ljava/lang/Object;", false);
+                mv.visitVarInsn(ASTORE, 3);
+                mv.visitVarInsn(ALOAD, 3);
+                mv.visitJumpInsn(IFNULL, absent);
+
+                // object.setX(convert(value))
+                mv.visitVarInsn(ALOAD, 2);
+                mv.visitVarInsn(ALOAD, 3);
+                if (parameter.isPrimitive()) {
+                    String converter = "to" + Character.toUpperCase(parameter.getName().charAt(0)) + parameter.getName().substring(1);
+                    mv.visitMethodInsn(INVOKESTATIC, CODEC_NAME, converter,
+                            "(Ljava/lang/Object;)" + Type.getDescriptor(parameter), false);
+                } else {
+                    mv.visitLdcInsn(Type.getType(parameter));
+                    mv.visitVarInsn(ALOAD, 0);
+                    mv.visitFieldInsn(GETFIELD, CODEC_NAME, "service", SERVICE_DESCRIPTOR);
+                    mv.visitMethodInsn(INVOKESTATIC, CODEC_NAME, "convert", "(Ljava/lang/Object;Ljava/lang/Class;" + SERVICE_DESCRIPTOR
+                            + ")Ljava/lang/Object;", false);
+                    mv.visitTypeInsn(CHECKCAST, Type.getInternalName(parameter));
+                }
+                mv.visitMethodInsn(INVOKEVIRTUAL, typeName, mutator.getName(), Type.getMethodDescriptor(mutator), false);
+                mv.visitLabel(absent);
+            }
+
+            mv.visitVarInsn(ALOAD, 2);
+            mv.visitInsn(ARETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+
+        // write(Object, DataView): set(view, this.queries[index], object.getX()) for each property
+        {
+            MethodVisitor mv = cw.visitMethod(ACC_PROTECTED, "write", "(Ljava/lang/Object;L" + VIEW_NAME + ";)V", null, null);
+            mv.visitCode();
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitTypeInsn(CHECKCAST, typeName);
+            mv.visitVarInsn(ASTORE, 3);
+
+            int index = 0;
+            for (Property property : properties) {
+                Method accessor = property.getAccessor();
+                Class<?> returnType = accessor.getReturnType();
+
+                mv.visitVarInsn(ALOAD, 2);
+                loadQuery(mv, index++);
+                mv.visitVarInsn(ALOAD, 3);
+                mv.visitMethodInsn(INVOKEVIRTUAL, typeName, accessor.getName(), Type.getMethodDescriptor(accessor), false);
+                if (returnType.isPrimitive()) {
+                    Class<?> boxed = Primitives.wrap(returnType);
+                    mv.visitMethodInsn(INVOKESTATIC, Type.getInternalName(boxed), "valueOf",
+                            "(" + Type.getDescriptor(returnType) + ")" + Type.getDescriptor(boxed), false);
+                }
+                mv.visitMethodInsn(INVOKESTATIC, CODEC_NAME, "set", "(L" + VIEW_NAME + ";" + QUERY_DESCRIPTOR + "Ljava/lang/Object;)V", false);
+            }
+
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+
+        cw.visitEnd();
+        return cw.toByteArray();
+    }
+
+    private static void loadQuery(MethodVisitor mv, int index) {
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitFieldInsn(GETFIELD, CODEC_NAME, "queries", QUERIES_DESCRIPTOR);
+        mv.visitLdcInsn(index);
+        mv.visitInsn(AALOAD);
+    }
+
+    private static final class Generated {
+
+        final Constructor<?> constructor;
+        final DataQuery[] queries;
+
+        Generated(Constructor<?> constructor, DataQuery[] queries) {
+            this.constructor = checkNotNull(constructor, "constructor");
+            this.queries = queries;
+        }
+
+    }
+
+}
@@ -0,0 +1,156 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.persistence.codec;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataSerializable;
+import org.spongepowered.api.service.persistence.SerializationService;
+
+import java.lang.reflect.Modifier;
+
+import javax.annotation.Nullable;
+
+/**
+ * Creates and registers generated {@link DataCodec}s for types annotated
+ * with {@link GenerateCodec}.
+ *
+ * <p>A generated codec reads and writes each property with a direct call,
+ * so a type can implement {@link DataSerializable#toContainer()} by
+ * returning {@code DataCodecs.toContainer(this)} and be built by
+ * registering its codec with {@link #register}.</p>
+ */
+public final class DataCodecs {
+
+    private static final DataCodecGenerator generator = new DataCodecGenerator();
+
+    private static final LoadingCache<Class<?>, DataCodec<?>> unboundCodecs = CacheBuilder.newBuilder()
+            .build(
+                    new CacheLoader<Class<?>, DataCodec<?>>() {
+                        @Override
+                        public DataCodec<?> load(Class<?> type) throws Exception {
+                            return generator.create(type, null);
+                        }
+                    });
+
+    private DataCodecs() {
+    }
+
+    /**
+     * Tests whether a codec can be generated for the given type.
+     *
+     * <p>Only public, concrete classes annotated with {@link GenerateCodec}
+     * and with a public no-args constructor are supported.</p>
+     *
+     * @param type The type
+     * @return Whether a codec can be generated
+     */
+    public static boolean canGenerate(Class<?> type) {
+        checkNotNull(type, "type");
+        if (!type.isAnnotationPresent(GenerateCodec.class) || !Modifier.isPublic(type.getModifiers())
+            || Modifier.isAbstract(type.getModifiers()) || type.isInterface()) {
+            return false;
+        }
+        try {
+            return Modifier.isPublic(type.getConstructor().getModifiers());
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Creates a codec for the given type.
+     *
+     * @param type The type
+     * @param service The service used to build nested serializable objects,
+     *     if any
+     * @param <T> The type of object
+     * @return The codec
+     * @throws IllegalArgumentException If a codec can't be generated for
+     *     the type
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends DataSerializable> DataCodec<T> create(Class<T> type, @Nullable SerializationService service) {
+        checkArgument(canGenerate(type), "Can't generate a codec for %s", type);
+        try {
+            return (DataCodec<T>) generator.create(type, service);
+        } catch (UncheckedExecutionException e) {
+            throw new RuntimeException("Failed to generate a codec for " + type.getName(), e.getCause());
+        } catch (ExecutionError e) {
+            throw new RuntimeException("Failed to generate a codec for " + type.getName(), e.getCause());
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to create a codec for " + type.getName(), e);
+        }
+    }
+
+    /**
+     * Creates a codec for the given type and registers it as the type's
+     * builder with the service.
+     *
+     * @param service The service
+     * @param type The type
+     * @param <T> The type of object
+     * @return The registered codec
+     * @throws IllegalArgumentException If a codec can't be generated for
+     *     the type
+     */
+    public static <T extends DataSerializable> DataCodec<T> register(SerializationService service, Class<T> type) {
+        checkNotNull(service, "service");
+        DataCodec<T> codec = create(type, service);
+        service.registerBuilder(type, codec);
+        return codec;
+    }
+
+    /**
+     * Creates a container holding the properties of the given object with
+     * the codec of its class.
+     *
+     * @param object The object
+     * @return The container
+     * @throws IllegalArgumentException If a codec can't be generated for
+     *     the object's class
+     */
+    @SuppressWarnings("unchecked")
+    public static DataContainer toContainer(DataSerializable object) {
+        checkNotNull(object, "object");
+        Class<?> type = object.getClass();
+        checkArgument(canGenerate(type), "Can't generate a codec for %s", type);
+        try {
+            return ((DataCodec<DataSerializable>) unboundCodecs.getUnchecked(type)).toContainer(object);
+        } catch (UncheckedExecutionException e) {
+            throw new RuntimeException("Failed to generate a codec for " + type.getName(), e.getCause());
+        } catch (ExecutionError e) {
+            throw new RuntimeException("Failed to generate a codec for " + type.getName(), e.getCause());
+        }
+    }
+
+}
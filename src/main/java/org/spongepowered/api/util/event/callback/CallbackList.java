@@ -24,20 +24,27 @@
  */
 package org.spongepowered.api.util.event.callback;
 
-import com.google.common.collect.Iterators;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.collect.UnmodifiableIterator;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.spongepowered.api.event.Cancellable;
 
-import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
-import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 /**
  * A collection of callbacks.
  *
- * <p>Entries in the list cannot be removed, but new entries can be added.</p>
+ * <p>Entries in the list cannot be removed, but new entries can be added,
+ * including concurrently from multiple threads. The callbacks are kept in an
+ * array sorted by {@link EventCallback#getOrder()}, which is replaced rather
+ * than modified when a callback is added, so running the callbacks never
+ * needs to lock or allocate.</p>
  *
  * <p>A misbehavior callback (one that throws an exception) will not halt
  * the processing of other callbacks.</p>
@@ -45,13 +52,27 @@
 public final class CallbackList implements Collection<EventCallback> {
 
     private static final Logger log = LoggerFactory.getLogger(CallbackList.class);
-    private final List<EventCallback> callbacks = new ArrayList<EventCallback>();
+    private static final Entries EMPTY = new Entries(new EventCallback[0]);
+    private static final AtomicReferenceFieldUpdater<CallbackList, Entries> entriesUpdater =
+            AtomicReferenceFieldUpdater.newUpdater(CallbackList.class, Entries.class, "entries");
+
+    private volatile Entries entries = EMPTY;
+    private volatile boolean cancelled;
 
     /**
      * Execute all callbacks in the correct order.
+     *
+     * <p>Callbacks are executed in {@link EventCallback#getOrder() order},
+     * and in the order they were added within the same order. Once
+     * {@link #cancelAll()} has been called, callbacks that are still
+     * cancelled are skipped.</p>
      */
     public void runAll() {
-        for (EventCallback callback : this.callbacks) {
+        for (EventCallback callback : this.entries.callbacks) {
+            if (this.cancelled && callback instanceof Cancellable && ((Cancellable) callback).isCancelled()) {
+                continue;
+            }
+
             try {
                 callback.run();
             } catch (Exception e) {
@@ -61,10 +82,11 @@ public void runAll() {
     }
 
     /**
-     * Cancel all callbacks.
+     * Cancel all callbacks, including those added afterwards.
      */
     public void cancelAll() {
-        for (EventCallback callback : this.callbacks) {
+        this.cancelled = true;
+        for (EventCallback callback : this.entries.callbacks) {
             if (callback instanceof Cancellable) {
                 ((Cancellable) callback).setCancelled(true);
             }
@@ -73,37 +95,71 @@ public void cancelAll() {
 
     @Override
     public int size() {
-        return this.callbacks.size();
+        return this.entries.callbacks.length;
     }
 
     @Override
     public boolean isEmpty() {
-        return this.callbacks.isEmpty();
+        return this.entries.callbacks.length == 0;
     }
 
     @Override
     public boolean contains(Object o) {
-        return this.callbacks.contains(o);
+        for (EventCallback callback : this.entries.callbacks) {
+            if (callback.equals(o)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
     public Iterator<EventCallback> iterator() {
-        return Iterators.unmodifiableIterator(this.callbacks.iterator());
+        final EventCallback[] callbacks = this.entries.callbacks;
+        return new UnmodifiableIterator<EventCallback>() {
+            private int index;
+
+            @Override
+            public boolean hasNext() {
+                return this.index < callbacks.length;
+            }
+
+            @Override
+            public EventCallback next() {
+                if (this.index >= callbacks.length) {
+                    throw new NoSuchElementException();
+                }
+                return callbacks[this.index++];
+            }
+        };
     }
 
     @Override
     public Object[] toArray() {
-        return this.callbacks.toArray();
+        EventCallback[] callbacks = this.entries.callbacks;
+        return Arrays.copyOf(callbacks, callbacks.length, Object[].class);
     }
 
     @Override
     public <T> T[] toArray(T[] a) {
-        return this.callbacks.toArray(a);
+        return Arrays.asList(this.entries.callbacks).toArray(a);
     }
 
     @Override
     public boolean add(EventCallback callback) {
-        return this.callbacks.add(callback);
+        checkNotNull(callback, "callback");
+        checkNotNull(callback.getOrder(), "order");
+        Entries current;
+        do {
+            current = this.entries;
+        } while (!entriesUpdater.compareAndSet(this, current, current.with(callback)));
+
+        // Checked after adding, so a concurrent cancelAll() either sees the
+        // callback or is seen here
+        if (this.cancelled && callback instanceof Cancellable) {
+            ((Cancellable) callback).setCancelled(true);
+        }
+        return true;
     }
 
     @Override
@@ -113,12 +169,20 @@ public boolean remove(Object o) {
 
     @Override
     public boolean containsAll(Collection<?> c) {
-        return this.callbacks.containsAll(c);
+        for (Object o : c) {
+            if (!contains(o)) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
     public boolean addAll(Collection<? extends EventCallback> c) {
-        return this.callbacks.addAll(c);
+        for (EventCallback callback : c) {
+            add(callback);
+        }
+        return !c.isEmpty();
     }
 
     @Override
@@ -136,4 +200,31 @@ public void clear() {
         throw new UnsupportedOperationException("Cannot remove entries from the callback list");
     }
 
+    /**
+     * An immutable snapshot of the callbacks, sorted by order.
+     */
+    private static final class Entries {
+
+        final EventCallback[] callbacks;
+
+        Entries(EventCallback[] callbacks) {
+            this.callbacks = callbacks;
+        }
+
+        Entries with(EventCallback callback) {
+            // Insert after every callback of the same or an earlier order
+            int index = this.callbacks.length;
+            while (index > 0 && this.callbacks[index - 1].getOrder().compareTo(callback.getOrder()) > 0) {
+                index--;
+            }
+
+            EventCallback[] callbacks = new EventCallback[this.callbacks.length + 1];
+            System.arraycopy(this.callbacks, 0, callbacks, 0, index);
+            callbacks[index] = callback;
+            System.arraycopy(this.callbacks, index, callbacks, index + 1, this.callbacks.length - index);
+            return new Entries(callbacks);
+        }
+
+    }
+
 }
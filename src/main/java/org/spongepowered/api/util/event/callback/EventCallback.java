@@ -28,8 +28,8 @@
 
 /**
  * A callback is called upon completing the dispatch of an event. Callbacks
- * are executed in the order opposite of that in which they were registered
- * (LIFO).
+ * are executed by {@link #getOrder() order}, and in the order in which they
+ * were registered within the same order.
  */
 public interface EventCallback extends Runnable {
 
@@ -24,6 +24,7 @@
  */
 package org.spongepowered.api.util.event.factory;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static org.objectweb.asm.Opcodes.ACC_BRIDGE;
 import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
@@ -62,19 +63,23 @@
 import com.google.common.base.Optional;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
 import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.FieldVisitor;
 import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Type;
+import org.spongepowered.api.util.annotation.BindProperty;
 import org.spongepowered.api.util.annotation.SetField;
 import org.spongepowered.api.util.reflect.AccessorFirstStrategy;
 import org.spongepowered.api.util.reflect.Property;
 import org.spongepowered.api.util.reflect.PropertySearchStrategy;
 
+import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.List;
+import java.util.Map;
 
 import javax.annotation.Nullable;
 
@@ -211,6 +216,50 @@ public static boolean hasImplementation(@Nullable Class<?> type, final Method me
         return false;
     }
 
+    /**
+     * Gets the single method of a typed factory interface, which is
+     * implemented by the factory created by
+     * {@link #createFactory(Class, String, Class)}.
+     *
+     * @param factoryInterface The factory interface
+     * @return The factory method
+     */
+    public static Method getFactoryMethod(Class<?> factoryInterface) {
+        checkNotNull(factoryInterface, "factoryInterface");
+        checkArgument(factoryInterface.isInterface(), "%s is not an interface", factoryInterface.getName());
+
+        Method[] methods = factoryInterface.getMethods();
+        checkArgument(methods.length == 1, "The factory interface %s must have exactly one method", factoryInterface.getName());
+        return methods[0];
+    }
+
+    @Nullable
+    private static BindProperty getBinding(Annotation[] annotations) {
+        for (Annotation annotation : annotations) {
+            if (annotation instanceof BindProperty) {
+                return (BindProperty) annotation;
+            }
+        }
+        return null;
+    }
+
+    private static boolean isConstructorProperty(Class<?> parentType, Property property) {
+        return property.isLeastSpecificType()
+               && (!hasImplementation(parentType, property.getAccessor()) || getSetField(parentType, property.getName()) != null);
+    }
+
+    private boolean requiresNullCheck(Class<?> parentType, Property property) {
+        if (this.nullPolicy == NullPolicy.DISABLE_PRECONDITIONS) {
+            return false;
+        }
+
+        boolean useNullTest = ((this.nullPolicy == NullPolicy.NON_NULL_BY_DEFAULT && !property.hasNullable())
+                               || (this.nullPolicy == NullPolicy.NULL_BY_DEFAULT && property.hasNonnull()))
+                              && fieldRequired(parentType, property.getName());
+
+        return useNullTest && (!property.getType().isPrimitive() || !this.primitivePropertyExceptions.contains(property.getName()));
+    }
+
     /**
      * Get the policy regarding how null parameters are handled.
      *
@@ -239,6 +288,24 @@ public void setNullPolicy(NullPolicy nullPolicy) {
      * @return The class' contents, to be loaded via a {@link ClassLoader}
      */
     public byte[] createClass(final Class<?> type, final String name, final Class<?> parentType) {
+        return createClass(type, name, parentType, null);
+    }
+
+    /**
+     * Create the event class.
+     *
+     * <p>If a factory interface is given, the class is given an additional
+     * constructor taking the parameters of the factory method in the same
+     * order, which assigns each parameter to the properties named by its
+     * {@link BindProperty} annotation.</p>
+     *
+     * @param type The type
+     * @param name The canonical of the generated class
+     * @param parentType The parent type
+     * @param factoryInterface The typed factory interface, or null
+     * @return The class' contents, to be loaded via a {@link ClassLoader}
+     */
+    public byte[] createClass(final Class<?> type, final String name, final Class<?> parentType, @Nullable final Class<?> factoryInterface) {
         checkNotNull(type, "type");
         checkNotNull(name, "name");
         checkNotNull(parentType, "parentType");
@@ -273,8 +340,7 @@ public byte[] createClass(final Class<?> type, final String name, final Class<?>
             mv.visitMethodInsn(INVOKESPECIAL, Type.getInternalName(parentType), "<init>", "()V", false);
 
             for (Property property : properties) {
-                if (((hasImplementation(parentType, property.getAccessor()) && getSetField(parentType, property.getName()) == null)
-                     || !property.isLeastSpecificType())) {
+                if (!isConstructorProperty(parentType, property)) {
                     continue;
                 }
 
@@ -286,22 +352,8 @@ public byte[] createClass(final Class<?> type, final String name, final Class<?>
 
                 // Only if we have a null policy:
                 // if (value == null) throw new NullPointerException(...)
-                if (this.nullPolicy != NullPolicy.DISABLE_PRECONDITIONS) {
-                    boolean useNullTest = ((this.nullPolicy == NullPolicy.NON_NULL_BY_DEFAULT && !property.hasNullable())
-                            || (this.nullPolicy == NullPolicy.NULL_BY_DEFAULT && property.hasNonnull()))
-                                          && fieldRequired(parentType, property.getName());
-
-                    if (useNullTest && (!property.getType().isPrimitive() || !this.primitivePropertyExceptions.contains(property.getName()))) {
-                        Label afterNullTest = new Label();
-                        mv.visitVarInsn(ALOAD, 2);
-                        mv.visitJumpInsn(IFNONNULL, afterNullTest);
-                        mv.visitTypeInsn(NEW, "java/lang/NullPointerException");
-                        mv.visitInsn(DUP);
-                        mv.visitLdcInsn(property.getName());
-                        mv.visitMethodInsn(INVOKESPECIAL, "java/lang/NullPointerException", "<init>", "(Ljava/lang/String;)V", false);
-                        mv.visitInsn(ATHROW);
-                        mv.visitLabel(afterNullTest);
-                    }
+                if (requiresNullCheck(parentType, property)) {
+                    visitNullCheck(mv, 2, property.getName());
                 }
 
                 final boolean hasSetField = getSetField(parentType, property.getName()) != null;
@@ -360,6 +412,11 @@ public byte[] createClass(final Class<?> type, final String name, final Class<?>
             mv.visitEnd();
         }
 
+        // Create the typed constructor
+        if (factoryInterface != null) {
+            createTypedConstructor(cw, internalName, parentType, properties, getFactoryMethod(factoryInterface));
+        }
+
         // The return value of toString takes the form of "ClassName{param1=value1, param2=value2, ...}"
 
 
@@ -510,6 +567,108 @@ public byte[] createClass(final Class<?> type, final String name, final Class<?>
         return cw.toByteArray();
     }
 
+    private static void visitNullCheck(MethodVisitor mv, int local, String propertyName) {
+        Label afterNullTest = new Label();
+        mv.visitVarInsn(ALOAD, local);
+        mv.visitJumpInsn(IFNONNULL, afterNullTest);
+        mv.visitTypeInsn(NEW, "java/lang/NullPointerException");
+        mv.visitInsn(DUP);
+        mv.visitLdcInsn(propertyName);
+        mv.visitMethodInsn(INVOKESPECIAL, "java/lang/NullPointerException", "<init>", "(Ljava/lang/String;)V", false);
+        mv.visitInsn(ATHROW);
+        mv.visitLabel(afterNullTest);
+    }
+
+    private void createTypedConstructor(ClassWriter cw, String internalName, Class<?> parentType, ImmutableSet<? extends Property> properties,
+            Method factoryMethod) {
+        final Map<String, Property> unbound = Maps.newHashMap();
+        for (Property property : properties) {
+            if (isConstructorProperty(parentType, property)) {
+                unbound.put(property.getName(), property);
+            }
+        }
+
+        final Class<?>[] parameterTypes = factoryMethod.getParameterTypes();
+        final Annotation[][] parameterAnnotations = factoryMethod.getParameterAnnotations();
+
+        MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "<init>", Type.getMethodDescriptor(Type.VOID_TYPE, Type.getArgumentTypes(factoryMethod)),
+                null, null);
+        mv.visitCode();
+
+        // super()
+        mv.visitVarInsn(ALOAD, 0);
+        mv.visitMethodInsn(INVOKESPECIAL, Type.getInternalName(parentType), "<init>", "()V", false);
+
+        int local = 1;
+        for (int i = 0; i < parameterTypes.length; i++) {
+            final Class<?> parameterType = parameterTypes[i];
+            final BindProperty binding = getBinding(parameterAnnotations[i]);
+            if (binding == null) {
+                throw new IllegalArgumentException("Parameter " + i + " of " + factoryMethod + " is not annotated with @BindProperty");
+            }
+
+            for (String name : binding.value()) {
+                final Property property = unbound.remove(name);
+                if (property == null) {
+                    throw new IllegalArgumentException("Parameter " + i + " of " + factoryMethod + " is bound to the property " + name
+                                                       + ", which does not exist or is already bound");
+                }
+
+                final boolean wrapOptional = property.getType() == Optional.class && parameterType != Optional.class;
+                final boolean hasSetField = getSetField(parentType, property.getName()) != null;
+                Label afterPut = new Label();
+
+                if (!parameterType.isPrimitive() && !wrapOptional) {
+                    // if (value == null) throw new NullPointerException(...)
+                    if (requiresNullCheck(parentType, property)) {
+                        visitNullCheck(mv, local, property.getName());
+                    }
+
+                    // Leave fields initialized by the parent type untouched, like the map constructor does
+                    if (hasSetField) {
+                        mv.visitVarInsn(ALOAD, local);
+                        mv.visitJumpInsn(IFNULL, afterPut);
+                    }
+                }
+
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitVarInsn(getLoadOpcode(parameterType), local);
+
+                if (wrapOptional) {
+                    mv.visitMethodInsn(INVOKESTATIC, "com/google/common/base/Optional", "fromNullable",
+                                       "(Ljava/lang/Object;)Lcom/google/common/base/Optional;", false);
+                } else if (parameterType.isPrimitive() || property.getType().isPrimitive()) {
+                    if (parameterType != property.getType()) {
+                        throw new IllegalArgumentException("Parameter " + i + " of " + factoryMethod + " has the type " + parameterType.getName()
+                                                           + ", but the property " + name + " is of the type " + property.getType().getName());
+                    }
+                } else if (!property.getType().isAssignableFrom(parameterType)) {
+                    mv.visitTypeInsn(CHECKCAST, Type.getInternalName(property.getType()));
+                }
+
+                if (hasSetField) {
+                    mv.visitFieldInsn(PUTFIELD, Type.getInternalName(parentType), property.getName(), Type.getDescriptor(property.getType()));
+                } else {
+                    mv.visitFieldInsn(PUTFIELD, internalName, property.getName(), Type.getDescriptor(property.getType()));
+                }
+
+                mv.visitLabel(afterPut);
+            }
+
+            local += Type.getType(parameterType).getSize();
+        }
+
+        for (Property property : unbound.values()) {
+            if (requiresNullCheck(parentType, property)) {
+                throw new IllegalArgumentException("The required property " + property.getName() + " is not bound by " + factoryMethod);
+            }
+        }
+
+        mv.visitInsn(RETURN);
+        mv.visitMaxs(0, 0);
+        mv.visitEnd();
+    }
+
     /**
      * Create the factory for an event class.
      *
@@ -518,12 +677,35 @@ public byte[] createClass(final Class<?> type, final String name, final Class<?>
      * @return The factory class' bytes
      */
     public byte[] createFactory(final Class<?> type, final String name) {
+        return createFactory(type, name, null);
+    }
+
+    /**
+     * Create the factory for an event class.
+     *
+     * <p>If a factory interface is given, the factory also implements it by
+     * calling the typed constructor generated by
+     * {@link #createClass(Class, String, Class, Class)} with the same
+     * factory interface.</p>
+     *
+     * @param type The event class
+     * @param name The canonical name of the factory class
+     * @param factoryInterface The typed factory interface, or null
+     * @return The factory class' bytes
+     */
+    public byte[] createFactory(final Class<?> type, final String name, @Nullable final Class<?> factoryInterface) {
         checkNotNull(type, "type");
 
         String internalName = name.replace('.', '/');
+        String[] interfaces;
+        if (factoryInterface != null) {
+            interfaces = new String[]{Type.getInternalName(EventFactory.class), Type.getInternalName(factoryInterface)};
+        } else {
+            interfaces = new String[]{Type.getInternalName(EventFactory.class)};
+        }
 
         ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS | ClassWriter.COMPUTE_FRAMES);
-        cw.visit(V1_6, ACC_PUBLIC + ACC_SUPER, internalName, null, "java/lang/Object", new String[]{Type.getInternalName(EventFactory.class)});
+        cw.visit(V1_6, ACC_PUBLIC + ACC_SUPER, internalName, null, "java/lang/Object", interfaces);
 
         // Create the constructor
         {
@@ -576,6 +758,26 @@ public byte[] createFactory(final Class<?> type, final String name) {
             mv.visitEnd();
         }
 
+        // Typed factory method
+        if (factoryInterface != null) {
+            Method factoryMethod = getFactoryMethod(factoryInterface);
+            Type[] argumentTypes = Type.getArgumentTypes(factoryMethod);
+
+            MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, factoryMethod.getName(), Type.getMethodDescriptor(factoryMethod), null, null);
+            mv.visitCode();
+            mv.visitTypeInsn(NEW, Type.getInternalName(type));
+            mv.visitInsn(DUP);
+            int local = 1;
+            for (Type argumentType : argumentTypes) {
+                mv.visitVarInsn(argumentType.getOpcode(ILOAD), local);
+                local += argumentType.getSize();
+            }
+            mv.visitMethodInsn(INVOKESPECIAL, Type.getInternalName(type), "<init>", Type.getMethodDescriptor(Type.VOID_TYPE, argumentTypes), false);
+            mv.visitInsn(ARETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+
         cw.visitEnd();
 
         return cw.toByteArray();
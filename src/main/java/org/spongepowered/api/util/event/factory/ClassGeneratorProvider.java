@@ -25,6 +25,14 @@
 package org.spongepowered.api.util.event.factory;
 
 import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import com.google.common.collect.Maps;
+
+import java.util.Collections;
+import java.util.Map;
+
+import javax.annotation.Nullable;
 
 /**
  * Creates event implementations by generating the necessary event class
@@ -68,13 +76,19 @@ protected String getClassName(Class<?> clazz, String classifier) {
     }
 
     @Override
-    @SuppressWarnings("unchecked")
     public <T> EventFactory<T> create(final Class<T> type, Class<?> parentType) {
+        return create(type, parentType, null);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> EventFactory<T> create(final Class<T> type, Class<?> parentType, @Nullable Class<?> factoryInterface) {
         String eventName = getClassName(type, "Impl");
         String factoryName = getClassName(type, "Factory");
 
-        Class<?> eventClass = this.classLoader.defineClass(eventName, this.builder.createClass(type, eventName, parentType));
-        Class<?> factoryClass = this.classLoader.defineClass(factoryName, this.builder.createFactory(eventClass, factoryName));
+        Class<?> eventClass = this.classLoader.defineClass(eventName, this.builder.createClass(type, eventName, parentType, factoryInterface));
+        Class<?> factoryClass =
+                this.classLoader.defineClass(factoryName, this.builder.createFactory(eventClass, factoryName, factoryInterface));
 
         try {
             return (EventFactory<T>) factoryClass.newInstance();
@@ -85,6 +99,44 @@ public <T> EventFactory<T> create(final Class<T> type, Class<?> parentType) {
         }
     }
 
+    /**
+     * Gets the factory for the given type from the classes generated ahead of
+     * time, if they are available to the parent class loader.
+     *
+     * <p>The classes are looked up under the same names that {@link #create}
+     * would generate them with, so they must have been generated by a
+     * provider with the same target package and configuration. Classes
+     * generated for another type with the same simple name are ignored.</p>
+     *
+     * @param type The type to get the factory for
+     * @param <T> The type of the event
+     * @return The precompiled factory, or null if there is none
+     */
+    @Nullable
+    @SuppressWarnings("unchecked")
+    public <T> EventFactory<T> getPrecompiled(final Class<T> type) {
+        String eventName = getClassName(type, "Impl");
+        String factoryName = getClassName(type, "Factory");
+
+        Class<?> factoryClass;
+        try {
+            if (!type.isAssignableFrom(Class.forName(eventName, false, this.classLoader.getParent()))) {
+                return null;
+            }
+            factoryClass = Class.forName(factoryName, true, this.classLoader.getParent());
+        } catch (ClassNotFoundException e) {
+            return null;
+        }
+
+        try {
+            return (EventFactory<T>) factoryClass.newInstance();
+        } catch (InstantiationException e) {
+            throw new RuntimeException("Failed to create precompiled event factory", e);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException("Failed to create precompiled event factory", e);
+        }
+    }
+
     /**
      * Gets the {@link LocalClassLoader} used to load generated event classes.
      *
@@ -99,6 +151,8 @@ public LocalClassLoader getClassLoader() {
      */
     public static class LocalClassLoader extends ClassLoader {
 
+        @Nullable private Map<String, byte[]> recordedDefinitions;
+
         /**
          * Creates a new {@link LocalClassLoader}.
          *
@@ -116,8 +170,32 @@ public LocalClassLoader(ClassLoader parent) {
          * @return The class
          */
         public Class<?> defineClass(String name, byte[] b) {
+            if (this.recordedDefinitions != null) {
+                this.recordedDefinitions.put(name, b);
+            }
             return defineClass(name, b, 0, b.length);
         }
+
+        /**
+         * Starts recording the bytecode of all classes defined by this class
+         * loader from now on, so they can be written out ahead of time.
+         */
+        public void recordDefinitions() {
+            if (this.recordedDefinitions == null) {
+                this.recordedDefinitions = Maps.newLinkedHashMap();
+            }
+        }
+
+        /**
+         * Gets the bytecode of all classes defined since
+         * {@link #recordDefinitions()} was called, by class name.
+         *
+         * @return The recorded class definitions
+         */
+        public Map<String, byte[]> getRecordedDefinitions() {
+            checkState(this.recordedDefinitions != null, "Definitions are not being recorded");
+            return Collections.unmodifiableMap(this.recordedDefinitions);
+        }
     }
 
 }
@@ -0,0 +1,230 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.event.factory;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.objectweb.asm.Opcodes.ACC_FINAL;
+import static org.objectweb.asm.Opcodes.ACC_PRIVATE;
+import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+import static org.objectweb.asm.Opcodes.ACC_SUPER;
+import static org.objectweb.asm.Opcodes.ALOAD;
+import static org.objectweb.asm.Opcodes.ARETURN;
+import static org.objectweb.asm.Opcodes.CHECKCAST;
+import static org.objectweb.asm.Opcodes.GETFIELD;
+import static org.objectweb.asm.Opcodes.INVOKEINTERFACE;
+import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
+import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
+import static org.objectweb.asm.Opcodes.PUTFIELD;
+import static org.objectweb.asm.Opcodes.RETURN;
+import static org.objectweb.asm.Opcodes.V1_6;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.ExecutionError;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.FieldVisitor;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventHandler;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Generates {@link EventHandler} implementations that call a single event
+ * handling method directly, rather than through reflection.
+ *
+ * <p>One class is generated per method, which casts the event to the type
+ * of the method's parameter and calls the method on the instance the
+ * handler was created for.</p>
+ *
+ * <p>Handler classes are kept for the lifetime of the generator, so the
+ * class for a method is only generated once no matter how often handlers
+ * for it are created.</p>
+ */
+public class EventHandlerGenerator {
+
+    private static final String HANDLER_PACKAGE = "org.spongepowered.api.event.handler";
+    private static final String EVENT_DESCRIPTOR = Type.getDescriptor(Event.class);
+
+    private final AtomicInteger id = new AtomicInteger();
+
+    private final LoadingCache<ClassLoader, ClassGeneratorProvider.LocalClassLoader> classLoaders = CacheBuilder.newBuilder()
+            .build(
+                    new CacheLoader<ClassLoader, ClassGeneratorProvider.LocalClassLoader>() {
+                        @Override
+                        public ClassGeneratorProvider.LocalClassLoader load(ClassLoader parent) {
+                            return new ClassGeneratorProvider.LocalClassLoader(parent);
+                        }
+                    });
+
+    private final LoadingCache<Method, Constructor<?>> handlerConstructors = CacheBuilder.newBuilder()
+            .build(
+                    new CacheLoader<Method, Constructor<?>>() {
+                        @Override
+                        public Constructor<?> load(Method method) throws Exception {
+                            return generateHandler(method).getConstructor(Object.class);
+                        }
+                    });
+
+    /**
+     * Tests whether a handler can be generated for the given method.
+     *
+     * <p>Only public, non-static methods of public classes taking a single
+     * {@link Event} parameter can be called by generated handlers.</p>
+     *
+     * @param method The method
+     * @return Whether a handler can be generated
+     */
+    public static boolean canGenerate(Method method) {
+        Class<?>[] parameters = method.getParameterTypes();
+        return parameters.length == 1
+               && Event.class.isAssignableFrom(parameters[0])
+               && Modifier.isPublic(parameters[0].getModifiers())
+               && Modifier.isPublic(method.getModifiers())
+               && !Modifier.isStatic(method.getModifiers())
+               && Modifier.isPublic(method.getDeclaringClass().getModifiers());
+    }
+
+    /**
+     * Creates a handler calling the given method on the target.
+     *
+     * @param target The instance to call the method on
+     * @param method The method to call
+     * @return The handler
+     */
+    @SuppressWarnings("unchecked")
+    public EventHandler<Event> create(Object target, Method method) {
+        checkNotNull(target, "target");
+        checkNotNull(method, "method");
+        checkArgument(canGenerate(method), "Can't generate a handler for %s", method);
+        checkArgument(method.getDeclaringClass().isInstance(target), "%s does not declare %s", target.getClass().getName(), method);
+
+        try {
+            return (EventHandler<Event>) this.handlerConstructors.getUnchecked(method).newInstance(target);
+        } catch (UncheckedExecutionException e) {
+            throw new RuntimeException("Failed to generate event handler for " + method, e.getCause());
+        } catch (ExecutionError e) {
+            throw new RuntimeException("Failed to generate event handler for " + method, e.getCause());
+        } catch (InstantiationException e) {
+            throw new RuntimeException("Failed to create event handler for " + method, e);
+        } catch (IllegalAccessException e) {
+            throw new RuntimeException("Failed to create event handler for " + method, e);
+        } catch (InvocationTargetException e) {
+            throw new RuntimeException("Failed to create event handler for " + method, e.getCause());
+        }
+    }
+
+    private Class<?> generateHandler(Method method) {
+        Class<?> owner = method.getDeclaringClass();
+        String name = HANDLER_PACKAGE + "." + owner.getSimpleName() + "$" + method.getName() + "$" + this.id.incrementAndGet();
+        ClassLoader parent = owner.getClassLoader() != null ? owner.getClassLoader() : EventHandlerGenerator.class.getClassLoader();
+        return this.classLoaders.getUnchecked(parent).defineClass(name, createClass(name, method));
+    }
+
+    /**
+     * Create the handler class for the given method.
+     *
+     * @param name The canonical name of the generated class
+     * @param method The method called by the handler
+     * @return The class' contents, to be loaded via a {@link ClassLoader}
+     */
+    public byte[] createClass(String name, Method method) {
+        checkNotNull(name, "name");
+        checkNotNull(method, "method");
+
+        final String internalName = name.replace('.', '/');
+        final Class<?> owner = method.getDeclaringClass();
+        final String ownerName = Type.getInternalName(owner);
+        final String ownerDescriptor = Type.getDescriptor(owner);
+
+        final ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS | ClassWriter.COMPUTE_FRAMES);
+        cw.visit(V1_6, ACC_PUBLIC + ACC_FINAL + ACC_SUPER, internalName, null, "java/lang/Object",
+                new String[]{Type.getInternalName(EventHandler.class)});
+
+        {
+            FieldVisitor fv = cw.visitField(ACC_PRIVATE + ACC_FINAL, "target", ownerDescriptor, null, null);
+            fv.visitEnd();
+        }
+
+        // Create the constructor
+        {
+            MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "<init>", "(Ljava/lang/Object;)V", null, null);
+            mv.visitCode();
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitMethodInsn(INVOKESPECIAL, "java/lang/Object", "<init>", "()V", false);
+
+            // this.target = (Owner) target
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitTypeInsn(CHECKCAST, ownerName);
+            mv.visitFieldInsn(PUTFIELD, internalName, "target", ownerDescriptor);
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+
+        // handle(Event): this.target.method((Parameter) event)
+        {
+            MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "handle", "(" + EVENT_DESCRIPTOR + ")V", null,
+                    new String[]{"java/lang/Exception"});
+            mv.visitCode();
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitFieldInsn(GETFIELD, internalName, "target", ownerDescriptor);
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitTypeInsn(CHECKCAST, Type.getInternalName(method.getParameterTypes()[0]));
+            if (owner.isInterface()) {
+                mv.visitMethodInsn(INVOKEINTERFACE, ownerName, method.getName(), Type.getMethodDescriptor(method), true);
+            } else {
+                mv.visitMethodInsn(INVOKEVIRTUAL, ownerName, method.getName(), Type.getMethodDescriptor(method), false);
+            }
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+
+        // toString(): the name of the method
+        {
+            MethodVisitor mv = cw.visitMethod(ACC_PUBLIC, "toString", "()Ljava/lang/String;", null, null);
+            mv.visitCode();
+            mv.visitLdcInsn(method.toString());
+            mv.visitInsn(ARETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+
+        cw.visitEnd();
+
+        return cw.toByteArray();
+    }
+
+}
@@ -24,6 +24,8 @@
  */
 package org.spongepowered.api.util.event.factory;
 
+import javax.annotation.Nullable;
+
 /**
  * Creates event factories that can generate new instances of requested
  * events.
@@ -58,4 +60,21 @@ public interface FactoryProvider {
      */
     <T> EventFactory<T> create(Class<T> type, Class<?> parentType);
 
+    /**
+     * Creates a function that takes a map of property names with their
+     * values to create a new instance of a generated class that implements
+     * the given type.
+     *
+     * <p>If a factory interface is given, the returned function also
+     * implements it, creating instances directly from the parameters of
+     * the factory method without going through a map.</p>
+     *
+     * @param type The type to generate a class for
+     * @param parentType The parent type
+     * @param factoryInterface The typed factory interface, or null
+     * @param <T> The type of the event
+     * @return The function
+     */
+    <T> EventFactory<T> create(Class<T> type, Class<?> parentType, @Nullable Class<?> factoryInterface);
+
 }
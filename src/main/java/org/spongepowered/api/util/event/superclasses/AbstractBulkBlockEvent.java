@@ -28,16 +28,44 @@
 import org.spongepowered.api.event.AbstractEvent;
 import org.spongepowered.api.event.Cancellable;
 import org.spongepowered.api.event.block.BulkBlockEvent;
+import org.spongepowered.api.world.BlockLocationList;
 import org.spongepowered.api.world.Location;
 
+import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Iterator;
+import java.util.List;
 
 public abstract class AbstractBulkBlockEvent extends AbstractEvent implements BulkBlockEvent {
 
     @Override
     public void filter(Predicate<Location> predicate) {
         if (this instanceof Cancellable) {
-            Iterator<Location> iterator = this.getBlocks().iterator();
+            List<Location> blocks = this.getBlocks();
+            if (blocks instanceof BlockLocationList) {
+                ((BlockLocationList) blocks).filter(predicate);
+                return;
+            }
+
+            if (blocks instanceof ArrayList) {
+                // Find the kept blocks first, so the list is unchanged if the
+                // predicate throws, then move them to the front and drop the
+                // rest at once rather than removing blocks one at a time
+                BitSet kept = new BitSet(blocks.size());
+                for (int i = 0; i < blocks.size(); i++) {
+                    if (predicate.apply(blocks.get(i))) {
+                        kept.set(i);
+                    }
+                }
+                int size = 0;
+                for (int i = kept.nextSetBit(0); i >= 0; i = kept.nextSetBit(i + 1)) {
+                    blocks.set(size++, blocks.get(i));
+                }
+                blocks.subList(size, blocks.size()).clear();
+                return;
+            }
+
+            Iterator<Location> iterator = blocks.iterator();
             while (iterator.hasNext()) {
                 if (!predicate.apply(iterator.next())) {
                     iterator.remove();
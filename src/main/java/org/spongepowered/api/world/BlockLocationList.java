@@ -0,0 +1,289 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkElementIndex;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+import com.flowpowered.math.vector.Vector3i;
+import com.google.common.base.Predicate;
+import org.spongepowered.api.world.extent.Extent;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.RandomAccess;
+
+/**
+ * A list of block locations within a single {@link Extent}, stored compactly
+ * as packed positions.
+ *
+ * <p>{@link Location}s are only created when an element is retrieved.
+ * Removing an element through {@link #iterator()} or
+ * {@link #filter(Predicate)} only marks it as removed, and the positions
+ * are compacted the next time an element is accessed by index, so these
+ * removals take a single pass over the list. Removing an element by index
+ * shifts the following positions, like {@link java.util.ArrayList}.</p>
+ *
+ * <p>Positions are packed into 26 bits for the x and z coordinates and 12
+ * bits for the y coordinate.</p>
+ */
+public final class BlockLocationList extends AbstractList<Location> implements RandomAccess {
+
+    private static final int XZ_BITS = 26;
+    private static final int Y_BITS = 12;
+    private static final int XZ_SHIFT = 64 - XZ_BITS;
+    private static final int Y_SHIFT = 64 - Y_BITS;
+    private static final long XZ_MASK = (1L << XZ_BITS) - 1;
+    private static final long Y_MASK = (1L << Y_BITS) - 1;
+
+    private final Extent extent;
+    private long[] positions;
+    private int length;
+    private final BitSet removed = new BitSet();
+    private int removedCount;
+    // Incremented whenever the positions are compacted, which moves elements
+    private int compactions;
+
+    /**
+     * Create a new, empty list.
+     *
+     * @param extent The extent the locations are in
+     */
+    public BlockLocationList(Extent extent) {
+        this(extent, 10);
+    }
+
+    /**
+     * Create a new, empty list.
+     *
+     * @param extent The extent the locations are in
+     * @param initialCapacity The number of positions to allocate space for
+     */
+    public BlockLocationList(Extent extent, int initialCapacity) {
+        checkArgument(initialCapacity >= 0, "initialCapacity must not be negative");
+        this.extent = checkNotNull(extent, "extent");
+        this.positions = new long[initialCapacity];
+    }
+
+    /**
+     * Gets the extent the locations are in.
+     *
+     * @return The extent
+     */
+    public Extent getExtent() {
+        return this.extent;
+    }
+
+    private static long pack(int x, int y, int z) {
+        checkArgument(x >> (XZ_BITS - 1) == x >> 31 && z >> (XZ_BITS - 1) == z >> 31 && y >> (Y_BITS - 1) == y >> 31,
+                "Position out of range: (%s, %s, %s)", x, y, z);
+        return ((x & XZ_MASK) << (XZ_BITS + Y_BITS)) | ((y & Y_MASK) << XZ_BITS) | (z & XZ_MASK);
+    }
+
+    private static int unpackX(long position) {
+        return (int) (position >> (XZ_BITS + Y_BITS));
+    }
+
+    private static int unpackY(long position) {
+        return (int) (position << XZ_BITS >> Y_SHIFT);
+    }
+
+    private static int unpackZ(long position) {
+        return (int) (position << XZ_SHIFT >> XZ_SHIFT);
+    }
+
+    private Location createLocation(long position) {
+        return new Location(this.extent, unpackX(position), unpackY(position), unpackZ(position));
+    }
+
+    /**
+     * Adds a block position to the list.
+     *
+     * @param x The x coordinate
+     * @param y The y coordinate
+     * @param z The z coordinate
+     * @return Always true
+     */
+    public boolean add(int x, int y, int z) {
+        long position = pack(x, y, z);
+        if (this.length == this.positions.length) {
+            this.positions = Arrays.copyOf(this.positions, Math.max(10, this.length + (this.length >> 1)));
+        }
+        this.positions[this.length++] = position;
+        this.modCount++;
+        return true;
+    }
+
+    /**
+     * Adds a block position to the list.
+     *
+     * @param position The block position
+     * @return Always true
+     */
+    public boolean add(Vector3i position) {
+        checkNotNull(position, "position");
+        return add(position.getX(), position.getY(), position.getZ());
+    }
+
+    @Override
+    public boolean add(Location location) {
+        checkNotNull(location, "location");
+        checkArgument(location.getExtent().equals(this.extent), "The location must be in the extent of the list");
+        return add(location.getBlockPosition());
+    }
+
+    /**
+     * Removes every location for which the predicate returns false, in a
+     * single pass over the list.
+     *
+     * @param predicate A predicate that returns false to remove the location
+     * @return Whether any location was removed
+     */
+    public boolean filter(Predicate<Location> predicate) {
+        checkNotNull(predicate, "predicate");
+        int removedBefore = this.removedCount;
+        for (int i = this.removed.nextClearBit(0); i < this.length; i = this.removed.nextClearBit(i + 1)) {
+            if (!predicate.apply(createLocation(this.positions[i]))) {
+                markRemoved(i);
+            }
+        }
+        return this.removedCount != removedBefore;
+    }
+
+    private void markRemoved(int index) {
+        this.removed.set(index);
+        this.removedCount++;
+        this.modCount++;
+    }
+
+    private void compact() {
+        if (this.removedCount == 0) {
+            return;
+        }
+        int size = 0;
+        for (int i = this.removed.nextClearBit(0); i < this.length; i = this.removed.nextClearBit(i + 1)) {
+            this.positions[size++] = this.positions[i];
+        }
+        this.length = size;
+        this.removed.clear();
+        this.removedCount = 0;
+        this.compactions++;
+    }
+
+    @Override
+    public Location get(int index) {
+        compact();
+        checkElementIndex(index, this.length);
+        return createLocation(this.positions[index]);
+    }
+
+    @Override
+    public Location remove(int index) {
+        compact();
+        checkElementIndex(index, this.length);
+        Location location = createLocation(this.positions[index]);
+        System.arraycopy(this.positions, index + 1, this.positions, index, this.length - index - 1);
+        this.length--;
+        this.modCount++;
+        return location;
+    }
+
+    @Override
+    public int size() {
+        return this.length - this.removedCount;
+    }
+
+    @Override
+    public void clear() {
+        this.length = 0;
+        this.removed.clear();
+        this.removedCount = 0;
+        this.modCount++;
+    }
+
+    @Override
+    public Iterator<Location> iterator() {
+        return new Itr();
+    }
+
+    private final class Itr implements Iterator<Location> {
+
+        // Indices into the positions array, which are remapped if the list was
+        // compacted by a call to get(int) since the last call
+        private int cursor = BlockLocationList.this.removed.nextClearBit(0);
+        private int lastReturned = -1;
+        // The number of live elements before the cursor
+        private int skipped;
+        private int compactions = BlockLocationList.this.compactions;
+        private int expectedModCount = BlockLocationList.this.modCount;
+
+        private void sync() {
+            if (BlockLocationList.this.modCount != this.expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (BlockLocationList.this.compactions != this.compactions) {
+                this.lastReturned = this.lastReturned >= 0 ? this.skipped - 1 : -1;
+                this.cursor = this.skipped;
+                this.compactions = BlockLocationList.this.compactions;
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            sync();
+            return this.cursor < BlockLocationList.this.length;
+        }
+
+        @Override
+        public Location next() {
+            sync();
+            if (this.cursor >= BlockLocationList.this.length) {
+                throw new NoSuchElementException();
+            }
+            this.lastReturned = this.cursor;
+            this.cursor = BlockLocationList.this.removed.nextClearBit(this.cursor + 1);
+            this.skipped++;
+            return createLocation(BlockLocationList.this.positions[this.lastReturned]);
+        }
+
+        @Override
+        public void remove() {
+            sync();
+            checkState(this.lastReturned >= 0, "next() has not been called since the last call to remove()");
+            markRemoved(this.lastReturned);
+            this.lastReturned = -1;
+            this.skipped--;
+            this.expectedModCount = BlockLocationList.this.modCount;
+        }
+
+    }
+
+}
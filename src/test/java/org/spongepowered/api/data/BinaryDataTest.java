@@ -0,0 +1,107 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.List;
+
+public class BinaryDataTest {
+
+    private static DataContainer createContainer() {
+        List<SimpleData> dataList = Lists.newArrayList();
+        for (int i = 0; i < 10; i++) {
+            dataList.add(new SimpleData(i, 10.0 + i, "String" + i, Collections.singletonList("Entry" + i)));
+        }
+        DataContainer container = new MemoryDataContainer();
+        container.set(DataQuery.of("foo", "byte"), (byte) -3)
+                .set(DataQuery.of("foo", "short"), (short) -300)
+                .set(DataQuery.of("foo", "int"), Integer.MIN_VALUE)
+                .set(DataQuery.of("foo", "long"), Long.MAX_VALUE)
+                .set(DataQuery.of("foo", "float"), 1.5F)
+                .set(DataQuery.of("foo", "double"), -10.25D)
+                .set(DataQuery.of("foo", "boolean"), true)
+                .set(DataQuery.of("foo", "char"), '\u00e9')
+                .set(DataQuery.of("bar", "string"), "String \u2603")
+                .set(DataQuery.of("bar", "map"), ImmutableMap.of("a", 1, "b", "two"))
+                .set(DataQuery.of("bar", "list"), Lists.newArrayList(1, 2, 3))
+                .set(DataQuery.of("bar", "data"), dataList)
+                .set(DataQuery.of("arrays", "byte"), new byte[] {1, -2, 3})
+                .set(DataQuery.of("arrays", "int"), new int[] {1, -2, Integer.MAX_VALUE})
+                .set(DataQuery.of("arrays", "long"), new long[] {1L, -2L, Long.MIN_VALUE})
+                .set(DataQuery.of("arrays", "double"), new double[] {1.5D, -2.0D});
+        return container;
+    }
+
+    private static byte[] write(DataView view) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        new BinaryDataWriter(new DataOutputStream(bytes)).write(view);
+        return bytes.toByteArray();
+    }
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        DataContainer container = createContainer();
+        DataContainer read = new BinaryDataReader(new DataInputStream(new ByteArrayInputStream(write(container)))).read();
+
+        assertEquals(container, read);
+    }
+
+    @Test
+    public void testLazyContainer() throws Exception {
+        DataContainer container = createContainer();
+        DataContainer lazy = new BinaryDataContainer(ByteBuffer.wrap(write(container)));
+
+        assertEquals(Integer.MIN_VALUE, (int) lazy.getInt(DataQuery.of("foo", "int")).get());
+        assertEquals("String \u2603", lazy.getString(DataQuery.of("bar", "string")).get());
+        assertEquals(Long.MIN_VALUE, lazy.getLongArray(DataQuery.of("arrays", "long")).get()[2]);
+        assertFalse(lazy.contains(DataQuery.of("foo", "missing")));
+        assertFalse(lazy.contains(DataQuery.of("foo", "int", "missing")));
+        assertEquals(container.getKeys(true), lazy.getKeys(true));
+
+        List<DataView> views = lazy.getViewList(DataQuery.of("bar", "data")).get();
+        assertEquals(10, views.size());
+        assertEquals("String3", views.get(3).getString(DataQuery.of("myString")).get());
+
+        assertEquals(container, lazy.copy());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testLazyContainerReadOnly() throws Exception {
+        new BinaryDataContainer(ByteBuffer.wrap(write(createContainer()))).set(DataQuery.of("foo"), 1);
+    }
+
+}
@@ -66,4 +66,22 @@ public void testNodeToData() {
         // assertTrue(node.equals(translated)); // TODO Pending Configurate equals implementation
     }
 
+    @Test
+    public void testDataToNode() {
+        DataContainer container = new MemoryDataContainer();
+        container.set(DataQuery.of("foo", "bar", "int"), 1)
+                .set(DataQuery.of("foo", "string"), "String")
+                .set(DataQuery.of("baz"), 10.0D)
+                .set(DataQuery.of("ints"), new int[] {1, 2, 3});
+        container.createView(DataQuery.of("foo", "empty"));
+
+        ConfigurationNode node = ConfigurateTranslator.instance().translateData(container);
+        assertTrue(node.getNode("ints").getValue().equals(Lists.newArrayList(1, 2, 3)));
+        assertTrue(node.getNode("foo", "bar", "int").getInt() == 1);
+        assertTrue(node.getNode("foo", "string").getString().equals("String"));
+        assertTrue(node.getNode("baz").getDouble() == 10.0D);
+        assertTrue(node.getNode("foo").getChildrenMap().containsKey("empty"));
+        assertTrue(node.getNode("foo", "empty").getValue().equals(Collections.emptyMap()));
+    }
+
 }
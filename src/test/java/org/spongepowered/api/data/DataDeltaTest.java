@@ -0,0 +1,73 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+
+public class DataDeltaTest {
+
+    private static DataContainer createContainer() {
+        DataContainer container = new MemoryDataContainer();
+        container.set(DataQuery.of("foo", "int"), 1)
+                .set(DataQuery.of("foo", "string"), "String")
+                .set(DataQuery.of("foo", "ints"), new int[] {1, 2, 3})
+                .set(DataQuery.of("bar", "baz"), 10.0D)
+                .set(DataQuery.of("list"), ImmutableList.of("a", "b"));
+        return container;
+    }
+
+    @Test
+    public void testBetween() {
+        DataContainer from = createContainer();
+        DataContainer to = createContainer();
+        assertTrue(DataDelta.between(from, to).isEmpty());
+
+        to.set(DataQuery.of("foo", "int"), 2)
+                .remove(DataQuery.of("bar", "baz"))
+                .set(DataQuery.of("qux"), "new");
+        DataDelta delta = DataDelta.between(from, to);
+        assertEquals(3, delta.getChanges().size());
+
+        delta.applyTo(from);
+        assertEquals(to, from);
+    }
+
+    @Test
+    public void testContainerRoundTrip() {
+        DataContainer from = createContainer();
+        DataContainer to = createContainer();
+        to.remove(DataQuery.of("foo"));
+        to.set(DataQuery.of("bar", "view", "int"), 3);
+
+        DataDelta delta = DataDelta.fromContainer(DataDelta.between(from, to).toContainer());
+        ImmutableDataContainer applied = delta.applyTo(ImmutableDataContainer.copyOf(from));
+        assertEquals(to, applied.mutableCopy());
+    }
+
+}
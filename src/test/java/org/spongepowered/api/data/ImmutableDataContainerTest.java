@@ -0,0 +1,100 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.Collections;
+
+public class ImmutableDataContainerTest {
+
+    @Test
+    public void testWithAndWithout() {
+        ImmutableDataContainer empty = ImmutableDataContainer.of();
+        ImmutableDataContainer container = empty.with(DataQuery.of("foo", "bar"), 1)
+                .with(DataQuery.of("foo", "baz"), "String")
+                .with(DataQuery.of("qux"), 10.0D);
+
+        assertFalse(empty.contains(DataQuery.of("foo", "bar")));
+        assertEquals(1, (int) container.getInt(DataQuery.of("foo", "bar")).get());
+        assertEquals("String", container.getString(DataQuery.of("foo", "baz")).get());
+        assertTrue(container.getView(DataQuery.of("foo")).isPresent());
+
+        ImmutableDataContainer removed = container.without(DataQuery.of("foo", "bar"));
+        assertFalse(removed.contains(DataQuery.of("foo", "bar")));
+        assertTrue(container.contains(DataQuery.of("foo", "bar")));
+        assertSame(removed, removed.without(DataQuery.of("foo", "bar")));
+        assertSame(container, container.copy());
+    }
+
+    @Test
+    public void testSharing() {
+        ImmutableDataContainer container = ImmutableDataContainer.of().with(DataQuery.of("foo", "bar"), 1);
+        ImmutableDataContainer modified = container.with(DataQuery.of("baz"), 2);
+
+        assertSame(((ImmutableDataView) container.getView(DataQuery.of("foo")).get()).entries,
+                ((ImmutableDataView) modified.getView(DataQuery.of("foo")).get()).entries);
+        assertSame(container, container.with(DataQuery.of("foo", "bar"), container.get(DataQuery.of("foo", "bar")).get()));
+    }
+
+    @Test
+    public void testManyKeys() {
+        ImmutableDataContainer container = ImmutableDataContainer.of();
+        for (int i = 0; i < 1000; i++) {
+            container = container.with(DataQuery.of("key" + i), i);
+        }
+        // "Aa" and "BB" have the same hash code
+        container = container.with(DataQuery.of("Aa"), 1).with(DataQuery.of("BB"), 2);
+
+        assertEquals(1002, container.getKeys(false).size());
+        for (int i = 0; i < 1000; i += 2) {
+            container = container.without(DataQuery.of("key" + i));
+        }
+        container = container.without(DataQuery.of("Aa"));
+        assertEquals(501, container.getKeys(false).size());
+        assertEquals(999, (int) container.getInt(DataQuery.of("key999")).get());
+        assertFalse(container.contains(DataQuery.of("key998")));
+        assertEquals(2, (int) container.getInt(DataQuery.of("BB")).get());
+    }
+
+    @Test
+    public void testConversion() {
+        DataContainer memory = new MemoryDataContainer();
+        memory.set(DataQuery.of("foo", "int"), 1)
+                .set(DataQuery.of("foo", "string"), "String")
+                .set(DataQuery.of("bar"), new SimpleData(1, 2.0, "String", Collections.singletonList("Entry")))
+                .set(DataQuery.of("baz"), Collections.singletonList(new SimpleData(3, 4.0, "String", Collections.<String>emptyList())));
+
+        ImmutableDataContainer container = ImmutableDataContainer.copyOf(memory);
+        assertEquals(memory.getKeys(true), container.getKeys(true));
+        assertEquals(memory, container.mutableCopy());
+    }
+
+}
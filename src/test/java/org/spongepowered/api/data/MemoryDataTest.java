@@ -38,6 +38,7 @@
 import org.spongepowered.api.service.persistence.DataBuilder;
 import org.spongepowered.api.service.persistence.SerializationService;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -161,6 +162,30 @@ public void testNumberedLists() {
 
     }
 
+    @Test
+    public void testPrimitiveArrays() {
+        DataContainer container = new MemoryDataContainer();
+        DataQuery testQuery = of("foo", "bar");
+        int[] ints = {1, 2, 3, 4};
+        container.set(testQuery, ints);
+        ints[0] = 5;
+        assertTrue(Arrays.equals(new int[] {1, 2, 3, 4}, container.getIntArray(testQuery).get()));
+        assertTrue(container.getIntegerList(testQuery).get().equals(ImmutableList.of(1, 2, 3, 4)));
+        assertTrue(Arrays.equals(new long[] {1, 2, 3, 4}, container.getLongArray(testQuery).get()));
+
+        container.getIntArray(testQuery).get()[0] = 5;
+        assertTrue(container.getIntArray(testQuery).get()[0] == 1);
+
+        container.set(testQuery, ImmutableList.of(1.0D, 2.0D));
+        assertTrue(Arrays.equals(new double[] {1.0D, 2.0D}, container.getDoubleArray(testQuery).get()));
+
+        container.set(testQuery, new byte[] {1, 2});
+        DataContainer copy = container.copy();
+        assertTrue(Arrays.equals(new byte[] {1, 2}, copy.getByteArray(testQuery).get()));
+        assertTrue(container.equals(copy));
+        assertTrue(container.hashCode() == copy.hashCode());
+    }
+
     @Test
     public void testLists() {
         DataContainer container = new MemoryDataContainer();
@@ -341,4 +366,64 @@ public void testCopy() {
         assertTrue(internal.equals(internalCopy));
     }
 
+    @Test
+    public void testQueryInterning() {
+        assertTrue(of('.', "foo.bar.baz") == of("foo", "bar", "baz"));
+        assertTrue(of("foo").then(of("bar")) == of('/', "foo/bar"));
+        assertTrue(of("foo", "bar").getQueryParts().get(1) == of("bar"));
+        assertTrue(new DataQuery("foo", "bar").equals(of('.', "foo.bar")));
+        assertTrue(of('.', "foo..bar.").getParts().equals(ImmutableList.of("foo", "", "bar")));
+    }
+
+    @Test
+    public void testNestedViewPaths() {
+        DataContainer container = new MemoryDataContainer();
+        container.set(of('.', "foo.bar.baz"), 1);
+        DataView view = container.getView(of('.', "foo.bar")).get();
+        assertTrue(view.getCurrentPath().equals(of('.', "foo.bar")));
+        assertTrue(container.contains(of('.', "foo.bar.baz")));
+
+        container.remove(of('.', "foo.bar.baz"));
+        assertTrue(!container.contains(of('.', "foo.bar.baz")));
+        assertTrue(container.contains(of('.', "foo.bar")));
+    }
+
+    @Test
+    public void testVisitor() {
+        DataContainer container = new MemoryDataContainer();
+        container.set(of('.', "foo.bar.baz"), 1);
+        container.set(of('.', "foo.qux"), 2);
+        container.set(of("quux"), 3);
+
+        final List<String> visited = Lists.newArrayList();
+        container.accept(new DataVisitor() {
+            @Override
+            public boolean enterView(String key, DataView view) {
+                visited.add("enter " + key);
+                return !key.equals("bar");
+            }
+
+            @Override
+            public void visitValue(String key, Object value) {
+                visited.add(key + "=" + value);
+            }
+
+            @Override
+            public void exitView(String key, DataView view) {
+                visited.add("exit " + key);
+            }
+        });
+        assertTrue(visited.equals(ImmutableList.of("enter foo", "enter bar", "qux=2", "exit foo", "quux=3")));
+
+        Map<DataQuery, Object> values = container.getValues(true);
+        assertTrue(values.get(of('.', "foo.bar.baz")).equals(1));
+        assertTrue(values.get(of('.', "foo.qux")).equals(2));
+        assertTrue(((Map<?, ?>) values.get(of("foo"))).get(of("qux")).equals(2));
+        assertTrue(values.size() == 5);
+
+        DataContainer copy = container.copy();
+        assertTrue(copy.equals(container));
+        assertTrue(copy.getView(of('.', "foo.bar")).get().getCurrentPath().equals(of('.', "foo.bar")));
+    }
+
 }
@@ -0,0 +1,80 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.base.Function;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Maps;
+import com.google.common.util.concurrent.ExecutionError;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.spongepowered.api.event.entity.player.PlayerChangeWorldEvent;
+import org.spongepowered.api.event.entity.player.PlayerJoinEvent;
+import org.spongepowered.api.event.entity.player.PlayerQuitEvent;
+
+import java.io.File;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+public class EventClassPrecompilerTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testBrokenEventIsSkipped() throws Exception {
+        final Map<String, byte[]> definitions = Maps.newLinkedHashMap();
+        List<Class<?>> types = ImmutableList.<Class<?>>of(PlayerJoinEvent.class, PlayerChangeWorldEvent.class, PlayerQuitEvent.class);
+        File outputDir = this.folder.getRoot();
+
+        int skipped = EventClassPrecompiler.precompile(types, new Function<Class<?>, Void>() {
+            @Nullable
+            @Override
+            public Void apply(Class<?> type) {
+                definitions.put("generated." + type.getSimpleName() + "$Impl", new byte[]{1});
+                if (type == PlayerChangeWorldEvent.class) {
+                    throw new ExecutionError(new ClassFormatError("Broken"));
+                }
+                definitions.put("generated." + type.getSimpleName() + "$Factory", new byte[]{2});
+                return null;
+            }
+        }, definitions, outputDir);
+
+        assertEquals(1, skipped);
+        assertTrue(new File(outputDir, "generated/PlayerJoinEvent$Impl.class").isFile());
+        assertTrue(new File(outputDir, "generated/PlayerJoinEvent$Factory.class").isFile());
+        assertFalse(new File(outputDir, "generated/PlayerChangeWorldEvent$Impl.class").exists());
+        assertTrue(new File(outputDir, "generated/PlayerQuitEvent$Impl.class").isFile());
+        assertTrue(new File(outputDir, "generated/PlayerQuitEvent$Factory.class").isFile());
+    }
+
+}
@@ -0,0 +1,252 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.event;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.base.Optional;
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.slf4j.Logger;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.event.AbstractEvent;
+import org.spongepowered.api.event.AsyncSafe;
+import org.spongepowered.api.event.Cancellable;
+import org.spongepowered.api.event.EventHandler;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.api.event.Subscribe;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.api.plugin.PluginManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class SimpleEventManagerTest {
+
+    private static final PluginManager manager = Mockito.mock(PluginManager.class);
+    private static final Object testPlugin = new Object();
+    private static final PluginContainer testPluginContainer = Mockito.mock(PluginContainer.class);
+
+    {
+        Mockito.when(testPluginContainer.getId()).thenReturn("TestPlugin");
+        Mockito.when(manager.fromInstance(testPlugin)).thenReturn(Optional.of(testPluginContainer));
+    }
+
+    private SimpleEventManager createEventManager() {
+        return new SimpleEventManager(manager, Mockito.mock(Logger.class));
+    }
+
+    @Test
+    public void testHasListeners() {
+        SimpleEventManager eventManager = createEventManager();
+        assertFalse(eventManager.hasListeners(TestEvent.class));
+        assertFalse(eventManager.hasListeners(TestCancellableEvent.class));
+
+        TestListener listener = new TestListener();
+        eventManager.register(testPlugin, listener);
+        assertTrue(eventManager.hasListeners(TestEvent.class));
+        assertTrue(eventManager.hasListeners(TestCancellableEvent.class));
+
+        eventManager.unregister(listener);
+        assertFalse(eventManager.hasListeners(TestEvent.class));
+        assertFalse(eventManager.hasListeners(TestCancellableEvent.class));
+    }
+
+    @Test
+    public void testHasListenersForSubtypeOnly() {
+        SimpleEventManager eventManager = createEventManager();
+        eventManager.register(testPlugin, TestCancellableEvent.class, new EventHandler<TestCancellableEvent>() {
+            @Override
+            public void handle(TestCancellableEvent event) throws Exception {
+            }
+        });
+
+        assertFalse(eventManager.hasListeners(TestEvent.class));
+        assertTrue(eventManager.hasListeners(TestCancellableEvent.class));
+
+        eventManager.unregisterPlugin(testPlugin);
+        assertFalse(eventManager.hasListeners(TestCancellableEvent.class));
+    }
+
+    @Test
+    public void testPostOrder() {
+        SimpleEventManager eventManager = createEventManager();
+        TestListener listener = new TestListener();
+        eventManager.register(testPlugin, listener);
+
+        assertFalse(eventManager.post(new TestEvent()));
+        assertEquals(ImmutableList.of("early", "default", "post"), listener.called);
+    }
+
+    @Test
+    public void testPostIgnoreCancelled() {
+        SimpleEventManager eventManager = createEventManager();
+        TestListener listener = new TestListener();
+        eventManager.register(testPlugin, listener);
+
+        TestCancellableEvent event = new TestCancellableEvent();
+        event.cancelEarly = true;
+        assertTrue(eventManager.post(event));
+        assertEquals(ImmutableList.of("early", "post"), listener.called);
+    }
+
+    @Test
+    public void testTimings() {
+        SimpleEventManager eventManager = createEventManager();
+        eventManager.register(testPlugin, new TestListener());
+        eventManager.post(new TestEvent());
+        assertTrue(eventManager.getTimings().isEmpty());
+
+        eventManager.setEnabled(true);
+        eventManager.post(new TestEvent());
+        eventManager.post(new TestEvent());
+        eventManager.setEnabled(false);
+        eventManager.post(new TestEvent());
+
+        assertEquals(3, eventManager.getTimings().size());
+        for (HandlerTiming timing : eventManager.getTimings()) {
+            assertEquals(testPluginContainer, timing.getPlugin());
+            assertEquals(TestEvent.class, timing.getEventClass());
+            assertEquals(2, timing.getCount());
+
+            long histogramCount = 0;
+            for (long bucket : timing.getHistogram()) {
+                histogramCount += bucket;
+            }
+            assertEquals(2, histogramCount);
+        }
+        assertEquals(3, eventManager.toContainer().getList(DataQuery.of("Timings")).get().size());
+
+        eventManager.reset();
+        assertTrue(eventManager.getTimings().isEmpty());
+    }
+
+    @Test
+    public void testPostAsync() throws Exception {
+        SimpleEventManager eventManager = createEventManager();
+        final List<Thread> threads = new ArrayList<Thread>();
+        eventManager.register(testPlugin, TestAsyncEvent.class, new EventHandler<TestAsyncEvent>() {
+            @Override
+            public void handle(TestAsyncEvent event) throws Exception {
+                threads.add(Thread.currentThread());
+                event.setCancelled(true);
+            }
+        });
+
+        assertTrue(eventManager.postAsync(new TestAsyncEvent()).get());
+        assertEquals(1, threads.size());
+        assertFalse(threads.get(0) == Thread.currentThread());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testPostAsyncNotAsyncSafe() {
+        createEventManager().postAsync(new TestEvent());
+    }
+
+    @Test
+    public void testPostNonPublicListener() {
+        SimpleEventManager eventManager = createEventManager();
+        NonPublicListener listener = new NonPublicListener();
+        eventManager.register(testPlugin, listener);
+
+        assertFalse(eventManager.post(new TestEvent()));
+        assertEquals(ImmutableList.of("default"), listener.called);
+    }
+
+    @Test
+    public void testHandlerClassReused() throws Exception {
+        SimpleEventManager eventManager = createEventManager();
+        // Every lookup returns a new Method instance, as when a listener is registered again
+        EventHandler<?> first = eventManager.createHandler(new TestListener(), TestListener.class.getMethod("onDefault", TestEvent.class));
+        EventHandler<?> second = eventManager.createHandler(new TestListener(), TestListener.class.getMethod("onDefault", TestEvent.class));
+        assertEquals(first.getClass(), second.getClass());
+    }
+
+    public static class TestEvent extends AbstractEvent {
+
+        boolean cancelEarly;
+
+    }
+
+    public static class TestCancellableEvent extends TestEvent implements Cancellable {
+
+        private boolean cancelled;
+
+        @Override
+        public boolean isCancelled() {
+            return this.cancelled;
+        }
+
+        @Override
+        public void setCancelled(boolean cancel) {
+            this.cancelled = cancel;
+        }
+
+    }
+
+    @AsyncSafe
+    public static class TestAsyncEvent extends TestCancellableEvent {
+
+    }
+
+    public static class TestListener {
+
+        final List<String> called = new ArrayList<String>();
+
+        @Subscribe(order = Order.POST, ignoreCancelled = false)
+        public void onPost(TestEvent event) {
+            this.called.add("post");
+        }
+
+        @Subscribe(order = Order.EARLY)
+        public void onEarly(TestEvent event) {
+            this.called.add("early");
+            if (event.cancelEarly) {
+                ((Cancellable) event).setCancelled(true);
+            }
+        }
+
+        @Subscribe
+        public void onDefault(TestEvent event) {
+            this.called.add("default");
+        }
+
+    }
+
+    static class NonPublicListener {
+
+        final List<String> called = new ArrayList<String>();
+
+        @Subscribe
+        public void onDefault(TestEvent event) {
+            this.called.add("default");
+        }
+
+    }
+
+}
@@ -0,0 +1,97 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.permission;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Matchers.anySetOf;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Test;
+import org.spongepowered.api.service.permission.context.Context;
+import org.spongepowered.api.util.Tristate;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+public class BulkPermissionEvaluatorTest {
+
+    private static final Set<Context> GLOBAL = Collections.emptySet();
+
+    @Test
+    public void testSharedParents() {
+        PermissionService service = mock(PermissionService.class);
+        SubjectCollection groups = mock(SubjectCollection.class);
+        when(groups.getIdentifier()).thenReturn("group");
+        when(service.getSubjects("group")).thenReturn(groups);
+
+        Subject staff = mock(Subject.class);
+        when(staff.getIdentifier()).thenReturn("staff");
+        when(staff.getContainingCollection()).thenReturn(groups);
+        when(staff.getPermissionValue(anySetOf(Context.class), anyString())).thenReturn(Tristate.TRUE);
+        when(groups.get("staff")).thenReturn(staff);
+
+        List<Subject> players = new ArrayList<Subject>();
+        for (int i = 0; i < 10; i++) {
+            MemorySubjectData data = new MemorySubjectData(service);
+            if (i % 2 == 0) {
+                data.addParent(GLOBAL, staff);
+            }
+            if (i == 4) {
+                data.setPermission(GLOBAL, "chat.staff", Tristate.FALSE);
+            }
+            if (i == 7) {
+                data.setPermission(GLOBAL, "chat", Tristate.TRUE);
+            }
+            List<Subject> parents = data.getParents(GLOBAL);
+            Subject player = mock(Subject.class);
+            when(player.getActiveContexts()).thenReturn(GLOBAL);
+            when(player.getSubjectData()).thenReturn(data);
+            when(player.getTransientSubjectData()).thenReturn(data);
+            when(player.getParents(GLOBAL)).thenReturn(parents);
+            players.add(player);
+        }
+
+        BitSet expected = new BitSet();
+        expected.set(0);
+        expected.set(2);
+        expected.set(6);
+        expected.set(7);
+        expected.set(8);
+        assertEquals(expected, BulkPermissionEvaluator.evaluate(players, "chat.staff"));
+        verify(staff, times(1)).getPermissionValue(GLOBAL, "chat.staff");
+
+        assertEquals(ImmutableList.of(players.get(0), players.get(2)),
+                BulkPermissionEvaluator.filter(players.subList(0, 4), "chat.staff"));
+    }
+
+}
@@ -0,0 +1,114 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.permission;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableSet;
+import org.junit.Before;
+import org.junit.Test;
+import org.spongepowered.api.service.permission.context.Context;
+import org.spongepowered.api.util.Tristate;
+
+import java.util.Collections;
+import java.util.Set;
+
+public class MemorySubjectDataTest {
+
+    private static final Set<Context> GLOBAL = Collections.emptySet();
+    private static final Set<Context> WORLD = ImmutableSet.of(new Context(Context.WORLD_KEY, "nether"));
+
+    private PermissionService service;
+    private SubjectCollection groups;
+
+    @Before
+    public void setup() {
+        this.service = mock(PermissionService.class);
+        this.groups = mock(SubjectCollection.class);
+        when(this.groups.getIdentifier()).thenReturn("group");
+        when(this.service.getSubjects("group")).thenReturn(this.groups);
+    }
+
+    private Subject group(String identifier, MemorySubjectData data) {
+        Subject subject = mock(Subject.class);
+        when(subject.getIdentifier()).thenReturn(identifier);
+        when(subject.getContainingCollection()).thenReturn(this.groups);
+        when(subject.getSubjectData()).thenReturn(data);
+        when(this.groups.get(identifier)).thenReturn(subject);
+        return subject;
+    }
+
+    @Test
+    public void testInheritance() {
+        MemorySubjectData admin = new MemorySubjectData(this.service);
+        admin.setPermission(GLOBAL, "worldedit.delete", Tristate.FALSE);
+        admin.setPermission(GLOBAL, "worldedit", Tristate.TRUE);
+        admin.setPermission(GLOBAL, "kick", Tristate.TRUE);
+        MemorySubjectData user = new MemorySubjectData(this.service);
+        user.setPermission(GLOBAL, "worldedit.delete", Tristate.TRUE);
+        user.setPermission(GLOBAL, "kick", Tristate.FALSE);
+        user.addParent(GLOBAL, group("admin", admin));
+
+        assertEquals(Tristate.TRUE, user.getEffectivePermissionValue(GLOBAL, "worldedit.copy"));
+        assertEquals(Tristate.TRUE, user.getEffectivePermissionValue(GLOBAL, "worldedit.delete.all"));
+        assertEquals(Tristate.FALSE, user.getEffectivePermissionValue(GLOBAL, "kick.other"));
+        assertEquals(Tristate.UNDEFINED, user.getEffectivePermissionValue(GLOBAL, "ban"));
+        assertEquals(Tristate.UNDEFINED, user.getEffectivePermissionValue(WORLD, "worldedit.copy"));
+    }
+
+    @Test
+    public void testInvalidation() {
+        MemorySubjectData admin = new MemorySubjectData(this.service);
+        MemorySubjectData user = new MemorySubjectData(this.service);
+        user.addParent(GLOBAL, group("admin", admin));
+
+        NodeTree tree = user.getEffectiveNodeTree(GLOBAL);
+        assertSame(tree, user.getEffectiveNodeTree(GLOBAL));
+        assertEquals(Tristate.UNDEFINED, tree.get("ban"));
+
+        admin.setPermission(GLOBAL, "ban", Tristate.TRUE);
+        assertEquals(Tristate.TRUE, user.getEffectivePermissionValue(GLOBAL, "ban"));
+
+        user.clearParents(GLOBAL);
+        assertEquals(Tristate.UNDEFINED, user.getEffectivePermissionValue(GLOBAL, "ban"));
+    }
+
+    @Test
+    public void testCyclicParents() {
+        MemorySubjectData first = new MemorySubjectData(this.service);
+        MemorySubjectData second = new MemorySubjectData(this.service);
+        first.setPermission(GLOBAL, "first", Tristate.TRUE);
+        second.setPermission(GLOBAL, "second", Tristate.TRUE);
+        first.addParent(GLOBAL, group("second", second));
+        second.addParent(GLOBAL, group("first", first));
+
+        assertEquals(Tristate.TRUE, first.getEffectivePermissionValue(GLOBAL, "second"));
+        assertEquals(Tristate.TRUE, second.getEffectivePermissionValue(GLOBAL, "first"));
+    }
+
+}
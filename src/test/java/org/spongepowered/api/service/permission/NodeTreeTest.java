@@ -107,4 +107,24 @@ public void testCreateFromValues() throws Exception {
         assertEquals(Tristate.FALSE, nodes.get("generate.thunderstorm.explosive"));
         assertEquals(Tristate.UNDEFINED, nodes.get("random.perm"));
     }
+
+    @Test
+    public void testCaseInsensitiveSegments() throws Exception {
+        final Map<String, Boolean> testPermissions = new HashMap<String, Boolean>();
+        testPermissions.put("Generate.Rainbow", true);
+        testPermissions.put("generate.sunset", false);
+
+        NodeTree nodes = NodeTree.of(testPermissions);
+
+        assertEquals(Tristate.TRUE, nodes.get("generate.rainbow"));
+        assertEquals(Tristate.TRUE, nodes.get("GENERATE.RAINBOW.double"));
+        assertEquals(Tristate.FALSE, nodes.get("generate.SunSet."));
+        assertEquals(Tristate.UNDEFINED, nodes.get("generate.sun"));
+        assertEquals(Tristate.UNDEFINED, nodes.get("generate"));
+        assertEquals(Tristate.UNDEFINED, nodes.get(""));
+
+        NodeTree newTree = nodes.withValue("GENERATE.SUN", Tristate.TRUE);
+        assertEquals(Tristate.TRUE, newTree.get("generate.sun"));
+        assertEquals(Tristate.UNDEFINED, nodes.get("generate.sun"));
+    }
 }
@@ -0,0 +1,133 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.permission;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.spongepowered.api.service.permission.context.Context;
+import org.spongepowered.api.util.Tristate;
+
+import java.io.File;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+public class PersistentSubjectCollectionTest {
+
+    private static final Set<Context> GLOBAL = Collections.emptySet();
+    private static final Set<Context> NETHER = ImmutableSet.of(new Context(Context.WORLD_KEY, "nether"));
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private PersistentSubjectCollection open(PermissionService service, File file, int maximumLoaded) throws Exception {
+        PersistentSubjectCollection collection = new PersistentSubjectCollection("group", service, file, maximumLoaded, 1, TimeUnit.MINUTES);
+        when(service.getSubjects("group")).thenReturn(collection);
+        return collection;
+    }
+
+    @Test
+    public void testPersistence() throws Exception {
+        File file = this.folder.newFile("groups.dat");
+        PermissionService service = mock(PermissionService.class);
+        PersistentSubjectCollection collection = open(service, file, 16);
+
+        PersistentSubject admin = collection.get("Admin");
+        admin.getSubjectData().setPermission(GLOBAL, "worldedit.wand", Tristate.TRUE);
+        admin.getSubjectData().setPermission(NETHER, "fly", Tristate.FALSE);
+        admin.getSubjectData().setOption(GLOBAL, "prefix", "[Admin]");
+        PersistentSubject mod = collection.get("mod");
+        mod.getSubjectData().addParent(GLOBAL, admin);
+        mod.getTransientSubjectData().setPermission(GLOBAL, "temporary", Tristate.TRUE);
+        collection.close();
+
+        service = mock(PermissionService.class);
+        collection = open(service, file, 16);
+        assertTrue(collection.hasRegistered("ADMIN"));
+        assertFalse(collection.hasRegistered("guest"));
+
+        mod = collection.get("mod");
+        assertTrue(mod.hasPermission(GLOBAL, "worldedit.wand"));
+        assertEquals(Tristate.UNDEFINED, mod.getPermissionValue(GLOBAL, "temporary"));
+        assertEquals(ImmutableList.of(collection.get("admin")), mod.getParents(GLOBAL));
+        assertTrue(mod.isChildOf(GLOBAL, collection.get("admin")));
+
+        PersistentSubject admin2 = collection.get("admin");
+        assertEquals(Tristate.FALSE, admin2.getPermissionValue(NETHER, "fly"));
+        assertEquals("[Admin]", admin2.getSubjectData().getOptions(GLOBAL).get("prefix"));
+        assertEquals(2, collection.getAllWithPermission("worldedit.wand.use").size());
+        collection.close();
+    }
+
+    @Test
+    public void testEviction() throws Exception {
+        PermissionService service = mock(PermissionService.class);
+        PersistentSubjectCollection collection = open(service, this.folder.newFile("users.dat"), 2);
+
+        PersistentSubject held = collection.get("held");
+        held.getSubjectData().setPermission(GLOBAL, "build", Tristate.TRUE);
+        for (int i = 0; i < 8; i++) {
+            collection.get("user" + i).getSubjectData().setPermission(GLOBAL, "chat", Tristate.TRUE);
+        }
+        assertTrue(collection.getLoadedCount() <= 2);
+        assertSame(held, collection.get("held"));
+        assertTrue(collection.get("user0").hasPermission(GLOBAL, "chat"));
+        collection.compact();
+        assertTrue(collection.get("held").hasPermission(GLOBAL, "build"));
+        collection.close();
+    }
+
+    @Test
+    public void testLoadKeepsEffectiveTrees() throws Exception {
+        File file = this.folder.newFile("ranks.dat");
+        PermissionService service = mock(PermissionService.class);
+        PersistentSubjectCollection collection = open(service, file, 16);
+        collection.get("member").getSubjectData().setPermission(GLOBAL, "chat", Tristate.TRUE);
+        collection.get("member").getSubjectData().addParent(GLOBAL, collection.get("guest"));
+        collection.get("guest").getSubjectData().setPermission(GLOBAL, "build", Tristate.TRUE);
+        collection.get("vip").getSubjectData().setPermission(GLOBAL, "fly", Tristate.TRUE);
+        collection.close();
+
+        service = mock(PermissionService.class);
+        collection = open(service, file, 16);
+        MemorySubjectData member = collection.get("member").getSubjectData();
+        NodeTree tree = member.getEffectiveNodeTree(GLOBAL);
+        assertEquals(Tristate.TRUE, tree.get("build"));
+        assertTrue(collection.get("vip").hasPermission(GLOBAL, "fly"));
+        assertSame(tree, member.getEffectiveNodeTree(GLOBAL));
+        collection.close();
+    }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.permission.context;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.mockito.Mockito.mock;
+
+import com.google.common.collect.ImmutableSet;
+import org.junit.Test;
+import org.spongepowered.api.service.permission.Subject;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ContextCacheTest {
+
+    @Test
+    public void testCachedPerTick() {
+        final AtomicInteger calculations = new AtomicInteger();
+        ContextCache cache = new ContextCache();
+        cache.registerCalculator(new ContextCalculator() {
+            @Override
+            public void accumulateContexts(Subject subject, Set<Context> accumulator) {
+                calculations.incrementAndGet();
+                accumulator.add(new Context(Context.WORLD_KEY, "world"));
+            }
+
+            @Override
+            public boolean matches(Context context, Subject subject) {
+                return context.getType().equals(Context.WORLD_KEY);
+            }
+        });
+        Subject first = mock(Subject.class);
+        Subject second = mock(Subject.class);
+
+        Set<Context> contexts = cache.getActiveContexts(first);
+        assertSame(contexts, cache.getActiveContexts(first));
+        assertSame(contexts, cache.getActiveContexts(second));
+        assertEquals(2, calculations.get());
+
+        cache.nextTick();
+        assertSame(contexts, cache.getActiveContexts(first));
+        assertEquals(3, calculations.get());
+
+        cache.invalidate(first);
+        cache.getActiveContexts(first);
+        cache.getActiveContexts(second);
+        assertEquals(5, calculations.get());
+    }
+
+    @Test
+    public void testInvalidatedWhileCalculating() {
+        final AtomicInteger calculations = new AtomicInteger();
+        final ContextCache cache = new ContextCache();
+        cache.registerCalculator(new ContextCalculator() {
+            @Override
+            public void accumulateContexts(Subject subject, Set<Context> accumulator) {
+                if (calculations.incrementAndGet() == 1) {
+                    // The subject changes worlds during the first calculation
+                    cache.invalidate(subject);
+                    accumulator.add(new Context(Context.WORLD_KEY, "world"));
+                } else {
+                    accumulator.add(new Context(Context.WORLD_KEY, "nether"));
+                }
+            }
+
+            @Override
+            public boolean matches(Context context, Subject subject) {
+                return context.getType().equals(Context.WORLD_KEY);
+            }
+        });
+        Subject subject = mock(Subject.class);
+
+        assertEquals(ImmutableSet.of(new Context(Context.WORLD_KEY, "world")), cache.getActiveContexts(subject));
+        assertEquals(ImmutableSet.of(new Context(Context.WORLD_KEY, "nether")), cache.getActiveContexts(subject));
+        assertEquals(2, calculations.get());
+    }
+
+    @Test
+    public void testIntern() {
+        Set<Context> contexts = new HashSet<Context>();
+        contexts.add(new Context(Context.WORLD_KEY, "nether"));
+        assertSame(ContextCache.intern(contexts), ContextCache.intern(ImmutableSet.of(new Context(Context.WORLD_KEY, "nether"))));
+    }
+
+}
@@ -0,0 +1,156 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.persistence;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.Lists;
+import com.google.common.io.Files;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mockito;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataSerializable;
+import org.spongepowered.api.data.DataView;
+import org.spongepowered.api.data.MemoryDataContainer;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.util.List;
+
+public class DeltaLogDataSourceTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static DataSerializable data(final int value) {
+        return new DataSerializable() {
+            @Override
+            public DataContainer toContainer() {
+                DataContainer container = new MemoryDataContainer();
+                container.set(DataQuery.of("foo", "value"), value);
+                container.set(DataQuery.of("foo", "name"), "Name");
+                return container;
+            }
+        };
+    }
+
+    @Test
+    public void testDeltas() throws Exception {
+        File file = this.folder.newFile("data.dat");
+        file.delete();
+        SerializationService service = Mockito.mock(SerializationService.class);
+        DeltaLogDataSource source = new DeltaLogDataSource(file, service, 3);
+
+        source.serialize(data(0));
+        assertTrue(file.isFile());
+        assertFalse(source.getLogFile().exists());
+
+        source.serialize(data(0));
+        assertFalse(source.getLogFile().exists());
+
+        source.serialize(data(1));
+        source.serialize(data(2));
+        assertEquals(2, source.getDeltaCount());
+
+        DeltaLogDataSource reopened = new DeltaLogDataSource(file, service, 3);
+        assertEquals(2, (int) reopened.deserialize().get().getInt(DataQuery.of("foo", "value")).get());
+        assertEquals(2, reopened.getDeltaCount());
+
+        source.serialize(data(3));
+        assertEquals(0, source.getDeltaCount());
+        assertFalse(source.getLogFile().exists());
+        assertEquals(3, (int) new DeltaLogDataSource(file, service).view().get().getInt(DataQuery.of("foo", "value")).get());
+    }
+
+    @Test
+    public void testUnchangedViewList() throws Exception {
+        File file = new File(this.folder.getRoot(), "inventory.dat");
+        SerializationService service = Mockito.mock(SerializationService.class);
+        DeltaLogDataSource source = new DeltaLogDataSource(file, service);
+        DataSerializable inventory = new DataSerializable() {
+            @Override
+            public DataContainer toContainer() {
+                List<DataView> slots = Lists.newArrayList();
+                for (int i = 0; i < 3; i++) {
+                    slots.add(new MemoryDataContainer().set(DataQuery.of("slot"), i).set(DataQuery.of("item", "id"), "stone"));
+                }
+                DataContainer container = new MemoryDataContainer();
+                container.set(DataQuery.of("inv"), slots);
+                return container;
+            }
+        };
+
+        for (int i = 0; i < 5; i++) {
+            source.serialize(inventory);
+        }
+        assertEquals(0, source.getDeltaCount());
+        assertFalse(source.getLogFile().exists());
+    }
+
+    @Test
+    public void testInterruptedCompaction() throws Exception {
+        File file = new File(this.folder.getRoot(), "data.dat");
+        SerializationService service = Mockito.mock(SerializationService.class);
+        DeltaLogDataSource source = new DeltaLogDataSource(file, service);
+        source.serialize(data(0));
+        File previous = new File(file.getPath() + ".old");
+        Files.copy(file, previous);
+        source.serialize(data(1));
+        source.compact();
+
+        // Crash after moving the data file aside, before renaming the new one
+        File temp = new File(file.getPath() + ".tmp");
+        assertTrue(file.renameTo(temp));
+
+        DeltaLogDataSource reopened = new DeltaLogDataSource(file, service);
+        assertEquals(1, (int) reopened.deserialize().get().getInt(DataQuery.of("foo", "value")).get());
+        assertTrue(file.isFile());
+        assertFalse(temp.exists());
+        assertFalse(previous.exists());
+    }
+
+    @Test
+    public void testTruncatedLog() throws Exception {
+        File file = new File(this.folder.getRoot(), "data.dat");
+        SerializationService service = Mockito.mock(SerializationService.class);
+        DeltaLogDataSource source = new DeltaLogDataSource(file, service);
+        source.serialize(data(0));
+        source.serialize(data(1));
+
+        FileOutputStream out = new FileOutputStream(source.getLogFile(), true);
+        out.write(new byte[] {0x53, 0x50});
+        out.close();
+
+        DeltaLogDataSource reopened = new DeltaLogDataSource(file, service);
+        assertEquals(1, (int) reopened.deserialize().get().getInt(DataQuery.of("foo", "value")).get());
+        assertFalse(reopened.getLogFile().exists());
+    }
+
+}
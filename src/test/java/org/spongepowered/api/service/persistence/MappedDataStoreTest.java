@@ -0,0 +1,157 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.persistence;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.io.Files;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.MemoryDataContainer;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+
+public class MappedDataStoreTest {
+
+    private static final DataQuery VALUE = DataQuery.of("foo", "value");
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static DataContainer data(int value) {
+        DataContainer container = new MemoryDataContainer();
+        container.set(VALUE, value);
+        return container;
+    }
+
+    @Test
+    public void testPutAndGet() throws Exception {
+        File file = new File(this.folder.getRoot(), "store.dat");
+        MappedDataStore store = MappedDataStore.open(file);
+        for (int i = 0; i < 100; i++) {
+            store.put("record" + i, data(i));
+        }
+        store.put("record1", data(-1));
+        store.remove("record2");
+
+        assertEquals(-1, (int) store.get("record1").get().getInt(VALUE).get());
+        assertFalse(store.get("record2").isPresent());
+        assertEquals(99, store.getKeys().size());
+        store.close();
+
+        store = MappedDataStore.open(file);
+        assertEquals(-1, (int) store.get("record1").get().getInt(VALUE).get());
+        assertEquals(50, (int) store.get("record50").get().getInt(VALUE).get());
+        assertFalse(store.contains("record2"));
+
+        long length = file.length();
+        store.compact();
+        assertTrue(file.length() < length);
+        assertEquals(99, store.getKeys().size());
+        assertEquals(-1, (int) store.get("record1").get().getInt(VALUE).get());
+
+        // Records appended since the file was last mapped are compacted too
+        store.put("record100", data(100));
+        store.compact();
+        assertEquals(100, store.getKeys().size());
+        assertEquals(100, (int) store.get("record100").get().getInt(VALUE).get());
+        store.close();
+    }
+
+    @Test
+    public void testDamagedTail() throws Exception {
+        File file = new File(this.folder.getRoot(), "store.dat");
+        MappedDataStore store = MappedDataStore.open(file);
+        store.put("first", data(1));
+        store.put("second", data(2));
+        store.close();
+
+        RandomAccessFile access = new RandomAccessFile(file, "rw");
+        access.setLength(access.length() - 3);
+        access.close();
+
+        store = MappedDataStore.open(file);
+        assertEquals(ImmutableSet.of("first"), store.getKeys());
+        store.put("third", data(3));
+        store.close();
+
+        store = MappedDataStore.open(file);
+        assertEquals(ImmutableSet.of("first", "third"), store.getKeys());
+        store.close();
+
+        // A torn frame header with a huge length
+        long length = file.length();
+        access = new RandomAccessFile(file, "rw");
+        access.seek(length);
+        access.writeInt(Integer.MAX_VALUE - 4);
+        access.writeInt(0);
+        access.writeShort(0);
+        access.close();
+
+        store = MappedDataStore.open(file);
+        assertEquals(ImmutableSet.of("first", "third"), store.getKeys());
+        store.close();
+        assertEquals(length, file.length());
+    }
+
+    @Test
+    public void testInterruptedCompaction() throws Exception {
+        File file = new File(this.folder.getRoot(), "store.dat");
+        MappedDataStore store = MappedDataStore.open(file);
+        store.put("first", data(1));
+        store.put("second", data(2));
+        store.close();
+        File copy = new File(file.getPath() + ".copy");
+        Files.copy(file, copy);
+
+        store = MappedDataStore.open(file);
+        store.remove("first");
+        store.put("third", data(3));
+        store.compact();
+        store.close();
+
+        // Crash after moving the store aside, before renaming the compacted
+        // file, and then a store without a header is left in its place
+        File previous = new File(file.getPath() + ".old");
+        assertTrue(copy.renameTo(previous));
+        assertTrue(file.renameTo(new File(file.getPath() + ".compact")));
+        assertTrue(file.createNewFile());
+
+        store = MappedDataStore.open(file);
+        assertEquals(ImmutableSet.of("second", "third"), store.getKeys());
+        assertEquals(3, (int) store.get("third").get().getInt(VALUE).get());
+        store.close();
+        assertFalse(previous.exists());
+        assertFalse(new File(file.getPath() + ".compact").exists());
+    }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.persistence;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.util.concurrent.ListenableFuture;
+import org.junit.Test;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataView;
+import org.spongepowered.api.data.MemoryDataContainer;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SerializationPipelineTest {
+
+    private static final DataQuery VALUE = DataQuery.of("value");
+
+    private static DataContainer data(int value) {
+        DataContainer container = new MemoryDataContainer();
+        container.set(VALUE, value);
+        return container;
+    }
+
+    @Test
+    public void testCoalescing() throws Exception {
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger writes = new AtomicInteger();
+        final Map<String, Integer> written = new ConcurrentHashMap<String, Integer>();
+        SerializationPipeline pipeline = new SerializationPipeline(new DataSink() {
+            @Override
+            public void write(String key, DataView data) throws IOException {
+                blocked.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+                writes.incrementAndGet();
+                written.put(key, data.getInt(VALUE).get());
+            }
+        }, 1, 16);
+
+        ListenableFuture<Void> first = pipeline.submit("key", data(0));
+        blocked.await();
+        ListenableFuture<Void> second = pipeline.submit("key", data(1));
+        ListenableFuture<Void> third = pipeline.submit("key", data(2));
+        assertSame(second, third);
+        release.countDown();
+
+        third.get(10, TimeUnit.SECONDS);
+        assertTrue(first.isDone());
+        assertEquals(2, writes.get());
+        assertEquals(2, (int) written.get("key"));
+        assertTrue(pipeline.shutdown(10, TimeUnit.SECONDS));
+    }
+
+}
@@ -0,0 +1,181 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.service.persistence.codec;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.spongepowered.api.data.DataContainer;
+import org.spongepowered.api.data.DataQuery;
+import org.spongepowered.api.data.DataSerializable;
+import org.spongepowered.api.data.MemoryDataContainer;
+
+public class DataCodecTest {
+
+    @Test
+    public void testRoundTrip() {
+        Sample sample = new Sample();
+        sample.setName("Steve");
+        sample.setLevel(30);
+        sample.setExperience(123456789012L);
+        sample.setHealth(17.5);
+        sample.setFlying(true);
+        sample.setScores(new int[]{1, 2, 3});
+        sample.setMode(Mode.CREATIVE);
+
+        DataContainer container = sample.toContainer();
+        assertEquals("Steve", container.getString(DataQuery.of("name")).get());
+        assertEquals(30, (int) container.getInt(DataQuery.of("stats", "level")).get());
+        assertEquals("CREATIVE", container.getString(DataQuery.of("mode")).get());
+        assertFalse(container.contains(DataQuery.of("level")));
+
+        Sample copy = DataCodecs.create(Sample.class, null).build(container).get();
+        assertEquals("Steve", copy.getName());
+        assertEquals(30, copy.getLevel());
+        assertEquals(123456789012L, copy.getExperience());
+        assertEquals(17.5, copy.getHealth(), 0);
+        assertTrue(copy.isFlying());
+        assertArrayEquals(new int[]{1, 2, 3}, copy.getScores());
+        assertEquals(Mode.CREATIVE, copy.getMode());
+    }
+
+    @Test
+    public void testMissingAndCoercedValues() {
+        DataContainer container = new MemoryDataContainer();
+        container.set(DataQuery.of("stats", "level"), "12");
+        container.set(DataQuery.of("health"), 4);
+
+        Sample sample = DataCodecs.create(Sample.class, null).build(container).get();
+        assertEquals(12, sample.getLevel());
+        assertEquals(4.0, sample.getHealth(), 0);
+        assertEquals(null, sample.getName());
+        assertFalse(container.contains(DataQuery.of("name")));
+        assertFalse(sample.toContainer().contains(DataQuery.of("name")));
+    }
+
+    @Test
+    public void testCanGenerate() {
+        assertTrue(DataCodecs.canGenerate(Sample.class));
+        assertFalse(DataCodecs.canGenerate(Unannotated.class));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testUnannotated() {
+        DataCodecs.create(Unannotated.class, null);
+    }
+
+    public enum Mode {
+        SURVIVAL,
+        CREATIVE
+    }
+
+    @GenerateCodec
+    public static class Sample implements DataSerializable {
+
+        private String name;
+        private int level;
+        private long experience;
+        private double health;
+        private boolean flying;
+        private int[] scores;
+        private Mode mode;
+
+        public String getName() {
+            return this.name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        @DataKey("stats.level")
+        public int getLevel() {
+            return this.level;
+        }
+
+        public void setLevel(int level) {
+            this.level = level;
+        }
+
+        public long getExperience() {
+            return this.experience;
+        }
+
+        public void setExperience(long experience) {
+            this.experience = experience;
+        }
+
+        public double getHealth() {
+            return this.health;
+        }
+
+        public void setHealth(double health) {
+            this.health = health;
+        }
+
+        public boolean isFlying() {
+            return this.flying;
+        }
+
+        public void setFlying(boolean flying) {
+            this.flying = flying;
+        }
+
+        public int[] getScores() {
+            return this.scores;
+        }
+
+        public void setScores(int[] scores) {
+            this.scores = scores;
+        }
+
+        public Mode getMode() {
+            return this.mode;
+        }
+
+        public void setMode(Mode mode) {
+            this.mode = mode;
+        }
+
+        @Override
+        public DataContainer toContainer() {
+            return DataCodecs.toContainer(this);
+        }
+
+    }
+
+    public static class Unannotated implements DataSerializable {
+
+        @Override
+        public DataContainer toContainer() {
+            return new MemoryDataContainer();
+        }
+
+    }
+
+}
@@ -0,0 +1,144 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.event.callback;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import org.junit.Test;
+import org.spongepowered.api.event.Cancellable;
+import org.spongepowered.api.event.Order;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class CallbackListTest {
+
+    @Test
+    public void testRunAllOrder() {
+        List<String> called = new ArrayList<String>();
+        CallbackList list = new CallbackList();
+        list.add(new TestCallback(called, "late", Order.LATE));
+        list.add(new TestCallback(called, "first1", Order.FIRST));
+        list.add(new TestCallback(called, "default", Order.DEFAULT));
+        list.add(new TestCallback(called, "first2", Order.FIRST));
+
+        assertEquals(4, list.size());
+        assertEquals(4, Lists.newArrayList(list).size());
+
+        list.runAll();
+        assertEquals(ImmutableList.of("first1", "first2", "default", "late"), called);
+    }
+
+    @Test
+    public void testCancelAll() {
+        final List<String> called = new ArrayList<String>();
+        final CallbackList list = new CallbackList();
+        list.add(new TestCallback(called, "cancelling", Order.FIRST) {
+            @Override
+            public void run() {
+                super.run();
+                list.cancelAll();
+            }
+        });
+        list.add(new TestCancellableCallback(called, "cancellable", Order.DEFAULT));
+        list.add(new TestCallback(called, "uncancellable", Order.LATE));
+        list.add(new TestCancellableCallback(called, "cancellable", Order.LAST));
+
+        list.runAll();
+        assertEquals(ImmutableList.of("cancelling", "uncancellable"), called);
+    }
+
+    @Test
+    public void testUncancelAfterCancelAll() {
+        final List<String> called = new ArrayList<String>();
+        final CallbackList list = new CallbackList();
+        final TestCancellableCallback restored = new TestCancellableCallback(called, "restored", Order.LAST);
+        list.add(new TestCallback(called, "cancelling", Order.FIRST) {
+            @Override
+            public void run() {
+                super.run();
+                list.cancelAll();
+                restored.setCancelled(false);
+            }
+        });
+        list.add(new TestCancellableCallback(called, "cancellable", Order.DEFAULT));
+        list.add(restored);
+
+        list.runAll();
+        assertEquals(ImmutableList.of("cancelling", "restored"), called);
+
+        TestCancellableCallback added = new TestCancellableCallback(called, "added", Order.DEFAULT);
+        list.add(added);
+        assertTrue(added.isCancelled());
+    }
+
+    private static class TestCallback extends AbstractEventCallback {
+
+        private final List<String> called;
+        private final String name;
+        private final Order order;
+
+        TestCallback(List<String> called, String name, Order order) {
+            this.called = called;
+            this.name = name;
+            this.order = order;
+        }
+
+        @Override
+        public Order getOrder() {
+            return this.order;
+        }
+
+        @Override
+        public void run() {
+            this.called.add(this.name);
+        }
+
+    }
+
+    private static class TestCancellableCallback extends TestCallback implements Cancellable {
+
+        private boolean cancelled;
+
+        TestCancellableCallback(List<String> called, String name, Order order) {
+            super(called, name, order);
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return this.cancelled;
+        }
+
+        @Override
+        public void setCancelled(boolean cancel) {
+            this.cancelled = cancel;
+        }
+
+    }
+
+}
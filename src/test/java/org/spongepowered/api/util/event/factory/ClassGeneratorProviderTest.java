@@ -26,6 +26,7 @@
 
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.Matchers.closeTo;
 import static org.junit.Assert.assertNotSame;
@@ -35,6 +36,7 @@
 import com.google.common.collect.Maps;
 import org.hamcrest.Matchers;
 import org.junit.Test;
+import org.spongepowered.api.util.annotation.BindProperty;
 import org.spongepowered.api.util.annotation.TransformResult;
 import org.spongepowered.api.util.annotation.TransformWith;
 
@@ -365,6 +367,78 @@ public void testCreate_OverloadedSetter() {
         overriden.setObject(new Object());
     }
 
+    @Test
+    public void testCreate_TypedPrimitives() throws Exception {
+        ClassGeneratorProvider provider = createProvider();
+        EventFactory<PrimitiveContainer> factory = provider.create(PrimitiveContainer.class, Object.class, PrimitiveContainerFactory.class);
+
+        PrimitiveContainer result = ((PrimitiveContainerFactory) factory).create((byte) 10, (short) 11, 12, 13L, (float) 14.5, 15.5, true, (char) 17);
+
+        assertThat(result.getByte(), is((byte) 10));
+        assertThat(result.getShort(), is((short) 11));
+        assertThat(result.getInt(), is(12));
+        assertThat(result.getLong(), is(13L));
+        assertThat((double) result.getFloat(), is(closeTo(14.5, ERROR)));
+        assertThat(result.getDouble(), is(closeTo(15.5, ERROR)));
+        assertThat(result.getBoolean(), is(true));
+        assertThat(result.getChar(), is((char) 17));
+
+        // The map based constructor must still be usable
+        assertThat(factory.apply(Collections.<String, Object>emptyMap()).getInt(), is(0));
+    }
+
+    @Test
+    public void testCreate_TypedOptionalAndSharedParameter() throws Exception {
+        ClassGeneratorProvider provider = createProvider();
+        provider.setNullPolicy(NullPolicy.NON_NULL_BY_DEFAULT);
+        EventFactory<SharedContainer> factory = provider.create(SharedContainer.class, Object.class, SharedContainerFactory.class);
+
+        SharedContainer result = ((SharedContainerFactory) factory).create("Aaron", null);
+        assertThat(result.getFirst(), is(equalTo("Aaron")));
+        assertThat(result.getSecond(), is(equalTo("Aaron")));
+        assertThat(result.getName().isPresent(), is(false));
+
+        result = ((SharedContainerFactory) factory).create("Aaron", "MyName");
+        assertThat(result.getName().get(), is(equalTo("MyName")));
+    }
+
+    @Test(expected = NullPointerException.class)
+    public void testCreate_TypedNonNull() throws Exception {
+        ClassGeneratorProvider provider = createProvider();
+        provider.setNullPolicy(NullPolicy.NON_NULL_BY_DEFAULT);
+        EventFactory<SharedContainer> factory = provider.create(SharedContainer.class, Object.class, SharedContainerFactory.class);
+        ((SharedContainerFactory) factory).create(null, "MyName");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCreate_TypedUnknownProperty() throws Exception {
+        ClassGeneratorProvider provider = createProvider();
+        provider.setNullPolicy(NullPolicy.NON_NULL_BY_DEFAULT);
+        provider.create(PrimitiveContainer.class, Object.class, SharedContainerFactory.class);
+    }
+
+    @Test
+    public void testRecordDefinitions() throws Exception {
+        ClassGeneratorProvider provider = createProvider();
+        provider.getClassLoader().recordDefinitions();
+        provider.create(PrimitiveContainer.class, Object.class);
+
+        assertThat(provider.getClassLoader().getRecordedDefinitions().keySet(),
+                Matchers.containsInAnyOrder("org.spongepowered.test.PrimitiveContainer$Impl", "org.spongepowered.test.PrimitiveContainer$Factory"));
+        assertThat(provider.getPrecompiled(PrimitiveContainer.class), is(nullValue()));
+    }
+
+    @Test
+    public void testGetPrecompiled() throws Exception {
+        ClassGeneratorProvider provider = new ClassGeneratorProvider("org.spongepowered.api.util.event.factory");
+        assertThat(provider.getPrecompiled(org.spongepowered.api.util.event.factory.PrecompiledEvent.class), is(notNullValue()));
+        assertThat(provider.getPrecompiled(PrecompiledEvent.class), is(nullValue()));
+    }
+
+    public interface PrecompiledEvent {
+
+    }
+
     public interface OptionalGetter {
 
         Optional<String> getName();
@@ -407,6 +481,30 @@ public interface PrimitiveContainer {
         void setChar(char v);
     }
 
+    public interface PrimitiveContainerFactory {
+
+        PrimitiveContainer create(@BindProperty("byte") byte b, @BindProperty("short") short s, @BindProperty("int") int i,
+                @BindProperty("long") long l, @BindProperty("float") float f, @BindProperty("double") double d,
+                @BindProperty("boolean") boolean z, @BindProperty("char") char c);
+
+    }
+
+    public interface SharedContainer {
+
+        String getFirst();
+
+        String getSecond();
+
+        Optional<String> getName();
+
+    }
+
+    public interface SharedContainerFactory {
+
+        SharedContainer create(@BindProperty({"first", "second"}) String shared, @BindProperty("name") @Nullable String name);
+
+    }
+
     public interface BoxedPrimitiveContainer {
 
         Byte getByte();
@@ -0,0 +1,125 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.flowpowered.math.vector.Vector3i;
+import com.google.common.base.Predicate;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.world.extent.Extent;
+
+import java.util.Iterator;
+
+public class BlockLocationListTest {
+
+    private final Extent extent = Mockito.mock(Extent.class);
+
+    @Test
+    public void testPacking() {
+        BlockLocationList list = new BlockLocationList(this.extent);
+        list.add(0, 0, 0);
+        list.add(-1, -1, -1);
+        list.add(33554431, 2047, -33554432);
+        list.add(-33554432, -2048, 33554431);
+
+        assertEquals(4, list.size());
+        assertEquals(new Vector3i(0, 0, 0), list.get(0).getBlockPosition());
+        assertEquals(new Vector3i(-1, -1, -1), list.get(1).getBlockPosition());
+        assertEquals(new Vector3i(33554431, 2047, -33554432), list.get(2).getBlockPosition());
+        assertEquals(new Vector3i(-33554432, -2048, 33554431), list.get(3).getBlockPosition());
+        assertTrue(list.get(0).getExtent() == this.extent);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testOutOfRange() {
+        new BlockLocationList(this.extent).add(33554432, 0, 0);
+    }
+
+    @Test
+    public void testFilter() {
+        BlockLocationList list = new BlockLocationList(this.extent, 0);
+        for (int i = 0; i < 100; i++) {
+            list.add(i, i, i);
+        }
+
+        assertTrue(list.filter(new Predicate<Location>() {
+            @Override
+            public boolean apply(Location input) {
+                return input.getBlockX() % 10 == 0;
+            }
+        }));
+        assertEquals(10, list.size());
+        for (int i = 0; i < 10; i++) {
+            assertEquals(new Vector3i(i * 10, i * 10, i * 10), list.get(i).getBlockPosition());
+        }
+    }
+
+    @Test
+    public void testIteratorRemove() {
+        BlockLocationList list = new BlockLocationList(this.extent);
+        for (int i = 0; i < 10; i++) {
+            list.add(i, 0, 0);
+        }
+
+        Iterator<Location> it = list.iterator();
+        while (it.hasNext()) {
+            Location location = it.next();
+            if (location.getBlockX() % 2 == 1) {
+                it.remove();
+                // Compacts the list while iterating
+                assertEquals(0, list.get(0).getBlockX());
+            }
+        }
+
+        assertEquals(5, list.size());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(i * 2, list.get(i).getBlockX());
+        }
+    }
+
+    @Test
+    public void testRemoveByIndex() {
+        BlockLocationList list = new BlockLocationList(this.extent);
+        for (int i = 0; i < 10; i++) {
+            list.add(i, 0, 0);
+        }
+
+        Iterator<Location> iterator = list.iterator();
+        iterator.next();
+        iterator.remove();
+        assertEquals(new Vector3i(5, 0, 0), list.remove(4).getBlockPosition());
+        assertEquals(new Vector3i(9, 0, 0), list.remove(7).getBlockPosition());
+        assertEquals(new Vector3i(1, 0, 0), list.remove(0).getBlockPosition());
+        assertEquals(6, list.size());
+        int[] expected = {2, 3, 4, 6, 7, 8};
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(new Vector3i(expected[i], 0, 0), list.get(i).getBlockPosition());
+        }
+    }
+
+}